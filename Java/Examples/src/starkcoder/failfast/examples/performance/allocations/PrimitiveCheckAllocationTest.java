@@ -0,0 +1,212 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.allocations;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests compare duration and allocated bytes per non-asserting check, when checking boxed
+ * values ({link:IObjectIntegerGreaterCheck}, {link:IObjectDoubleGreaterCheck}) and primitive values
+ * ({link:IPrimitiveIntegerGreaterCheck}, {link:IPrimitiveDoubleGreaterCheck}).
+ * <p>
+ * The checked values are outside the Integer cache, so auto-boxing allocates. Primitive checks
+ * only box when they assert, so the non-asserting path should not allocate.
+ * Allocations are measured with the HotSpot specific com.sun.management.ThreadMXBean.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class PrimitiveCheckAllocationTest
+{
+
+  private int numberOfCalls = 1000000;
+
+  private long durationNs;
+
+  private long allocatedBytes;
+
+  private int assertCount;
+
+  private static interface ICheckLoop
+  {
+    void run(IChecker checker, int index);
+  }
+
+  /**
+   * Runs non-asserting checks on the current thread and remembers duration and allocated bytes.
+   */
+  private void runChecks(ICheckLoop checkLoop)
+  {
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFast = new FailFast(new Checker(callContractor), new Failer(callContractor),
+        callContractor);
+    IChecker checker = failFast.getChecker();
+    IFailer failer = failFast.getFailer();
+
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    this.assertCount = 0;
+    long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long timeBefore = System.nanoTime();
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      checkLoop.run(checker, index);
+    }
+    long timeAfter = System.nanoTime();
+    long bytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+    this.durationNs = timeAfter - timeBefore;
+    this.allocatedBytes = bytesAfter - bytesBefore;
+    if (null != failer.getFailFastExceptionOrNull() || 0 < this.assertCount)
+    {
+      throw new IllegalStateException("Expected no asserting checks");
+    }
+  }
+
+  private void outputResult(String name)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) this.durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(this.durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms] perCall=");
+    stringBuilder.append(((double) this.allocatedBytes) / this.numberOfCalls);
+    stringBuilder.append(" [bytes/call]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  private ICheckLoop boxedIntegerLoop = new ICheckLoop()
+  {
+    @Override
+    public void run(IChecker checker, int index)
+    {
+      int value = 1000 + index;
+      if (checker.isIntegerGreater(this, value, value + 1))
+      {
+        ++assertCount;
+      }
+    }
+  };
+
+  private ICheckLoop primitiveIntegerLoop = new ICheckLoop()
+  {
+    @Override
+    public void run(IChecker checker, int index)
+    {
+      int value = 1000 + index;
+      if (checker.isIntegerValueGreater(this, value, value + 1))
+      {
+        ++assertCount;
+      }
+    }
+  };
+
+  private ICheckLoop boxedDoubleLoop = new ICheckLoop()
+  {
+    @Override
+    public void run(IChecker checker, int index)
+    {
+      double value = 1000.5 + index;
+      if (checker.isDoubleGreater(this, value, value + 1))
+      {
+        ++assertCount;
+      }
+    }
+  };
+
+  private ICheckLoop primitiveDoubleLoop = new ICheckLoop()
+  {
+    @Override
+    public void run(IChecker checker, int index)
+    {
+      double value = 1000.5 + index;
+      if (checker.isDoubleValueGreater(this, value, value + 1))
+      {
+        ++assertCount;
+      }
+    }
+  };
+
+  @Test
+  public void testBoxedIntegerChecks()
+  {
+    this.runChecks(this.boxedIntegerLoop); // warm-up
+    this.runChecks(this.boxedIntegerLoop);
+    System.out.println(" - - - ");
+    this.outputResult("Boxed Integer checks");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testPrimitiveIntegerChecks()
+  {
+    this.runChecks(this.primitiveIntegerLoop); // warm-up
+    this.runChecks(this.primitiveIntegerLoop);
+    System.out.println(" - - - ");
+    this.outputResult("Primitive int checks");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testBoxedDoubleChecks()
+  {
+    this.runChecks(this.boxedDoubleLoop); // warm-up
+    this.runChecks(this.boxedDoubleLoop);
+    System.out.println(" - - - ");
+    this.outputResult("Boxed Double checks");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testPrimitiveDoubleChecks()
+  {
+    this.runChecks(this.primitiveDoubleLoop); // warm-up
+    this.runChecks(this.primitiveDoubleLoop);
+    System.out.println(" - - - ");
+    this.outputResult("Primitive double checks");
+    System.out.println(" - - - ");
+  }
+
+}
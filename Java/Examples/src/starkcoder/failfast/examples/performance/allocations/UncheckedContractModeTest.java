@@ -0,0 +1,146 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.allocations;
+
+import java.lang.management.ManagementFactory;
+
+import org.junit.Test;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.UncheckedFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStackTracePolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests compare duration and allocated bytes per asserting check and fail with strict
+ * contract enforcement ({link:CallContractor}) and in unchecked contract mode
+ * ({link:UncheckedFailFast}).
+ * <p>
+ * Stack traces are not filled in, so the contract bookkeeping is a larger part of a fail.
+ * Allocations are measured with the HotSpot specific com.sun.management.ThreadMXBean.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class UncheckedContractModeTest
+{
+
+  private int numberOfCalls = 200000;
+
+  private long durationNs;
+
+  private long allocatedBytes;
+
+  /**
+   * Runs check-fail pairs on the current thread and remembers duration and allocated bytes.
+   */
+  private void runCheckAndFail(IFailFast failFast)
+  {
+    IChecker checker = failFast.getChecker();
+    IFailer failer = failFast.getFailer();
+    failer.setFailStackTracePolicy(FailStackTracePolicy.Never);
+
+    com.sun.management.ThreadMXBean threadMXBean =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    long threadId = Thread.currentThread().getId();
+    long bytesBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+    long timeBefore = System.nanoTime();
+    Object referenceA = "A";
+    Object referenceB = "B";
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      try
+      {
+        if (checker.isObjectNotEquals(this, referenceA, referenceB))
+        {
+          failer.failObjectNotEquals(this, "referenceA", "referenceB");
+        }
+      }
+      catch (FailFastException failFastException)
+      {
+        // expected
+      }
+    }
+    long timeAfter = System.nanoTime();
+    long bytesAfter = threadMXBean.getThreadAllocatedBytes(threadId);
+    this.durationNs = timeAfter - timeBefore;
+    this.allocatedBytes = bytesAfter - bytesBefore;
+  }
+
+  private void outputResult(String name)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) this.durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(this.durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms] perCall=");
+    stringBuilder.append(this.allocatedBytes / this.numberOfCalls);
+    stringBuilder.append(" [bytes/call]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  private IFailFast createStrictFailFast()
+  {
+    ICallContractor callContractor = new CallContractor();
+    return new FailFast(new Checker(callContractor), new Failer(callContractor), callContractor);
+  }
+
+  @Test
+  public void testStrictContractMode()
+  {
+    this.runCheckAndFail(this.createStrictFailFast()); // warm-up
+    this.runCheckAndFail(this.createStrictFailFast());
+    System.out.println(" - - - ");
+    this.outputResult("Strict contracts");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testUncheckedContractMode()
+  {
+    this.runCheckAndFail(new UncheckedFailFast()); // warm-up
+    this.runCheckAndFail(new UncheckedFailFast());
+    System.out.println(" - - - ");
+    this.outputResult("Unchecked contracts");
+    System.out.println(" - - - ");
+  }
+
+}
@@ -0,0 +1,156 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.collections;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.Failer;
+
+/**
+ * These tests measure duration of set and multiset equals checks of 10^5 elements in different
+ * orders.
+ * <p>
+ * The collections differ in one element only, so every element is hashed and the check does not
+ * assert.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class CollectionSetEqualsTest
+{
+
+  private int numberOfElements = 100000;
+
+  private int numberOfCalls = 20;
+
+  private long durationNs;
+
+  private IChecker createChecker()
+  {
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFast = new FailFast(new Checker(callContractor), new Failer(callContractor),
+        callContractor);
+    return failFast.getChecker();
+  }
+
+  private void fill(Collection<Object> referenceA, Collection<Object> referenceB)
+  {
+    List<Object> elements = new ArrayList<Object>();
+    for (int index = 0; index < this.numberOfElements - 1; ++index)
+    {
+      elements.add(index);
+    }
+    referenceA.addAll(elements);
+    referenceA.add(this.numberOfElements - 1);
+    Collections.shuffle(elements, new Random(0));
+    referenceB.addAll(elements);
+    referenceB.add(-1);
+  }
+
+  /**
+   * Runs non-asserting set (or multiset) equals checks on the current thread and remembers
+   * duration.
+   */
+  private void runChecks(Collection<Object> referenceA, Collection<Object> referenceB,
+      boolean isMultiset)
+  {
+    IChecker checker = this.createChecker();
+    long timeBefore = System.nanoTime();
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      if (isMultiset ? checker.isObjectCollectionMultisetEquals(this, referenceA, referenceB)
+          : checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+      {
+        throw new IllegalStateException("Expected no asserting checks");
+      }
+    }
+    long timeAfter = System.nanoTime();
+    this.durationNs = timeAfter - timeBefore;
+  }
+
+  private void outputResult(String name)
+  {
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": elements=");
+    stringBuilder.append(this.numberOfElements);
+    stringBuilder.append(" calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(this.durationNs / 1000000);
+    stringBuilder.append(" [ms] perCall=");
+    stringBuilder.append(this.durationNs / this.numberOfCalls / 1000);
+    stringBuilder.append(" [us/call]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  private void run(String name, Collection<Object> referenceA, Collection<Object> referenceB,
+      boolean isMultiset)
+  {
+    this.fill(referenceA, referenceB);
+    this.runChecks(referenceA, referenceB, isMultiset); // warm-up
+    this.runChecks(referenceA, referenceB, isMultiset);
+    System.out.println(" - - - ");
+    this.outputResult(name);
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testHashSetSetEquals()
+  {
+    this.run("HashSet set-equals (reused sets)", new HashSet<Object>(), new HashSet<Object>(),
+        false);
+  }
+
+  @Test
+  public void testArrayListSetEquals()
+  {
+    this.run("ArrayList set-equals (copied sets)", new ArrayList<Object>(),
+        new ArrayList<Object>(), false);
+  }
+
+  @Test
+  public void testArrayListMultisetEquals()
+  {
+    this.run("ArrayList multiset-equals", new ArrayList<Object>(), new ArrayList<Object>(), true);
+  }
+
+}
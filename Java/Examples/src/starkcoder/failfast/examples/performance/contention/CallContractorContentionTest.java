@@ -0,0 +1,169 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.contention;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+
+/**
+ * These tests compare throughput of {link:CallContractor} and {link:ThreadLocalCallContractor}
+ * when 1 to 64 threads push and pop contracts at the same time.
+ * <p>
+ * Each thread runs an asserting check followed by a pop of the contract (the part of a fail that
+ * involves the call contractor).
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class CallContractorContentionTest
+{
+
+  private int numberOfCallsInTotal = 256000;
+
+  private int[] numberOfThreads = new int[]
+  {
+      1, 2, 4, 8, 16, 32, 64
+  };
+
+  /**
+   * Runs check-pop pairs on the given number of threads and returns the duration.
+   */
+  private long runContractsOnThreads(final ICallContractor callContractor, int noOfThreads)
+  {
+    final IChecker checker = new Checker(callContractor);
+    final IFailer failer = new Failer(callContractor);
+    final int numberOfCallsPerThread = this.numberOfCallsInTotal / noOfThreads;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final AtomicLong numberOfPops = new AtomicLong();
+    Thread[] threads = new Thread[noOfThreads];
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (InterruptedException e)
+          {
+            return;
+          }
+          Object referenceNull = null;
+          for (int index = 0; index < numberOfCallsPerThread; ++index)
+          {
+            if (checker.isObjectNull(this, referenceNull))
+            {
+              callContractor.popContractWithCaller(this, failer, IObjectNullFail.class);
+              numberOfPops.incrementAndGet();
+            }
+          }
+        }
+      };
+      threads[i].start();
+    }
+    long timeBefore = System.nanoTime();
+    startLatch.countDown();
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      try
+      {
+        threads[i].join();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+    long timeAfter = System.nanoTime();
+    assertEquals("Expected all contracts popped", numberOfCallsPerThread * noOfThreads,
+        numberOfPops.get());
+    return timeAfter - timeBefore;
+  }
+
+  private void outputThroughput(String name, int noOfThreads, long durationNs)
+  {
+    int numberOfCalls = (this.numberOfCallsInTotal / noOfThreads) * noOfThreads;
+    double callsPerMs = ((double) numberOfCalls) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": threads=");
+    stringBuilder.append(noOfThreads);
+    stringBuilder.append(" calls=");
+    stringBuilder.append(numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testContentionCallContractor()
+  {
+    this.runContractsOnThreads(new CallContractor(), 4); // warm-up
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runContractsOnThreads(new CallContractor(), noOfThreads);
+      this.outputThroughput("CallContractor", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testContentionThreadLocalCallContractor()
+  {
+    this.runContractsOnThreads(new ThreadLocalCallContractor(), 4); // warm-up
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runContractsOnThreads(new ThreadLocalCallContractor(), noOfThreads);
+      this.outputThroughput("ThreadLocalCallContractor", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+  }
+
+}
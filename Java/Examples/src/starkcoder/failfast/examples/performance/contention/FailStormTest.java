@@ -0,0 +1,224 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.contention;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStormPolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFail;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests measure fail throughput when 1 to 64 threads fail at the same time (a fail storm).
+ * <p>
+ * The default failer runs the fail path without a failer lock. For comparison
+ * {link:GloballyLockedFailer} holds one lock during the whole fail (as the failer used to).
+ * </p>
+ * <p>
+ * With a {link:FailStormPolicy} the fails beyond its rate get no stack trace and no notification.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class FailStormTest
+{
+
+  /**
+   * Failer serializing all fails on one lock.
+   */
+  public static class GloballyLockedFailer extends Failer
+  {
+    private final Object globalLock = new Object();
+
+    public GloballyLockedFailer(ICallContractor callContractor)
+    {
+      super(callContractor);
+    }
+
+    @Override
+    protected void popContractWithCallerAndThrowException(Object caller,
+        Class<? extends IFail> failerSpecificationType, Object[] failerArguments,
+        Object[] failerExtraArguments)
+    {
+      synchronized (this.globalLock)
+      {
+        super.popContractWithCallerAndThrowException(caller, failerSpecificationType,
+            failerArguments, failerExtraArguments);
+      }
+    }
+  }
+
+  private int numberOfFailsInTotal = 64000;
+
+  private int[] numberOfThreads = new int[]
+  {
+      1, 2, 4, 8, 16, 32, 64
+  };
+
+  /**
+   * Runs check-fail pairs on the given number of threads and returns the duration.
+   */
+  private long runFailsOnThreads(final IChecker checker, final IFailer failer, int noOfThreads)
+  {
+    final int numberOfFailsPerThread = this.numberOfFailsInTotal / noOfThreads;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final AtomicLong numberOfFails = new AtomicLong();
+    Thread[] threads = new Thread[noOfThreads];
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (InterruptedException e)
+          {
+            return;
+          }
+          Object referenceNull = null;
+          for (int index = 0; index < numberOfFailsPerThread; ++index)
+          {
+            try
+            {
+              if (checker.isObjectNull(this, referenceNull))
+              {
+                failer.failObjectNull(this, "referenceNull");
+              }
+            }
+            catch (FailFastException failFastException)
+            {
+              numberOfFails.incrementAndGet();
+            }
+          }
+        }
+      };
+      threads[i].start();
+    }
+    long timeBefore = System.nanoTime();
+    startLatch.countDown();
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      try
+      {
+        threads[i].join();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+    long timeAfter = System.nanoTime();
+    assertEquals("Expected all fails thrown", numberOfFailsPerThread * noOfThreads,
+        numberOfFails.get());
+    return timeAfter - timeBefore;
+  }
+
+  private void outputThroughput(String name, int noOfThreads, long durationNs)
+  {
+    int numberOfFails = (this.numberOfFailsInTotal / noOfThreads) * noOfThreads;
+    double failsPerMs = ((double) numberOfFails) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": threads=");
+    stringBuilder.append(noOfThreads);
+    stringBuilder.append(" fails=");
+    stringBuilder.append(numberOfFails);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) failsPerMs);
+    stringBuilder.append(" [fails/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testFailStormGloballyLockedFailer()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new GloballyLockedFailer(callContractor);
+    this.runFailsOnThreads(checker, failer, 4); // warm-up
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("GloballyLockedFailer", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testFailStormFailer()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    this.runFailsOnThreads(checker, failer, 4); // warm-up
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("Failer", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testFailStormFailerWithFailStormPolicy()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    failer.setFailStormPolicy(new FailStormPolicy(10, 1000));
+    this.runFailsOnThreads(checker, failer, 4); // warm-up
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("Failer with FailStormPolicy", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+  }
+
+}
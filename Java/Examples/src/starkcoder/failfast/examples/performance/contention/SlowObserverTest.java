@@ -0,0 +1,249 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.contention;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.AsyncFailerObserverDispatcher;
+import starkcoder.failfast.fails.AsyncFailerObserverDispatcher.OverflowPolicy;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+
+/**
+ * These tests measure fail throughput with a slow observer (e.g. writing to disk).
+ * <p>
+ * The slow observer is either registered directly with the failer (synchronous) or added to an
+ * {link:AsyncFailerObserverDispatcher} (asynchronous) with a ring buffer large enough for a burst.
+ * A no-op asynchronous observer measures the cost of handing a notification to the dispatcher,
+ * i.e. how concurrent failing threads contend on the ring buffer.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class SlowObserverTest
+{
+
+  /**
+   * Observer spending about 50 [us] per notification.
+   */
+  public static class SlowObserver implements IFailerObserver
+  {
+    private final AtomicLong numberOfNotifications = new AtomicLong();
+
+    @Override
+    public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+        RuntimeException exception)
+    {
+      LockSupport.parkNanos(50000);
+      this.numberOfNotifications.incrementAndGet();
+    }
+  }
+
+  private int numberOfFailsInTotal = 4000;
+
+  private int[] numberOfThreads = new int[]
+  {
+      1, 4, 16
+  };
+
+  /**
+   * Runs check-fail pairs on the given number of threads and returns the duration.
+   */
+  private long runFailsOnThreads(final IChecker checker, final IFailer failer, int noOfThreads)
+  {
+    final int numberOfFailsPerThread = this.numberOfFailsInTotal / noOfThreads;
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final AtomicLong numberOfFails = new AtomicLong();
+    Thread[] threads = new Thread[noOfThreads];
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      threads[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (InterruptedException e)
+          {
+            return;
+          }
+          Object referenceNull = null;
+          for (int index = 0; index < numberOfFailsPerThread; ++index)
+          {
+            try
+            {
+              if (checker.isObjectNull(this, referenceNull))
+              {
+                failer.failObjectNull(this, "referenceNull");
+              }
+            }
+            catch (FailFastException failFastException)
+            {
+              numberOfFails.incrementAndGet();
+            }
+          }
+        }
+      };
+      threads[i].start();
+    }
+    long timeBefore = System.nanoTime();
+    startLatch.countDown();
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      try
+      {
+        threads[i].join();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+    }
+    long timeAfter = System.nanoTime();
+    assertEquals("Expected all fails thrown", numberOfFailsPerThread * noOfThreads,
+        numberOfFails.get());
+    return timeAfter - timeBefore;
+  }
+
+  private void outputThroughput(String name, int noOfThreads, long durationNs)
+  {
+    int numberOfFails = (this.numberOfFailsInTotal / noOfThreads) * noOfThreads;
+    double failsPerMs = ((double) numberOfFails) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": threads=");
+    stringBuilder.append(noOfThreads);
+    stringBuilder.append(" fails=");
+    stringBuilder.append(numberOfFails);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) failsPerMs);
+    stringBuilder.append(" [fails/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testSlowSynchronousObserver()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    SlowObserver slowObserver = new SlowObserver();
+    Object registrationKey = failer.registerFailerObserver(slowObserver);
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("SynchronousObserver", noOfThreads, durationNs);
+    }
+    System.out.println(" - - - ");
+    failer.unregisterFailerObserver(slowObserver, registrationKey);
+  }
+
+  @Test
+  public void testSlowAsynchronousObserver() throws InterruptedException
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    SlowObserver slowObserver = new SlowObserver();
+    AsyncFailerObserverDispatcher dispatcher = new AsyncFailerObserverDispatcher(
+        this.numberOfFailsInTotal, OverflowPolicy.Count);
+    dispatcher.addFailerObserver(slowObserver);
+    Object registrationKey = failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("AsynchronousObserver", noOfThreads, durationNs);
+      StringBuilder stringBuilder = new StringBuilder();
+      stringBuilder.append("AsynchronousObserver: lag=");
+      stringBuilder.append(dispatcher.getObserverLag(slowObserver));
+      stringBuilder.append(" overflows=");
+      stringBuilder.append(dispatcher.getOverflowEventCount());
+      System.out.println(stringBuilder.toString());
+      assertTrue(dispatcher.awaitDispatched(60000)); // drain before the next burst
+    }
+    System.out.println(" - - - ");
+    failer.unregisterFailerObserver(dispatcher, registrationKey);
+    assertTrue(dispatcher.stop(60000));
+  }
+
+  @Test
+  public void testNoopAsynchronousObserver() throws InterruptedException
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    IFailerObserver noopObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+      }
+    };
+    AsyncFailerObserverDispatcher dispatcher = new AsyncFailerObserverDispatcher(
+        this.numberOfFailsInTotal, OverflowPolicy.Block);
+    dispatcher.addFailerObserver(noopObserver);
+    Object registrationKey = failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    System.out.println(" - - - ");
+    for (int noOfThreads : this.numberOfThreads)
+    {
+      long durationNs = this.runFailsOnThreads(checker, failer, noOfThreads);
+      this.outputThroughput("NoopAsynchronousObserver", noOfThreads, durationNs);
+      assertTrue(dispatcher.awaitDispatched(60000));
+    }
+    System.out.println(" - - - ");
+    assertEquals(0, dispatcher.getObserverLag(noopObserver));
+    failer.unregisterFailerObserver(dispatcher, registrationKey);
+    assertTrue(dispatcher.stop(60000));
+  }
+
+}
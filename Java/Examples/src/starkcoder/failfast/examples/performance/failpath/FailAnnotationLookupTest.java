@@ -0,0 +1,190 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.failpath;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.NFail;
+
+/**
+ * These tests compare fail-path throughput of failObjectNull and failStringMatching with the
+ * cached fail-annotation lookup (default) and an uncached lookup reflecting on every fail (as
+ * before the cache was introduced).
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class FailAnnotationLookupTest
+{
+
+  /**
+   * Failer reflecting the fail specification on every fail.
+   */
+  public static class UncachedLookupFailer extends Failer
+  {
+    public UncachedLookupFailer(ICallContractor callContractor)
+    {
+      super(callContractor);
+    }
+
+    @Override
+    protected NFail lookupFailAnnotation(Class<?> failSpecificationType,
+        Object[] messageFormatArguments)
+    {
+      Method[] methodInfos = failSpecificationType.getDeclaredMethods();
+      for (Method methodInfo : methodInfos)
+      {
+        Class<?>[] parameterTypes = methodInfo.getParameterTypes();
+        if (messageFormatArguments.length == parameterTypes.length)
+        {
+          boolean allParametersHaveMatchingType = true;
+          for (int j = 0; j < parameterTypes.length; ++j)
+          {
+            Object messageFormatArgument = messageFormatArguments[j];
+            if (null != messageFormatArgument
+                && !parameterTypes[j].isAssignableFrom(messageFormatArgument.getClass())
+                && !messageFormatArgument.getClass().getSimpleName()
+                    .equalsIgnoreCase(parameterTypes[j].getSimpleName()))
+            {
+              allParametersHaveMatchingType = false;
+              break;
+            }
+          }
+          if (allParametersHaveMatchingType)
+          {
+            return methodInfo.getAnnotation(NFail.class);
+          }
+        }
+      }
+      throw new IllegalArgumentException(failSpecificationType + " contains no method with "
+          + messageFormatArguments.length + " arguments with appropriate types");
+    }
+  }
+
+  private int numberOfCalls = 100000;
+
+  private long runFailObjectNull(IChecker checker, IFailer failer)
+  {
+    long timeBefore = System.nanoTime();
+    Object referenceNull = null;
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      try
+      {
+        if (checker.isObjectNull(this, referenceNull))
+        {
+          failer.failObjectNull(this, "referenceNull");
+        }
+      }
+      catch (FailFastException failFastException)
+      {
+        // expected
+      }
+    }
+    return System.nanoTime() - timeBefore;
+  }
+
+  private long runFailStringMatching(IChecker checker, IFailer failer)
+  {
+    long timeBefore = System.nanoTime();
+    String referenceA = "FailFast";
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      try
+      {
+        if (checker.isStringMatching(this, referenceA, "Fail.*"))
+        {
+          failer.failStringMatching(this, "referenceA");
+        }
+      }
+      catch (FailFastException failFastException)
+      {
+        // expected
+      }
+    }
+    return System.nanoTime() - timeBefore;
+  }
+
+  private void outputThroughput(String name, long durationNs)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testFailObjectNull()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer cachedFailer = new Failer(callContractor);
+    IFailer uncachedFailer = new UncachedLookupFailer(callContractor);
+    this.runFailObjectNull(checker, cachedFailer); // warm-up
+    this.runFailObjectNull(checker, uncachedFailer); // warm-up
+    System.out.println(" - - - ");
+    this.outputThroughput("failObjectNull uncached",
+        this.runFailObjectNull(checker, uncachedFailer));
+    this.outputThroughput("failObjectNull cached", this.runFailObjectNull(checker, cachedFailer));
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testFailStringMatching()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer cachedFailer = new Failer(callContractor);
+    IFailer uncachedFailer = new UncachedLookupFailer(callContractor);
+    this.runFailStringMatching(checker, cachedFailer); // warm-up
+    this.runFailStringMatching(checker, uncachedFailer); // warm-up
+    System.out.println(" - - - ");
+    this.outputThroughput("failStringMatching uncached",
+        this.runFailStringMatching(checker, uncachedFailer));
+    this.outputThroughput("failStringMatching cached",
+        this.runFailStringMatching(checker, cachedFailer));
+    System.out.println(" - - - ");
+  }
+
+}
@@ -0,0 +1,120 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.failpath;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStackTracePolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests compare fail-path throughput of failObjectNull with the stack trace policies
+ * Always (default), Sampled(1/100) and Never.
+ * <p>
+ * The fails are made at a stack depth of about 50 frames (typical for a request handler) since the
+ * cost of filling in a stack trace grows with the depth.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class FailStackTracePolicyTest
+{
+
+  private int numberOfCalls = 100000;
+
+  private int stackDepth = 50;
+
+  private long runFailObjectNull(IChecker checker, IFailer failer, int depth)
+  {
+    if (0 < depth)
+    {
+      return this.runFailObjectNull(checker, failer, depth - 1);
+    }
+    long timeBefore = System.nanoTime();
+    Object referenceNull = null;
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      try
+      {
+        if (checker.isObjectNull(this, referenceNull))
+        {
+          failer.failObjectNull(this, "referenceNull");
+        }
+      }
+      catch (FailFastException failFastException)
+      {
+        // expected
+      }
+    }
+    return System.nanoTime() - timeBefore;
+  }
+
+  private void outputThroughput(String name, long durationNs)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testFailObjectNull()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    FailStackTracePolicy[] failStackTracePolicies = new FailStackTracePolicy[]
+    {
+        FailStackTracePolicy.Always, FailStackTracePolicy.sampled(100), FailStackTracePolicy.Never
+    };
+    this.runFailObjectNull(checker, failer, this.stackDepth); // warm-up
+    System.out.println(" - - - ");
+    for (FailStackTracePolicy failStackTracePolicy : failStackTracePolicies)
+    {
+      failer.setFailStackTracePolicy(failStackTracePolicy);
+      this.outputThroughput("failObjectNull " + failStackTracePolicy,
+          this.runFailObjectNull(checker, failer, this.stackDepth));
+    }
+    System.out.println(" - - - ");
+  }
+
+}
@@ -0,0 +1,160 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.failpath;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStackTracePolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IReturningFailer;
+import starkcoder.failfast.fails.ReturningFailer;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+
+/**
+ * These tests compare a pipeline collecting rejections with a throwing failer (try-catch around a
+ * validation 20 frames deep) and with a returning failer (no unwinding).
+ * <p>
+ * Both failers use {link:FailStackTracePolicy#Never} to measure the unwinding and not the stack
+ * walk.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class ReturningFailerTest
+{
+
+  private int numberOfCalls = 100000;
+
+  private int validationDepth = 20;
+
+  private void validate(IChecker checker, IFailer failer, Object referenceNull, int depth)
+  {
+    if (0 < depth)
+    {
+      this.validate(checker, failer, referenceNull, depth - 1);
+    }
+    else if (checker.isObjectNull(this, referenceNull))
+    {
+      failer.failObjectNull(this, "referenceNull");
+    }
+  }
+
+  private RuntimeException validate(IChecker checker, IReturningFailer failer,
+      Object referenceNull, int depth)
+  {
+    if (0 < depth)
+    {
+      return this.validate(checker, failer, referenceNull, depth - 1);
+    }
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      return failer.fail(IObjectNullFail.class, this, "referenceNull");
+    }
+    return null;
+  }
+
+  private long runThrowing(IChecker checker, IFailer failer)
+  {
+    long timeBefore = System.nanoTime();
+    int numberOfRejections = 0;
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      try
+      {
+        this.validate(checker, failer, null, this.validationDepth);
+      }
+      catch (FailFastException failFastException)
+      {
+        ++numberOfRejections;
+      }
+    }
+    long duration = System.nanoTime() - timeBefore;
+    assertEquals(this.numberOfCalls, numberOfRejections);
+    return duration;
+  }
+
+  private long runReturning(IChecker checker, IReturningFailer failer)
+  {
+    long timeBefore = System.nanoTime();
+    int numberOfRejections = 0;
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      if (null != this.validate(checker, failer, null, this.validationDepth))
+      {
+        ++numberOfRejections;
+      }
+    }
+    long duration = System.nanoTime() - timeBefore;
+    assertEquals(this.numberOfCalls, numberOfRejections);
+    return duration;
+  }
+
+  private void outputThroughput(String name, long durationNs)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testFailObjectNull()
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer throwingFailer = new Failer(callContractor);
+    throwingFailer.setFailStackTracePolicy(FailStackTracePolicy.Never);
+    Failer wrappedFailer = new Failer(callContractor);
+    wrappedFailer.setFailStackTracePolicy(FailStackTracePolicy.Never);
+    IReturningFailer returningFailer = new ReturningFailer(wrappedFailer);
+    this.runThrowing(checker, throwingFailer); // warm-up
+    this.runReturning(checker, returningFailer); // warm-up
+    System.out.println(" - - - ");
+    this.outputThroughput("failObjectNull throwing", this.runThrowing(checker, throwingFailer));
+    this.outputThroughput("failObjectNull returning",
+        this.runReturning(checker, returningFailer));
+    System.out.println(" - - - ");
+  }
+
+}
@@ -0,0 +1,168 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.patterns;
+
+import java.util.regex.Pattern;
+
+import org.junit.Test;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.checks.objects.strings.IPatternCache;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.Failer;
+
+/**
+ * These tests compare duration of non-asserting regex checks, when the regex is compiled on every
+ * check (String.matches), looked up in the pattern cache of the checker, and precompiled by the
+ * caller.
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class StringMatchingTest
+{
+
+  private int numberOfCalls = 200000;
+
+  private String regex = "[A-Z]{3}-[0-9]{6}";
+
+  private String[] identifiers = new String[]
+  {
+      "ABC-123456", "XYZ-000001", "KEY-987654", "FOO-424242"
+  };
+
+  private long durationNs;
+
+  private static interface ICheckLoop
+  {
+    boolean run(IChecker checker, String identifier);
+  }
+
+  private IChecker createChecker()
+  {
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFast = new FailFast(new Checker(callContractor), new Failer(callContractor),
+        callContractor);
+    return failFast.getChecker();
+  }
+
+  /**
+   * Runs non-asserting checks on the current thread and remembers duration.
+   */
+  private void runChecks(IChecker checker, ICheckLoop checkLoop)
+  {
+    long timeBefore = System.nanoTime();
+    for (int index = 0; index < this.numberOfCalls; ++index)
+    {
+      if (checkLoop.run(checker, this.identifiers[index % this.identifiers.length]))
+      {
+        throw new IllegalStateException("Expected no asserting checks");
+      }
+    }
+    long timeAfter = System.nanoTime();
+    this.durationNs = timeAfter - timeBefore;
+  }
+
+  private void outputResult(String name)
+  {
+    double callsPerMs = ((double) this.numberOfCalls) / (((double) this.durationNs) / 1000000.0);
+
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": calls=");
+    stringBuilder.append(this.numberOfCalls);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(this.durationNs / 1000000);
+    stringBuilder.append(" [ms] throughput=");
+    stringBuilder.append((long) callsPerMs);
+    stringBuilder.append(" [calls/ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testStringMatches()
+  {
+    ICheckLoop checkLoop = new ICheckLoop()
+    {
+      @Override
+      public boolean run(IChecker checker, String identifier)
+      { // what the checker did before caching patterns
+        return !identifier.matches(regex);
+      }
+    };
+    this.runChecks(this.createChecker(), checkLoop); // warm-up
+    this.runChecks(this.createChecker(), checkLoop);
+    System.out.println(" - - - ");
+    this.outputResult("String.matches");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testCachedPattern()
+  {
+    ICheckLoop checkLoop = new ICheckLoop()
+    {
+      @Override
+      public boolean run(IChecker checker, String identifier)
+      {
+        return checker.isStringNotMatching(this, identifier, regex);
+      }
+    };
+    IChecker checker = this.createChecker();
+    this.runChecks(checker, checkLoop); // warm-up
+    this.runChecks(checker, checkLoop);
+    IPatternCache patternCache = checker.getStringMatchingPatternCache();
+    System.out.println(" - - - ");
+    this.outputResult("Cached pattern (hits=" + patternCache.getHitCount() + " misses="
+        + patternCache.getMissCount() + ")");
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testPrecompiledPattern()
+  {
+    final Pattern pattern = Pattern.compile(this.regex);
+    ICheckLoop checkLoop = new ICheckLoop()
+    {
+      @Override
+      public boolean run(IChecker checker, String identifier)
+      {
+        return checker.isStringNotMatching(this, identifier, pattern);
+      }
+    };
+    this.runChecks(this.createChecker(), checkLoop); // warm-up
+    this.runChecks(this.createChecker(), checkLoop);
+    System.out.println(" - - - ");
+    this.outputResult("Precompiled pattern");
+    System.out.println(" - - - ");
+  }
+
+}
@@ -0,0 +1,211 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.shutdown;
+
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.coordinators.FailFastCoordinator;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests measure the latency from a fail-fast exception is thrown until all workers stopped.
+ * <p>
+ * Each worker loops a blocking call (a sleep of 100 [ms] simulating I/O). The workers either poll
+ * the failer between the blocking calls or are registered with a {link:FailFastCoordinator} that
+ * interrupts the blocking call.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class ShutdownLatencyTest
+{
+
+  private int numberOfWorkers = 128;
+
+  private int numberOfRounds = 10;
+
+  private long blockingCallMillis = 100;
+
+  /**
+   * Starts the workers, fails once and returns the duration until all workers stopped.
+   */
+  private long runWorkers(final IChecker checker, final IFailer failer,
+      final FailFastCoordinator coordinatorOrNull) throws InterruptedException
+  {
+    final CountDownLatch startedLatch = new CountDownLatch(this.numberOfWorkers);
+    final CountDownLatch stoppedLatch = new CountDownLatch(this.numberOfWorkers);
+    Thread[] workers = new Thread[this.numberOfWorkers];
+    for (int i = 0; i < this.numberOfWorkers; ++i)
+    {
+      workers[i] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          startedLatch.countDown();
+          try
+          {
+            this.work();
+          }
+          finally
+          {
+            stoppedLatch.countDown();
+          }
+        }
+
+        private void work()
+        {
+          if (null == coordinatorOrNull)
+          {
+            while (null == failer.getFailFastExceptionOrNull())
+            {
+              try
+              {
+                Thread.sleep(blockingCallMillis);
+              }
+              catch (InterruptedException e)
+              {
+                return;
+              }
+            }
+          }
+          else
+          {
+            while (!coordinatorOrNull.isStopping())
+            {
+              try
+              {
+                Thread.sleep(blockingCallMillis);
+              }
+              catch (InterruptedException e)
+              {
+                return;
+              }
+            }
+          }
+        }
+      };
+      if (null != coordinatorOrNull)
+      {
+        coordinatorOrNull.registerThread(workers[i]);
+      }
+      workers[i].start();
+    }
+    startedLatch.await();
+    Thread.sleep(2 * this.blockingCallMillis);
+    Object referenceNull = null;
+    long timeBefore = System.nanoTime();
+    try
+    {
+      if (checker.isObjectNull(this, referenceNull))
+      {
+        failer.failObjectNull(this, "referenceNull");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      // expected
+    }
+    stoppedLatch.await();
+    long timeAfter = System.nanoTime();
+    for (int i = 0; i < this.numberOfWorkers; ++i)
+    {
+      workers[i].join();
+    }
+    return timeAfter - timeBefore;
+  }
+
+  private void outputLatency(String name, long[] durationsNs)
+  {
+    long sumNs = 0;
+    long maxNs = 0;
+    for (long durationNs : durationsNs)
+    {
+      sumNs += durationNs;
+      maxNs = Math.max(maxNs, durationNs);
+    }
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": workers=");
+    stringBuilder.append(this.numberOfWorkers);
+    stringBuilder.append(" rounds=");
+    stringBuilder.append(durationsNs.length);
+    stringBuilder.append(" average=");
+    stringBuilder.append((sumNs / durationsNs.length) / 1000);
+    stringBuilder.append(" [us] max=");
+    stringBuilder.append(maxNs / 1000);
+    stringBuilder.append(" [us]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testPollingWorkers() throws InterruptedException
+  {
+    long[] durationsNs = new long[this.numberOfRounds];
+    for (int round = 0; round < this.numberOfRounds; ++round)
+    {
+      ICallContractor callContractor = new ThreadLocalCallContractor();
+      IChecker checker = new Checker(callContractor);
+      IFailer failer = new Failer(callContractor);
+      durationsNs[round] = this.runWorkers(checker, failer, null);
+    }
+    System.out.println(" - - - ");
+    this.outputLatency("PollingWorkers", durationsNs);
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testCoordinatedWorkers() throws InterruptedException
+  {
+    long[] durationsNs = new long[this.numberOfRounds];
+    for (int round = 0; round < this.numberOfRounds; ++round)
+    {
+      ICallContractor callContractor = new ThreadLocalCallContractor();
+      IChecker checker = new Checker(callContractor);
+      IFailer failer = new Failer(callContractor);
+      FailFastCoordinator coordinator = new FailFastCoordinator();
+      failer.registerFailerObserver(coordinator);
+      durationsNs[round] = this.runWorkers(checker, failer, coordinator);
+      assertTrue(coordinator.awaitStopped(10000));
+    }
+    System.out.println(" - - - ");
+    this.outputLatency("CoordinatedWorkers", durationsNs);
+    System.out.println(" - - - ");
+  }
+
+}
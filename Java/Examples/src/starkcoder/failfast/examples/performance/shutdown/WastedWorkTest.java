@@ -0,0 +1,226 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.examples.performance.shutdown;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.Test;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.coordinators.FailFastExecutorService;
+import starkcoder.failfast.coordinators.IFailFastScope;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * These tests measure the work wasted on sibling tasks of a request that already failed.
+ * <p>
+ * Each request fans out to a number of CPU bound tasks on a small pool. Every 10th request fails
+ * early in its first task. The sibling tasks either run to completion (plain executor service) or
+ * are cancelled by the scope of a {link:FailFastExecutorService}. Running tasks stop at the next
+ * interruption check.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ *
+ */
+public class WastedWorkTest
+{
+
+  private int numberOfRequests = 100;
+
+  private int failEveryNthRequest = 10;
+
+  private int numberOfTasksPerRequest = 8;
+
+  private int numberOfThreads = 4;
+
+  private int numberOfUnitsPerTask = 200;
+
+  private int numberOfUnitsBeforeFail = 20;
+
+  private volatile double sink;
+
+  /**
+   * Task doing units of CPU bound work - optionally failing after a number of units.
+   */
+  private class WorkTask implements Callable<Object>
+  {
+    private final IChecker checker;
+    private final IFailer failer;
+    private final boolean failing;
+    private final AtomicLong numberOfUnits;
+
+    private WorkTask(IChecker checker, IFailer failer, boolean failing, AtomicLong numberOfUnits)
+    {
+      this.checker = checker;
+      this.failer = failer;
+      this.failing = failing;
+      this.numberOfUnits = numberOfUnits;
+    }
+
+    @Override
+    public Object call() throws Exception
+    {
+      for (int unit = 0; unit < numberOfUnitsPerTask; ++unit)
+      {
+        if (Thread.currentThread().isInterrupted())
+        {
+          throw new InterruptedException();
+        }
+        if (this.failing && unit == numberOfUnitsBeforeFail)
+        {
+          Object referenceNull = null;
+          if (this.checker.isObjectNull(this, referenceNull))
+          {
+            this.failer.failObjectNull(this, "referenceNull");
+          }
+        }
+        double value = unit;
+        for (int index = 0; index < 2000; ++index)
+        {
+          value = Math.sqrt(value + index);
+        }
+        sink = value;
+        this.numberOfUnits.incrementAndGet();
+      }
+      return null;
+    }
+  }
+
+  private void outputWork(String name, long numberOfUnits, long durationNs)
+  {
+    StringBuilder stringBuilder = new StringBuilder();
+    stringBuilder.append(name);
+    stringBuilder.append(": requests=");
+    stringBuilder.append(this.numberOfRequests);
+    stringBuilder.append(" failing=");
+    stringBuilder.append(this.numberOfRequests / this.failEveryNthRequest);
+    stringBuilder.append(" tasks/request=");
+    stringBuilder.append(this.numberOfTasksPerRequest);
+    stringBuilder.append(" work units=");
+    stringBuilder.append(numberOfUnits);
+    stringBuilder.append(" duration=");
+    stringBuilder.append(durationNs / 1000000);
+    stringBuilder.append(" [ms]");
+    System.out.println(stringBuilder.toString());
+  }
+
+  @Test
+  public void testSiblingsRunToCompletion() throws InterruptedException
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    ExecutorService executorService = Executors.newFixedThreadPool(this.numberOfThreads);
+    AtomicLong numberOfUnits = new AtomicLong();
+    int numberOfFailedRequests = 0;
+    long timeBefore = System.nanoTime();
+    for (int request = 0; request < this.numberOfRequests; ++request)
+    {
+      boolean failing = 0 == (request + 1) % this.failEveryNthRequest;
+      List<Future<Object>> futures = new ArrayList<Future<Object>>();
+      for (int task = 0; task < this.numberOfTasksPerRequest; ++task)
+      {
+        futures.add(executorService.submit(new WorkTask(checker, failer, failing && 0 == task,
+            numberOfUnits)));
+      }
+      boolean failed = false;
+      for (Future<Object> future : futures)
+      {
+        try
+        {
+          future.get();
+        }
+        catch (ExecutionException executionException)
+        {
+          failed |= executionException.getCause() instanceof FailFastException;
+        }
+      }
+      numberOfFailedRequests += failed ? 1 : 0;
+    }
+    long timeAfter = System.nanoTime();
+    executorService.shutdown();
+    executorService.awaitTermination(10000, TimeUnit.MILLISECONDS);
+    assertEquals(this.numberOfRequests / this.failEveryNthRequest, numberOfFailedRequests);
+    System.out.println(" - - - ");
+    this.outputWork("SiblingsRunToCompletion", numberOfUnits.get(), timeAfter - timeBefore);
+    System.out.println(" - - - ");
+  }
+
+  @Test
+  public void testSiblingsCancelledByScope() throws InterruptedException
+  {
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    FailFastExecutorService executorService = new FailFastExecutorService(
+        Executors.newFixedThreadPool(this.numberOfThreads), failer);
+    AtomicLong numberOfUnits = new AtomicLong();
+    int numberOfFailedRequests = 0;
+    long timeBefore = System.nanoTime();
+    for (int request = 0; request < this.numberOfRequests; ++request)
+    {
+      boolean failing = 0 == (request + 1) % this.failEveryNthRequest;
+      IFailFastScope scope = executorService.openScope();
+      for (int task = 0; task < this.numberOfTasksPerRequest; ++task)
+      {
+        scope.submit(new WorkTask(checker, failer, failing && 0 == task, numberOfUnits));
+      }
+      try
+      {
+        scope.join();
+      }
+      catch (FailFastException failFastException)
+      {
+        ++numberOfFailedRequests;
+      }
+    }
+    long timeAfter = System.nanoTime();
+    executorService.shutdown();
+    executorService.awaitTermination(10000, TimeUnit.MILLISECONDS);
+    assertEquals(this.numberOfRequests / this.failEveryNthRequest, numberOfFailedRequests);
+    System.out.println(" - - - ");
+    this.outputWork("SiblingsCancelledByScope", numberOfUnits.get(), timeAfter - timeBefore);
+    System.out.println(" - - - ");
+  }
+
+}
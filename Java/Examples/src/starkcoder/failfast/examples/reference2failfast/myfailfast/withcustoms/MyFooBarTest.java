@@ -37,6 +37,7 @@ import org.junit.Test;
 import org.junit.rules.TestWatcher;
 import org.junit.runner.Description;
 
+import starkcoder.failfast.checks.SCheckSpecifications;
 import starkcoder.failfast.contractors.CallContractor;
 import starkcoder.failfast.contractors.ICallContractor;
 import starkcoder.failfast.fails.FailFastException;
@@ -79,6 +80,8 @@ public class MyFooBarTest
     IMyFailFast failFastOrNull = new MyFailFast(new MyChecker(callContractor), new MyFailer(
         callContractor), callContractor);
     SMyFailFast.setMyFailFastOrNull(failFastOrNull);
+    // reflect check specifications (incl. IMyFooBarCheck) at startup - not at first check
+    SCheckSpecifications.warmUp(failFastOrNull.getMyChecker());
     this.checker = SMyFailFast.getMyChecker();
     this.failer = SMyFailFast.getMyFailer();
   }
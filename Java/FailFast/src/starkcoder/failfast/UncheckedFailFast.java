@@ -0,0 +1,65 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.contractors.UncheckedCallContractor;
+import starkcoder.failfast.fails.Failer;
+
+/**
+ * Implementation of IFailFast for production, selecting the unchecked contract mode once at
+ * construction.
+ * <p>
+ * The mix-in uses an {link:UncheckedCallContractor}, so an asserting check does not validate its
+ * contract. The failer builds the exception from its fail arguments and the check arguments of the
+ * per-thread contract. Use {link:FailFast} with a strict call contractor in tests.
+ * </p>
+ * <p>
+ * This saves the contract validation, not allocations - each asserting check allocates a call
+ * contract as in {link:FailFast}.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class UncheckedFailFast extends AFailFast
+{
+  /**
+   * Default constructor creating the checker, failer and call contractor.
+   * <p>
+   * This is ready for use after this call.
+   * </p>
+   */
+  public UncheckedFailFast()
+  {
+    this(new UncheckedCallContractor());
+  }
+
+  private UncheckedFailFast(UncheckedCallContractor callContractor)
+  {
+    super(new Checker(callContractor), new Failer(callContractor), callContractor);
+  }
+}
@@ -27,14 +27,25 @@
 package starkcoder.failfast.checks;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.regex.Pattern;
 
+import starkcoder.failfast.checks.objects.ElementsSummary;
 import starkcoder.failfast.checks.objects.IObjectArrayEqualsCheck;
 import starkcoder.failfast.checks.objects.IObjectCollectionEqualsCheck;
+import starkcoder.failfast.checks.objects.IObjectCollectionMultisetEqualsCheck;
+import starkcoder.failfast.checks.objects.IObjectCollectionMultisetNotEqualsCheck;
+import starkcoder.failfast.checks.objects.IObjectCollectionSetEqualsCheck;
+import starkcoder.failfast.checks.objects.IObjectCollectionSetNotEqualsCheck;
 import starkcoder.failfast.checks.objects.IObjectDefaultCheck;
 import starkcoder.failfast.checks.objects.IObjectEqualsCheck;
 import starkcoder.failfast.checks.objects.IObjectListEqualsCheck;
@@ -211,6 +222,8 @@ import starkcoder.failfast.checks.objects.strings.IObjectStringWithSubstringChec
 import starkcoder.failfast.checks.objects.strings.IObjectStringWithoutPostfixCheck;
 import starkcoder.failfast.checks.objects.strings.IObjectStringWithoutPrefixCheck;
 import starkcoder.failfast.checks.objects.strings.IObjectStringWithoutSubstringCheck;
+import starkcoder.failfast.checks.objects.strings.IPatternCache;
+import starkcoder.failfast.checks.objects.strings.PatternCache;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidDefaultCheck;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidEqualsCheck;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidGreaterCheck;
@@ -225,6 +238,86 @@ import starkcoder.failfast.checks.objects.uuids.IObjectUuidNotSameCheck;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidNullCheck;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidOutsideCheck;
 import starkcoder.failfast.checks.objects.uuids.IObjectUuidSameCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanDefaultCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanEqualsCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanFalseCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.booleans.IPrimitiveBooleanTrueCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteDefaultCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteEqualsCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteGreaterCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteInsideCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteLessCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.bytes.IPrimitiveByteOutsideCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterDefaultCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterEqualsCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterGreaterCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterInsideCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterLessCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.characters.IPrimitiveCharacterOutsideCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleDefaultCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleEqualsAlmostCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleEqualsCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleGreaterCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleInsideCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleLessCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleNotEqualsAlmostCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.doubles.IPrimitiveDoubleOutsideCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatDefaultCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatEqualsAlmostCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatEqualsCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatGreaterCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatInsideCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatLessCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatNotEqualsAlmostCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.floats.IPrimitiveFloatOutsideCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerDefaultCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerEqualsCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerGreaterCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerInsideCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerLessCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.integers.IPrimitiveIntegerOutsideCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongDefaultCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongEqualsCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongGreaterCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongInsideCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongLessCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.longs.IPrimitiveLongOutsideCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortDefaultCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortEqualsCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortGreaterCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortGreaterOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortInsideCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortLessCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortLessOrEqualsCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortNotDefaultCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortNotEqualsCheck;
+import starkcoder.failfast.checks.primitives.shorts.IPrimitiveShortOutsideCheck;
 import starkcoder.failfast.contractors.ICallContractor;
 import starkcoder.failfast.contractors.contracts.CallContract;
 import starkcoder.failfast.contractors.contracts.ICallContract;
@@ -701,6 +794,79 @@ public abstract class AChecker implements IChecker
     return result;
   }
 
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.IObjectCollectionSetEqualsCheck#
+   * isObjectCollectionSetEquals(java.lang.Object, java.util.Collection, java.util.Collection)
+   */
+  @Override
+  public <A extends Object, B extends Object> boolean isObjectCollectionSetEquals(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB)
+  {
+    boolean result = false;
+
+    result = this.isGenericCollectionSetEqualsImplementation(caller, referenceA, referenceB,
+        IObjectCollectionSetEqualsCheck.class);
+
+    return result;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.IObjectCollectionSetNotEqualsCheck#
+   * isObjectCollectionSetNotEquals(java.lang.Object, java.util.Collection, java.util.Collection)
+   */
+  @Override
+  public <A extends Object, B extends Object> boolean isObjectCollectionSetNotEquals(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB)
+  {
+    boolean result = false;
+
+    result = this.isGenericCollectionSetNotEqualsImplementation(caller, referenceA, referenceB,
+        IObjectCollectionSetNotEqualsCheck.class);
+
+    return result;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.IObjectCollectionMultisetEqualsCheck#
+   * isObjectCollectionMultisetEquals(java.lang.Object, java.util.Collection, java.util.Collection)
+   */
+  @Override
+  public <A extends Object, B extends Object> boolean isObjectCollectionMultisetEquals(
+      Object caller, Collection<A> referenceA, Collection<B> referenceB)
+  {
+    boolean result = false;
+
+    result = this.isGenericCollectionMultisetEqualsImplementation(caller, referenceA, referenceB,
+        IObjectCollectionMultisetEqualsCheck.class);
+
+    return result;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.IObjectCollectionMultisetNotEqualsCheck#
+   * isObjectCollectionMultisetNotEquals(java.lang.Object, java.util.Collection,
+   * java.util.Collection)
+   */
+  @Override
+  public <A extends Object, B extends Object> boolean isObjectCollectionMultisetNotEquals(
+      Object caller, Collection<A> referenceA, Collection<B> referenceB)
+  {
+    boolean result = false;
+
+    result = this.isGenericCollectionMultisetNotEqualsImplementation(caller, referenceA, referenceB,
+        IObjectCollectionMultisetNotEqualsCheck.class);
+
+    return result;
+  }
+
   // OBJECT - END
 
   // OBJECTS - BEGIN
@@ -3651,6 +3817,24 @@ public abstract class AChecker implements IChecker
     return result;
   }
 
+  private IPatternCache stringMatchingPatternCache = new PatternCache();
+
+  @Override
+  public IPatternCache getStringMatchingPatternCache()
+  {
+    return this.stringMatchingPatternCache;
+  }
+
+  @Override
+  public void setStringMatchingPatternCache(IPatternCache patternCache)
+  {
+    if (null == patternCache)
+    {
+      throw new IllegalArgumentException("patternCache is null");
+    }
+    this.stringMatchingPatternCache = patternCache;
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -3667,7 +3851,8 @@ public abstract class AChecker implements IChecker
       throw new IllegalArgumentException("caller is null");
     }
 
-    if (null == referenceA || null == regex || !referenceA.matches(regex))
+    if (null == referenceA || null == regex
+        || !this.getStringMatchingPatternCache().getPattern(regex).matcher(referenceA).matches())
     {
       this.pushContractWithCaller(caller, IObjectStringNotMatchingCheck.class, new Object[]
       {
@@ -3682,6 +3867,31 @@ public abstract class AChecker implements IChecker
     return result;
   }
 
+  @Override
+  public boolean isStringNotMatching(Object caller, String referenceA, Pattern pattern)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    if (null == referenceA || null == pattern || !pattern.matcher(referenceA).matches())
+    {
+      this.pushContractWithCaller(caller, IObjectStringNotMatchingCheck.class, new Object[]
+      {
+          caller, referenceA
+      }, new Object[]
+      { // the regex, so fail messages are the same as for the regex check (null pattern too)
+          null == pattern ? null : pattern.pattern()
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
   /*
    * (non-Javadoc)
    * 
@@ -3699,7 +3909,8 @@ public abstract class AChecker implements IChecker
       throw new IllegalArgumentException("caller is null");
     }
 
-    if (null != referenceA && null != regex && referenceA.matches(regex))
+    if (null != referenceA && null != regex
+        && this.getStringMatchingPatternCache().getPattern(regex).matcher(referenceA).matches())
     {
       this.pushContractWithCaller(caller, IObjectStringMatchingCheck.class, new Object[]
       {
@@ -3714,6 +3925,31 @@ public abstract class AChecker implements IChecker
     return result;
   }
 
+  @Override
+  public boolean isStringMatching(Object caller, String referenceA, Pattern pattern)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    if (null != referenceA && null != pattern && pattern.matcher(referenceA).matches())
+    {
+      this.pushContractWithCaller(caller, IObjectStringMatchingCheck.class, new Object[]
+      {
+          caller, referenceA
+      }, new Object[]
+      { // the regex, so fail messages are the same as for the regex check
+          pattern.pattern()
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
   // OBJECTS - STRING - END
 
   // OBJECTS - UUID - START
@@ -3887,123 +4123,93 @@ public abstract class AChecker implements IChecker
 
   // OBJECTS - UUID - END
 
-  /**
-   * Default constructor.
-   * <p>
-   * Remember to set call contractor before usage.
-   * </p>
-   */
-  protected AChecker()
+  // primitive checks box their values only when asserting (pushing a contract)
+
+  // PRIMITIVES - BOOLEAN - START
+
+  @Override
+  public boolean isBooleanValueEquals(Object caller, boolean valueA, boolean valueB)
   {
-    super();
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveBooleanEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
   }
 
-  /**
-   * Recommended constructor receiving required references (manual constructor dependency
-   * injection).
-   * <p>
-   * This is ready for use after this call.
-   * </p>
-   * 
-   * @param callContractor
-   *          used by this
-   */
-  protected AChecker(ICallContractor callContractor)
+  @Override
+  public boolean isBooleanValueNotEquals(Object caller, boolean valueA, boolean valueB)
   {
-    super();
+    boolean result = false;
+
+    if (null == caller)
     {
-      if (null == callContractor)
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveBooleanNotEqualsCheck.class, new Object[]
       {
-        throw new IllegalArgumentException("callContractor is null");
-      }
-      this.setCallContractor(callContractor);
+          caller, valueA, valueB
+      });
+      result = true;
     }
+
+    return result;
   }
 
-  protected static final Object[] EmptyObjectArray = new Object[] {};
+  private boolean booleanValueDefault = false;
 
-  /**
-   * Call this when a check asserts.
-   * <p>
-   * This starts a contract that is finished with a fail-call.
-   * </p>
-   * 
-   * @param caller
-   *          object calling checker
-   * @param checkerSpecification
-   *          checker identification (interface)
-   * @param checkArguments
-   *          array with arguments of called check method
-   * @throws IllegalArgumentException
-   *           if any of the arguments are null
-   * @throws IllegalStateException
-   *           if CallContractor has not been set, or a previous push (per thread) has not
-   *           been popped
-   */
-  protected void pushContractWithCaller(Object caller,
-      Class<? extends ICheck> checkerSpecification, Object[] checkArguments)
+  @Override
+  public boolean getBooleanValueDefault()
   {
-    this.pushContractWithCaller(caller, checkerSpecification, checkArguments, EmptyObjectArray);
+    return this.booleanValueDefault;
   }
 
-  /**
-   * Call this when a check asserts.
-   * <p>
-   * This starts a contract that is finished with a fail-call.
-   * </p>
-   * 
-   * @param caller
-   *          object calling checker
-   * @param checkSpecification
-   *          checker identification (interface)
-   * @param checkArguments
-   *          array with arguments of called check method
-   * @param checkExtraArguments
-   *          array of extra arguments useful in failure message
-   * @throws IllegalArgumentException
-   *           if any of the arguments are null
-   * @throws IllegalStateException
-   *           if CallContractor has not been set, or a previous push (per thread) has not
-   *           been popped
-   */
-  protected void pushContractWithCaller(Object caller, Class<? extends ICheck> checkSpecification,
-      Object[] checkArguments, Object[] checkExtraArguments)
+  @Override
+  public void setBooleanValueDefault(boolean defaultBooleanValue)
   {
-    ICallContractor callContractor = this.getCallContractor();
-    if (null == callContractor)
-    {
-      throw new IllegalStateException("CallContractor must be set before using this checker.");
-    }
-
-    ICallContract callContract = this.contructCallContract(caller, this, checkSpecification,
-        checkArguments, checkExtraArguments);
-    // require a fail call from caller
-    callContractor.pushContractWithCaller(callContract);
+    this.booleanValueDefault = defaultBooleanValue;
   }
 
-  protected ICallContract contructCallContract(Object caller, IChecker assertingChecker,
-      Class<? extends ICheck> checkSpecification, Object[] checkArguments,
-      Object[] checkExtraArguments)
+  @Override
+  public boolean isBooleanValueDefault(Object caller, boolean valueA)
   {
-    ICallContract result = null;
+    boolean result = false;
 
+    if (null == caller)
     {
-      ICallContract callContract = new CallContract();
+      throw new IllegalArgumentException("caller is null");
+    }
+    boolean valueDefault = this.getBooleanValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveBooleanDefaultCheck.class, new Object[]
       {
-        callContract.setCaller(caller);
-        callContract.setCheckSpecification(checkSpecification);
-        callContract.setCheckArguments(checkArguments);
-        callContract.setCheckExtraArguments(checkExtraArguments);
-        callContract.setAssertingChecker(assertingChecker);
-      }
-      result = callContract;
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
     }
 
     return result;
   }
 
-  protected <A, B> boolean isGenericObjectEqualsImplementation(Object caller, A referenceA,
-      B referenceB, Class<? extends ICheck> checkerSpecification)
+  @Override
+  public boolean isBooleanValueNotDefault(Object caller, boolean valueA)
   {
     boolean result = false;
 
@@ -4011,29 +4217,24 @@ public abstract class AChecker implements IChecker
     {
       throw new IllegalArgumentException("caller is null");
     }
-
-    if (null == referenceA && null == referenceB)
-    {
-      result = true;
-    }
-    else if (null != referenceA && null != referenceB && referenceA.equals(referenceB)
-        && referenceB.equals(referenceA)) // agree to be equals
-    {
-      result = true;
-    }
-    if (result)
+    boolean valueDefault = this.getBooleanValueDefault();
+    if (valueA != valueDefault)
     {
-      this.pushContractWithCaller(caller, checkerSpecification, new Object[]
+      this.pushContractWithCaller(caller, IPrimitiveBooleanNotDefaultCheck.class, new Object[]
       {
-          caller, referenceA, referenceB
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
       });
+      result = true;
     }
 
     return result;
   }
 
-  protected <A, B> boolean isGenericObjectNotEqualsImplementation(Object caller, A referenceA,
-      B referenceB, Class<? extends ICheck> checkerSpecification)
+  @Override
+  public boolean isBooleanValueTrue(Object caller, boolean valueA)
   {
     boolean result = false;
 
@@ -4041,8 +4242,2169 @@ public abstract class AChecker implements IChecker
     {
       throw new IllegalArgumentException("caller is null");
     }
-
-    boolean equals = false;
+    if (valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveBooleanTrueCheck.class, new Object[]
+      {
+          caller, valueA
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isBooleanValueFalse(Object caller, boolean valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (!valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveBooleanFalseCheck.class, new Object[]
+      {
+          caller, valueA
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - BOOLEAN - END
+
+  // PRIMITIVES - BYTE - START
+
+  @Override
+  public boolean isByteValueEquals(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueNotEquals(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private byte byteValueDefault = 0;
+
+  @Override
+  public byte getByteValueDefault()
+  {
+    return this.byteValueDefault;
+  }
+
+  @Override
+  public void setByteValueDefault(byte defaultByteValue)
+  {
+    this.byteValueDefault = defaultByteValue;
+  }
+
+  @Override
+  public boolean isByteValueDefault(Object caller, byte valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    byte valueDefault = this.getByteValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueNotDefault(Object caller, byte valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    byte valueDefault = this.getByteValueDefault();
+    if (valueA != valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueLess(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA < valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueLessOrEquals(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA <= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueGreater(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA > valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueGreaterOrEquals(Object caller, byte valueA, byte valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA >= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueInside(Object caller, byte valueA, byte valueMin, byte valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    byte valueLow = ordered ? valueMin : valueMax;
+    byte valueHigh = ordered ? valueMax : valueMin;
+    if (valueLow <= valueA && valueA <= valueHigh)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isByteValueOutside(Object caller, byte valueA, byte valueMin, byte valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    byte valueLow = ordered ? valueMin : valueMax;
+    byte valueHigh = ordered ? valueMax : valueMin;
+    if (valueA < valueLow || valueHigh < valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveByteOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - BYTE - END
+
+  // PRIMITIVES - CHARACTER - START
+
+  @Override
+  public boolean isCharacterValueEquals(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueNotEquals(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private char characterValueDefault = '\u0000';
+
+  @Override
+  public char getCharacterValueDefault()
+  {
+    return this.characterValueDefault;
+  }
+
+  @Override
+  public void setCharacterValueDefault(char defaultCharacterValue)
+  {
+    this.characterValueDefault = defaultCharacterValue;
+  }
+
+  @Override
+  public boolean isCharacterValueDefault(Object caller, char valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    char valueDefault = this.getCharacterValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueNotDefault(Object caller, char valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    char valueDefault = this.getCharacterValueDefault();
+    if (valueA != valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueLess(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA < valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueLessOrEquals(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA <= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueGreater(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA > valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueGreaterOrEquals(Object caller, char valueA, char valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA >= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterGreaterOrEqualsCheck.class,
+          new Object[]
+          {
+              caller, valueA, valueB
+          });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueInside(Object caller, char valueA, char valueMin, char valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    char valueLow = ordered ? valueMin : valueMax;
+    char valueHigh = ordered ? valueMax : valueMin;
+    if (valueLow <= valueA && valueA <= valueHigh)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isCharacterValueOutside(Object caller, char valueA, char valueMin, char valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    char valueLow = ordered ? valueMin : valueMax;
+    char valueHigh = ordered ? valueMax : valueMin;
+    if (valueA < valueLow || valueHigh < valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveCharacterOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - CHARACTER - END
+
+  // PRIMITIVES - SHORT - START
+
+  @Override
+  public boolean isShortValueEquals(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueNotEquals(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private short shortValueDefault = 0;
+
+  @Override
+  public short getShortValueDefault()
+  {
+    return this.shortValueDefault;
+  }
+
+  @Override
+  public void setShortValueDefault(short defaultShortValue)
+  {
+    this.shortValueDefault = defaultShortValue;
+  }
+
+  @Override
+  public boolean isShortValueDefault(Object caller, short valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    short valueDefault = this.getShortValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueNotDefault(Object caller, short valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    short valueDefault = this.getShortValueDefault();
+    if (valueA != valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueLess(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA < valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueLessOrEquals(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA <= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueGreater(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA > valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueGreaterOrEquals(Object caller, short valueA, short valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA >= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueInside(Object caller, short valueA, short valueMin, short valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    short valueLow = ordered ? valueMin : valueMax;
+    short valueHigh = ordered ? valueMax : valueMin;
+    if (valueLow <= valueA && valueA <= valueHigh)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isShortValueOutside(Object caller, short valueA, short valueMin, short valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    short valueLow = ordered ? valueMin : valueMax;
+    short valueHigh = ordered ? valueMax : valueMin;
+    if (valueA < valueLow || valueHigh < valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveShortOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - SHORT - END
+
+  // PRIMITIVES - INTEGER - START
+
+  @Override
+  public boolean isIntegerValueEquals(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueNotEquals(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private int integerValueDefault = 0;
+
+  @Override
+  public int getIntegerValueDefault()
+  {
+    return this.integerValueDefault;
+  }
+
+  @Override
+  public void setIntegerValueDefault(int defaultIntegerValue)
+  {
+    this.integerValueDefault = defaultIntegerValue;
+  }
+
+  @Override
+  public boolean isIntegerValueDefault(Object caller, int valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    int valueDefault = this.getIntegerValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueNotDefault(Object caller, int valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    int valueDefault = this.getIntegerValueDefault();
+    if (valueA != valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueLess(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA < valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueLessOrEquals(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA <= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueGreater(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA > valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueGreaterOrEquals(Object caller, int valueA, int valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA >= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueInside(Object caller, int valueA, int valueMin, int valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    int valueLow = ordered ? valueMin : valueMax;
+    int valueHigh = ordered ? valueMax : valueMin;
+    if (valueLow <= valueA && valueA <= valueHigh)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isIntegerValueOutside(Object caller, int valueA, int valueMin, int valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    int valueLow = ordered ? valueMin : valueMax;
+    int valueHigh = ordered ? valueMax : valueMin;
+    if (valueA < valueLow || valueHigh < valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveIntegerOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - INTEGER - END
+
+  // PRIMITIVES - LONG - START
+
+  @Override
+  public boolean isLongValueEquals(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA == valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueNotEquals(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA != valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private long longValueDefault = 0L;
+
+  @Override
+  public long getLongValueDefault()
+  {
+    return this.longValueDefault;
+  }
+
+  @Override
+  public void setLongValueDefault(long defaultLongValue)
+  {
+    this.longValueDefault = defaultLongValue;
+  }
+
+  @Override
+  public boolean isLongValueDefault(Object caller, long valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    long valueDefault = this.getLongValueDefault();
+    if (valueA == valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueNotDefault(Object caller, long valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    long valueDefault = this.getLongValueDefault();
+    if (valueA != valueDefault)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueLess(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA < valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueLessOrEquals(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA <= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueGreater(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA > valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueGreaterOrEquals(Object caller, long valueA, long valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (valueA >= valueB)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueInside(Object caller, long valueA, long valueMin, long valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    long valueLow = ordered ? valueMin : valueMax;
+    long valueHigh = ordered ? valueMax : valueMin;
+    if (valueLow <= valueA && valueA <= valueHigh)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isLongValueOutside(Object caller, long valueA, long valueMin, long valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = valueMin <= valueMax;
+    long valueLow = ordered ? valueMin : valueMax;
+    long valueHigh = ordered ? valueMax : valueMin;
+    if (valueA < valueLow || valueHigh < valueA)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveLongOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - LONG - END
+
+  // PRIMITIVES - FLOAT - START
+
+  @Override
+  public boolean isFloatValueEquals(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) == 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueNotEquals(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) != 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private float floatValueDefault = 0f;
+
+  @Override
+  public float getFloatValueDefault()
+  {
+    return this.floatValueDefault;
+  }
+
+  @Override
+  public void setFloatValueDefault(float defaultFloatValue)
+  {
+    this.floatValueDefault = defaultFloatValue;
+  }
+
+  @Override
+  public boolean isFloatValueDefault(Object caller, float valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    float valueDefault = this.getFloatValueDefault();
+    if (Float.compare(valueA, valueDefault) == 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueNotDefault(Object caller, float valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    float valueDefault = this.getFloatValueDefault();
+    if (Float.compare(valueA, valueDefault) != 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueLess(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) < 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueLessOrEquals(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) <= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueGreater(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) > 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueGreaterOrEquals(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Float.compare(valueA, valueB) >= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueInside(Object caller, float valueA, float valueMin, float valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = Float.compare(valueMin, valueMax) <= 0;
+    float valueLow = ordered ? valueMin : valueMax;
+    float valueHigh = ordered ? valueMax : valueMin;
+    if (Float.compare(valueLow, valueA) <= 0 && Float.compare(valueA, valueHigh) <= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueOutside(Object caller, float valueA, float valueMin, float valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = Float.compare(valueMin, valueMax) <= 0;
+    float valueLow = ordered ? valueMin : valueMax;
+    float valueHigh = ordered ? valueMax : valueMin;
+    if (Float.compare(valueA, valueLow) < 0 || Float.compare(valueHigh, valueA) < 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private float floatValueEqualsAlmostDefaultAbsoluteEpsilon = 0.00001f;
+
+  @Override
+  public float getFloatValueEqualsAlmostDefaultAbsoluteEpsilon()
+  {
+    return this.floatValueEqualsAlmostDefaultAbsoluteEpsilon;
+  }
+
+  @Override
+  public void setFloatValueEqualsAlmostDefaultAbsoluteEpsilon(float defaultAbsoluteEpsilon)
+  {
+    this.floatValueEqualsAlmostDefaultAbsoluteEpsilon = Math.abs(defaultAbsoluteEpsilon);
+  }
+
+  private float floatValueEqualsAlmostDefaultRelativeEpsilon = 0.000001f;
+
+  @Override
+  public float getFloatValueEqualsAlmostDefaultRelativeEpsilon()
+  {
+    return this.floatValueEqualsAlmostDefaultRelativeEpsilon;
+  }
+
+  @Override
+  public void setFloatValueEqualsAlmostDefaultRelativeEpsilon(float defaultRelativeEpsilon)
+  {
+    this.floatValueEqualsAlmostDefaultRelativeEpsilon = Math.abs(defaultRelativeEpsilon);
+  }
+
+  @Override
+  public boolean isFloatValueEqualsAlmost(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    result = this.isFloatValueEqualsAlmost(caller, valueA, valueB,
+        this.getFloatValueEqualsAlmostDefaultAbsoluteEpsilon(),
+        this.getFloatValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon)
+  {
+    boolean result = false;
+
+    result = this.isFloatValueEqualsAlmost(caller, valueA, valueB, absoluteEpsilon,
+        this.getFloatValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon, float relativeEpsilon)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    float lowB = (1f - Math.signum(valueA) * relativeEpsilon) * valueA - absoluteEpsilon;
+    float highB = (1f + Math.signum(valueA) * relativeEpsilon) * valueA + absoluteEpsilon;
+    // exact match as in Float.compare (NaN equals NaN) - NotEqualsAlmost is the complement
+    if (Float.compare(valueA, valueB) == 0 || (lowB <= valueB && valueB <= highB))
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatEqualsAlmostCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      }, new Object[]
+      {
+          absoluteEpsilon, relativeEpsilon, lowB, highB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB)
+  {
+    boolean result = false;
+
+    result = this.isFloatValueNotEqualsAlmost(caller, valueA, valueB,
+        this.getFloatValueEqualsAlmostDefaultAbsoluteEpsilon(),
+        this.getFloatValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon)
+  {
+    boolean result = false;
+
+    result = this.isFloatValueNotEqualsAlmost(caller, valueA, valueB, absoluteEpsilon,
+        this.getFloatValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon, float relativeEpsilon)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    float lowB = (1f - Math.signum(valueA) * relativeEpsilon) * valueA - absoluteEpsilon;
+    float highB = (1f + Math.signum(valueA) * relativeEpsilon) * valueA + absoluteEpsilon;
+    if (Float.compare(valueA, valueB) != 0 && !(lowB <= valueB && valueB <= highB))
+    {
+      this.pushContractWithCaller(caller, IPrimitiveFloatNotEqualsAlmostCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      }, new Object[]
+      {
+          absoluteEpsilon, relativeEpsilon, lowB, highB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - FLOAT - END
+
+  // PRIMITIVES - DOUBLE - START
+
+  @Override
+  public boolean isDoubleValueEquals(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) == 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueNotEquals(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) != 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleNotEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private double doubleValueDefault = 0d;
+
+  @Override
+  public double getDoubleValueDefault()
+  {
+    return this.doubleValueDefault;
+  }
+
+  @Override
+  public void setDoubleValueDefault(double defaultDoubleValue)
+  {
+    this.doubleValueDefault = defaultDoubleValue;
+  }
+
+  @Override
+  public boolean isDoubleValueDefault(Object caller, double valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    double valueDefault = this.getDoubleValueDefault();
+    if (Double.compare(valueA, valueDefault) == 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueNotDefault(Object caller, double valueA)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    double valueDefault = this.getDoubleValueDefault();
+    if (Double.compare(valueA, valueDefault) != 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleNotDefaultCheck.class, new Object[]
+      {
+          caller, valueA
+      }, new Object[]
+      {
+          valueDefault
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueLess(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) < 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleLessCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueLessOrEquals(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) <= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleLessOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueGreater(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) > 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleGreaterCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueGreaterOrEquals(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (Double.compare(valueA, valueB) >= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleGreaterOrEqualsCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueInside(Object caller, double valueA, double valueMin, double valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = Double.compare(valueMin, valueMax) <= 0;
+    double valueLow = ordered ? valueMin : valueMax;
+    double valueHigh = ordered ? valueMax : valueMin;
+    if (Double.compare(valueLow, valueA) <= 0 && Double.compare(valueA, valueHigh) <= 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleInsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueOutside(Object caller, double valueA, double valueMin,
+      double valueMax)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    // [min;max] and [max;min] is considered the same number range
+    boolean ordered = Double.compare(valueMin, valueMax) <= 0;
+    double valueLow = ordered ? valueMin : valueMax;
+    double valueHigh = ordered ? valueMax : valueMin;
+    if (Double.compare(valueA, valueLow) < 0 || Double.compare(valueHigh, valueA) < 0)
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleOutsideCheck.class, new Object[]
+      {
+          caller, valueA, valueMin, valueMax
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  private double doubleValueEqualsAlmostDefaultAbsoluteEpsilon = 0.00001d;
+
+  @Override
+  public double getDoubleValueEqualsAlmostDefaultAbsoluteEpsilon()
+  {
+    return this.doubleValueEqualsAlmostDefaultAbsoluteEpsilon;
+  }
+
+  @Override
+  public void setDoubleValueEqualsAlmostDefaultAbsoluteEpsilon(double defaultAbsoluteEpsilon)
+  {
+    this.doubleValueEqualsAlmostDefaultAbsoluteEpsilon = Math.abs(defaultAbsoluteEpsilon);
+  }
+
+  private double doubleValueEqualsAlmostDefaultRelativeEpsilon = 0.000001d;
+
+  @Override
+  public double getDoubleValueEqualsAlmostDefaultRelativeEpsilon()
+  {
+    return this.doubleValueEqualsAlmostDefaultRelativeEpsilon;
+  }
+
+  @Override
+  public void setDoubleValueEqualsAlmostDefaultRelativeEpsilon(double defaultRelativeEpsilon)
+  {
+    this.doubleValueEqualsAlmostDefaultRelativeEpsilon = Math.abs(defaultRelativeEpsilon);
+  }
+
+  @Override
+  public boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    result = this.isDoubleValueEqualsAlmost(caller, valueA, valueB,
+        this.getDoubleValueEqualsAlmostDefaultAbsoluteEpsilon(),
+        this.getDoubleValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon)
+  {
+    boolean result = false;
+
+    result = this.isDoubleValueEqualsAlmost(caller, valueA, valueB, absoluteEpsilon,
+        this.getDoubleValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon, double relativeEpsilon)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    double lowB = (1d - Math.signum(valueA) * relativeEpsilon) * valueA - absoluteEpsilon;
+    double highB = (1d + Math.signum(valueA) * relativeEpsilon) * valueA + absoluteEpsilon;
+    // exact match as in Double.compare (NaN equals NaN) - NotEqualsAlmost is the complement
+    if (Double.compare(valueA, valueB) == 0 || (lowB <= valueB && valueB <= highB))
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleEqualsAlmostCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      }, new Object[]
+      {
+          absoluteEpsilon, relativeEpsilon, lowB, highB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueNotEqualsAlmost(Object caller, double valueA, double valueB)
+  {
+    boolean result = false;
+
+    result = this.isDoubleValueNotEqualsAlmost(caller, valueA, valueB,
+        this.getDoubleValueEqualsAlmostDefaultAbsoluteEpsilon(),
+        this.getDoubleValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueNotEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon)
+  {
+    boolean result = false;
+
+    result = this.isDoubleValueNotEqualsAlmost(caller, valueA, valueB, absoluteEpsilon,
+        this.getDoubleValueEqualsAlmostDefaultRelativeEpsilon());
+
+    return result;
+  }
+
+  @Override
+  public boolean isDoubleValueNotEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon, double relativeEpsilon)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    double lowB = (1d - Math.signum(valueA) * relativeEpsilon) * valueA - absoluteEpsilon;
+    double highB = (1d + Math.signum(valueA) * relativeEpsilon) * valueA + absoluteEpsilon;
+    if (Double.compare(valueA, valueB) != 0 && !(lowB <= valueB && valueB <= highB))
+    {
+      this.pushContractWithCaller(caller, IPrimitiveDoubleNotEqualsAlmostCheck.class, new Object[]
+      {
+          caller, valueA, valueB
+      }, new Object[]
+      {
+          absoluteEpsilon, relativeEpsilon, lowB, highB
+      });
+      result = true;
+    }
+
+    return result;
+  }
+
+  // PRIMITIVES - DOUBLE - END
+
+  /**
+   * Default constructor.
+   * <p>
+   * Remember to set call contractor before usage.
+   * </p>
+   */
+  protected AChecker()
+  {
+    super();
+  }
+
+  /**
+   * Recommended constructor receiving required references (manual constructor dependency
+   * injection).
+   * <p>
+   * This is ready for use after this call.
+   * </p>
+   * 
+   * @param callContractor
+   *          used by this
+   */
+  protected AChecker(ICallContractor callContractor)
+  {
+    super();
+    {
+      if (null == callContractor)
+      {
+        throw new IllegalArgumentException("callContractor is null");
+      }
+      this.setCallContractor(callContractor);
+    }
+  }
+
+  protected static final Object[] EmptyObjectArray = new Object[] {};
+
+  /**
+   * Call this when a check asserts.
+   * <p>
+   * This starts a contract that is finished with a fail-call.
+   * </p>
+   * 
+   * @param caller
+   *          object calling checker
+   * @param checkerSpecification
+   *          checker identification (interface)
+   * @param checkArguments
+   *          array with arguments of called check method
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   * @throws IllegalStateException
+   *           if CallContractor has not been set, or a previous push (per thread) has not
+   *           been popped
+   */
+  protected void pushContractWithCaller(Object caller,
+      Class<? extends ICheck> checkerSpecification, Object[] checkArguments)
+  {
+    this.pushContractWithCaller(caller, checkerSpecification, checkArguments, EmptyObjectArray);
+  }
+
+  /**
+   * Call this when a check asserts.
+   * <p>
+   * This starts a contract that is finished with a fail-call.
+   * </p>
+   * 
+   * @param caller
+   *          object calling checker
+   * @param checkSpecification
+   *          checker identification (interface)
+   * @param checkArguments
+   *          array with arguments of called check method
+   * @param checkExtraArguments
+   *          array of extra arguments useful in failure message
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   * @throws IllegalStateException
+   *           if CallContractor has not been set, or a previous push (per thread) has not
+   *           been popped
+   */
+  protected void pushContractWithCaller(Object caller, Class<? extends ICheck> checkSpecification,
+      Object[] checkArguments, Object[] checkExtraArguments)
+  {
+    ICallContractor callContractor = this.getCallContractor();
+    if (null == callContractor)
+    {
+      throw new IllegalStateException("CallContractor must be set before using this checker.");
+    }
+
+    ICallContract callContract = this.contructCallContract(caller, this, checkSpecification,
+        checkArguments, checkExtraArguments);
+    // require a fail call from caller
+    callContractor.pushContractWithCaller(callContract);
+  }
+
+  protected ICallContract contructCallContract(Object caller, IChecker assertingChecker,
+      Class<? extends ICheck> checkSpecification, Object[] checkArguments,
+      Object[] checkExtraArguments)
+  {
+    ICallContract result = null;
+
+    {
+      ICallContract callContract = new CallContract();
+      {
+        callContract.setCaller(caller);
+        callContract.setCheckSpecification(checkSpecification);
+        callContract.setCheckArguments(checkArguments);
+        callContract.setCheckExtraArguments(checkExtraArguments);
+        callContract.setAssertingChecker(assertingChecker);
+      }
+      result = callContract;
+    }
+
+    return result;
+  }
+
+  protected <A, B> boolean isGenericObjectEqualsImplementation(Object caller, A referenceA,
+      B referenceB, Class<? extends ICheck> checkerSpecification)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    if (null == referenceA && null == referenceB)
+    {
+      result = true;
+    }
+    else if (null != referenceA && null != referenceB && referenceA.equals(referenceB)
+        && referenceB.equals(referenceA)) // agree to be equals
+    {
+      result = true;
+    }
+    if (result)
+    {
+      this.pushContractWithCaller(caller, checkerSpecification, new Object[]
+      {
+          caller, referenceA, referenceB
+      });
+    }
+
+    return result;
+  }
+
+  protected <A, B> boolean isGenericObjectNotEqualsImplementation(Object caller, A referenceA,
+      B referenceB, Class<? extends ICheck> checkerSpecification)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    boolean equals = false;
     if (null == referenceA && null == referenceB)
     {
       equals = true;
@@ -4398,6 +6760,24 @@ public abstract class AChecker implements IChecker
     return result;
   }
 
+  private int elementsSummaryBudget = ElementsSummary.DefaultElementBudget;
+
+  @Override
+  public int getElementsSummaryBudget()
+  {
+    return this.elementsSummaryBudget;
+  }
+
+  @Override
+  public void setElementsSummaryBudget(int elementBudget)
+  {
+    if (elementBudget < 0)
+    {
+      throw new IllegalArgumentException("elementBudget is negative");
+    }
+    this.elementsSummaryBudget = elementBudget;
+  }
+
   protected <A, B> boolean isGenericListEqualsImplementation(Object caller, List<A> referenceA,
       List<B> referenceB, Class<? extends ICheck> checkerSpecification)
   {
@@ -4412,13 +6792,16 @@ public abstract class AChecker implements IChecker
     {
       result = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.size() == referenceB.size())
+    else if (null != referenceA && null != referenceB && referenceA.size() == referenceB.size())
     {
       boolean tempResult = true;
-      for (int index = 0; index < referenceA.size(); ++index)
+      // iterators keep this linear for lists without random access e.g. LinkedList
+      Iterator<A> iteratorA = referenceA.iterator();
+      Iterator<B> iteratorB = referenceB.iterator();
+      while (iteratorA.hasNext() && iteratorB.hasNext())
       {
-        Object elementA = referenceA.get(index);
-        Object elementB = referenceB.get(index);
+        Object elementA = iteratorA.next();
+        Object elementB = iteratorB.next();
         if (!((null == elementA && null == elementB) 
             || (null != elementA && null != elementB 
                 && elementA.equals(elementB) 
@@ -4433,34 +6816,12 @@ public abstract class AChecker implements IChecker
     if (result)
     {
       int size = 0;
-      String toString = null;
+      ElementsSummary elementsSummary = null;
       if (null != referenceA)
       {
         size = referenceA.size();
-        String tempString = "[";
-        String tempStringEnd = "]";
-        for (int up = 0, down = referenceA.size() - 1; up <= down; ++up, --down)
-        {
-          Object elementA = referenceA.get(up);
-          Object elementB = referenceB.get(down);
-          if (up == down)
-          {
-            tempString += (up == 0 ? "" : ", ") + (elementA == null ? "null" : elementA.toString());
-            break;
-          }
-          else if (5 < up)
-          {
-            tempString += ", ...";
-            break;
-          }
-          else
-          {
-            tempString += (up == 0 ? "" : ", ") + (elementA == null ? "null" : elementA.toString());
-            tempStringEnd = ", " 
-                + (elementB == null ? "null" : elementB.toString()) + tempStringEnd;
-          }
-        }
-        toString = tempString + tempStringEnd;
+        elementsSummary = ElementsSummary.createListSummary(referenceA, referenceB,
+            this.getElementsSummaryBudget());
       }
 
       this.pushContractWithCaller(caller, checkerSpecification, new Object[]
@@ -4468,7 +6829,7 @@ public abstract class AChecker implements IChecker
           caller, referenceA, referenceB
       }, new Object[]
       {
-          size, toString
+          size, elementsSummary
       });
     }
 
@@ -4492,13 +6853,16 @@ public abstract class AChecker implements IChecker
     {
       isEquals = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.size() == referenceB.size())
+    else if (null != referenceA && null != referenceB && referenceA.size() == referenceB.size())
     {
       boolean isEqualsTemp = true;
-      for (index = 0; index < referenceA.size(); ++index)
+      // iterators keep this linear for lists without random access e.g. LinkedList
+      Iterator<A> iteratorA = referenceA.iterator();
+      Iterator<B> iteratorB = referenceB.iterator();
+      while (iteratorA.hasNext() && iteratorB.hasNext())
       {
-        elementA = referenceA.get(index);
-        elementB = referenceB.get(index);
+        elementA = iteratorA.next();
+        elementB = iteratorB.next();
         if (!((null == elementA && null == elementB) 
             || (null != elementA && null != elementB 
                 && elementA.equals(elementB) 
@@ -4507,6 +6871,7 @@ public abstract class AChecker implements IChecker
           isEqualsTemp = false;
           break;
         }
+        ++index;
       }
       isEquals = isEqualsTemp;
     }
@@ -4539,7 +6904,7 @@ public abstract class AChecker implements IChecker
     {
       result = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.size() == referenceB.size())
+    else if (null != referenceA && null != referenceB && referenceA.size() == referenceB.size())
     {
       boolean resultTemp = true;
       Iterator<?> iteratorA = referenceA.iterator();
@@ -4565,40 +6930,12 @@ public abstract class AChecker implements IChecker
     if (result)
     {
       int size = 0;
-      String toString = null;
+      ElementsSummary elementsSummary = null;
       if (null != referenceA)
       {
-        int index = 0;
         size = referenceA.size();
-        String tempString = "[";
-        Iterator<?> iteratorA = referenceA.iterator();
-        while (iteratorA.hasNext())
-        {
-          Object elementA = iteratorA.next();
-          if (size <= 10)
-          {
-            tempString += (index == 0 ? "" : ", ") 
-                + (elementA == null ? "null" : elementA.toString());
-          }
-          else
-          {
-            if (index < 5)
-            {
-              tempString += (index == 0 ? "" : ", ") 
-                  + (elementA == null ? "null" : elementA.toString());
-            }
-            else if (index == 5)
-            {
-              tempString += ", ...";
-            }
-            else if (size - index < 5)
-            {
-              tempString += ", " + (elementA == null ? "null" : elementA.toString());
-            }
-          }
-          ++index;
-        }
-        toString = tempString + "]";
+        elementsSummary = ElementsSummary.createCollectionSummary(referenceA,
+            this.getElementsSummaryBudget());
       }
 
       this.pushContractWithCaller(caller, checkerSpecification, new Object[]
@@ -4606,7 +6943,7 @@ public abstract class AChecker implements IChecker
           caller, referenceA, referenceB
       }, new Object[]
       {
-          size, toString
+          size, elementsSummary
       });
     }
 
@@ -4631,7 +6968,7 @@ public abstract class AChecker implements IChecker
     {
       isEquals = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.size() == referenceB.size())
+    else if (null != referenceA && null != referenceB && referenceA.size() == referenceB.size())
     {
       boolean isEqualsTemp = true;
       Iterator<?> iteratorA = referenceA.iterator();
@@ -4666,6 +7003,328 @@ public abstract class AChecker implements IChecker
     return !isEquals;
   }
 
+  /**
+   * Marks that no differing element was found - a differing element may itself be null.
+   */
+  protected static final Object NoDifference = new Object();
+
+  /**
+   * Occurrences of an element in a multiset.
+   */
+  protected static class ElementCount
+  {
+    private final Object element;
+    private int count = 0;
+
+    protected ElementCount(Object element)
+    {
+      this.element = element;
+    }
+  }
+
+  /**
+   * Gets the specified collection as a set using equals for membership.
+   * <p>
+   * A HashSet (or derivative e.g. LinkedHashSet) is reused, any other collection is copied - also
+   * other sets. Their contains may not follow equals: a TreeSet uses its comparator (or
+   * compareTo) and an identity set uses ==, so reusing them would change which elements match.
+   * Whether a set follows equals cannot be told from its type in general, so only HashSet is
+   * trusted.
+   * </p>
+   * 
+   * @param collection
+   *          non-null collection
+   * @return hash set of the distinct elements
+   */
+  protected Set<?> getAsHashSet(Collection<?> collection)
+  {
+    return collection instanceof HashSet ? (Set<?>) collection : new HashSet<Object>(collection);
+  }
+
+  /**
+   * Finds an element contained in only one of the specified sets.
+   * <p>
+   * Membership is tested both ways, so each element has to agree to be equal to its match i.e.
+   * a.equals(b) and b.equals(a).
+   * </p>
+   * 
+   * @param setA
+   *          non-null set
+   * @param setB
+   *          non-null set
+   * @return differing element - or {link:#NoDifference}, if sets are equal
+   */
+  protected Object findSetDifference(Set<?> setA, Set<?> setB)
+  {
+    for (Object elementA : setA)
+    {
+      if (!setB.contains(elementA)) // a.equals(b)
+      {
+        return elementA;
+      }
+    }
+    for (Object elementB : setB)
+    {
+      if (!setA.contains(elementB)) // b.equals(a)
+      {
+        return elementB;
+      }
+    }
+    return NoDifference;
+  }
+
+  /**
+   * Finds an element occurring a different number of times in the specified collections.
+   * <p>
+   * Occurrences of A are counted in a hash map and then counted down by the elements of B. Each
+   * element of B has to agree to be equal to the counted element i.e. a.equals(b) and b.equals(a).
+   * Two HashSets have no duplicates and are compared as sets. Other sets are counted, since their
+   * membership may not follow equals - see {link:#getAsHashSet(Collection)}.
+   * </p>
+   * 
+   * @param referenceA
+   *          non-null collection
+   * @param referenceB
+   *          non-null collection
+   * @return differing element - or {link:#NoDifference}, if collections are equal
+   */
+  protected Object findMultisetDifference(Collection<?> referenceA, Collection<?> referenceB)
+  {
+    if (referenceA instanceof HashSet && referenceB instanceof HashSet)
+    {
+      return this.findSetDifference((Set<?>) referenceA, (Set<?>) referenceB);
+    }
+    Map<Object, ElementCount> elementCounts = new HashMap<Object, ElementCount>(
+        Math.max(16, (int) (referenceA.size() / .75f) + 1));
+    for (Object elementA : referenceA)
+    {
+      ElementCount elementCount = elementCounts.get(elementA);
+      if (null == elementCount)
+      {
+        elementCount = new ElementCount(elementA);
+        elementCounts.put(elementA, elementCount);
+      }
+      ++elementCount.count;
+    }
+    for (Object elementB : referenceB)
+    {
+      ElementCount elementCount = elementCounts.get(elementB); // b.equals(a)
+      if (null == elementCount || 0 == elementCount.count
+          || (null != elementB && !elementCount.element.equals(elementB))) // a.equals(b)
+      {
+        return elementB;
+      }
+      --elementCount.count;
+    }
+    for (ElementCount elementCount : elementCounts.values())
+    {
+      if (0 != elementCount.count)
+      {
+        return elementCount.element;
+      }
+    }
+    return NoDifference;
+  }
+
+  /**
+   * Counts the elements agreeing to be equal to the specified element.
+   * 
+   * @param collection
+   *          collection to count in - null counts as empty
+   * @param element
+   *          element to count
+   * @return number of occurrences
+   */
+  protected int countOccurrences(Collection<?> collection, Object element)
+  {
+    int result = 0;
+    if (null != collection)
+    {
+      for (Object other : collection)
+      {
+        if ((null == element && null == other) 
+            || (null != element && null != other 
+                && element.equals(other) && other.equals(element))) // agree to be equals
+        {
+          ++result;
+        }
+      }
+    }
+    return result;
+  }
+
+  protected <A, B> boolean isGenericCollectionSetEqualsImplementation(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB,
+      Class<? extends ICheck> checkerSpecification)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    Set<?> setA = null;
+    if (null == referenceA && null == referenceB)
+    {
+      result = true;
+    }
+    else if (null != referenceA && null != referenceB)
+    {
+      setA = this.getAsHashSet(referenceA);
+      result = NoDifference == this.findSetDifference(setA, this.getAsHashSet(referenceB));
+    }
+    if (result)
+    {
+      int size = 0;
+      ElementsSummary elementsSummary = null;
+      if (null != setA)
+      {
+        size = setA.size();
+        elementsSummary = ElementsSummary.createCollectionSummary(setA,
+            this.getElementsSummaryBudget());
+      }
+
+      this.pushContractWithCaller(caller, checkerSpecification, new Object[]
+      {
+          caller, referenceA, referenceB
+      }, new Object[]
+      {
+          size, elementsSummary
+      });
+    }
+
+    return result;
+  }
+
+  protected <A, B> boolean isGenericCollectionSetNotEqualsImplementation(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB,
+      Class<? extends ICheck> checkerSpecification)
+  {
+    boolean isEquals = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    Object difference = NoDifference;
+    if (null == referenceA && null == referenceB)
+    {
+      isEquals = true;
+    }
+    else
+    {
+      // a null reference differs by the elements of the other
+      difference = this.findSetDifference(
+          null == referenceA ? Collections.emptySet() : this.getAsHashSet(referenceA),
+          null == referenceB ? Collections.emptySet() : this.getAsHashSet(referenceB));
+      isEquals = NoDifference == difference && null != referenceA && null != referenceB;
+    }
+    if (!isEquals)
+    {
+      this.pushDifferenceContractWithCaller(caller, referenceA, referenceB, difference,
+          checkerSpecification);
+    }
+
+    return !isEquals;
+  }
+
+  protected <A, B> boolean isGenericCollectionMultisetEqualsImplementation(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB,
+      Class<? extends ICheck> checkerSpecification)
+  {
+    boolean result = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    if (null == referenceA && null == referenceB)
+    {
+      result = true;
+    }
+    else if (null != referenceA && null != referenceB && referenceA.size() == referenceB.size())
+    {
+      result = NoDifference == this.findMultisetDifference(referenceA, referenceB);
+    }
+    if (result)
+    {
+      int size = 0;
+      ElementsSummary elementsSummary = null;
+      if (null != referenceA)
+      {
+        size = referenceA.size();
+        elementsSummary = ElementsSummary.createCollectionSummary(referenceA,
+            this.getElementsSummaryBudget());
+      }
+
+      this.pushContractWithCaller(caller, checkerSpecification, new Object[]
+      {
+          caller, referenceA, referenceB
+      }, new Object[]
+      {
+          size, elementsSummary
+      });
+    }
+
+    return result;
+  }
+
+  protected <A, B> boolean isGenericCollectionMultisetNotEqualsImplementation(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB,
+      Class<? extends ICheck> checkerSpecification)
+  {
+    boolean isEquals = false;
+
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    Object difference = NoDifference;
+    if (null == referenceA && null == referenceB)
+    {
+      isEquals = true;
+    }
+    else
+    {
+      // a null reference differs by the elements of the other
+      difference = this.findMultisetDifference(
+          null == referenceA ? Collections.emptyList() : referenceA,
+          null == referenceB ? Collections.emptyList() : referenceB);
+      isEquals = NoDifference == difference && null != referenceA && null != referenceB;
+    }
+    if (!isEquals)
+    {
+      this.pushDifferenceContractWithCaller(caller, referenceA, referenceB, difference,
+          checkerSpecification);
+    }
+
+    return !isEquals;
+  }
+
+  /**
+   * Pushes a contract with the differing element and its number of occurrences in A and B.
+   * <p>
+   * Occurrences are only counted on this asserting path.
+   * </p>
+   */
+  protected void pushDifferenceContractWithCaller(Object caller, Collection<?> referenceA,
+      Collection<?> referenceB, Object difference, Class<? extends ICheck> checkerSpecification)
+  {
+    Object element = NoDifference == difference ? null : difference;
+    this.pushContractWithCaller(caller, checkerSpecification, new Object[]
+    {
+        caller, referenceA, referenceB
+    }, new Object[]
+    {
+        element, this.countOccurrences(referenceA, element),
+        this.countOccurrences(referenceB, element)
+    });
+  }
+
   protected <A, B> boolean isGenericArrayEqualsImplementation(Object caller, A[] referenceA,
       B[] referenceB, Class<? extends ICheck> checkerSpecification)
   {
@@ -4680,7 +7339,7 @@ public abstract class AChecker implements IChecker
     {
       result = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.length == referenceB.length)
+    else if (null != referenceA && null != referenceB && referenceA.length == referenceB.length)
     {
       boolean resultTemp = true;
       for (int index = 0; index < referenceA.length; ++index)
@@ -4700,34 +7359,12 @@ public abstract class AChecker implements IChecker
     if (result)
     {
       int size = 0;
-      String toString = null;
+      ElementsSummary elementsSummary = null;
       if (null != referenceA)
       {
         size = referenceA.length;
-        String tempString = "[";
-        String tempStringEnd = "]";
-        for (int up = 0, down = referenceA.length - 1; up <= down; ++up, --down)
-        {
-          Object elementA = referenceA[up];
-          Object elementB = referenceB[down];
-          if (up == down)
-          {
-            tempString += (up == 0 ? "" : ", ") + (elementA == null ? "null" : elementA.toString());
-            break;
-          }
-          else if (5 < up)
-          {
-            tempString += ", ..., ";
-            break;
-          }
-          else
-          {
-            tempString += (up == 0 ? "" : ", ") + (elementA == null ? "null" : elementA.toString());
-            tempStringEnd = ", " 
-                + (elementB == null ? "null" : elementB.toString()) + tempStringEnd;
-          }
-        }
-        toString = tempString + tempStringEnd;
+        elementsSummary = ElementsSummary.createArraySummary(referenceA, referenceB,
+            this.getElementsSummaryBudget());
       }
 
       this.pushContractWithCaller(caller, checkerSpecification, new Object[]
@@ -4735,7 +7372,7 @@ public abstract class AChecker implements IChecker
           caller, referenceA, referenceB
       }, new Object[]
       {
-          size, toString
+          size, elementsSummary
       });
     }
 
@@ -4759,7 +7396,7 @@ public abstract class AChecker implements IChecker
     {
       isEquals = true;
     }
-    else if (null != referenceA && null != referenceA && referenceA.length == referenceB.length)
+    else if (null != referenceA && null != referenceB && referenceA.length == referenceB.length)
     {
       boolean isEqualsTemp = true;
       for (index = 0; index < referenceA.length; ++index)
@@ -27,6 +27,7 @@
 package starkcoder.failfast.checks;
 
 import starkcoder.failfast.checks.objects.IObjectChecker;
+import starkcoder.failfast.checks.primitives.IPrimitiveChecker;
 import starkcoder.failfast.contractors.ICallContractorReference;
 
 /**
@@ -40,8 +41,7 @@ import starkcoder.failfast.contractors.ICallContractorReference;
  * 
  * @author Keld Oelykke
  */
-public interface IChecker extends ICallContractorReference, IObjectChecker
-// , IPrimitiveChecker -- TODO: make this to avoid boxing/unboxing penalties?
+public interface IChecker extends ICallContractorReference, IObjectChecker, IPrimitiveChecker
 // , IGenericsChecker -- TODO: determine whether this is needed at all?
 {
 
@@ -0,0 +1,319 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.checks;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import starkcoder.failfast.fails.IFail;
+
+/**
+ * Static registry of reflected check specifications.
+ * <p>
+ * A check specification (interface extending {link:ICheck}) is reflected once. The
+ * {link:NCheck}-validation and the paired fail specification are remembered, so contracts can look
+ * them up in constant time when pushed and popped.
+ * </p>
+ * <p>
+ * Call {link:#warmUp(IChecker)} at startup to reflect all check specifications of a checker. A
+ * misconfigured custom check specification then fails at startup - not at the first asserting
+ * check.
+ * </p>
+ * <p>
+ * Reflections are kept in a {link:ClassValue} e.g. stored with the check specification class
+ * itself, so the registry does not keep classes (and their class loaders) alive on a redeploy.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class SCheckSpecifications
+{
+
+  /**
+   * Immutable result of reflecting a check specification.
+   */
+  protected static final class CheckSpecification
+  {
+    private final Class<? extends IFail> failSpecificationTypeOrNull;
+    private final String validationErrorOrNull;
+    private final String reflectionErrorOrNull;
+
+    protected CheckSpecification(Class<? extends IFail> failSpecificationTypeOrNull,
+        String validationErrorOrNull, String reflectionErrorOrNull)
+    {
+      this.failSpecificationTypeOrNull = failSpecificationTypeOrNull;
+      this.validationErrorOrNull = validationErrorOrNull;
+      this.reflectionErrorOrNull = reflectionErrorOrNull;
+    }
+
+    /**
+     * The fail specification of the first check-method or null, if reflection failed.
+     */
+    protected Class<? extends IFail> getFailSpecificationTypeOrNull()
+    {
+      return this.failSpecificationTypeOrNull;
+    }
+
+    /**
+     * Error found when validating all check-methods or null, if valid.
+     */
+    protected String getValidationErrorOrNull()
+    {
+      return this.validationErrorOrNull;
+    }
+
+    /**
+     * Error found when reflecting the first check-method or null, if valid.
+     */
+    protected String getReflectionErrorOrNull()
+    {
+      return this.reflectionErrorOrNull;
+    }
+  }
+
+  private static final AtomicInteger checkSpecificationCount = new AtomicInteger();
+
+  /**
+   * Reflections per check specification - replaced by {link:#clear()}.
+   */
+  private static volatile ClassValue<CheckSpecification> checkSpecifications =
+      createCheckSpecifications();
+
+  private static ClassValue<CheckSpecification> createCheckSpecifications()
+  {
+    return new ClassValue<CheckSpecification>()
+    {
+      @Override
+      protected CheckSpecification computeValue(Class<?> type)
+      {
+        checkSpecificationCount.incrementAndGet();
+        return reflectCheckSpecification(type.asSubclass(ICheck.class));
+      }
+    };
+  }
+
+  private SCheckSpecifications()
+  {
+  }
+
+  /**
+   * Validates that the check specification has check-methods all annotated with {link:NCheck}
+   * with a fail specification.
+   * 
+   * @param checkSpecification
+   *          check specification to validate
+   * @throws IllegalArgumentException
+   *           if the check specification is null or invalid
+   */
+  public static void validateCheckSpecification(Class<? extends ICheck> checkSpecification)
+  {
+    String validationErrorOrNull = lookupCheckSpecification(checkSpecification)
+        .getValidationErrorOrNull();
+    if (null != validationErrorOrNull)
+    {
+      throw new IllegalArgumentException(validationErrorOrNull);
+    }
+  }
+
+  /**
+   * Retrieves the fail specification paired with the check specification (by its first
+   * check-method).
+   * 
+   * @param checkSpecification
+   *          check specification to lookup
+   * @return fail specification - never null
+   * @throws IllegalArgumentException
+   *           if the check specification is null or its first check-method is invalid
+   */
+  public static Class<? extends IFail> lookupFailSpecificationType(
+      Class<? extends ICheck> checkSpecification)
+  {
+    CheckSpecification specification = lookupCheckSpecification(checkSpecification);
+    String reflectionErrorOrNull = specification.getReflectionErrorOrNull();
+    if (null != reflectionErrorOrNull)
+    {
+      throw new IllegalArgumentException(reflectionErrorOrNull);
+    }
+    return specification.getFailSpecificationTypeOrNull();
+  }
+
+  /**
+   * Reflects and validates the given check specifications.
+   * 
+   * @param checkSpecifications
+   *          check specifications to warm up
+   * @throws IllegalArgumentException
+   *           if any of the check specifications are null or invalid
+   */
+  @SafeVarargs
+  public static void warmUp(Class<? extends ICheck>... checkSpecifications)
+  {
+    if (null == checkSpecifications)
+    {
+      throw new IllegalArgumentException("checkSpecifications is null");
+    }
+    for (Class<? extends ICheck> checkSpecification : checkSpecifications)
+    {
+      validateCheckSpecification(checkSpecification);
+    }
+  }
+
+  /**
+   * Reflects and validates all check specifications implemented by the checker.
+   * <p>
+   * Check specifications are the interfaces (of the checker type hierarchy) directly extending
+   * {link:ICheck}.
+   * </p>
+   * 
+   * @param checker
+   *          checker to warm up
+   * @return number of check specifications found
+   * @throws IllegalArgumentException
+   *           if checker is null or any of its check specifications are invalid
+   */
+  public static int warmUp(IChecker checker)
+  {
+    if (null == checker)
+    {
+      throw new IllegalArgumentException("checker is null");
+    }
+    int result = 0;
+
+    Set<Class<?>> visitedTypes = new HashSet<Class<?>>();
+    Deque<Class<?>> pendingTypes = new ArrayDeque<Class<?>>();
+    for (Class<?> type = checker.getClass(); null != type; type = type.getSuperclass())
+    {
+      pendingTypes.add(type);
+    }
+    while (!pendingTypes.isEmpty())
+    {
+      Class<?> type = pendingTypes.poll();
+      if (visitedTypes.add(type))
+      {
+        Class<?>[] superInterfaces = type.getInterfaces();
+        for (Class<?> superInterface : superInterfaces)
+        {
+          if (ICheck.class == superInterface)
+          {
+            validateCheckSpecification(type.asSubclass(ICheck.class));
+            ++result;
+          }
+          else
+          {
+            pendingTypes.add(superInterface);
+          }
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Number of check specifications reflected since startup or the last {link:#clear()}.
+   * <p>
+   * Threads racing to the first lookup of a check specification may both reflect it, so this can
+   * exceed the number of distinct check specifications.
+   * </p>
+   * 
+   * @return number of reflections
+   */
+  public static int getCheckSpecificationCount()
+  {
+    return checkSpecificationCount.get();
+  }
+
+  /**
+   * Forgets all reflected check specifications e.g. when classes are reloaded.
+   */
+  public static void clear()
+  {
+    checkSpecifications = createCheckSpecifications();
+    checkSpecificationCount.set(0);
+  }
+
+  protected static CheckSpecification lookupCheckSpecification(
+      Class<? extends ICheck> checkSpecification)
+  {
+    if (null == checkSpecification)
+    {
+      throw new IllegalArgumentException("CheckerSpecification is null");
+    }
+    return checkSpecifications.get(checkSpecification);
+  }
+
+  protected static CheckSpecification reflectCheckSpecification(
+      Class<? extends ICheck> checkSpecification)
+  {
+    Class<? extends IFail> failSpecificationTypeOrNull = null;
+    String validationErrorOrNull = null;
+    String reflectionErrorOrNull = null;
+
+    Method[] declaredMethods = checkSpecification.getDeclaredMethods();
+    if (declaredMethods.length <= 0)
+    {
+      validationErrorOrNull = "CheckerSpecification '" + checkSpecification
+          + "' must have at least 1 check-method - not " + declaredMethods.length;
+      reflectionErrorOrNull = validationErrorOrNull;
+    }
+    for (int index = 0; index < declaredMethods.length && null == validationErrorOrNull; ++index)
+    {
+      Method declaredMethod = declaredMethods[index];
+      String errorOrNull = null;
+      Class<? extends IFail> failSpecificationType = null;
+      NCheck checkAnnotation = declaredMethod.getAnnotation(NCheck.class);
+      if (null == checkAnnotation)
+      {
+        errorOrNull = "CheckerSpecification '" + checkSpecification
+            + "' must have check-method '" + declaredMethod + "' annotated with " + NCheck.class;
+      }
+      else
+      {
+        failSpecificationType = checkAnnotation.failSpecificationType();
+        if (null == failSpecificationType)
+        {
+          errorOrNull = "CheckerSpecification '" + checkSpecification + "' method '"
+              + declaredMethod + "' has failSpecificationType set to null";
+        }
+      }
+      if (0 == index)
+      { // the first check-method pairs the check specification with a fail specification
+        failSpecificationTypeOrNull = failSpecificationType;
+        reflectionErrorOrNull = errorOrNull;
+      }
+      validationErrorOrNull = errorOrNull;
+    }
+
+    return new CheckSpecification(failSpecificationTypeOrNull, validationErrorOrNull,
+        reflectionErrorOrNull);
+  }
+
+}
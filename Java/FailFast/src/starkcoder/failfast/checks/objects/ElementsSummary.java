@@ -0,0 +1,287 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+package starkcoder.failfast.checks.objects;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+
+/**
+ * Summary of the elements of an array, list or collection e.g. "[a, b, c, ..., x, y, z]".
+ * <p>
+ * The summary is a view over the elements - it is rendered when {link:#toString()} is called, which
+ * a fail message only does when it is built. At most the element budget of elements are rendered:
+ * half of them from the head (rounded up) and half from the tail. All elements are rendered if that
+ * hides at most 1 element.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public abstract class ElementsSummary
+{
+  /**
+   * Element budget used by default.
+   */
+  public static final int DefaultElementBudget = 12;
+
+  private static final String Separator = ", ";
+
+  private final int size;
+
+  private final int elementBudget;
+
+  /**
+   * Constructor with size and element budget.
+   * 
+   * @param size
+   *          number of elements to summarize
+   * @param elementBudget
+   *          maximum number of elements to render
+   * @throws IllegalArgumentException
+   *           if elementBudget is negative
+   */
+  protected ElementsSummary(int size, int elementBudget)
+  {
+    if (elementBudget < 0)
+    {
+      throw new IllegalArgumentException("elementBudget is negative");
+    }
+    this.size = size;
+    this.elementBudget = elementBudget;
+  }
+
+  /**
+   * Number of elements summarized.
+   * 
+   * @return number of elements
+   */
+  public int getSize()
+  {
+    return this.size;
+  }
+
+  /**
+   * Maximum number of elements rendered.
+   * 
+   * @return element budget
+   */
+  public int getElementBudget()
+  {
+    return this.elementBudget;
+  }
+
+  /**
+   * Appends the first elements.
+   * 
+   * @param stringBuilder
+   *          builder to append to
+   * @param count
+   *          number of elements to append
+   */
+  protected abstract void appendHead(StringBuilder stringBuilder, int count);
+
+  /**
+   * Appends the last elements.
+   * 
+   * @param stringBuilder
+   *          builder to append to
+   * @param count
+   *          number of elements to append
+   */
+  protected abstract void appendTail(StringBuilder stringBuilder, int count);
+
+  /**
+   * Appends an element - preceded by a separator.
+   * <p>
+   * {link:#toString()} removes the separator in front of the first rendered element, so an element
+   * rendered as an empty string is still separated from the next one.
+   * </p>
+   * 
+   * @param stringBuilder
+   *          builder to append to
+   * @param element
+   *          element to append
+   */
+  protected void appendElement(StringBuilder stringBuilder, Object element)
+  {
+    stringBuilder.append(Separator);
+    stringBuilder.append(element == null ? "null" : element.toString());
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.lang.Object#toString()
+   */
+  @Override
+  public String toString()
+  {
+    StringBuilder stringBuilder = new StringBuilder(16 * (Math.min(this.size,
+        this.elementBudget) + 1));
+    stringBuilder.append('[');
+    if (this.size <= this.elementBudget + 1)
+    {
+      this.appendHead(stringBuilder, this.size);
+    }
+    else
+    {
+      this.appendHead(stringBuilder, (this.elementBudget + 1) / 2);
+      stringBuilder.append(Separator);
+      stringBuilder.append("...");
+      this.appendTail(stringBuilder, this.elementBudget / 2);
+    }
+    if (1 < stringBuilder.length())
+    {
+      stringBuilder.delete(1, 1 + Separator.length());
+    }
+    stringBuilder.append(']');
+    return stringBuilder.toString();
+  }
+
+  /**
+   * Creates a summary of arrays with equal elements.
+   * 
+   * @param elementsHead
+   *          array to render the head from
+   * @param elementsTail
+   *          array to render the tail from
+   * @param elementBudget
+   *          maximum number of elements to render
+   * @return summary of the arrays
+   */
+  public static ElementsSummary createArraySummary(final Object[] elementsHead,
+      final Object[] elementsTail, int elementBudget)
+  {
+    return new ElementsSummary(elementsHead.length, elementBudget)
+    {
+      @Override
+      protected void appendHead(StringBuilder stringBuilder, int count)
+      {
+        for (int index = 0; index < count; ++index)
+        {
+          this.appendElement(stringBuilder, elementsHead[index]);
+        }
+      }
+
+      @Override
+      protected void appendTail(StringBuilder stringBuilder, int count)
+      {
+        for (int index = elementsTail.length - count; index < elementsTail.length; ++index)
+        {
+          this.appendElement(stringBuilder, elementsTail[index]);
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a summary of lists with equal elements.
+   * <p>
+   * Only the rendered elements are visited - also for lists without random access.
+   * </p>
+   * 
+   * @param elementsHead
+   *          list to render the head from
+   * @param elementsTail
+   *          list to render the tail from
+   * @param elementBudget
+   *          maximum number of elements to render
+   * @return summary of the lists
+   */
+  public static ElementsSummary createListSummary(final List<?> elementsHead,
+      final List<?> elementsTail, int elementBudget)
+  {
+    return new ElementsSummary(elementsHead.size(), elementBudget)
+    {
+      @Override
+      protected void appendHead(StringBuilder stringBuilder, int count)
+      {
+        Iterator<?> iterator = elementsHead.iterator();
+        for (int index = 0; index < count && iterator.hasNext(); ++index)
+        {
+          this.appendElement(stringBuilder, iterator.next());
+        }
+      }
+
+      @Override
+      protected void appendTail(StringBuilder stringBuilder, int count)
+      {
+        // the list may have shrunk since the check
+        ListIterator<?> iterator = elementsTail.listIterator(Math.max(0, elementsTail.size()
+            - count));
+        while (iterator.hasNext())
+        {
+          this.appendElement(stringBuilder, iterator.next());
+        }
+      }
+    };
+  }
+
+  /**
+   * Creates a summary of a collection.
+   * <p>
+   * Rendering the tail iterates the whole collection.
+   * </p>
+   * 
+   * @param elements
+   *          collection to render
+   * @param elementBudget
+   *          maximum number of elements to render
+   * @return summary of the collection
+   */
+  public static ElementsSummary createCollectionSummary(final Collection<?> elements,
+      int elementBudget)
+  {
+    return new ElementsSummary(elements.size(), elementBudget)
+    {
+      @Override
+      protected void appendHead(StringBuilder stringBuilder, int count)
+      {
+        Iterator<?> iterator = elements.iterator();
+        for (int index = 0; index < count && iterator.hasNext(); ++index)
+        {
+          this.appendElement(stringBuilder, iterator.next());
+        }
+      }
+
+      @Override
+      protected void appendTail(StringBuilder stringBuilder, int count)
+      {
+        int skip = elements.size() - count;
+        int index = 0;
+        for (Object element : elements)
+        {
+          if (skip <= index++)
+          {
+            this.appendElement(stringBuilder, element);
+          }
+        }
+      }
+    };
+  }
+
+}
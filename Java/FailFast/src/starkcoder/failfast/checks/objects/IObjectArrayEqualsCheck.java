@@ -35,7 +35,7 @@ import starkcoder.failfast.fails.objects.IObjectArrayEqualsFail;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectArrayEqualsCheck extends ICheck
+public interface IObjectArrayEqualsCheck extends IObjectElementsSummaryProperties, ICheck
 {
   /**
    * Checks if the references are equals or both nulls.
@@ -41,7 +41,9 @@ package starkcoder.failfast.checks.objects;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectCollectionChecker extends IObjectCollectionEqualsCheck
+public interface IObjectCollectionChecker extends IObjectCollectionEqualsCheck,
+    IObjectCollectionSetEqualsCheck, IObjectCollectionSetNotEqualsCheck,
+    IObjectCollectionMultisetEqualsCheck, IObjectCollectionMultisetNotEqualsCheck
 {
 
 }
@@ -37,7 +37,7 @@ import starkcoder.failfast.fails.objects.IObjectCollectionEqualsFail;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectCollectionEqualsCheck extends ICheck
+public interface IObjectCollectionEqualsCheck extends IObjectElementsSummaryProperties, ICheck
 {
   /**
    * Checks if the referenced object pairs are equals or both nulls.
@@ -0,0 +1,68 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.checks.objects;
+
+import java.util.Collection;
+
+import starkcoder.failfast.checks.ICheck;
+import starkcoder.failfast.checks.NCheck;
+import starkcoder.failfast.fails.objects.IObjectCollectionSetNotEqualsFail;
+
+/**
+ * Specifies a not-set-equals check for Object collection.
+ * <p>
+ * Set semantics: the order and the number of occurrences of the objects are ignored. Objects are
+ * hashed, so the check runs in expected linear time. A referenced HashSet is used as is, any other
+ * collection is copied into a HashSet (sorted and identity sets do not use equals for membership).
+ * </p>
+ * <p>
+ * Objects are equal, if they agree to be equal i.e. a.equals(b) and b.equals(a).
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IObjectCollectionSetNotEqualsCheck extends ICheck
+{
+  /**
+   * Checks if the referenced collections do not contain the same distinct objects and are not both
+   * nulls.
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param referenceA
+   *          collection reference to check against reference B
+   * @param referenceB
+   *          collection reference to check against reference A
+   * @return true, if referenced collections are not set-equals - excluding null pairs - otherwise
+   *         false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IObjectCollectionSetNotEqualsFail.class)
+  <A extends Object, B extends Object> boolean isObjectCollectionSetNotEquals(Object caller,
+      Collection<A> referenceA, Collection<B> referenceB);
+}
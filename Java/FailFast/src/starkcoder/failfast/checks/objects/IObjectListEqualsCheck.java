@@ -35,13 +35,13 @@ import starkcoder.failfast.fails.objects.IObjectListEqualsFail;
 /**
  * Specifies an equals check for Object list.
  * <p>
- * List checks are tiny bit more memory friendly than Collection checks, since allocation of an
- * Enumerator can be avoided.
+ * List checks are tiny bit cheaper than Collection checks, since the summary of a fail message
+ * only visits the rendered elements.
  * </p>
  * 
  * @author Keld Oelykke
  */
-public interface IObjectListEqualsCheck extends ICheck
+public interface IObjectListEqualsCheck extends IObjectElementsSummaryProperties, ICheck
 {
   /**
    * Checks if the referenced object pairs are equals or both nulls.
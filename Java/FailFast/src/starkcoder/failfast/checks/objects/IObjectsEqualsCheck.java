@@ -38,7 +38,7 @@ import starkcoder.failfast.fails.objects.IObjectsEqualsFail;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectsEqualsCheck extends ICheck
+public interface IObjectsEqualsCheck extends IObjectElementsSummaryProperties, ICheck
 {
   /**
    * Checks if the references are equals or both nulls.
@@ -26,6 +26,8 @@
 
 package starkcoder.failfast.checks.objects.strings;
 
+import java.util.regex.Pattern;
+
 import starkcoder.failfast.checks.ICheck;
 import starkcoder.failfast.checks.NCheck;
 import starkcoder.failfast.fails.objects.strings.IObjectStringMatchingFail;
@@ -35,7 +37,7 @@ import starkcoder.failfast.fails.objects.strings.IObjectStringMatchingFail;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectStringMatchingCheck extends ICheck
+public interface IObjectStringMatchingCheck extends IObjectStringMatchingCheckProperties, ICheck
 {
   /**
    * Checks if A matches the regular expression.
@@ -48,6 +50,10 @@ public interface IObjectStringMatchingCheck extends ICheck
    * <p>
    * Empty A is matched by empty regex.
    * </p>
+   * <p>
+   * The regex is compiled once and cached - see
+   * {link:IObjectStringMatchingCheckProperties#getStringMatchingPatternCache()}.
+   * </p>
    * 
    * @param caller
    *          end-user instance initiating the check
@@ -61,4 +67,26 @@ public interface IObjectStringMatchingCheck extends ICheck
    */
   @NCheck(failSpecificationType = IObjectStringMatchingFail.class)
   boolean isStringMatching(Object caller, String referenceA, String regex);
+
+  /**
+   * Checks if A matches the compiled regular expression.
+   * <p>
+   * If A is null it can't be matched.
+   * </p>
+   * <p>
+   * If pattern is null A can't be matched
+   * </p>
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param referenceA
+   *          reference to check for match pattern
+   * @param pattern
+   *          the compiled regular expression A is to be matched against
+   * @return true, if A matches pattern - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IObjectStringMatchingFail.class)
+  boolean isStringMatching(Object caller, String referenceA, Pattern pattern);
 }
@@ -0,0 +1,98 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+package starkcoder.failfast.checks.objects.strings;
+
+import java.util.regex.Pattern;
+
+/**
+ * Specification of a bounded cache of compiled regular expressions.
+ * <p>
+ * Used by {link:IObjectStringMatchingCheck} and {link:IObjectStringNotMatchingCheck}, so a regex
+ * is not compiled on every check.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IPatternCache
+{
+
+  /**
+   * Gets the compiled pattern of the regular expression - compiling and caching it, if needed.
+   * 
+   * @param regex
+   *          regular expression to compile
+   * @return compiled pattern of regex
+   * @throws IllegalArgumentException
+   *           if regex is null
+   * @throws java.util.regex.PatternSyntaxException
+   *           if regex is invalid
+   */
+  public Pattern getPattern(String regex);
+
+  /**
+   * Maximum number of cached patterns.
+   * <p>
+   * When exceeded the least recently used pattern is evicted.
+   * </p>
+   * 
+   * @return maximum number of cached patterns
+   */
+  public int getMaximumSize();
+
+  /**
+   * Number of currently cached patterns.
+   * 
+   * @return number of currently cached patterns
+   */
+  public int getSize();
+
+  /**
+   * Number of lookups that found a cached pattern.
+   * 
+   * @return number of cache hits
+   */
+  public long getHitCount();
+
+  /**
+   * Number of lookups that had to compile the pattern.
+   * 
+   * @return number of cache misses
+   */
+  public long getMissCount();
+
+  /**
+   * Number of patterns evicted, since the cache was full.
+   * 
+   * @return number of evicted patterns
+   */
+  public long getEvictionCount();
+
+  /**
+   * Removes all cached patterns. Counters are not reset.
+   */
+  public void clear();
+
+}
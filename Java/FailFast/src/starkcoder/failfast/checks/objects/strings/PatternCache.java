@@ -0,0 +1,310 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+package starkcoder.failfast.checks.objects.strings;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.regex.Pattern;
+
+/**
+ * Concrete implementation of {link:IPatternCache}.
+ * <p>
+ * Lookups of cached patterns are lock-free and share no written state: hits are counted in a
+ * striped counter, and each cached pattern is stamped with the number of misses at its last lookup
+ * - rewritten only when a miss happened since. When a compile makes the cache exceed its maximum
+ * size the pattern with the oldest stamp is evicted (under a lock, scanning the cache), so patterns
+ * looked up between the same two misses are equally recent. Patterns are compiled outside any lock,
+ * so concurrent misses of the same regex may compile it more than once - only one is cached.
+ * </p>
+ * <p>
+ * Extend {link:IPatternCache} and this, if needed.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class PatternCache implements IPatternCache
+{
+  /**
+   * Maximum number of cached patterns used by the default constructor.
+   */
+  public static final int DefaultMaximumSize = 128;
+
+  /**
+   * Default constructor.
+   */
+  public PatternCache()
+  {
+    this(DefaultMaximumSize);
+  }
+
+  /**
+   * Constructor with maximum number of cached patterns.
+   * 
+   * @param maximumSize
+   *          maximum number of cached patterns
+   * @throws IllegalArgumentException
+   *           if maximumSize is less than 1
+   */
+  public PatternCache(int maximumSize)
+  {
+    if (maximumSize < 1)
+    {
+      throw new IllegalArgumentException("maximumSize is less than 1");
+    }
+    this.maximumSize = maximumSize;
+  }
+
+  /**
+   * Cached pattern stamped with its last lookup.
+   */
+  protected static class CachedPattern
+  {
+    private final Pattern pattern;
+
+    private volatile long lastLookup;
+
+    protected CachedPattern(Pattern pattern, long lookup)
+    {
+      this.pattern = pattern;
+      this.lastLookup = lookup;
+    }
+
+    protected Pattern getPattern()
+    {
+      return this.pattern;
+    }
+
+    protected long getLastLookup()
+    {
+      return this.lastLookup;
+    }
+
+    protected void setLastLookup(long lookup)
+    {
+      this.lastLookup = lookup;
+    }
+  }
+
+  private final int maximumSize;
+
+  private final ConcurrentHashMap<String, CachedPattern> cachedPatterns =
+      new ConcurrentHashMap<String, CachedPattern>();
+
+  protected ConcurrentHashMap<String, CachedPattern> getCachedPatterns()
+  {
+    return this.cachedPatterns;
+  }
+
+  /**
+   * Counter striped by thread, so concurrent increments do not contend on one cache line.
+   */
+  protected static final class StripedCounter
+  {
+    // a stripe per cache line of 8 longs
+    private static final int StripeSpacing = 8;
+
+    private final AtomicLongArray counts;
+
+    private final int stripeMask;
+
+    protected StripedCounter()
+    {
+      int numberOfStripes = Integer.highestOneBit(Math.min(64, Math.max(1, Runtime.getRuntime()
+          .availableProcessors())) * 2 - 1);
+      this.counts = new AtomicLongArray(numberOfStripes * StripeSpacing);
+      this.stripeMask = numberOfStripes - 1;
+    }
+
+    protected void increment()
+    {
+      int stripe = (int) Thread.currentThread().getId() & this.stripeMask;
+      this.counts.incrementAndGet(stripe * StripeSpacing);
+    }
+
+    /**
+     * Sums the stripes - not a snapshot, if incremented concurrently.
+     */
+    protected long sum()
+    {
+      long result = 0;
+      for (int index = 0; index < this.counts.length(); index += StripeSpacing)
+      {
+        result += this.counts.get(index);
+      }
+      return result;
+    }
+  }
+
+  private final Object evictionLock = new Object();
+
+  private final StripedCounter hitCount = new StripedCounter();
+
+  // the miss count is the clock of the recency stamps
+  private final AtomicLong missCount = new AtomicLong();
+
+  private final AtomicLong evictionCount = new AtomicLong();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getPattern(java.lang.String)
+   */
+  @Override
+  public Pattern getPattern(String regex)
+  {
+    if (null == regex)
+    {
+      throw new IllegalArgumentException("regex is null");
+    }
+
+    CachedPattern cachedPattern = this.getCachedPatterns().get(regex);
+    if (null != cachedPattern)
+    {
+      this.hitCount.increment();
+      // a hit is more recent than the miss at the same miss count (odd vs. even stamp)
+      long lookup = 2 * this.missCount.get() + 1;
+      if (cachedPattern.getLastLookup() != lookup)
+      { // stale - else no write
+        cachedPattern.setLastLookup(lookup);
+      }
+      return cachedPattern.getPattern();
+    }
+
+    long lookup = 2 * this.missCount.incrementAndGet();
+    Pattern pattern = Pattern.compile(regex);
+    CachedPattern otherCachedPattern = this.getCachedPatterns().putIfAbsent(regex,
+        new CachedPattern(pattern, lookup));
+    if (null != otherCachedPattern)
+    { // compiled concurrently by another thread
+      return otherCachedPattern.getPattern();
+    }
+    if (this.maximumSize < this.getCachedPatterns().size())
+    {
+      this.evictLeastRecentlyUsed();
+    }
+
+    return pattern;
+  }
+
+  /**
+   * Evicts least recently used patterns until the cache is within its maximum size.
+   */
+  protected void evictLeastRecentlyUsed()
+  {
+    synchronized (this.evictionLock)
+    {
+      while (this.maximumSize < this.getCachedPatterns().size())
+      {
+        Map.Entry<String, CachedPattern> oldestEntry = null;
+        for (Map.Entry<String, CachedPattern> entry : this.getCachedPatterns().entrySet())
+        {
+          if (null == oldestEntry
+              || entry.getValue().getLastLookup() < oldestEntry.getValue().getLastLookup())
+          {
+            oldestEntry = entry;
+          }
+        }
+        if (null == oldestEntry)
+        {
+          break; // cleared concurrently
+        }
+        if (this.getCachedPatterns().remove(oldestEntry.getKey(), oldestEntry.getValue()))
+        {
+          this.evictionCount.incrementAndGet();
+        }
+      }
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getMaximumSize()
+   */
+  @Override
+  public int getMaximumSize()
+  {
+    return this.maximumSize;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getSize()
+   */
+  @Override
+  public int getSize()
+  {
+    return this.getCachedPatterns().size();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getHitCount()
+   */
+  @Override
+  public long getHitCount()
+  {
+    return this.hitCount.sum();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getMissCount()
+   */
+  @Override
+  public long getMissCount()
+  {
+    return this.missCount.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#getEvictionCount()
+   */
+  @Override
+  public long getEvictionCount()
+  {
+    return this.evictionCount.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.checks.objects.strings.IPatternCache#clear()
+   */
+  @Override
+  public void clear()
+  {
+    this.getCachedPatterns().clear();
+  }
+
+}
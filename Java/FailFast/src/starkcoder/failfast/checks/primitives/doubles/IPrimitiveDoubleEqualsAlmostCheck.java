@@ -0,0 +1,108 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.checks.primitives.doubles;
+
+import starkcoder.failfast.checks.ICheck;
+import starkcoder.failfast.checks.NCheck;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleEqualsAlmostFail;
+
+/**
+ * Specifies an equals-almost check for double.
+ * <p>
+ * Same as {link:IObjectDoubleEqualsAlmostCheck}, but for double values.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IPrimitiveDoubleEqualsAlmostCheck extends
+    IPrimitiveDoubleEqualsAlmostCheckProperties, ICheck
+{
+  /**
+   * Checks if the values are almost equals (B is within [L(A);U(A)]).
+   * <p>
+   * The default absolute and relative epsilons are used
+   * {link:IPrimitiveDoubleEqualsAlmostCheckProperties}.
+   * </p>
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @return true, if the values are almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveDoubleEqualsAlmostFail.class)
+  boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB);
+
+  /**
+   * Checks if the values are almost equals (B is within [L(A);U(A)]).
+   * <p>
+   * The default relative epsilon is used
+   * {link:IPrimitiveDoubleEqualsAlmostCheckProperties}.
+   * </p>
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @param absoluteEpsilon
+   *          disregarded absolute difference between A and B
+   * @return true, if the values are almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveDoubleEqualsAlmostFail.class)
+  boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon);
+
+  /**
+   * Checks if the values are almost equals (B is within [L(A);U(A)]).
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @param absoluteEpsilon
+   *          disregarded absolute difference between A and B
+   * @param relativeEpsilon
+   *          disregarded relative difference between A and B
+   * @return true, if the values are almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveDoubleEqualsAlmostFail.class)
+  boolean isDoubleValueEqualsAlmost(Object caller, double valueA, double valueB,
+      double absoluteEpsilon, double relativeEpsilon);
+
+}
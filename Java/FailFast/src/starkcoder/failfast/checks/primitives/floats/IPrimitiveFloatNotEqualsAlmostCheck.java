@@ -0,0 +1,108 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.checks.primitives.floats;
+
+import starkcoder.failfast.checks.ICheck;
+import starkcoder.failfast.checks.NCheck;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsAlmostFail;
+
+/**
+ * Specifies a not-equals-almost check for float.
+ * <p>
+ * Same as {link:IObjectFloatNotEqualsAlmostCheck}, but for float values.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IPrimitiveFloatNotEqualsAlmostCheck extends
+    IPrimitiveFloatEqualsAlmostCheckProperties, ICheck
+{
+  /**
+   * Checks if the values are NOT almost equals (B is outside [L(A);U(A)]).
+   * <p>
+   * The default absolute and relative epsilons are used
+   * {link:IPrimitiveFloatEqualsAlmostCheckProperties}.
+   * </p>
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @return true, if the values are NOT almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveFloatNotEqualsAlmostFail.class)
+  boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB);
+
+  /**
+   * Checks if the values are NOT almost equals (B is outside [L(A);U(A)]).
+   * <p>
+   * The default relative epsilon is used
+   * {link:IPrimitiveFloatEqualsAlmostCheckProperties}.
+   * </p>
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @param absoluteEpsilon
+   *          disregarded absolute difference between A and B
+   * @return true, if the values are NOT almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveFloatNotEqualsAlmostFail.class)
+  boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon);
+
+  /**
+   * Checks if the values are NOT almost equals (B is outside [L(A);U(A)]).
+   * 
+   * @param caller
+   *          end-user instance initiating the check
+   * @param valueA
+   *          value to check against value B
+   * @param valueB
+   *          argument to check against value A
+   * @param absoluteEpsilon
+   *          disregarded absolute difference between A and B
+   * @param relativeEpsilon
+   *          disregarded relative difference between A and B
+   * @return true, if the values are NOT almost equals - otherwise false
+   * @throws IllegalArgumentException
+   *           if caller is null
+   */
+  @NCheck(failSpecificationType = IPrimitiveFloatNotEqualsAlmostFail.class)
+  boolean isFloatValueNotEqualsAlmost(Object caller, float valueA, float valueB,
+      float absoluteEpsilon, float relativeEpsilon);
+
+}
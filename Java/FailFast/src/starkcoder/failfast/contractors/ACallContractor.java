@@ -27,6 +27,7 @@
 package starkcoder.failfast.contractors;
 
 import java.util.HashMap;
+import java.util.concurrent.Callable;
 
 import starkcoder.failfast.contractors.contracts.ICallContract;
 import starkcoder.failfast.fails.IFail;
@@ -44,7 +45,7 @@ import starkcoder.failfast.fails.IFailer;
  * @author Keld Oelykke
  *
  */
-public abstract class ACallContractor implements ICallContractor
+public abstract class ACallContractor implements ICallContractor, ICallContractPropagator
 {
 
   /* (non-Javadoc)
@@ -60,18 +61,14 @@ public abstract class ACallContractor implements ICallContractor
     }
     callContract.validateContractData();
 
-    synchronized (this.getSynchronizationObject())
+    ICallContract callContractPushedOrNull = this.getCallContractOfCurrentThreadOrNull();
+    if (null != callContractPushedOrNull)
     {
-      Long currentThreadId = this.getCurrentThreadId();
-      ICallContract callContractPushedOrNull = this.getThreadId2CallContract().get(currentThreadId);
-      if (null != callContractPushedOrNull)
-      {
-        throw new IllegalStateException("Cannot push contract " + callContract + " for caller "
-            + callContract.getCaller() + ", since caller " + callContractPushedOrNull.getCaller()
-            + " first needs to pop contract " + callContractPushedOrNull + ".");
-      }
-      this.getThreadId2CallContract().put(currentThreadId, callContract);
+      throw new IllegalStateException("Cannot push contract " + callContract + " for caller "
+          + callContract.getCaller() + ", since caller " + callContractPushedOrNull.getCaller()
+          + " first needs to pop contract " + callContractPushedOrNull + ".");
     }
+    this.setCallContractOfCurrentThread(callContract);
   }
 
   /* (non-Javadoc)
@@ -102,33 +99,28 @@ public abstract class ACallContractor implements ICallContractor
       }
     }
 
-    synchronized (this.getSynchronizationObject())
+    ICallContract callContractPushedOrNull = this.getCallContractOfCurrentThreadOrNull();
+    if (null == callContractPushedOrNull)
     {
-      Long currentThreadId = this.getCurrentThreadId();
-
-      ICallContract callContractPushedOrNull = this.getThreadId2CallContract().get(currentThreadId);
-
-      if (null == callContractPushedOrNull)
-      {
-        throw new IllegalStateException("Cannot pop a contract for caller " + caller
-            + ", since none is currently pushed.");
-      }
-      if (caller != callContractPushedOrNull.getCaller())
-      {
-        throw new IllegalStateException("Cannot pop a contract for caller " + caller
-            + ", since caller " + callContractPushedOrNull.getCaller() + " has pushed a contract.");
-      }
-      Class<? extends IFail> failSpecificationType = callContractPushedOrNull
-          .reflectFailSpecificationType();
-      if (!failSpecification.equals(failSpecificationType))
-      {
-        throw new IllegalStateException("Cannot pop a contract for fail specification "
-            + failSpecification + " for caller " + caller
-            + ", since a contract for fail specification " + failSpecificationType
-            + " is currently pushed by caller " + callContractPushedOrNull.getCaller() + ".");
-      }
-      result = callContractPushedOrNull;
+      throw new IllegalStateException("Cannot pop a contract for caller " + caller
+          + ", since none is currently pushed.");
     }
+    if (caller != callContractPushedOrNull.getCaller())
+    {
+      throw new IllegalStateException("Cannot pop a contract for caller " + caller
+          + ", since caller " + callContractPushedOrNull.getCaller() + " has pushed a contract.");
+    }
+    Class<? extends IFail> failSpecificationType = callContractPushedOrNull
+        .reflectFailSpecificationType();
+    if (!failSpecification.equals(failSpecificationType))
+    {
+      throw new IllegalStateException("Cannot pop a contract for fail specification "
+          + failSpecification + " for caller " + caller
+          + ", since a contract for fail specification " + failSpecificationType
+          + " is currently pushed by caller " + callContractPushedOrNull.getCaller() + ".");
+    }
+    this.removeCallContractOfCurrentThread();
+    result = callContractPushedOrNull;
 
     return result;
   }
@@ -147,26 +139,155 @@ public abstract class ACallContractor implements ICallContractor
       }
     }
 
-    synchronized (this.getSynchronizationObject())
+    ICallContract callContractPushedOrNull = this.getCallContractOfCurrentThreadOrNull();
+    if (null == callContractPushedOrNull)
+    {
+      throw new IllegalStateException("Cannot get a contract for caller " + caller
+          + ", since none is currently pushed.");
+    }
+    if (caller != callContractPushedOrNull.getCaller())
     {
-      Long currentThreadId = this.getCurrentThreadId();
+      throw new IllegalStateException("Cannot get a contract for caller " + caller
+          + ", since caller " + callContractPushedOrNull.getCaller() + " has pushed a contract.");
+    }
+    result = callContractPushedOrNull;
+
+    return result;
+  }
 
-      ICallContract callContractPushedOrNull = this.getThreadId2CallContract().get(currentThreadId);
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ICallContractPropagator#captureContractOrNull()
+   */
+  @Override
+  public ICallContract captureContractOrNull()
+  {
+    ICallContract result = this.getCallContractOfCurrentThreadOrNull();
+    if (null != result)
+    {
+      this.removeCallContractOfCurrentThread();
+    }
+    return result;
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ICallContractPropagator#restoreContract(
+   *  starkcoder.failfast.contractors.contracts.ICallContract)
+   */
+  @Override
+  public void restoreContract(ICallContract callContractOrNull)
+  {
+    if (null == callContractOrNull)
+    {
+      return;
+    }
+    ICallContract callContractPushedOrNull = this.getCallContractOfCurrentThreadOrNull();
+    if (null != callContractPushedOrNull)
+    {
+      throw new IllegalStateException("Cannot restore contract " + callContractOrNull
+          + " for caller " + callContractOrNull.getCaller() + ", since caller "
+          + callContractPushedOrNull.getCaller() + " first needs to pop contract "
+          + callContractPushedOrNull + ".");
+    }
+    this.setCallContractOfCurrentThread(callContractOrNull);
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ICallContractPropagator#wrapWithContract(
+   *  java.lang.Runnable)
+   */
+  @Override
+  public Runnable wrapWithContract(final Runnable task)
+  {
+    if (null == task)
+    {
+      throw new IllegalArgumentException("task is null");
+    }
+    final ICallContract callContract = this.captureContractOrNull();
+    if (null == callContract)
+    {
+      return task;
+    }
+    return new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        restoreContract(callContract);
+        boolean returned = false;
+        try
+        {
+          task.run();
+          returned = true;
+        }
+        finally
+        {
+          detachUnendedContract(callContract, task, returned);
+        }
+      }
+    };
+  }
 
-      if (null == callContractPushedOrNull)
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ICallContractPropagator#wrapWithContract(
+   *  java.util.concurrent.Callable)
+   */
+  @Override
+  public <T> Callable<T> wrapWithContract(final Callable<T> task)
+  {
+    if (null == task)
+    {
+      throw new IllegalArgumentException("task is null");
+    }
+    final ICallContract callContract = this.captureContractOrNull();
+    if (null == callContract)
+    {
+      return task;
+    }
+    return new Callable<T>()
+    {
+      @Override
+      public T call() throws Exception
       {
-        throw new IllegalStateException("Cannot pop a contract for caller " + caller
-            + ", since none is currently pushed.");
+        restoreContract(callContract);
+        boolean returned = false;
+        try
+        {
+          T result = task.call();
+          returned = true;
+          return result;
+        }
+        finally
+        {
+          detachUnendedContract(callContract, task, returned);
+        }
       }
-      if (caller != callContractPushedOrNull.getCaller())
+    };
+  }
+
+  /**
+   * Detaches a restored contract the task did not end, so it does not leak to the next task of a
+   * pooled thread.
+   * 
+   * @param callContract
+   *          contract restored for the task
+   * @param task
+   *          wrapped task
+   * @param returned
+   *          true, if the task returned normally
+   * @throws IllegalStateException
+   *           if the task returned normally without ending the contract
+   */
+  protected void detachUnendedContract(ICallContract callContract, Object task, boolean returned)
+  {
+    if (callContract == this.getCallContractOfCurrentThreadOrNull())
+    {
+      this.removeCallContractOfCurrentThread();
+      if (returned)
       {
-        throw new IllegalStateException("Cannot pop a contract for caller " + caller
-            + ", since caller " + callContractPushedOrNull.getCaller() + " has pushed a contract.");
+        throw new IllegalStateException("Task " + task + " returned without ending contract "
+            + callContract + " for caller " + callContract.getCaller() + ".");
       }
-      result = callContractPushedOrNull;
     }
-
-    return result;
   }
 
   /**
@@ -207,4 +328,46 @@ public abstract class ACallContractor implements ICallContractor
     return Long.valueOf(id);
   }
 
+  /**
+   * Retrieves the contract pushed by the current thread.
+   * <p>
+   * This is the storage used by push, pop and get. Override this, setCallContractOfCurrentThread
+   * and removeCallContractOfCurrentThread to store contracts differently.
+   * </p>
+   * 
+   * @return contract pushed by the current thread, or null
+   */
+  protected ICallContract getCallContractOfCurrentThreadOrNull()
+  {
+    synchronized (this.getSynchronizationObject())
+    {
+      return this.getThreadId2CallContract().get(this.getCurrentThreadId());
+    }
+  }
+
+  /**
+   * Stores the contract pushed by the current thread.
+   * 
+   * @param callContract
+   *          contract pushed by the current thread
+   */
+  protected void setCallContractOfCurrentThread(ICallContract callContract)
+  {
+    synchronized (this.getSynchronizationObject())
+    {
+      this.getThreadId2CallContract().put(this.getCurrentThreadId(), callContract);
+    }
+  }
+
+  /**
+   * Removes the contract pushed by the current thread, when it has been popped.
+   */
+  protected void removeCallContractOfCurrentThread()
+  {
+    synchronized (this.getSynchronizationObject())
+    {
+      this.getThreadId2CallContract().remove(this.getCurrentThreadId());
+    }
+  }
+
 }
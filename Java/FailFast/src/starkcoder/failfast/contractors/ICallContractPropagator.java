@@ -0,0 +1,97 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.contractors;
+
+import java.util.concurrent.Callable;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+
+/**
+ * Specification of a call contractor that can carry a pushed contract to another thread.
+ * <p>
+ * A contract is pushed by the thread calling the asserting check-method. If the matching
+ * fail-method is called on another thread (e.g. in a task or a continuation), the contract is
+ * captured (detached from the checking thread) and restored on the failing thread before the
+ * fail-call. Capturing and wrapping cost a single lookup when no contract is pending.
+ * </p>
+ * <p>
+ * Implementations of this should be extensible (not final).
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface ICallContractPropagator
+{
+  /**
+   * Detaches the contract pushed by the current thread, so it can be restored on another thread.
+   * 
+   * @return contract pushed by the current thread, or null if none is pending
+   */
+  ICallContract captureContractOrNull();
+
+  /**
+   * Pushes a captured contract for the current thread - does nothing, if the contract is null.
+   * 
+   * @param callContractOrNull
+   *          contract returned by {@link #captureContractOrNull()}, or null
+   * @throws IllegalStateException
+   *           if a previous push (per thread) has not been popped
+   */
+  void restoreContract(ICallContract callContractOrNull);
+
+  /**
+   * Captures the contract pushed by the current thread into a task restoring it when run.
+   * <p>
+   * If the task does not end the restored contract, the contract is detached again, so it does not
+   * leak to the next task of a pooled thread. If the task then returns normally, an
+   * IllegalStateException is thrown.
+   * </p>
+   * 
+   * @param task
+   *          task calling the fail-method
+   * @return wrapping task, or the task itself if no contract is pending
+   * @throws IllegalArgumentException
+   *           if task is null
+   */
+  Runnable wrapWithContract(Runnable task);
+
+  /**
+   * Captures the contract pushed by the current thread into a task restoring it when called.
+   * <p>
+   * If the task does not end the restored contract, the contract is detached again, so it does not
+   * leak to the next task of a pooled thread. If the task then returns normally, an
+   * IllegalStateException is thrown.
+   * </p>
+   * 
+   * @param task
+   *          task calling the fail-method
+   * @return wrapping task, or the task itself if no contract is pending
+   * @throws IllegalArgumentException
+   *           if task is null
+   */
+  <T> Callable<T> wrapWithContract(Callable<T> task);
+}
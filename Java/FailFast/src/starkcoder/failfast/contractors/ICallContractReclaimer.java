@@ -0,0 +1,64 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.contractors;
+
+/**
+ * Specification of a call contractor that reclaims contracts orphaned by terminated threads.
+ * <p>
+ * A thread that terminates between an asserting check-call and the matching fail-call leaves its
+ * contract pushed. This reclaims such contracts and counts them, so they are reported and not
+ * silently kept.
+ * </p>
+ * <p>
+ * Implementations of this should be extensible (not final).
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface ICallContractReclaimer
+{
+  /**
+   * Reclaims all pushed contracts whose owning thread has terminated.
+   * 
+   * @return number of contracts reclaimed by this call
+   */
+  int reclaimOrphanedContracts();
+
+  /**
+   * Retrieves the number of contracts currently pushed and not yet popped or reclaimed.
+   * 
+   * @return number of pending contracts
+   */
+  int getPendingContractCount();
+
+  /**
+   * Retrieves the number of contracts reclaimed since construction.
+   * 
+   * @return number of reclaimed (orphaned) contracts
+   */
+  long getReclaimedContractCount();
+}
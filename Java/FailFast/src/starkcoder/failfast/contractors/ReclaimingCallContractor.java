@@ -0,0 +1,226 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.contractors;
+
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+
+/**
+ * Concrete implementation of {@link ICallContractor} for applications with many short-lived
+ * threads e.g. a thread per task.
+ * <p>
+ * Contracts are stored per thread like {@link ThreadLocalCallContractor}. Additionally every
+ * pending contract is tracked (weakly referencing its thread) until it is popped, so contracts of
+ * terminated threads are reclaimed and counted. Memory is proportional to the number of pending
+ * contracts - not to the number of threads ever used.
+ * </p>
+ * <p>
+ * Reclaiming runs when the number of pending contracts has doubled since the last run, and can be
+ * called explicitly via {@link #reclaimOrphanedContracts()}.
+ * </p>
+ * <p>
+ * Extend {@link ICallContractor} and this, if needed.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class ReclaimingCallContractor extends ThreadLocalCallContractor implements
+    ICallContractReclaimer
+{
+  /**
+   * Minimum number of pending contracts before a push triggers reclaiming.
+   */
+  protected static final int MinimumReclaimThreshold = 64;
+
+  /**
+   * Default constructor.
+   */
+  public ReclaimingCallContractor()
+  {
+    super();
+  }
+
+  /**
+   * Pending contract of a thread.
+   * <p>
+   * The thread is weakly referenced, so a pending contract does not keep its thread alive.
+   * </p>
+   */
+  protected static class PendingCallContract extends WeakReference<Thread>
+  {
+    private volatile ICallContract callContract;
+
+    protected PendingCallContract(Thread thread, ICallContract callContract)
+    {
+      super(thread);
+      this.callContract = callContract;
+    }
+
+    protected ICallContract getCallContract()
+    {
+      return this.callContract;
+    }
+
+    protected void setCallContract(ICallContract callContract)
+    {
+      this.callContract = callContract;
+    }
+
+    protected boolean isOrphaned()
+    {
+      Thread thread = this.get();
+      return null == thread || !thread.isAlive();
+    }
+  }
+
+  private ThreadLocal<PendingCallContract> threadPendingCallContract = 
+      new ThreadLocal<PendingCallContract>();
+
+  protected ThreadLocal<PendingCallContract> getThreadPendingCallContract()
+  {
+    return this.threadPendingCallContract;
+  }
+
+  private Set<PendingCallContract> pendingCallContracts = 
+      Collections.newSetFromMap(new ConcurrentHashMap<PendingCallContract, Boolean>());
+
+  protected Set<PendingCallContract> getPendingCallContracts()
+  {
+    return this.pendingCallContracts;
+  }
+
+  private AtomicInteger pendingContractCount = new AtomicInteger();
+
+  private AtomicInteger reclaimThreshold = new AtomicInteger(MinimumReclaimThreshold);
+
+  private AtomicLong reclaimedContractCount = new AtomicLong();
+
+  @Override
+  protected ICallContract getCallContractOfCurrentThreadOrNull()
+  {
+    PendingCallContract pendingCallContract = this.getThreadPendingCallContract().get();
+    return null == pendingCallContract ? null : pendingCallContract.getCallContract();
+  }
+
+  @Override
+  protected void setCallContractOfCurrentThread(ICallContract callContract)
+  {
+    PendingCallContract pendingCallContract = this.getThreadPendingCallContract().get();
+    if (null == pendingCallContract)
+    { // first push of this thread
+      pendingCallContract = new PendingCallContract(Thread.currentThread(), callContract);
+      this.getThreadPendingCallContract().set(pendingCallContract);
+    }
+    else
+    {
+      pendingCallContract.setCallContract(callContract);
+    }
+    this.getPendingCallContracts().add(pendingCallContract);
+    int pendingCount = this.pendingContractCount.incrementAndGet();
+    if (this.reclaimThreshold.get() <= pendingCount)
+    {
+      this.reclaimOrphanedContracts();
+    }
+  }
+
+  @Override
+  protected void removeCallContractOfCurrentThread()
+  {
+    PendingCallContract pendingCallContract = this.getThreadPendingCallContract().get();
+    if (null != pendingCallContract)
+    {
+      pendingCallContract.setCallContract(null);
+      if (this.getPendingCallContracts().remove(pendingCallContract))
+      {
+        this.pendingContractCount.decrementAndGet();
+      }
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.contractors.ICallContractReclaimer#reclaimOrphanedContracts()
+   */
+  @Override
+  public int reclaimOrphanedContracts()
+  {
+    int result = 0;
+
+    Iterator<PendingCallContract> iterator = this.getPendingCallContracts().iterator();
+    while (iterator.hasNext())
+    {
+      PendingCallContract pendingCallContract = iterator.next();
+      if (pendingCallContract.isOrphaned() 
+          && this.getPendingCallContracts().remove(pendingCallContract))
+      {
+        pendingCallContract.setCallContract(null);
+        this.pendingContractCount.decrementAndGet();
+        ++result;
+      }
+    }
+    if (0 < result)
+    {
+      this.reclaimedContractCount.addAndGet(result);
+    }
+    // next automatic reclaim when pending contracts have doubled
+    this.reclaimThreshold.set(Math.max(MinimumReclaimThreshold,
+        2 * this.pendingContractCount.get()));
+
+    return result;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.contractors.ICallContractReclaimer#getPendingContractCount()
+   */
+  @Override
+  public int getPendingContractCount()
+  {
+    return this.pendingContractCount.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.contractors.ICallContractReclaimer#getReclaimedContractCount()
+   */
+  @Override
+  public long getReclaimedContractCount()
+  {
+    return this.reclaimedContractCount.get();
+  }
+
+}
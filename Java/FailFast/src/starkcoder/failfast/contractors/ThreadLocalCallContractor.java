@@ -0,0 +1,85 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.contractors;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+
+/**
+ * Concrete implementation of {@link ICallContractor} storing each pushed contract in storage
+ * confined to the pushing thread.
+ * <p>
+ * Unlike {@link CallContractor} no lock is shared between threads and no thread id is boxed, so
+ * checks and fails on different threads do not contend. Push, pop and get throw the same
+ * exceptions as {@link CallContractor}.
+ * </p>
+ * <p>
+ * Extend {@link ICallContractor} and this, if needed.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class ThreadLocalCallContractor extends ACallContractor
+{
+  /**
+   * Default constructor.
+   */
+  public ThreadLocalCallContractor()
+  {
+    super();
+  }
+
+  private ThreadLocal<ICallContract> threadCallContract = new ThreadLocal<ICallContract>();
+
+  protected ThreadLocal<ICallContract> getThreadCallContract()
+  {
+    return this.threadCallContract;
+  }
+
+  protected void setThreadCallContract(ThreadLocal<ICallContract> threadCallContract)
+  {
+    this.threadCallContract = threadCallContract;
+  }
+
+  @Override
+  protected ICallContract getCallContractOfCurrentThreadOrNull()
+  {
+    return this.getThreadCallContract().get();
+  }
+
+  @Override
+  protected void setCallContractOfCurrentThread(ICallContract callContract)
+  {
+    this.getThreadCallContract().set(callContract);
+  }
+
+  @Override
+  protected void removeCallContractOfCurrentThread()
+  {
+    this.getThreadCallContract().remove();
+  }
+
+}
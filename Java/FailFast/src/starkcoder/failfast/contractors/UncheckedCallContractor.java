@@ -0,0 +1,110 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.contractors;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.IFail;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Concrete implementation of {@link ICallContractor} for production, trusting that every asserting
+ * check-call is followed by the matching fail-call.
+ * <p>
+ * Contracts are stored per thread like {@link ThreadLocalCallContractor}, but no contract
+ * bookkeeping is enforced: contract data is not validated (no reflection), a push replaces a
+ * contract not yet popped, and a pop does not match caller or fail specification. Only a pop
+ * without any pushed contract throws, since the failer needs the check arguments.
+ * </p>
+ * <p>
+ * An asserting check still allocates its call contract like in the strict modes - contracts are
+ * not recycled per thread, since a contract can outlive its fail (e.g. captured for another
+ * thread or kept by an observer).
+ * </p>
+ * <p>
+ * Keep a strict call contractor (e.g. {@link CallContractor}) in tests to enforce the check-fail
+ * pairing. See {link:UncheckedFailFast} for the matching checker configuration.
+ * </p>
+ * <p>
+ * Extend {@link ICallContractor} and this, if needed.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class UncheckedCallContractor extends ThreadLocalCallContractor
+{
+  /**
+   * Default constructor.
+   */
+  public UncheckedCallContractor()
+  {
+    super();
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ACallContractor#pushContractWithCaller(
+   *  starkcoder.failfast.contractors.contracts.ICallContract)
+   */
+  @Override
+  public void pushContractWithCaller(ICallContract callContract)
+  {
+    this.setCallContractOfCurrentThread(callContract);
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ACallContractor#popContractWithCaller(
+   *  java.lang.Object, starkcoder.failfast.fails.IFailer, java.lang.Class)
+   */
+  @Override
+  public ICallContract popContractWithCaller(Object caller, IFailer throwingFailer,
+      Class<? extends IFail> failSpecification)
+  {
+    ICallContract result = this.getCallContractOfCurrentThreadOrNull();
+    if (null == result)
+    {
+      throw new IllegalStateException("Cannot pop a contract for caller " + caller
+          + ", since none is currently pushed.");
+    }
+    this.removeCallContractOfCurrentThread();
+    return result;
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.ACallContractor#getContractWithCaller(java.lang.Object)
+   */
+  @Override
+  public ICallContract getContractWithCaller(Object caller)
+  {
+    ICallContract result = this.getCallContractOfCurrentThreadOrNull();
+    if (null == result)
+    {
+      throw new IllegalStateException("Cannot get a contract for caller " + caller
+          + ", since none is currently pushed.");
+    }
+    return result;
+  }
+
+}
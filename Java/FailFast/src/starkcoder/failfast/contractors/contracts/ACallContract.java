@@ -26,12 +26,13 @@
 
 package starkcoder.failfast.contractors.contracts;
 
-import java.lang.reflect.Method;
-
 import starkcoder.failfast.checks.ICheck;
 import starkcoder.failfast.checks.IChecker;
-import starkcoder.failfast.checks.NCheck;
+import starkcoder.failfast.checks.SCheckSpecifications;
+import starkcoder.failfast.fails.FailStackTracePolicy;
 import starkcoder.failfast.fails.IFail;
+import starkcoder.failfast.fails.SFailExceptionFactories;
+import starkcoder.failfast.fails.SFailMessagePlans;
 
 /**
  * Default implementation of {link:ICallContract}.
@@ -153,7 +154,6 @@ public abstract class ACallContract implements ICallContract
   @Override
   public void validateContractData()
   {
-    Class<? extends IFail> failSpecificationType = null;
     {
       if (null == this.getCaller())
       {
@@ -171,29 +171,8 @@ public abstract class ACallContract implements ICallContract
       {
         throw new IllegalArgumentException("CheckerSpecification is null");
       }
-      Method[] declaredMethods = checkSpecification.getDeclaredMethods();
-      if (declaredMethods.length <= 0)
-      {
-        throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-            + "' must have at least 1 check-method - not " + declaredMethods.length);
-      }
-      for (int index = 0; index < declaredMethods.length; ++index)
-      {
-        Method declaredMethod = declaredMethods[index];
-        NCheck checkAnnotation = declaredMethod.getAnnotation(NCheck.class);
-        if (null == checkAnnotation)
-        {
-          throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-              + "' must have check-method '" + declaredMethod + "' annotated with " + NCheck.class);
-        }
-
-        failSpecificationType = checkAnnotation.failSpecificationType();
-        if (null == failSpecificationType)
-        {
-          throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-              + "' method '" + declaredMethod + "' has failSpecificationType set to null");
-        }
-      }
+      // reflected once per check specification
+      SCheckSpecifications.validateCheckSpecification(this.getCheckSpecification());
     }
     {
       if (null == this.getCheckArguments())
@@ -215,34 +194,8 @@ public abstract class ACallContract implements ICallContract
   @Override
   public Class<? extends IFail> reflectFailSpecificationType()
   {
-    Class<? extends IFail> result = null;
-
-    Method[] declaredMethods = this.getCheckSpecification().getDeclaredMethods();
-    if (declaredMethods.length <= 0)
-    {
-      throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-          + "' must have at least 1 check-method - not " + declaredMethods.length);
-    }
-    for (int index = 0; index < declaredMethods.length;)
-    {
-      Method declaredMethod = declaredMethods[index];
-      NCheck checkAnnotation = declaredMethod.getAnnotation(NCheck.class);
-      if (null == checkAnnotation)
-      {
-        throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-            + "' must have check-method '" + declaredMethod + "' annotated with " + NCheck.class);
-      }
-
-      result = checkAnnotation.failSpecificationType();
-      if (null == result)
-      {
-        throw new IllegalArgumentException("CheckerSpecification '" + checkSpecification
-            + "' method '" + declaredMethod + "' has failSpecificationType set to null");
-      }
-      break;
-    }
-
-    return result;
+    // reflected once per check specification
+    return SCheckSpecifications.lookupFailSpecificationType(this.getCheckSpecification());
   }
 
   private Class<? extends RuntimeException> customFailExceptionTypeOrNull;
@@ -264,6 +217,10 @@ public abstract class ACallContract implements ICallContract
   @Override
   public void setCustomFailExceptionType(Class<? extends RuntimeException> failExceptionType)
   {
+    if (null != failExceptionType)
+    { // reject exception types without a suitable constructor now - not at the fail
+      SFailExceptionFactories.lookupFailExceptionFactory(failExceptionType);
+    }
     this.customFailExceptionTypeOrNull = failExceptionType;
   }
 
@@ -300,6 +257,10 @@ public abstract class ACallContract implements ICallContract
   @Override
   public void setCustomFailMessageArguments(String failMessageArguments)
   {
+    if (null != failMessageArguments)
+    { // reject malformed arguments now - not at the fail
+      SFailMessagePlans.validateFailMessageArguments(failMessageArguments);
+    }
     this.customFailMessageArguments = failMessageArguments;
   }
 
@@ -325,4 +286,26 @@ public abstract class ACallContract implements ICallContract
     this.customFailMessagePostfix = failMessagePostfix;
   }
 
+  private FailStackTracePolicy customFailStackTracePolicy;
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.contracts.ICallContract
+   *  #getCustomFailStackTracePolicyOrNull()
+   */
+  @Override
+  public FailStackTracePolicy getCustomFailStackTracePolicyOrNull()
+  {
+    return this.customFailStackTracePolicy;
+  }
+
+  /* (non-Javadoc)
+   * @see starkcoder.failfast.contractors.contracts.ICallContract#setCustomFailStackTracePolicy(
+   *  starkcoder.failfast.fails.FailStackTracePolicy)
+   */
+  @Override
+  public void setCustomFailStackTracePolicy(FailStackTracePolicy failStackTracePolicy)
+  {
+    this.customFailStackTracePolicy = failStackTracePolicy;
+  }
+
 }
@@ -28,6 +28,7 @@ package starkcoder.failfast.contractors.contracts;
 
 import starkcoder.failfast.checks.ICheck;
 import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.fails.FailStackTracePolicy;
 import starkcoder.failfast.fails.IFail;
 
 /**
@@ -166,7 +167,9 @@ public interface ICallContract
    * </p>
    * 
    * @param failExceptionType
-   *          a custom exception class that fail-method should throw
+   *          a custom exception class that fail-method should throw, or null
+   * @throws IllegalArgumentException
+   *           if failExceptionType has no public constructor taking a single String argument
    */
   void setCustomFailExceptionType(Class<? extends RuntimeException> failExceptionType);
 
@@ -200,7 +203,9 @@ public interface ICallContract
    * in attribute of fail-method.
    * 
    * @param failMessageArguments
-   *          custom message arguments that fail-method should use
+   *          custom message arguments that fail-method should use, or null
+   * @throws IllegalArgumentException
+   *           if failMessageArguments has an illegal entry
    */
   void setCustomFailMessageArguments(String failMessageArguments);
 
@@ -217,4 +222,21 @@ public interface ICallContract
    */
   void setCustomFailMessagePostfix(String failMessagePostfix);
 
+  /**
+   * Retrieves a custom stack trace policy, if set, that overrides the failer's policy for the
+   * exception to throw.
+   * 
+   * @return custom stack trace policy, or null
+   */
+  FailStackTracePolicy getCustomFailStackTracePolicyOrNull();
+
+  /**
+   * Sets a custom stack trace policy (or null) that overrides the failer's policy for the
+   * exception to throw.
+   * 
+   * @param failStackTracePolicy
+   *          custom stack trace policy, or null
+   */
+  void setCustomFailStackTracePolicy(FailStackTracePolicy failStackTracePolicy);
+
 }
@@ -0,0 +1,413 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.coordinators;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.IFailFastException;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+
+/**
+ * Default implementation of {link:IFailFastCoordinator} driven as a failer observer.
+ * <p>
+ * Register this with {link:IFailerPublisher#registerFailerObserver(IFailerObserver)}. The first
+ * fail-fast exception (on any thread) stops the registered workers. The failing thread only
+ * publishes the stop signal, interrupts, cancels and shuts down - the shutdown hooks run on a
+ * separate thread, so the fail is not delayed by them.
+ * </p>
+ * <p>
+ * The failing thread is not left interrupted: it is skipped as a registered thread, and if it runs
+ * a registered future or in a registered executor service, the interrupt caused by cancelling or
+ * shutting these down is cleared again (an interrupt from elsewhere in between is cleared too).
+ * Its future is still cancelled and its executor service still shut down.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastCoordinator implements IFailFastCoordinator, IFailerObserver
+{
+
+  /**
+   * Shutdown hook with its order.
+   */
+  protected static final class ShutdownHook
+  {
+    private final int order;
+    private final long registration;
+    private final Runnable runnable;
+
+    protected ShutdownHook(int order, long registration, Runnable runnable)
+    {
+      this.order = order;
+      this.registration = registration;
+      this.runnable = runnable;
+    }
+  }
+
+  private static final Comparator<ShutdownHook> ShutdownHookComparator =
+      new Comparator<ShutdownHook>()
+      {
+        @Override
+        public int compare(ShutdownHook shutdownHookA, ShutdownHook shutdownHookB)
+        {
+          if (shutdownHookA.order != shutdownHookB.order)
+          {
+            return shutdownHookA.order < shutdownHookB.order ? -1 : 1;
+          }
+          return shutdownHookA.registration < shutdownHookB.registration ? -1
+              : (shutdownHookA.registration == shutdownHookB.registration ? 0 : 1);
+        }
+      };
+
+  private volatile boolean stopping;
+
+  private final AtomicReference<IFailFastException> failFastExceptionOrNull =
+      new AtomicReference<IFailFastException>();
+
+  private final CountDownLatch stopped = new CountDownLatch(1);
+
+  private final Set<Thread> threads = Collections
+      .newSetFromMap(new ConcurrentHashMap<Thread, Boolean>());
+
+  private final Set<Future<?>> futures = Collections
+      .newSetFromMap(new ConcurrentHashMap<Future<?>, Boolean>());
+
+  private final Set<ExecutorService> executorServices = Collections
+      .newSetFromMap(new ConcurrentHashMap<ExecutorService, Boolean>());
+
+  private final List<ShutdownHook> shutdownHooks = new ArrayList<ShutdownHook>();
+
+  private final List<RuntimeException> shutdownHookExceptions =
+      new CopyOnWriteArrayList<RuntimeException>();
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#isStopping()
+   */
+  @Override
+  public boolean isStopping()
+  {
+    return this.stopping;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#getFailFastExceptionOrNull()
+   */
+  @Override
+  public IFailFastException getFailFastExceptionOrNull()
+  {
+    return this.failFastExceptionOrNull.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.IFailerObserver#notifyExceptionBeforeThrow(
+   * starkcoder.failfast.fails.IFailer, starkcoder.failfast.contractors.contracts.ICallContract,
+   * java.lang.RuntimeException)
+   */
+  @Override
+  public void notifyExceptionBeforeThrow(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    if (!this.stopping && runtimeException instanceof IFailFastException)
+    {
+      this.stop((IFailFastException) runtimeException);
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#stop(
+   * starkcoder.failfast.fails.IFailFastException)
+   */
+  @Override
+  public boolean stop(IFailFastException failFastExceptionOrNull)
+  {
+    List<ShutdownHook> shutdownHooks = null;
+    synchronized (this.shutdownHooks)
+    { // rare - only the first stop proceeds
+      if (this.stopping)
+      {
+        return false;
+      }
+      this.failFastExceptionOrNull.set(failFastExceptionOrNull);
+      this.stopping = true;
+      shutdownHooks = new ArrayList<ShutdownHook>(this.shutdownHooks);
+    }
+    // registrations racing with this see the signal and act themselves
+    boolean interrupted = Thread.currentThread().isInterrupted();
+    for (Thread thread : this.threads)
+    {
+      if (thread != Thread.currentThread())
+      { // the failing thread is about to throw - do not interrupt its unwinding
+        thread.interrupt();
+      }
+    }
+    for (Future<?> future : this.futures)
+    {
+      future.cancel(true);
+    }
+    for (ExecutorService executorService : this.executorServices)
+    {
+      executorService.shutdownNow();
+    }
+    if (!interrupted)
+    { // clear the interrupt of the failing thread, if it runs a future or in an executor cancelled
+      Thread.interrupted();
+    }
+    this.startShutdownHooks(shutdownHooks);
+    return true;
+  }
+
+  /**
+   * Runs the shutdown hooks on a new (daemon) thread and counts down the stopped latch.
+   * 
+   * @param shutdownHooks
+   *          snapshot of the registered shutdown hooks
+   */
+  protected void startShutdownHooks(final List<ShutdownHook> shutdownHooks)
+  {
+    Collections.sort(shutdownHooks, ShutdownHookComparator);
+    Thread shutdownThread = new Thread("FailFastCoordinator-shutdown")
+    {
+      @Override
+      public void run()
+      {
+        try
+        {
+          for (ShutdownHook shutdownHook : shutdownHooks)
+          {
+            try
+            {
+              shutdownHook.runnable.run();
+            }
+            catch (RuntimeException runtimeException)
+            { // a hook must not stop the later hooks
+              shutdownHookExceptions.add(runtimeException);
+            }
+          }
+        }
+        finally
+        {
+          stopped.countDown();
+        }
+      }
+    };
+    shutdownThread.setDaemon(true);
+    shutdownThread.start();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#awaitStopped(long)
+   */
+  @Override
+  public boolean awaitStopped(long timeoutMillis) throws InterruptedException
+  {
+    return this.stopped.await(timeoutMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#registerThread(java.lang.Thread)
+   */
+  @Override
+  public void registerThread(Thread thread)
+  {
+    if (null == thread)
+    {
+      throw new IllegalArgumentException("thread is null");
+    }
+    if (!this.threads.add(thread))
+    {
+      throw new IllegalStateException("thread " + thread + " is already registered.");
+    }
+    if (this.stopping)
+    {
+      thread.interrupt();
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#unregisterThread(java.lang.Thread)
+   */
+  @Override
+  public void unregisterThread(Thread thread)
+  {
+    if (null == thread)
+    {
+      throw new IllegalArgumentException("thread is null");
+    }
+    if (!this.threads.remove(thread))
+    {
+      throw new IllegalStateException("thread " + thread + " is NOT registered.");
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#registerFuture(
+   * java.util.concurrent.Future)
+   */
+  @Override
+  public void registerFuture(Future<?> future)
+  {
+    if (null == future)
+    {
+      throw new IllegalArgumentException("future is null");
+    }
+    if (!this.futures.add(future))
+    {
+      throw new IllegalStateException("future " + future + " is already registered.");
+    }
+    if (this.stopping)
+    {
+      future.cancel(true);
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#unregisterFuture(
+   * java.util.concurrent.Future)
+   */
+  @Override
+  public void unregisterFuture(Future<?> future)
+  {
+    if (null == future)
+    {
+      throw new IllegalArgumentException("future is null");
+    }
+    if (!this.futures.remove(future))
+    {
+      throw new IllegalStateException("future " + future + " is NOT registered.");
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#registerExecutorService(
+   * java.util.concurrent.ExecutorService)
+   */
+  @Override
+  public void registerExecutorService(ExecutorService executorService)
+  {
+    if (null == executorService)
+    {
+      throw new IllegalArgumentException("executorService is null");
+    }
+    if (!this.executorServices.add(executorService))
+    {
+      throw new IllegalStateException("executorService " + executorService
+          + " is already registered.");
+    }
+    if (this.stopping)
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#unregisterExecutorService(
+   * java.util.concurrent.ExecutorService)
+   */
+  @Override
+  public void unregisterExecutorService(ExecutorService executorService)
+  {
+    if (null == executorService)
+    {
+      throw new IllegalArgumentException("executorService is null");
+    }
+    if (!this.executorServices.remove(executorService))
+    {
+      throw new IllegalStateException("executorService " + executorService
+          + " is NOT registered.");
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#registerShutdownHook(int,
+   * java.lang.Runnable)
+   */
+  @Override
+  public void registerShutdownHook(int order, Runnable shutdownHook)
+  {
+    if (null == shutdownHook)
+    {
+      throw new IllegalArgumentException("shutdownHook is null");
+    }
+    synchronized (this.shutdownHooks)
+    {
+      if (this.stopping)
+      {
+        throw new IllegalStateException("Can't register a shutdown hook since already stopping.");
+      }
+      this.shutdownHooks.add(new ShutdownHook(order, this.shutdownHooks.size(), shutdownHook));
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastCoordinator#getShutdownHookExceptions()
+   */
+  @Override
+  public List<RuntimeException> getShutdownHookExceptions()
+  {
+    return new ArrayList<RuntimeException>(this.shutdownHookExceptions);
+  }
+
+}
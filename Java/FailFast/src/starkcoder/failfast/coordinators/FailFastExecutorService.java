@@ -0,0 +1,293 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.coordinators;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.IFailFastException;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+import starkcoder.failfast.fails.IFailerPublisher;
+
+/**
+ * Executor service grouping tasks into {link:IFailFastScope}'s that cancel sibling tasks on the
+ * first fail-fast exception.
+ * <p>
+ * Tasks are run by the wrapped executor service (e.g. a pool of platform threads or a virtual
+ * thread per task executor). A scope is failed when a task ends with a fail-fast exception. This
+ * registers as observer with the failer publisher, so a task ending with another exception after
+ * its failer reported a fail-fast exception (e.g. wrapping it) also fails the scope - a task that
+ * handles the fail-fast exception does not. A fail-fast exception is still reported once, by the
+ * failer - never again by the scope. Tasks submitted directly to this executor service are not part
+ * of any scope.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastExecutorService implements ExecutorService, IFailerObserver
+{
+
+  private final ExecutorService executorService;
+
+  private final IFailerPublisher failerPublisher;
+
+  private final Object registrationKey;
+
+  /**
+   * Constructor - registers this with the failer publisher until shut down.
+   * 
+   * @param executorService
+   *          executor service running the tasks
+   * @param failerPublisher
+   *          publisher of the failer used by the tasks
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   */
+  public FailFastExecutorService(ExecutorService executorService, IFailerPublisher failerPublisher)
+  {
+    if (null == executorService)
+    {
+      throw new IllegalArgumentException("executorService is null");
+    }
+    if (null == failerPublisher)
+    {
+      throw new IllegalArgumentException("failerPublisher is null");
+    }
+    this.executorService = executorService;
+    this.failerPublisher = failerPublisher;
+    this.registrationKey = failerPublisher.registerFailerObserver(this);
+  }
+
+  /**
+   * Opens a new scope for a group of sibling tasks.
+   * 
+   * @return new scope
+   * @throws IllegalStateException
+   *           if this is shut down
+   */
+  public IFailFastScope openScope()
+  {
+    if (this.executorService.isShutdown())
+    {
+      throw new IllegalStateException(
+          "Can't open a scope since the executor service is shut down.");
+    }
+    return new FailFastScope(this.executorService);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.IFailerObserver#notifyExceptionBeforeThrow(
+   * starkcoder.failfast.fails.IFailer, starkcoder.failfast.contractors.contracts.ICallContract,
+   * java.lang.RuntimeException)
+   */
+  @Override
+  public void notifyExceptionBeforeThrow(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    if (runtimeException instanceof IFailFastException)
+    {
+      FailFastScope.ScopedTask<?> scopedTaskOrNull = FailFastScope.getCurrentScopedTaskOrNull();
+      if (null != scopedTaskOrNull)
+      {
+        scopedTaskOrNull.reportFailFastException(runtimeException);
+      }
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#shutdown()
+   */
+  @Override
+  public void shutdown()
+  {
+    this.unregisterFailerObserver();
+    this.executorService.shutdown();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#shutdownNow()
+   */
+  @Override
+  public List<Runnable> shutdownNow()
+  {
+    this.unregisterFailerObserver();
+    return this.executorService.shutdownNow();
+  }
+
+  private void unregisterFailerObserver()
+  {
+    synchronized (this.registrationKey)
+    {
+      if (!this.executorService.isShutdown())
+      {
+        this.failerPublisher.unregisterFailerObserver(this, this.registrationKey);
+      }
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#isShutdown()
+   */
+  @Override
+  public boolean isShutdown()
+  {
+    return this.executorService.isShutdown();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#isTerminated()
+   */
+  @Override
+  public boolean isTerminated()
+  {
+    return this.executorService.isTerminated();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#awaitTermination(long, java.util.concurrent.TimeUnit)
+   */
+  @Override
+  public boolean awaitTermination(long timeout, TimeUnit unit) throws InterruptedException
+  {
+    return this.executorService.awaitTermination(timeout, unit);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#submit(java.util.concurrent.Callable)
+   */
+  @Override
+  public <T> Future<T> submit(Callable<T> task)
+  {
+    return this.executorService.submit(task);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#submit(java.lang.Runnable, java.lang.Object)
+   */
+  @Override
+  public <T> Future<T> submit(Runnable task, T result)
+  {
+    return this.executorService.submit(task, result);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#submit(java.lang.Runnable)
+   */
+  @Override
+  public Future<?> submit(Runnable task)
+  {
+    return this.executorService.submit(task);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#invokeAll(java.util.Collection)
+   */
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks)
+      throws InterruptedException
+  {
+    return this.executorService.invokeAll(tasks);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#invokeAll(java.util.Collection, long,
+   * java.util.concurrent.TimeUnit)
+   */
+  @Override
+  public <T> List<Future<T>> invokeAll(Collection<? extends Callable<T>> tasks, long timeout,
+      TimeUnit unit) throws InterruptedException
+  {
+    return this.executorService.invokeAll(tasks, timeout, unit);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#invokeAny(java.util.Collection)
+   */
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks) throws InterruptedException,
+      ExecutionException
+  {
+    return this.executorService.invokeAny(tasks);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.ExecutorService#invokeAny(java.util.Collection, long,
+   * java.util.concurrent.TimeUnit)
+   */
+  @Override
+  public <T> T invokeAny(Collection<? extends Callable<T>> tasks, long timeout, TimeUnit unit)
+      throws InterruptedException, ExecutionException, TimeoutException
+  {
+    return this.executorService.invokeAny(tasks, timeout, unit);
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see java.util.concurrent.Executor#execute(java.lang.Runnable)
+   */
+  @Override
+  public void execute(Runnable command)
+  {
+    this.executorService.execute(command);
+  }
+
+}
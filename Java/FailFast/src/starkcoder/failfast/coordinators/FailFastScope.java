@@ -0,0 +1,340 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.coordinators;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import starkcoder.failfast.fails.IFailFastException;
+
+/**
+ * Default implementation of {link:IFailFastScope} - created by
+ * {link:FailFastExecutorService#openScope()}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastScope implements IFailFastScope
+{
+
+  /**
+   * Scope and task running on this thread - lets the executor find the scope of a failing thread.
+   * <p>
+   * Thread locals are supported by platform as well as virtual threads.
+   * </p>
+   */
+  private static final ThreadLocal<ScopedTask<?>> CurrentScopedTask =
+      new ThreadLocal<ScopedTask<?>>();
+
+  /**
+   * Task of a scope - leaves the scope when its body has exited, or when cancelled before it ran.
+   */
+  protected static class ScopedTask<T> extends FutureTask<T>
+  {
+    private final FailFastScope scope;
+
+    private final AtomicBoolean left = new AtomicBoolean();
+
+    private volatile boolean running;
+
+    private RuntimeException reportedFailFastExceptionOrNull;
+
+    protected ScopedTask(FailFastScope scope, Callable<T> callable)
+    {
+      super(callable);
+      this.scope = scope;
+    }
+
+    @Override
+    public void run()
+    {
+      CurrentScopedTask.set(this);
+      this.running = true;
+      try
+      {
+        super.run();
+      }
+      finally
+      {
+        CurrentScopedTask.remove();
+        this.running = false;
+        this.leave();
+      }
+    }
+
+    /**
+     * Remembers the first fail-fast exception reported by a failer on the thread running this.
+     * <p>
+     * The scope is only failed, if the task then ends exceptionally - a task handling the
+     * fail-fast exception does not fail the scope.
+     * </p>
+     */
+    protected void reportFailFastException(RuntimeException failFastException)
+    {
+      if (null == this.reportedFailFastExceptionOrNull)
+      {
+        this.reportedFailFastExceptionOrNull = failFastException;
+      }
+    }
+
+    @Override
+    protected void setException(Throwable throwable)
+    { // also covers fail-fast exceptions from failers the executor does not observe
+      if (throwable instanceof IFailFastException)
+      {
+        this.scope.fail((RuntimeException) throwable, this);
+      }
+      else if (null != this.reportedFailFastExceptionOrNull)
+      { // e.g. wrapped by the task
+        this.scope.fail(this.reportedFailFastExceptionOrNull, this);
+      }
+      super.setException(throwable);
+    }
+
+    @Override
+    protected void done()
+    {
+      if (!this.running)
+      { // cancelled before its body ran (or never will) - else left by run
+        this.leave();
+      }
+    }
+
+    private void leave()
+    {
+      if (this.left.compareAndSet(false, true))
+      {
+        this.scope.leave(this);
+      }
+    }
+  }
+
+  /**
+   * Returns the scope of the task running on this thread.
+   * 
+   * @return scope, or null if this thread is not running a scoped task
+   */
+  protected static FailFastScope getCurrentScopeOrNull()
+  {
+    ScopedTask<?> scopedTask = CurrentScopedTask.get();
+    return null == scopedTask ? null : scopedTask.scope;
+  }
+
+  /**
+   * Returns the scoped task running on this thread.
+   * 
+   * @return scoped task, or null if this thread is not running a scoped task
+   */
+  protected static ScopedTask<?> getCurrentScopedTaskOrNull()
+  {
+    return CurrentScopedTask.get();
+  }
+
+  private final Executor executor;
+
+  private volatile boolean failed;
+
+  private final AtomicReference<RuntimeException> failFastExceptionOrNull =
+      new AtomicReference<RuntimeException>();
+
+  private final Set<ScopedTask<?>> scopedTasks = Collections
+      .newSetFromMap(new ConcurrentHashMap<ScopedTask<?>, Boolean>());
+
+  private int numberOfPendingTasks;
+
+  /**
+   * Constructor.
+   * 
+   * @param executor
+   *          executor running the tasks of this scope
+   * @throws IllegalArgumentException
+   *           if executor is null
+   */
+  protected FailFastScope(Executor executor)
+  {
+    if (null == executor)
+    {
+      throw new IllegalArgumentException("executor is null");
+    }
+    this.executor = executor;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastScope#submit(java.util.concurrent.Callable)
+   */
+  @Override
+  public <T> Future<T> submit(Callable<T> task)
+  {
+    if (null == task)
+    {
+      throw new IllegalArgumentException("task is null");
+    }
+    ScopedTask<T> scopedTask = new ScopedTask<T>(this, task);
+    this.enter(scopedTask);
+    if (this.failed)
+    { // never started
+      scopedTask.cancel(false);
+    }
+    else
+    {
+      try
+      {
+        this.executor.execute(scopedTask);
+      }
+      catch (RuntimeException runtimeException)
+      { // e.g. rejected - leave the scope, so join does not wait for it
+        scopedTask.cancel(false);
+        throw runtimeException;
+      }
+    }
+    return scopedTask;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastScope#submit(java.lang.Runnable)
+   */
+  @Override
+  public Future<?> submit(final Runnable task)
+  {
+    if (null == task)
+    {
+      throw new IllegalArgumentException("task is null");
+    }
+    return this.submit(new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        task.run();
+        return null;
+      }
+    });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastScope#isFailed()
+   */
+  @Override
+  public boolean isFailed()
+  {
+    return this.failed;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastScope#getFailFastExceptionOrNull()
+   */
+  @Override
+  public RuntimeException getFailFastExceptionOrNull()
+  {
+    return this.failFastExceptionOrNull.get();
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.coordinators.IFailFastScope#join()
+   */
+  @Override
+  public void join() throws InterruptedException
+  {
+    synchronized (this.scopedTasks)
+    {
+      while (0 < this.numberOfPendingTasks)
+      {
+        this.scopedTasks.wait();
+      }
+    }
+    RuntimeException failFastException = this.failFastExceptionOrNull.get();
+    if (null != failFastException)
+    {
+      throw failFastException;
+    }
+  }
+
+  /**
+   * Fails the scope and cancels the siblings of the failing task - only the first call has an
+   * effect.
+   * 
+   * @param failFastException
+   *          fail-fast exception thrown by a task
+   * @param failingTaskOrNull
+   *          task throwing the exception (not cancelled), or null
+   * @return true, if this call failed the scope
+   */
+  protected boolean fail(RuntimeException failFastException, ScopedTask<?> failingTaskOrNull)
+  {
+    if (this.failed || !this.failFastExceptionOrNull.compareAndSet(null, failFastException))
+    {
+      return false;
+    }
+    this.failed = true;
+    for (ScopedTask<?> scopedTask : this.scopedTasks)
+    {
+      if (scopedTask != failingTaskOrNull)
+      {
+        scopedTask.cancel(true);
+      }
+    }
+    return true;
+  }
+
+  private void enter(ScopedTask<?> scopedTask)
+  {
+    synchronized (this.scopedTasks)
+    {
+      ++this.numberOfPendingTasks;
+    }
+    this.scopedTasks.add(scopedTask);
+  }
+
+  private void leave(ScopedTask<?> scopedTask)
+  {
+    this.scopedTasks.remove(scopedTask);
+    synchronized (this.scopedTasks)
+    {
+      if (0 == --this.numberOfPendingTasks)
+      {
+        this.scopedTasks.notifyAll();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,181 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.coordinators;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import starkcoder.failfast.fails.IFailFastException;
+
+/**
+ * Specification of a coordinator stopping registered workers on the first fail-fast exception.
+ * <p>
+ * Instead of each worker polling the failer, the workers register with this. On the first
+ * fail-fast exception this publishes a stop signal (a volatile read), interrupts registered
+ * threads, cancels registered futures, shuts down registered executors and runs the shutdown hooks
+ * in order.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IFailFastCoordinator
+{
+  /**
+   * Cheap stop signal for worker loops.
+   * 
+   * @return true, if stopping (or stopped)
+   */
+  boolean isStopping();
+
+  /**
+   * Returns the fail-fast exception that triggered the stop, if any.
+   * 
+   * @return triggering fail-fast exception, or null
+   */
+  IFailFastException getFailFastExceptionOrNull();
+
+  /**
+   * Stops the registered workers - called on the first fail-fast exception or manually.
+   * <p>
+   * Only the first call has an effect.
+   * </p>
+   * 
+   * @param failFastExceptionOrNull
+   *          exception causing the stop, or null
+   * @return true, if this call started the stop
+   */
+  boolean stop(IFailFastException failFastExceptionOrNull);
+
+  /**
+   * Waits until all shutdown hooks have run after a stop.
+   * 
+   * @param timeoutMillis
+   *          maximum time to wait
+   * @return true, if stopped
+   * @throws InterruptedException
+   *           if interrupted while waiting
+   */
+  boolean awaitStopped(long timeoutMillis) throws InterruptedException;
+
+  /**
+   * Registers a thread to interrupt on stop - interrupted at once, if already stopping.
+   * 
+   * @param thread
+   *          thread to interrupt
+   * @throws IllegalArgumentException
+   *           if thread is null
+   * @throws IllegalStateException
+   *           if thread already is registered
+   */
+  void registerThread(Thread thread);
+
+  /**
+   * Unregisters a thread e.g. when it exits.
+   * 
+   * @param thread
+   *          registered thread
+   * @throws IllegalArgumentException
+   *           if thread is null
+   * @throws IllegalStateException
+   *           if thread is NOT registered
+   */
+  void unregisterThread(Thread thread);
+
+  /**
+   * Registers a future (task) to cancel on stop - cancelled at once, if already stopping.
+   * 
+   * @param future
+   *          future to cancel with interruption
+   * @throws IllegalArgumentException
+   *           if future is null
+   * @throws IllegalStateException
+   *           if future already is registered
+   */
+  void registerFuture(Future<?> future);
+
+  /**
+   * Unregisters a future e.g. when it is done.
+   * 
+   * @param future
+   *          registered future
+   * @throws IllegalArgumentException
+   *           if future is null
+   * @throws IllegalStateException
+   *           if future is NOT registered
+   */
+  void unregisterFuture(Future<?> future);
+
+  /**
+   * Registers an executor to shut down (now) on stop - shut down at once, if already stopping.
+   * 
+   * @param executorService
+   *          executor to shut down
+   * @throws IllegalArgumentException
+   *           if executorService is null
+   * @throws IllegalStateException
+   *           if executorService already is registered
+   */
+  void registerExecutorService(ExecutorService executorService);
+
+  /**
+   * Unregisters an executor.
+   * 
+   * @param executorService
+   *          registered executor
+   * @throws IllegalArgumentException
+   *           if executorService is null
+   * @throws IllegalStateException
+   *           if executorService is NOT registered
+   */
+  void unregisterExecutorService(ExecutorService executorService);
+
+  /**
+   * Registers a hook to run on stop - after threads are interrupted, futures cancelled and
+   * executors shut down.
+   * <p>
+   * Hooks run one by one on a shutdown thread in ascending order (then in registration order).
+   * </p>
+   * 
+   * @param order
+   *          order of the hook
+   * @param shutdownHook
+   *          hook to run
+   * @throws IllegalArgumentException
+   *           if shutdownHook is null
+   * @throws IllegalStateException
+   *           if already stopping
+   */
+  void registerShutdownHook(int order, Runnable shutdownHook);
+
+  /**
+   * Exceptions thrown by shutdown hooks - a failing hook does not stop later hooks.
+   * 
+   * @return snapshot of exceptions thrown by shutdown hooks
+   */
+  List<RuntimeException> getShutdownHookExceptions();
+}
@@ -0,0 +1,97 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.coordinators;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.Future;
+
+/**
+ * Specification of a group of sibling tasks that stops on its first fail-fast exception.
+ * <p>
+ * When a task of the scope ends with a fail-fast exception, the other tasks of the scope are
+ * cancelled (interrupted, if running). A task catching and handling the fail-fast exception does
+ * not fail the scope. The fail-fast exception is reported once by the failer throwing it -
+ * the scope only hands it to the caller joining the scope.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IFailFastScope
+{
+  /**
+   * Submits a task to the scope - cancelled at once, if the scope already failed.
+   * 
+   * @param task
+   *          task to run
+   * @return future of the task
+   * @throws IllegalArgumentException
+   *           if task is null
+   * @throws java.util.concurrent.RejectedExecutionException
+   *           if the executor rejects the task - it is then not part of the scope
+   */
+  <T> Future<T> submit(Callable<T> task);
+
+  /**
+   * Submits a task to the scope - cancelled at once, if the scope already failed.
+   * 
+   * @param task
+   *          task to run
+   * @return future of the task
+   * @throws IllegalArgumentException
+   *           if task is null
+   * @throws java.util.concurrent.RejectedExecutionException
+   *           if the executor rejects the task - it is then not part of the scope
+   */
+  Future<?> submit(Runnable task);
+
+  /**
+   * Cheap failed signal for long running tasks.
+   * 
+   * @return true, if a task of the scope threw a fail-fast exception
+   */
+  boolean isFailed();
+
+  /**
+   * Returns the first fail-fast exception thrown by a task of the scope, if any.
+   * 
+   * @return first fail-fast exception, or null
+   */
+  RuntimeException getFailFastExceptionOrNull();
+
+  /**
+   * Waits until all submitted tasks are done (or cancelled) and rethrows the first fail-fast
+   * exception, if any.
+   * <p>
+   * A cancelled task that was running is waited for until its body has exited (e.g. on the
+   * interrupt) - so no task of the scope runs after this returns.
+   * </p>
+   * 
+   * @throws InterruptedException
+   *           if interrupted while waiting
+   */
+  void join() throws InterruptedException;
+}
@@ -26,6 +26,9 @@
 
 package starkcoder.failfast.fails;
 
+import java.io.IOException;
+import java.io.ObjectOutputStream;
+
 /**
  * Abstract implementation of fail-fast exception inheriting RuntimeException.
  * <p>
@@ -41,6 +44,14 @@ package starkcoder.failfast.fails;
  * <p>
  * To extend this in a concrete implementation is optional.
  * </p>
+ * <p>
+ * The failer may construct a {link:FailFastException} with a null message and defer assembling
+ * the message from its template to the first {link:#getMessage()} (many catch sites never read the
+ * message). Arguments that may change are turned into strings at the fail, so the message shows
+ * the arguments as they were at the fail - only the assembly is deferred. Other types (also
+ * subclasses, whose constructors may decorate or validate the message) get their message when
+ * constructed.
+ * </p>
  * 
  * @author Keld Oelykke
  */
@@ -64,6 +75,92 @@ public abstract class AFailFastException extends RuntimeException implements IFa
     super(message, throwable);
   }
 
+  /**
+   * Constructor with suppression and stack trace options - see {link:RuntimeException}.
+   * <p>
+   * The failer passes writableStackTrace false, if the exception should not get a stack trace -
+   * see {link:FailStackTracePolicy}.
+   * </p>
+   */
+  protected AFailFastException(String message, Throwable throwable, boolean enableSuppression,
+      boolean writableStackTrace)
+  {
+    super(message, throwable, enableSuppression, writableStackTrace);
+  }
+
+  /**
+   * Template of a message not yet rendered (or null) - see {link:#getMessage()}.
+   */
+  private transient FailMessageTemplate deferredFailMessageTemplate;
+
+  private transient Object[] deferredFailMessageArguments;
+
+  private transient String deferredFailMessagePostfix;
+
+  private volatile String renderedFailMessage;
+
+  /**
+   * Defers assembling the message to the first {link:#getMessage()}.
+   * <p>
+   * Called by the failer right after constructing a {link:FailFastException} with a null message.
+   * </p>
+   * 
+   * @param failMessageTemplate
+   *          compiled template of the message format
+   * @param failMessageArguments
+   *          message arguments picked from the checker and failer arguments - immutable values or
+   *          strings rendered at the fail
+   * @param failMessagePostfixOrNull
+   *          custom message postfix or null
+   */
+  synchronized void deferFailMessage(FailMessageTemplate failMessageTemplate,
+      Object[] failMessageArguments, String failMessagePostfixOrNull)
+  {
+    this.deferredFailMessageTemplate = failMessageTemplate;
+    this.deferredFailMessageArguments = failMessageArguments;
+    this.deferredFailMessagePostfix = failMessagePostfixOrNull;
+  }
+
+  /**
+   * Returns the message - a deferred message is assembled on the first call and cached.
+   */
+  @Override
+  public String getMessage()
+  {
+    String result = this.renderedFailMessage;
+    if (null == result)
+    {
+      synchronized (this)
+      {
+        result = this.renderedFailMessage;
+        if (null == result)
+        {
+          if (null == this.deferredFailMessageTemplate)
+          { // constructed with its message
+            return super.getMessage();
+          }
+          result = this.deferredFailMessageTemplate.render(this.deferredFailMessageArguments);
+          if (null != this.deferredFailMessagePostfix)
+          {
+            result += this.deferredFailMessagePostfix;
+          }
+          this.renderedFailMessage = result;
+          // release what is no longer needed
+          this.deferredFailMessageTemplate = null;
+          this.deferredFailMessageArguments = null;
+          this.deferredFailMessagePostfix = null;
+        }
+      }
+    }
+    return result;
+  }
+
+  private void writeObject(ObjectOutputStream objectOutputStream) throws IOException
+  {
+    this.getMessage(); // render a deferred message - its template and arguments are transient
+    objectOutputStream.defaultWriteObject();
+  }
+
   private Class<?> checkerSpecificationType;
 
   @Override
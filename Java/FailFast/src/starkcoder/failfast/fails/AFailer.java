@@ -26,18 +26,28 @@
 
 package starkcoder.failfast.fails;
 
-import java.lang.reflect.Constructor;
-import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Formattable;
 import java.util.HashMap;
-import java.util.Locale;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.AtomicReferenceFieldUpdater;
 
 import starkcoder.failfast.contractors.ICallContractor;
 import starkcoder.failfast.contractors.contracts.ICallContract;
 import starkcoder.failfast.fails.objects.IObjectArrayEqualsFail;
 import starkcoder.failfast.fails.objects.IObjectCollectionEqualsFail;
+import starkcoder.failfast.fails.objects.IObjectCollectionMultisetEqualsFail;
+import starkcoder.failfast.fails.objects.IObjectCollectionMultisetNotEqualsFail;
+import starkcoder.failfast.fails.objects.IObjectCollectionSetEqualsFail;
+import starkcoder.failfast.fails.objects.IObjectCollectionSetNotEqualsFail;
 import starkcoder.failfast.fails.objects.IObjectDefaultFail;
 import starkcoder.failfast.fails.objects.IObjectEqualsFail;
 import starkcoder.failfast.fails.objects.IObjectListEqualsFail;
@@ -228,6 +238,86 @@ import starkcoder.failfast.fails.objects.uuids.IObjectUuidNotSameFail;
 import starkcoder.failfast.fails.objects.uuids.IObjectUuidNullFail;
 import starkcoder.failfast.fails.objects.uuids.IObjectUuidOutsideFail;
 import starkcoder.failfast.fails.objects.uuids.IObjectUuidSameFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanDefaultFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanEqualsFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanFalseFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanNotDefaultFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanNotEqualsFail;
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanTrueFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteDefaultFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteEqualsFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteGreaterFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteInsideFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteLessFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteNotDefaultFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteNotEqualsFail;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteOutsideFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterDefaultFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterEqualsFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterGreaterFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterInsideFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterLessFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterNotDefaultFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterNotEqualsFail;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterOutsideFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleDefaultFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleEqualsAlmostFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleEqualsFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleGreaterFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleInsideFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleLessFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleNotDefaultFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleNotEqualsAlmostFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleNotEqualsFail;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleOutsideFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatDefaultFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsAlmostFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatGreaterFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatInsideFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatLessFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotDefaultFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsAlmostFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsFail;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatOutsideFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerDefaultFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerEqualsFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerGreaterFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerInsideFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerLessFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerNotDefaultFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerNotEqualsFail;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerOutsideFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongDefaultFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongEqualsFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongGreaterFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongInsideFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongLessFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongNotDefaultFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongNotEqualsFail;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongOutsideFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortDefaultFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortEqualsFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortGreaterFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortGreaterOrEqualsFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortInsideFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortLessFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortLessOrEqualsFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortNotDefaultFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortNotEqualsFail;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortOutsideFail;
 
 /**
  * Abstract implementation of {@link IFailer}.
@@ -268,7 +358,15 @@ public abstract class AFailer implements IFailer
     this.callContractor = callContractor;
   }
 
-  private IFailFastException failFastExceptionOrNull;
+  /**
+   * The first fail-fast exception - a plain volatile field read without locks (or indirection) by
+   * pollers, set once with a compare-and-set by the fail path.
+   */
+  private volatile IFailFastException failFastExceptionOrNull;
+
+  private static final AtomicReferenceFieldUpdater<AFailer, IFailFastException> 
+      FailFastExceptionUpdater = AtomicReferenceFieldUpdater.newUpdater(AFailer.class,
+          IFailFastException.class, "failFastExceptionOrNull");
 
   /*
    * (non-Javadoc)
@@ -278,20 +376,200 @@ public abstract class AFailer implements IFailer
   @Override
   public IFailFastException getFailFastExceptionOrNull()
   {
-    synchronized (this.getSynchronizationObject())
+    return this.failFastExceptionOrNull;
+  }
+
+  protected void setFailFastExceptionOrNull(IFailFastException failFastExceptionOrNull)
+  {
+    this.failFastExceptionOrNull = failFastExceptionOrNull;
+  }
+
+  /**
+   * Sets the fail-fast exception, if the current value is the expected value.
+   * 
+   * @param expectedFailFastExceptionOrNull
+   *          expected current value e.g. null to only set the first exception
+   * @param failFastExceptionOrNull
+   *          new value
+   * @return true, if set
+   */
+  protected boolean compareAndSetFailFastExceptionOrNull(
+      IFailFastException expectedFailFastExceptionOrNull,
+      IFailFastException failFastExceptionOrNull)
+  {
+    return FailFastExceptionUpdater.compareAndSet(this, expectedFailFastExceptionOrNull,
+        failFastExceptionOrNull);
+  }
+
+  // IFailFastExceptionHistory - START -------------------------------
+
+  /**
+   * Default capacity of the recent fail-fast exceptions.
+   */
+  protected static final int DefaultRecentFailFastExceptionCapacity = 64;
+
+  /**
+   * Default capacity of the first fail-fast exception per thread.
+   */
+  protected static final int DefaultFailFastExceptionPerThreadCapacity = 1024;
+
+  private ConcurrentMap<Long, FailFastExceptionOfThread> threadId2FailFastException;
+
+  protected ConcurrentMap<Long, FailFastExceptionOfThread> getThreadId2FailFastException()
+  {
+    return this.threadId2FailFastException;
+  }
+
+  protected void setThreadId2FailFastException(
+      ConcurrentMap<Long, FailFastExceptionOfThread> threadId2FailFastException)
+  {
+    this.threadId2FailFastException = threadId2FailFastException;
+  }
+
+  private volatile int failFastExceptionPerThreadCapacity;
+
+  private AtomicReferenceArray<FailFastExceptionRecord> recentFailFastExceptions;
+
+  protected AtomicReferenceArray<FailFastExceptionRecord> getRecentFailFastExceptionRecords()
+  {
+    return this.recentFailFastExceptions;
+  }
+
+  /*
+   * Sets the ring of recent fail-fast exceptions - its length is the capacity.
+   */
+  protected void setRecentFailFastExceptionRecords(
+      AtomicReferenceArray<FailFastExceptionRecord> recentFailFastExceptions)
+  {
+    this.recentFailFastExceptions = recentFailFastExceptions;
+  }
+
+  private final AtomicLong recentFailFastExceptionSequence = new AtomicLong();
+
+  @Override
+  public IFailFastException getFailFastExceptionOfThreadOrNull(Thread thread)
+  {
+    if (null == thread)
+    {
+      throw new IllegalArgumentException("thread is null");
+    }
+    FailFastExceptionOfThread failFastExceptionOfThread = this.getThreadId2FailFastException()
+        .get(thread.getId());
+    if (null == failFastExceptionOfThread || !failFastExceptionOfThread.isOfThread(thread))
     {
-      return this.failFastExceptionOrNull;
+      return null;
     }
+    return failFastExceptionOfThread.getFailFastException();
   }
 
-  protected void setFailFastExceptionOrNull(IFailFastException failFastExceptionOrNull)
+  @Override
+  public Map<Long, IFailFastException> getFailFastExceptionPerThreadId()
   {
-    synchronized (this.getSynchronizationObject())
+    Map<Long, IFailFastException> result = new HashMap<Long, IFailFastException>();
+    for (Map.Entry<Long, FailFastExceptionOfThread> entry : this
+        .getThreadId2FailFastException().entrySet())
+    {
+      result.put(entry.getKey(), entry.getValue().getFailFastException());
+    }
+    return Collections.unmodifiableMap(result);
+  }
+
+  @Override
+  public int getFailFastExceptionPerThreadCapacity()
+  {
+    return this.failFastExceptionPerThreadCapacity;
+  }
+
+  @Override
+  public List<FailFastExceptionRecord> getRecentFailFastExceptions()
+  {
+    AtomicReferenceArray<FailFastExceptionRecord> records = this
+        .getRecentFailFastExceptionRecords();
+    int capacity = records.length();
+    long sequence = this.recentFailFastExceptionSequence.get();
+    List<FailFastExceptionRecord> result = new ArrayList<FailFastExceptionRecord>(capacity);
+    for (long sequenceNumber = Math.max(0, sequence - capacity); sequenceNumber < sequence;
+        ++sequenceNumber)
+    {
+      FailFastExceptionRecord record = records.get((int) (sequenceNumber % capacity));
+      if (null != record && sequenceNumber == record.getSequenceNumber())
+      { // skip slots not yet written or already overwritten by newer fails
+        result.add(record);
+      }
+    }
+    return result;
+  }
+
+  @Override
+  public int getRecentFailFastExceptionCapacity()
+  {
+    return this.getRecentFailFastExceptionRecords().length();
+  }
+
+  @Override
+  public void clearFailFastExceptionHistory()
+  {
+    this.getThreadId2FailFastException().clear();
+    AtomicReferenceArray<FailFastExceptionRecord> records = this
+        .getRecentFailFastExceptionRecords();
+    for (int index = 0; index < records.length(); ++index)
+    {
+      records.set(index, null);
+    }
+  }
+
+  /**
+   * Records a fail-fast exception as the first of this thread (if so) and as recent.
+   */
+  protected void recordFailFastException(IFailFastException failFastException)
+  {
+    Thread thread = Thread.currentThread();
+    Long threadId = thread.getId();
+    ConcurrentMap<Long, FailFastExceptionOfThread> threadId2FailFastException = this
+        .getThreadId2FailFastException();
+    FailFastExceptionOfThread existing = threadId2FailFastException.get(threadId);
+    if (null == existing || !existing.isOfThread(thread))
+    {
+      if (null != existing)
+      { // id of a terminated thread reused
+        threadId2FailFastException.remove(threadId, existing);
+      }
+      if (this.getFailFastExceptionPerThreadCapacity() <= threadId2FailFastException.size())
+      {
+        this.removeFailFastExceptionsOfTerminatedThreads(threadId2FailFastException);
+      }
+      if (threadId2FailFastException.size() < this.getFailFastExceptionPerThreadCapacity())
+      { // racing threads may exceed the capacity slightly
+        threadId2FailFastException.putIfAbsent(threadId, new FailFastExceptionOfThread(thread,
+            failFastException));
+      }
+    }
+    AtomicReferenceArray<FailFastExceptionRecord> records = this
+        .getRecentFailFastExceptionRecords();
+    long sequenceNumber = this.recentFailFastExceptionSequence.getAndIncrement();
+    records.set((int) (sequenceNumber % records.length()), new FailFastExceptionRecord(
+        failFastException, thread, System.currentTimeMillis(), sequenceNumber));
+  }
+
+  /**
+   * Removes the first fail-fast exceptions of threads no longer alive - called when full, since
+   * this visits every entry.
+   */
+  protected void removeFailFastExceptionsOfTerminatedThreads(
+      ConcurrentMap<Long, FailFastExceptionOfThread> threadId2FailFastException)
+  {
+    for (FailFastExceptionOfThread failFastExceptionOfThread : threadId2FailFastException
+        .values())
     {
-      this.failFastExceptionOrNull = failFastExceptionOrNull;
+      if (!failFastExceptionOfThread.isThreadAlive())
+      {
+        threadId2FailFastException.values().remove(failFastExceptionOfThread);
+      }
     }
   }
 
+  // IFailFastExceptionHistory - END -------------------------------
+
   // IFailerCustomizer - START -------------------------------
 
   @Override
@@ -303,11 +581,8 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
-    {
-      result = this.getFailSpecification2CustomFailExceptionType().get(
-          failerSpecificationAndMethodId);
-    }
+    result = this.getFailSpecification2CustomFailExceptionType().get(
+        failerSpecificationAndMethodId);
     return result;
   }
 
@@ -323,18 +598,16 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failExceptionType is null");
     }
-    synchronized (this.getSynchronizationObject())
-    {
-      Class<? extends RuntimeException> customFailExceptionType = this
-          .getFailSpecification2CustomFailExceptionType().get(failerSpecificationAndMethodId);
-      if (null != customFailExceptionType)
-      {
-        throw new IllegalStateException("A custom fail exception '" + customFailExceptionType
-            + "' has already been registered for failer specification method '"
-            + failerSpecificationAndMethodId + "'");
-      }
-      this.getFailSpecification2CustomFailExceptionType().put(failerSpecificationAndMethodId,
-          failExceptionType);
+    // reject exception types without a suitable constructor now - not at the first fail
+    SFailExceptionFactories.lookupFailExceptionFactory(failExceptionType);
+    Class<? extends RuntimeException> customFailExceptionType = this
+        .getFailSpecification2CustomFailExceptionType().putIfAbsent(
+            failerSpecificationAndMethodId, failExceptionType);
+    if (null != customFailExceptionType)
+    {
+      throw new IllegalStateException("A custom fail exception '" + customFailExceptionType
+          + "' has already been registered for failer specification method '"
+          + failerSpecificationAndMethodId + "'");
     }
   }
 
@@ -345,17 +618,13 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
+    Class<? extends RuntimeException> customFailExceptionType = this
+        .getFailSpecification2CustomFailExceptionType().remove(failerSpecificationAndMethodId);
+    if (null == customFailExceptionType)
     {
-      Class<? extends RuntimeException> customFailExceptionType = this
-          .getFailSpecification2CustomFailExceptionType().get(failerSpecificationAndMethodId);
-      if (null == customFailExceptionType)
-      {
-        throw new IllegalStateException(
-            "Can't unregister a custom fail exception for failer specification method '"
-                + failerSpecificationAndMethodId + "' since none is registered.");
-      }
-      this.getFailSpecification2CustomFailExceptionType().remove(failerSpecificationAndMethodId);
+      throw new IllegalStateException(
+          "Can't unregister a custom fail exception for failer specification method '"
+              + failerSpecificationAndMethodId + "' since none is registered.");
     }
   }
 
@@ -367,11 +636,8 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
-    {
-      result = this.getFailSpecification2CustomFailMessageFormat().get(
-          failerSpecificationAndMethodId);
-    }
+    result = this.getFailSpecification2CustomFailMessageFormat().get(
+        failerSpecificationAndMethodId);
     return result;
   }
 
@@ -387,18 +653,13 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failMessageFormat is null");
     }
-    synchronized (this.getSynchronizationObject())
+    String customFailMessageFormat = this.getFailSpecification2CustomFailMessageFormat()
+        .putIfAbsent(failerSpecificationAndMethodId, failMessageFormat);
+    if (null != customFailMessageFormat)
     {
-      String customFailMessageFormat = this.getFailSpecification2CustomFailMessageFormat().get(
-          failerSpecificationAndMethodId);
-      if (null != customFailMessageFormat)
-      {
-        throw new IllegalStateException("A custom fail message format '" + customFailMessageFormat
-            + "' has already been registered for failer specification method '"
-            + failerSpecificationAndMethodId + "'");
-      }
-      this.getFailSpecification2CustomFailMessageFormat().put(failerSpecificationAndMethodId,
-          failMessageFormat);
+      throw new IllegalStateException("A custom fail message format '" + customFailMessageFormat
+          + "' has already been registered for failer specification method '"
+          + failerSpecificationAndMethodId + "'");
     }
   }
 
@@ -409,17 +670,13 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
+    String customFailMessageFormat = this.getFailSpecification2CustomFailMessageFormat()
+        .remove(failerSpecificationAndMethodId);
+    if (null == customFailMessageFormat)
     {
-      String customFailMessageFormat = this.getFailSpecification2CustomFailMessageFormat().get(
-          failerSpecificationAndMethodId);
-      if (null == customFailMessageFormat)
-      {
-        throw new IllegalStateException(
-            "Can't unregister a custom fail message format for failer specification method '"
-                + failerSpecificationAndMethodId + "' since none is registered.");
-      }
-      this.getFailSpecification2CustomFailMessageFormat().remove(failerSpecificationAndMethodId);
+      throw new IllegalStateException(
+          "Can't unregister a custom fail message format for failer specification method '"
+              + failerSpecificationAndMethodId + "' since none is registered.");
     }
   }
 
@@ -431,11 +688,8 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
-    {
-      result = this.getFailSpecification2CustomFailMessageArguments().get(
-          failerSpecificationAndMethodId);
-    }
+    result = this.getFailSpecification2CustomFailMessageArguments().get(
+        failerSpecificationAndMethodId);
     return result;
   }
 
@@ -451,19 +705,16 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failMessageArguments is null");
     }
-    synchronized (this.getSynchronizationObject())
-    {
-      String customFailMessageArguments = this.getFailSpecification2CustomFailMessageArguments()
-          .get(failerSpecificationAndMethodId);
-      if (null != customFailMessageArguments)
-      {
-        throw new IllegalStateException("A custom fail message arguments '"
-            + customFailMessageArguments
-            + "' has already been registered for failer specification method '"
-            + failerSpecificationAndMethodId + "'");
-      }
-      this.getFailSpecification2CustomFailMessageArguments().put(failerSpecificationAndMethodId,
-          failMessageArguments);
+    // reject malformed arguments now - not at the first fail
+    SFailMessagePlans.validateFailMessageArguments(failMessageArguments);
+    String customFailMessageArguments = this.getFailSpecification2CustomFailMessageArguments()
+        .putIfAbsent(failerSpecificationAndMethodId, failMessageArguments);
+    if (null != customFailMessageArguments)
+    {
+      throw new IllegalStateException("A custom fail message arguments '"
+          + customFailMessageArguments
+          + "' has already been registered for failer specification method '"
+          + failerSpecificationAndMethodId + "'");
     }
   }
 
@@ -474,20 +725,109 @@ public abstract class AFailer implements IFailer
     {
       throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
     }
-    synchronized (this.getSynchronizationObject())
+    String customFailMessageArguments = this.getFailSpecification2CustomFailMessageArguments()
+        .remove(failerSpecificationAndMethodId);
+    if (null == customFailMessageArguments)
     {
-      String customFailMessageArguments = this.getFailSpecification2CustomFailMessageArguments()
-          .get(failerSpecificationAndMethodId);
-      if (null == customFailMessageArguments)
-      {
-        throw new IllegalStateException(
-            "Can't unregister a custom fail message arguments for failer specification method '"
-                + failerSpecificationAndMethodId + "' since none is registered.");
-      }
-      this.getFailSpecification2CustomFailMessageArguments().remove(failerSpecificationAndMethodId);
+      throw new IllegalStateException(
+          "Can't unregister a custom fail message arguments for failer specification method '"
+              + failerSpecificationAndMethodId + "' since none is registered.");
+    }
+  }
+
+  @Override
+  public FailStackTracePolicy getFailStackTracePolicy()
+  {
+    return this.failStackTracePolicy;
+  }
+
+  @Override
+  public void setFailStackTracePolicy(FailStackTracePolicy failStackTracePolicy)
+  {
+    if (null == failStackTracePolicy)
+    {
+      throw new IllegalArgumentException("failStackTracePolicy is null");
+    }
+    this.failStackTracePolicy = failStackTracePolicy;
+  }
+
+  @Override
+  public FailStackTracePolicy getCustomFailStackTracePolicyOrNull(
+      String failerSpecificationAndMethodId)
+  {
+    FailStackTracePolicy result = null;
+    if (null == failerSpecificationAndMethodId)
+    {
+      throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
+    }
+    result = this.getFailSpecification2CustomFailStackTracePolicy().get(
+        failerSpecificationAndMethodId);
+    return result;
+  }
+
+  @Override
+  public void registerCustomFailStackTracePolicy(String failerSpecificationAndMethodId,
+      FailStackTracePolicy failStackTracePolicy)
+  {
+    if (null == failerSpecificationAndMethodId)
+    {
+      throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
+    }
+    if (null == failStackTracePolicy)
+    {
+      throw new IllegalArgumentException("failStackTracePolicy is null");
+    }
+    FailStackTracePolicy customFailStackTracePolicy = this
+        .getFailSpecification2CustomFailStackTracePolicy().putIfAbsent(
+            failerSpecificationAndMethodId, failStackTracePolicy);
+    if (null != customFailStackTracePolicy)
+    {
+      throw new IllegalStateException("A custom fail stack trace policy '"
+          + customFailStackTracePolicy
+          + "' has already been registered for failer specification method '"
+          + failerSpecificationAndMethodId + "'");
+    }
+  }
+
+  @Override
+  public void unregisterCustomFailStackTracePolicy(String failerSpecificationAndMethodId)
+  {
+    if (null == failerSpecificationAndMethodId)
+    {
+      throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
+    }
+    FailStackTracePolicy customFailStackTracePolicy = this
+        .getFailSpecification2CustomFailStackTracePolicy().remove(failerSpecificationAndMethodId);
+    if (null == customFailStackTracePolicy)
+    {
+      throw new IllegalStateException(
+          "Can't unregister a custom fail stack trace policy for failer specification method '"
+              + failerSpecificationAndMethodId + "' since none is registered.");
     }
   }
 
+  @Override
+  public FailStormPolicy getFailStormPolicyOrNull()
+  {
+    return this.failStormPolicyOrNull;
+  }
+
+  @Override
+  public void setFailStormPolicy(FailStormPolicy failStormPolicyOrNull)
+  {
+    this.failStormPolicyOrNull = failStormPolicyOrNull;
+  }
+
+  @Override
+  public void setFailFastExceptionPerThreadCapacity(int capacity)
+  {
+    if (capacity < 0)
+    {
+      throw new IllegalArgumentException("capacity must not be negative - not " + capacity);
+    }
+    this.failFastExceptionPerThreadCapacity = capacity;
+  }
+
   // IFailerCustomizer - END -------------------------------
 
   // IFailerPublisher - BEGIN -------------------------------
@@ -502,27 +842,22 @@ public abstract class AFailer implements IFailer
       throw new IllegalArgumentException("failerObserver is null");
     }
     synchronized (this.getSynchronizationObject())
-    {
-      ArrayList<IFailerObserver> failerObservers = this.getFailerObservers();
-      if (failerObservers.contains(failerObserver))
+    { // rare writes are serialized - fails read the snapshot without a lock
+      HashMap<IFailerObserver, Object> failerObserver2RegistrationKey = this
+          .getFailerObserver2RegistrationKey();
+      if (failerObserver2RegistrationKey.containsKey(failerObserver))
       {
         throw new IllegalStateException("failerObserver " + failerObserver
             + " is already registered.");
       }
-      ArrayList<Object> registrationKeys = this.getFailerObserverRegistrationKeys();
       Object registrationKey = UUID.randomUUID();
-      boolean added = failerObservers.add(failerObserver);
-      if (!added)
-      {
-        throw new RuntimeException("Unexpected problem - failerObserver " + failerObserver
-            + " could not be added list " + failerObservers + ".");
-      }
-      added = registrationKeys.add(registrationKey);
-      if (!added)
-      {
-        throw new RuntimeException("Unexpected problem - registrationKey " + registrationKey
-            + " could not be added list " + registrationKeys + ".");
-      }
+      failerObserver2RegistrationKey.put(failerObserver, registrationKey);
+      this.getRegistrationKey2FailerObserver().put(registrationKey, failerObserver);
+
+      IFailerObserver[] failerObservers = this.getFailerObservers();
+      IFailerObserver[] copy = Arrays.copyOf(failerObservers, failerObservers.length + 1);
+      copy[failerObservers.length] = failerObserver;
+      this.setFailerObservers(copy);
       result = registrationKey;
     }
 
@@ -541,30 +876,57 @@ public abstract class AFailer implements IFailer
       throw new IllegalArgumentException("registrationKey is null");
     }
     synchronized (this.getSynchronizationObject())
-    {
-      ArrayList<IFailerObserver> failerObservers = this.getFailerObservers();
-      if (!failerObservers.contains(failerObserver))
+    { // rare writes are serialized - fails read the snapshot without a lock
+      HashMap<IFailerObserver, Object> failerObserver2RegistrationKey = this
+          .getFailerObserver2RegistrationKey();
+      if (!failerObserver2RegistrationKey.containsKey(failerObserver))
       {
         throw new IllegalStateException("failerObserver " + failerObserver + " is NOT registered.");
       }
-      ArrayList<Object> registrationKeys = this.getFailerObserverRegistrationKeys();
-      if (!registrationKeys.contains(registrationKey))
+      HashMap<Object, IFailerObserver> registrationKey2FailerObserver = this
+          .getRegistrationKey2FailerObserver();
+      if (!registrationKey2FailerObserver.containsKey(registrationKey))
       {
         throw new IllegalStateException("registrationKey " + registrationKey
             + " is NOT registered.");
       }
-      boolean removed = failerObservers.remove(failerObserver);
-      if (!removed)
+      if (!registrationKey.equals(failerObserver2RegistrationKey.get(failerObserver)))
+      {
+        throw new IllegalStateException("registrationKey " + registrationKey
+            + " is NOT registered for failerObserver " + failerObserver + ".");
+      }
+      failerObserver2RegistrationKey.remove(failerObserver);
+      registrationKey2FailerObserver.remove(registrationKey);
+
+      IFailerObserver[] failerObservers = this.getFailerObservers();
+      IFailerObserver[] copy = new IFailerObserver[failerObservers.length - 1];
+      int copyIndex = 0;
+      for (IFailerObserver registeredFailerObserver : failerObservers)
       {
-        throw new RuntimeException("Unexpected problem - failerObserver " + failerObserver
-            + " could not be removed from list " + failerObservers + ".");
+        if (registeredFailerObserver != failerObserver
+            && !registeredFailerObserver.equals(failerObserver))
+        {
+          copy[copyIndex++] = registeredFailerObserver;
+        }
       }
-      removed = registrationKeys.remove(registrationKey);
-      if (!removed)
+      this.setFailerObservers(copy);
+    }
+  }
+
+  @Override
+  public void flushFailStorms()
+  {
+    FailStormPolicy failStormPolicy = this.getFailStormPolicyOrNull();
+    long nowNanos = System.nanoTime();
+    FailStormCounters failStormCounters = this.getFailStormCounters();
+    for (FailStormCounter failStormCounter : failStormCounters.getFailStormCounters())
+    {
+      if (null == failStormPolicy || failStormCounter.isIdle(failStormPolicy, nowNanos))
       {
-        throw new RuntimeException("Unexpected problem - registrationKey " + registrationKey
-            + " could not be removed from list " + registrationKeys + ".");
+        failStormCounters.removeFailStormCounter(failStormCounter);
       }
+      this.notifyFailStorm(failStormCounter.getFailStormKey(),
+          failStormCounter.takeSuppressedFails());
     }
   }
 
@@ -1092,63 +1454,17 @@ public abstract class AFailer implements IFailer
         });
   }
 
-  // OBJECT - END ---------------------------------
-
-  // OBJECTS - BEGIN ---------------------------------
-
-  @Override
-  public void failObjectsEquals(Object caller, String referenceAName, String referenceBName)
-  {
-    this.popContractWithCallerAndThrowException(caller, IObjectsEqualsFail.class, new Object[]
-    {
-        caller, referenceAName, referenceBName
-    });
-  }
-
-  @Override
-  public void failObjectsEquals(Object caller, String referenceAName, String referenceBName,
-      String message)
-  {
-    this.popContractWithCallerAndThrowException(caller, IObjectsEqualsFail.class, new Object[]
-    {
-        caller, referenceAName, referenceBName, message
-    });
-  }
-
-  @Override
-  public void failObjectsNotEquals(Object caller, String referenceAName, String referenceBName)
-  {
-    this.popContractWithCallerAndThrowException(caller, IObjectsNotEqualsFail.class, new Object[]
-    {
-        caller, referenceAName, referenceBName
-    });
-  }
-
-  @Override
-  public void failObjectsNotEquals(Object caller, String referenceAName, String referenceBName,
-      String message)
-  {
-    this.popContractWithCallerAndThrowException(caller, IObjectsNotEqualsFail.class, new Object[]
-    {
-        caller, referenceAName, referenceBName, message
-    });
-  }
-
-  // OBJECTS - END ---------------------------------
-
-  // OBJECTS - BOOLEAN - START -------------------------------
-
   /*
    * (non-Javadoc)
    * 
-   * @see
-   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanNotSameFail#failBooleanNotSame(java
-   * .lang.Object, java.lang.String, java.lang.String)
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionSetEqualsFail#
+   * failObjectCollectionSetEquals(java.lang.Object, java.lang.String, java.lang.String)
    */
   @Override
-  public void failBooleanNotSame(Object caller, String referenceAName, String referenceBName)
+  public void failObjectCollectionSetEquals(Object caller, String referenceAName,
+      String referenceBName)
   {
-    this.popContractWithCallerAndThrowException(caller, IObjectBooleanNotSameFail.class,
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionSetEqualsFail.class,
         new Object[]
         {
             caller, referenceAName, referenceBName
@@ -1158,15 +1474,15 @@ public abstract class AFailer implements IFailer
   /*
    * (non-Javadoc)
    * 
-   * @see
-   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanNotSameFail#failBooleanNotSame(java
-   * .lang.Object, java.lang.String, java.lang.String, java.lang.String)
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionSetEqualsFail#
+   * failObjectCollectionSetEquals(java.lang.Object, java.lang.String, java.lang.String,
+   * java.lang.String)
    */
   @Override
-  public void failBooleanNotSame(Object caller, String referenceAName, String referenceBName,
-      String message)
+  public void failObjectCollectionSetEquals(Object caller, String referenceAName,
+      String referenceBName, String message)
   {
-    this.popContractWithCallerAndThrowException(caller, IObjectBooleanNotSameFail.class,
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionSetEqualsFail.class,
         new Object[]
         {
             caller, referenceAName, referenceBName, message
@@ -1176,9 +1492,195 @@ public abstract class AFailer implements IFailer
   /*
    * (non-Javadoc)
    * 
-   * @see
-   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanSameFail#failBooleanSame(java.lang
-   * .Object, java.lang.String, java.lang.String)
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionSetNotEqualsFail#
+   * failObjectCollectionSetNotEquals(java.lang.Object, java.lang.String, java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionSetNotEquals(Object caller, String referenceAName,
+      String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionSetNotEqualsFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionSetNotEqualsFail#
+   * failObjectCollectionSetNotEquals(java.lang.Object, java.lang.String, java.lang.String,
+   * java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionSetNotEquals(Object caller, String referenceAName,
+      String referenceBName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionSetNotEqualsFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName, message
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionMultisetEqualsFail#
+   * failObjectCollectionMultisetEquals(java.lang.Object, java.lang.String, java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionMultisetEquals(Object caller, String referenceAName,
+      String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionMultisetEqualsFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionMultisetEqualsFail#
+   * failObjectCollectionMultisetEquals(java.lang.Object, java.lang.String, java.lang.String,
+   * java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionMultisetEquals(Object caller, String referenceAName,
+      String referenceBName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectCollectionMultisetEqualsFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName, message
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionMultisetNotEqualsFail#
+   * failObjectCollectionMultisetNotEquals(java.lang.Object, java.lang.String, java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionMultisetNotEquals(Object caller, String referenceAName,
+      String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IObjectCollectionMultisetNotEqualsFail.class, new Object[]
+        {
+            caller, referenceAName, referenceBName
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.objects.IObjectCollectionMultisetNotEqualsFail#
+   * failObjectCollectionMultisetNotEquals(java.lang.Object, java.lang.String, java.lang.String,
+   * java.lang.String)
+   */
+  @Override
+  public void failObjectCollectionMultisetNotEquals(Object caller, String referenceAName,
+      String referenceBName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IObjectCollectionMultisetNotEqualsFail.class, new Object[]
+        {
+            caller, referenceAName, referenceBName, message
+        });
+  }
+
+  // OBJECT - END ---------------------------------
+
+  // OBJECTS - BEGIN ---------------------------------
+
+  @Override
+  public void failObjectsEquals(Object caller, String referenceAName, String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectsEqualsFail.class, new Object[]
+    {
+        caller, referenceAName, referenceBName
+    });
+  }
+
+  @Override
+  public void failObjectsEquals(Object caller, String referenceAName, String referenceBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectsEqualsFail.class, new Object[]
+    {
+        caller, referenceAName, referenceBName, message
+    });
+  }
+
+  @Override
+  public void failObjectsNotEquals(Object caller, String referenceAName, String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectsNotEqualsFail.class, new Object[]
+    {
+        caller, referenceAName, referenceBName
+    });
+  }
+
+  @Override
+  public void failObjectsNotEquals(Object caller, String referenceAName, String referenceBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectsNotEqualsFail.class, new Object[]
+    {
+        caller, referenceAName, referenceBName, message
+    });
+  }
+
+  // OBJECTS - END ---------------------------------
+
+  // OBJECTS - BOOLEAN - START -------------------------------
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanNotSameFail#failBooleanNotSame(java
+   * .lang.Object, java.lang.String, java.lang.String)
+   */
+  @Override
+  public void failBooleanNotSame(Object caller, String referenceAName, String referenceBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectBooleanNotSameFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanNotSameFail#failBooleanNotSame(java
+   * .lang.Object, java.lang.String, java.lang.String, java.lang.String)
+   */
+  @Override
+  public void failBooleanNotSame(Object caller, String referenceAName, String referenceBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IObjectBooleanNotSameFail.class,
+        new Object[]
+        {
+            caller, referenceAName, referenceBName, message
+        });
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see
+   * starkcoder.failfast.fails.objects.booleans.IObjectBooleanSameFail#failBooleanSame(java.lang
+   * .Object, java.lang.String, java.lang.String)
    */
   @Override
   public void failBooleanSame(Object caller, String referenceAName, String referenceBName)
@@ -2989,11 +3491,7 @@ public abstract class AFailer implements IFailer
     this.popContractWithCallerAndThrowException(caller, IObjectExceptionFail.class, new Object[]
     {
         caller, referenceAName
-    }, new Object[]
-    {
-        this.getCallContractor().getContractWithCaller(caller).getCheckArguments()[1]
-    }
-    );
+    });
   }
 
   /* (non-Javadoc)
@@ -3006,9 +3504,6 @@ public abstract class AFailer implements IFailer
     this.popContractWithCallerAndThrowException(caller, IObjectExceptionFail.class, new Object[]
     {
         caller, referenceAName, message
-    }, new Object[]
-    {
-        this.getCallContractor().getContractWithCaller(caller).getCheckArguments()[1]
     });
   }  
   
@@ -5306,369 +5801,1665 @@ public abstract class AFailer implements IFailer
 
   // OBJECTS - UUID - END ---------------------------------
 
-  // // PRIMITIVES - BOOLEAN - START -------------------------------
-  //
-  //
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanNotEqualsFail
-  //  #failBooleanValueNotEquals(java.lang.Object, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueNotEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanNotEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  //
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanNotEqualsFail
-  // #failBooleanValueNotEquals(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueNotEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanNotEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanEqualsFail
-  // #failBooleanValueEquals(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanEqualsFail
-  // #failBooleanValueEquals(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanFalseFail
-  // #failBooleanValueFalse(java.lang.Object,
-  // java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueFalse(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanFalseFail.class, new Object[] { caller, valueAName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanFalseFail
-  // #failBooleanValueFalse(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueFalse(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanFalseFail.class, new Object[] { caller, valueAName, message
-  // });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanTrueFail
-  // #failBooleanValueTrue(java.lang.Object,
-  // java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueTrue(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanTrueFail.class, new Object[] { caller, valueAName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanTrueFail
-  // #failBooleanValueTrue(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failBooleanValueTrue(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanTrueFail.class, new Object[] { caller, valueAName, message
-  // });
-  // }
-  //
-  // @Override
-  // public void failBooleanValueDefault(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanDefaultFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failBooleanValueDefault(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanDefaultFail.class, new Object[] { caller, valueAName,
-  // message });
-  // }
-  // @Override
-  // public void failBooleanValueNotDefault(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanNotDefaultFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failBooleanValueNotDefault(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveBooleanNotDefaultFail.class, new Object[] { caller, valueAName,
-  // message });
-  // }
-  //
-  //
-  // // PRIMITIVES - BOOLEAN - END ---------------------------------
+  // PRIMITIVES - BOOLEAN - START ---------------------------------
 
-  // // PRIMITIVES - FLOAT - START -------------------------------
-  //
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsFail
-  // #failFloatValueEquals(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsFail
-  // #failFloatValueEquals(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsFail
-  // #failFloatValueNotEquals(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueNotEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsFail
-  // #failFloatValueNotEquals(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueNotEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // @Override
-  // public void failFloatValueDefault(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatDefaultFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failFloatValueDefault(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatDefaultFail.class, new Object[] { caller, valueAName, message
-  // });
-  // }
-  //
-  // @Override
-  // public void failFloatValueNotDefault(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotDefaultFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failFloatValueNotDefault(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotDefaultFail.class, new Object[] { caller, valueAName,
-  // message });
-  // }
-  //
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsAlmostFail
-  // #failFloatValueEqualsAlmost(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueEqualsAlmost(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatEqualsAlmostFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatEqualsAlmostFail
-  // #failFloatValueEqualsAlmost(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueEqualsAlmost(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatEqualsAlmostFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsAlmostFail
-  // #failFloatValueNotEqualsAlmost(java.lang.Object,
-  // java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueNotEqualsAlmost(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotEqualsAlmostFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // /* (non-Javadoc)
-  // * @see
-  // starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatNotEqualsAlmostFail
-  // #failFloatValueNotEqualsAlmost(java.lang.Object,
-  // java.lang.String, java.lang.String, java.lang.String)
-  // */
-  // @Override
-  // public void failFloatValueNotEqualsAlmost(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatNotEqualsAlmostFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  //
-  // @Override
-  // public void failFloatValueGreater(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatGreaterFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // @Override
-  // public void failFloatValueGreater(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatGreaterFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // @Override
-  // public void failFloatValueGreaterEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatGreaterEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // @Override
-  // public void failFloatValueGreaterEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatGreaterEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // @Override
-  // public void failFloatValueLess(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatLessFail.class, new Object[] { caller, valueAName, valueBName
-  // });
-  // }
-  // @Override
-  // public void failFloatValueLess(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatLessFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // @Override
-  // public void failFloatValueLessEquals(Object caller, String valueAName,
-  // String valueBName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatLessEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName });
-  // }
-  // @Override
-  // public void failFloatValueLessEquals(Object caller, String valueAName,
-  // String valueBName, String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatLessEqualsFail.class, new Object[] { caller, valueAName,
-  // valueBName, message });
-  // }
-  //
-  // @Override
-  // public void failFloatValueOutside(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatOutsideFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failFloatValueOutside(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatOutsideFail.class, new Object[] { caller, valueAName, message
-  // });
-  // }
-  //
-  // @Override
-  // public void failFloatValueWithin(Object caller, String valueAName)
-  // {
-  // this.Throw(caller, IPrimitiveFloatWithinFail.class, new Object[] { caller, valueAName });
-  // }
-  // @Override
-  // public void failFloatValueWithin(Object caller, String valueAName,
-  // String message)
-  // {
-  // this.Throw(caller, IPrimitiveFloatWithinFail.class, new Object[] { caller, valueAName, message
-  // });
-  // }
-  //
-  //
-  // // PRIMITIVES - FLOAT - END ---------------------------------
+  @Override
+  public void failBooleanValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failBooleanValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failBooleanValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failBooleanValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failBooleanValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failBooleanValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failBooleanValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failBooleanValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failBooleanValueTrue(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanTrueFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failBooleanValueTrue(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanTrueFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failBooleanValueFalse(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanFalseFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failBooleanValueFalse(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveBooleanFalseFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - BOOLEAN - END ---------------------------------
+
+  // PRIMITIVES - BYTE - START ---------------------------------
+
+  @Override
+  public void failByteValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteEqualsFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failByteValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteEqualsFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failByteValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failByteValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failByteValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failByteValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failByteValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failByteValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failByteValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failByteValueLess(Object caller, String valueAName, String valueBName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failByteValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failByteValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failByteValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failByteValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failByteValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failByteValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failByteValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteInsideFail.class, new Object[]
+    {
+        caller, valueAName
+    });
+  }
+
+  @Override
+  public void failByteValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveByteInsideFail.class, new Object[]
+    {
+        caller, valueAName, message
+    });
+  }
+
+  @Override
+  public void failByteValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failByteValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveByteOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - BYTE - END ---------------------------------
+
+  // PRIMITIVES - CHARACTER - START ---------------------------------
+
+  @Override
+  public void failCharacterValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failCharacterValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failCharacterValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterLessFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueLess(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterLessFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failCharacterValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterInsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failCharacterValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterInsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failCharacterValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failCharacterValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveCharacterOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - CHARACTER - END ---------------------------------
+
+  // PRIMITIVES - SHORT - START ---------------------------------
+
+  @Override
+  public void failShortValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failShortValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failShortValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failShortValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failShortValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failShortValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failShortValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failShortValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failShortValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveShortLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failShortValueLess(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveShortLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failShortValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failShortValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failShortValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failShortValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failShortValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failShortValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failShortValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortInsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failShortValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortInsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failShortValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failShortValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveShortOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - SHORT - END ---------------------------------
+
+  // PRIMITIVES - INTEGER - START ---------------------------------
+
+  @Override
+  public void failIntegerValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failIntegerValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failIntegerValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerLessFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueLess(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerLessFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failIntegerValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerInsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failIntegerValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerInsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failIntegerValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failIntegerValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveIntegerOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - INTEGER - END ---------------------------------
+
+  // PRIMITIVES - LONG - START ---------------------------------
+
+  @Override
+  public void failLongValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongEqualsFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failLongValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongEqualsFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failLongValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failLongValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failLongValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failLongValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failLongValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failLongValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failLongValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failLongValueLess(Object caller, String valueAName, String valueBName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failLongValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failLongValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failLongValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failLongValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failLongValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failLongValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failLongValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongInsideFail.class, new Object[]
+    {
+        caller, valueAName
+    });
+  }
+
+  @Override
+  public void failLongValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveLongInsideFail.class, new Object[]
+    {
+        caller, valueAName, message
+    });
+  }
+
+  @Override
+  public void failLongValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failLongValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveLongOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  // PRIMITIVES - LONG - END ---------------------------------
+
+  // PRIMITIVES - FLOAT - START ---------------------------------
+
+  @Override
+  public void failFloatValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failFloatValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failFloatValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveFloatLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failFloatValueLess(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveFloatLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failFloatValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatInsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failFloatValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatInsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failFloatValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueEqualsAlmost(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueEqualsAlmost(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failFloatValueNotEqualsAlmost(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failFloatValueNotEqualsAlmost(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveFloatNotEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  // PRIMITIVES - FLOAT - END ---------------------------------
+
+  // PRIMITIVES - DOUBLE - START ---------------------------------
+
+  @Override
+  public void failDoubleValueEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failDoubleValueDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotDefault(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotDefault(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotDefaultFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueLess(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveDoubleLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName
+    });
+  }
+
+  @Override
+  public void failDoubleValueLess(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller, IPrimitiveDoubleLessFail.class, new Object[]
+    {
+        caller, valueAName, valueBName, message
+    });
+  }
+
+  @Override
+  public void failDoubleValueLessOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueLessOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleLessOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueGreater(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueGreater(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleGreaterFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueGreaterOrEquals(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueGreaterOrEquals(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleGreaterOrEqualsFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueInside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleInsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failDoubleValueInside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleInsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueOutside(Object caller, String valueAName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleOutsideFail.class, new Object[]
+        {
+            caller, valueAName
+        });
+  }
+
+  @Override
+  public void failDoubleValueOutside(Object caller, String valueAName, String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleOutsideFail.class, new Object[]
+        {
+            caller, valueAName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueEqualsAlmost(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueEqualsAlmost(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotEqualsAlmost(Object caller, String valueAName, String valueBName)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName
+        });
+  }
+
+  @Override
+  public void failDoubleValueNotEqualsAlmost(Object caller, String valueAName, String valueBName,
+      String message)
+  {
+    this.popContractWithCallerAndThrowException(caller,
+        IPrimitiveDoubleNotEqualsAlmostFail.class, new Object[]
+        {
+            caller, valueAName, valueBName, message
+        });
+  }
+
+  // PRIMITIVES - DOUBLE - END ---------------------------------
 
   /**
    * Default constructor.
@@ -5712,11 +7503,21 @@ public abstract class AFailer implements IFailer
   {
     this.setSynchronizationObject(new Object());
     this.setFailSpecification2CustomFailExceptionType(
-        new HashMap<String, Class<? extends RuntimeException>>());
-    this.setFailSpecification2CustomFailMessageFormat(new HashMap<String, String>());
-    this.setFailSpecification2CustomFailMessageArguments(new HashMap<String, String>());
-    this.setFailerObservers(new ArrayList<IFailerObserver>());
-    this.setFailerObserverRegistrationKeys(new ArrayList<Object>());
+        new ConcurrentHashMap<String, Class<? extends RuntimeException>>());
+    this.setFailSpecification2CustomFailMessageFormat(new ConcurrentHashMap<String, String>());
+    this.setFailSpecification2CustomFailMessageArguments(new ConcurrentHashMap<String, String>());
+    this.setFailSpecification2CustomFailStackTracePolicy(
+        new ConcurrentHashMap<String, FailStackTracePolicy>());
+    this.failStackTracePolicy = FailStackTracePolicy.Always;
+    this.setFailStormCounters(new FailStormCounters());
+    this.setFailStormSweepNanos(new AtomicLong(System.nanoTime()));
+    this.setThreadId2FailFastException(new ConcurrentHashMap<Long, FailFastExceptionOfThread>());
+    this.failFastExceptionPerThreadCapacity = DefaultFailFastExceptionPerThreadCapacity;
+    this.setRecentFailFastExceptionRecords(new AtomicReferenceArray<FailFastExceptionRecord>(
+        DefaultRecentFailFastExceptionCapacity));
+    this.setFailerObservers(EmptyFailerObserverArray);
+    this.setFailerObserver2RegistrationKey(new HashMap<IFailerObserver, Object>());
+    this.setRegistrationKey2FailerObserver(new HashMap<Object, IFailerObserver>());
   }
   
   /**
@@ -5728,7 +7529,7 @@ public abstract class AFailer implements IFailer
 
   /*
    * Use this for synchronized sections that uses fields with states. <p> This is used for
-   * customization fields that could be managed from different threads. </p>
+   * observer fields that could be managed from different threads - not on the fail path. </p>
    */
   protected Object getSynchronizationObject()
   {
@@ -5743,45 +7544,91 @@ public abstract class AFailer implements IFailer
     this.synchronizationObject = synchronizationObject;
   }
 
-  private HashMap<String, Class<? extends RuntimeException>> 
-      failSpecification2CustomFailExceptionType;
+  private ConcurrentMap<String, Class<? extends RuntimeException>> 
+      failSpecification2CustomFailExceptionType;
+
+  protected ConcurrentMap<String, Class<? extends RuntimeException>> 
+      getFailSpecification2CustomFailExceptionType()
+  {
+    return failSpecification2CustomFailExceptionType;
+  }
+
+  protected void setFailSpecification2CustomFailExceptionType(
+      ConcurrentMap<String, Class<? extends RuntimeException>> 
+      failSpecification2CustomFailExceptionType)
+  {
+    this.failSpecification2CustomFailExceptionType = failSpecification2CustomFailExceptionType;
+  }
+
+  private ConcurrentMap<String, String> failSpecification2CustomMessageFormat;
+
+  protected ConcurrentMap<String, String> getFailSpecification2CustomFailMessageFormat()
+  {
+    return failSpecification2CustomMessageFormat;
+  }
+
+  protected void setFailSpecification2CustomFailMessageFormat(
+      ConcurrentMap<String, String> failSpecification2CustomMessageFormat)
+  {
+    this.failSpecification2CustomMessageFormat = failSpecification2CustomMessageFormat;
+  }
+
+  private ConcurrentMap<String, String> failSpecification2CustomMessageArguments;
+
+  protected ConcurrentMap<String, String> getFailSpecification2CustomFailMessageArguments()
+  {
+    return failSpecification2CustomMessageArguments;
+  }
+
+  protected void setFailSpecification2CustomFailMessageArguments(
+      ConcurrentMap<String, String> failSpecification2CustomMessageArguments)
+  {
+    this.failSpecification2CustomMessageArguments = failSpecification2CustomMessageArguments;
+  }
+
+  private ConcurrentMap<String, FailStackTracePolicy> failSpecification2CustomStackTracePolicy;
 
-  protected HashMap<String, Class<? extends RuntimeException>> 
-      getFailSpecification2CustomFailExceptionType()
+  protected ConcurrentMap<String, FailStackTracePolicy> 
+      getFailSpecification2CustomFailStackTracePolicy()
   {
-    return failSpecification2CustomFailExceptionType;
+    return failSpecification2CustomStackTracePolicy;
   }
 
-  protected void setFailSpecification2CustomFailExceptionType(
-      HashMap<String, Class<? extends RuntimeException>> failSpecification2CustomFailExceptionType)
+  protected void setFailSpecification2CustomFailStackTracePolicy(
+      ConcurrentMap<String, FailStackTracePolicy> failSpecification2CustomStackTracePolicy)
   {
-    this.failSpecification2CustomFailExceptionType = failSpecification2CustomFailExceptionType;
+    this.failSpecification2CustomStackTracePolicy = failSpecification2CustomStackTracePolicy;
   }
 
-  private HashMap<String, String> failSpecification2CustomMessageFormat;
+  private volatile FailStackTracePolicy failStackTracePolicy;
+
+  private volatile FailStormPolicy failStormPolicyOrNull;
+
+  private FailStormCounters failStormCounters;
 
-  protected HashMap<String, String> getFailSpecification2CustomFailMessageFormat()
+  protected FailStormCounters getFailStormCounters()
   {
-    return failSpecification2CustomMessageFormat;
+    return failStormCounters;
   }
 
-  protected void setFailSpecification2CustomFailMessageFormat(
-      HashMap<String, String> failSpecification2CustomMessageFormat)
+  protected void setFailStormCounters(FailStormCounters failStormCounters)
   {
-    this.failSpecification2CustomMessageFormat = failSpecification2CustomMessageFormat;
+    this.failStormCounters = failStormCounters;
   }
 
-  private HashMap<String, String> failSpecification2CustomMessageArguments;
+  private AtomicLong failStormSweepNanos;
 
-  protected HashMap<String, String> getFailSpecification2CustomFailMessageArguments()
+  /**
+   * Gets the time (System.nanoTime()) of the last sweep of the fail storm counters.
+   */
+  protected AtomicLong getFailStormSweepNanos()
   {
-    return failSpecification2CustomMessageArguments;
+    return failStormSweepNanos;
   }
 
-  protected void setFailSpecification2CustomFailMessageArguments(
-      HashMap<String, String> failSpecification2CustomMessageArguments)
+  protected void setFailStormSweepNanos(AtomicLong failStormSweepNanos)
   {
-    this.failSpecification2CustomMessageArguments = failSpecification2CustomMessageArguments;
+    this.failStormSweepNanos = failStormSweepNanos;
   }
 
   /**
@@ -5836,125 +7683,175 @@ public abstract class AFailer implements IFailer
       throw new IllegalArgumentException("caller is null");
     }
 
-    synchronized (this.getSynchronizationObject())
+    // no failer lock - the contract is confined to this thread and customizations are concurrent
+    NFail failAnnotation = this.lookupFailAnnotation(failerSpecificationType, failerArguments);
+    ICallContract callContract = this.popContractWithCaller(caller, failerSpecificationType);
+    this.throwFailException(failerSpecificationType, failAnnotation, callContract,
+        failerArguments, this.constructFailerExtraArguments(failerSpecificationType,
+            callContract, failerExtraArguments));
+  }
+
+  /**
+   * Call this after a check asserts - like
+   * {link:#popContractWithCallerAndThrowException(Object, Class, Object[], Object[])}, but returns
+   * the exception instead of throwing it.
+   * 
+   * @param caller
+   *          object calling checker and then failer
+   * @param failerSpecificationType
+   *          failer identification (interface)
+   * @param failerArguments
+   *          array with arguments of the fail method
+   * @param failerExtraArguments
+   *          array of extra arguments useful in failure message
+   * @return exception of the ended contract - never null
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null, or the failer specification has no fail method
+   *           taking the arguments
+   * @throws IllegalStateException
+   *           if CallContractor has not been set, or a previous push (per thread) is missing
+   */
+  protected RuntimeException popContractWithCallerAndReturnException(Object caller,
+      Class<? extends IFail> failerSpecificationType, Object[] failerArguments,
+      Object[] failerExtraArguments)
+  {
+    if (null == caller)
     {
-      NFail failAnnotation = this.lookupFailAnnotation(failerSpecificationType, failerArguments);
-      ICallContract callContract = this.popContractWithCaller(caller, failerSpecificationType);
-      // Object[] checkerArguments = entry.getKey();
-      // Object[] checkerExtraArguments = entry.getValue();
-      // String message = this.formatMessage(failerSpecificationType, failAnnotation,
-      // checkerArguments, failerArguments);
-      // String message = String.format(failAnnotation.failMessageFormat(), failerArguments);
-      // String message = this.constructFailMessage(failerSpecificationType, failAnnotation,
-      // checkerArguments, checkerExtraArguments, failerArguments, failerExtraArguments);
-  
-      Class<? extends RuntimeException> customExceptionOrNull = callContract
-          .getCustomFailExceptionTypeOrNull();
-      if (null == customExceptionOrNull)
-      {
-        customExceptionOrNull = failAnnotation.failExceptionType();
-      }
-  
-      RuntimeException exception = this.constructFailException(failerSpecificationType,
-          failAnnotation, callContract, failerArguments, failerExtraArguments);
-  
-      // notify any observers
-      ArrayList<IFailerObserver> failerObserversOrNull = this.cloneFailerObserversOrNull();
-      if (null != failerObserversOrNull)
+      throw new IllegalArgumentException("caller is null");
+    }
+
+    NFail failAnnotation = this.lookupFailAnnotation(failerSpecificationType, failerArguments);
+    ICallContract callContract = this.popContractWithCaller(caller, failerSpecificationType);
+    return this.constructAndPublishFailException(failerSpecificationType, failAnnotation,
+        callContract, failerArguments, this.constructFailerExtraArguments(
+            failerSpecificationType, callContract, failerExtraArguments));
+  }
+
+  /**
+   * Adds the extra arguments a fail specification takes from the ended contract - shared by the
+   * throwing and the returning fails, so they construct the same exception.
+   * <p>
+   * An {link:IObjectExceptionFail} nests the checked exception (the first check argument after
+   * the caller) as the cause.
+   * </p>
+   * 
+   * @param failerSpecificationType
+   *          failer identification (interface)
+   * @param callContract
+   *          the popped contract
+   * @param failerExtraArguments
+   *          array of extra arguments given by the fail method
+   * @return extra arguments to construct the exception with
+   */
+  protected Object[] constructFailerExtraArguments(Class<? extends IFail> failerSpecificationType,
+      ICallContract callContract, Object[] failerExtraArguments)
+  {
+    Object[] result = failerExtraArguments;
+    if (IObjectExceptionFail.class.equals(failerSpecificationType)
+        && 0 == failerExtraArguments.length)
+    {
+      result = new Object[]
       {
-        for (IFailerObserver failerObserver : failerObserversOrNull)
-        {
-          failerObserver.notifyExceptionBeforeThrow(this, callContract, exception);
-        }
-      }
-  
-      { // remember the exception and throw it
-        if (exception instanceof IFailFastException && null == this.getFailFastExceptionOrNull())
-        { // remember first exception
-          this.setFailFastExceptionOrNull((IFailFastException) exception);
-        }
-        throw exception;
-      }
+          callContract.getCheckArguments()[1]
+      };
     }
+    return result;
   }
 
-  protected NFail lookupFailAnnotation(Class<?> failSpecificationType,
-      Object[] messageFormatArguments)
+  /**
+   * Constructs the exception of an ended contract, notifies observers and throws it.
+   * 
+   * @param failerSpecificationType
+   *          failer identification (interface)
+   * @param failAnnotation
+   *          annotation of the called fail method
+   * @param callContract
+   *          the popped contract
+   * @param failerArguments
+   *          array with arguments of called fail method
+   * @param failerExtraArguments
+   *          array of extra arguments useful in failure message
+   */
+  protected void throwFailException(Class<? extends IFail> failerSpecificationType,
+      NFail failAnnotation, ICallContract callContract, Object[] failerArguments,
+      Object[] failerExtraArguments)
   {
-    NFail result = null;
+    // Object[] checkerArguments = entry.getKey();
+    // Object[] checkerExtraArguments = entry.getValue();
+    // String message = this.formatMessage(failerSpecificationType, failAnnotation,
+    // checkerArguments, failerArguments);
+    // String message = String.format(failAnnotation.failMessageFormat(), failerArguments);
+    // String message = this.constructFailMessage(failerSpecificationType, failAnnotation,
+    // checkerArguments, checkerExtraArguments, failerArguments, failerExtraArguments);
 
-    Method[] methodInfos = failSpecificationType.getDeclaredMethods();
-    if (methodInfos.length <= 0)
+    Class<? extends RuntimeException> customExceptionOrNull = callContract
+        .getCustomFailExceptionTypeOrNull();
+    if (null == customExceptionOrNull)
     {
-      throw new IllegalArgumentException(failSpecificationType + " contains no methods");
+      customExceptionOrNull = failAnnotation.failExceptionType();
     }
 
-    Method methodInfo = null;
-    {
-      for (int index = 0; index < methodInfos.length; ++index)
+    RuntimeException exception = this.constructAndPublishFailException(failerSpecificationType,
+        failAnnotation, callContract, failerArguments, failerExtraArguments);
+    throw exception;
+  }
+
+  /**
+   * Constructs the exception of an ended contract, notifies observers and remembers it (if it is
+   * the first fail-fast exception).
+   * 
+   * @param failerSpecificationType
+   *          failer identification (interface)
+   * @param failAnnotation
+   *          annotation of the called fail method
+   * @param callContract
+   *          the popped contract
+   * @param failerArguments
+   *          array with arguments of called fail method
+   * @param failerExtraArguments
+   *          array of extra arguments useful in failure message
+   * @return exception to throw (or return)
+   */
+  protected RuntimeException constructAndPublishFailException(
+      Class<? extends IFail> failerSpecificationType, NFail failAnnotation,
+      ICallContract callContract, Object[] failerArguments, Object[] failerExtraArguments)
+  {
+    boolean suppressed = false;
+    FailStormPolicy failStormPolicy = this.getFailStormPolicyOrNull();
+    if (null != failStormPolicy)
+    { // count the fail - beyond the rate it gets reduced detail and no notification
+      suppressed = this.countFailInFailStorm(failStormPolicy, failAnnotation, callContract);
+    }
+
+    RuntimeException exception = this.constructFailException(failerSpecificationType,
+        failAnnotation, callContract, failerArguments, failerExtraArguments, suppressed);
+
+    if (!suppressed)
+    { // notify any observers - the snapshot is never modified, so no copy is needed
+      IFailerObserver[] failerObservers = this.getFailerObservers();
+      for (int index = 0; index < failerObservers.length; ++index)
       {
-        methodInfo = methodInfos[index];
-        Class<?>[] parameterTypes = methodInfo.getParameterTypes();
-        // arguments + caller
-        if (messageFormatArguments.length == parameterTypes.length)
-        {
-          boolean allParametersHaveMatchingType = true;
-          for (int j = 0; j < parameterTypes.length; ++j)
-          {
-            Class<?> parameterInfo = parameterTypes[j];
-            Object messageFormatArgument = messageFormatArguments[j];
-            Class<?> argumentType = (null == messageFormatArgument ? null : messageFormatArgument
-                .getClass());
-            if (null == argumentType || !parameterInfo.isAssignableFrom(argumentType))
-            {
-              if (parameterInfo.isPrimitive())
-              {
-                if (!argumentType.getSimpleName().equalsIgnoreCase(parameterInfo.getSimpleName()))
-                {
-                  allParametersHaveMatchingType = false;
-                  break;
-                }
-              }
-              else if (null == messageFormatArgument)
-              { // null matches all Object type parameters
-
-              }
-              else
-              {
-                allParametersHaveMatchingType = false;
-                break;
-              }
-            }
-          }
-          if (allParametersHaveMatchingType)
-          {
-            break;
-          }
-        }
-        else
-        {
-          methodInfo = null;
-        }
+        failerObservers[index].notifyExceptionBeforeThrow(this, callContract, exception);
       }
     }
 
-    if (null == methodInfo)
-    {
-      throw new IllegalArgumentException(failSpecificationType + " contains no method with "
-          + messageFormatArguments.length + " arguments with appropriate types");
-    }
-    else
-    {
-      NFail failAnnotation = methodInfo.getAnnotation(NFail.class);
-      if (null == failAnnotation)
-      {
-        throw new IllegalArgumentException(failSpecificationType + "." + methodInfo.getName()
-            + " is not annotated with a NFail annotaiton");
+    if (exception instanceof IFailFastException)
+    { // remember first exception - lock-free, the first of racing fails wins
+      IFailFastException failFastException = (IFailFastException) exception;
+      if (null == this.getFailFastExceptionOrNull())
+      { // read before the compare-and-set - keeps the cache line shared once latched
+        this.compareAndSetFailFastExceptionOrNull(null, failFastException);
       }
-      result = failAnnotation;
+      this.recordFailFastException(failFastException);
     }
+    return exception;
+  }
 
-    return result;
+  protected NFail lookupFailAnnotation(Class<?> failSpecificationType,
+      Object[] messageFormatArguments)
+  {
+    // reflected once per fail specification
+    return SFailSpecifications.lookupFailAnnotation(failSpecificationType, messageFormatArguments);
   }
 
   protected ICallContract popContractWithCaller(Object caller,
@@ -5979,134 +7876,92 @@ public abstract class AFailer implements IFailer
   {
     String result = null;
 
+    Object[] messageArgumentObjects = this.constructFailMessageArgumentObjects(
+        failerSpecificationType, failAnnotation, failMessageArguments, callContract,
+        failerUserArguments, failerExtraArguments);
+
+    { // format arguments into string
+      // compiled once per message format
+      String message = SFailMessagePlans.lookupFailMessageTemplate(failMessageFormat).render(
+          messageArgumentObjects);
+      if (null != callContract.getCustomFailMessagePostfixOrNull())
+      {
+        message += callContract.getCustomFailMessagePostfixOrNull();
+      }
+      result = message;
+    }
+
+    return result;
+  }
+
+  /**
+   * Picks the message arguments from the checker and failer arguments.
+   * 
+   * @return message arguments in the order of the message format
+   * @throws IllegalArgumentException
+   *           if the message arguments are malformed or index beyond the arguments
+   */
+  protected Object[] constructFailMessageArgumentObjects(
+      Class<? extends IFail> failerSpecificationType, NFail failAnnotation,
+      String failMessageArguments, ICallContract callContract, Object[] failerUserArguments,
+      Object[] failerExtraArguments)
+  {
     Object[] checkerUserArguments = callContract.getCheckArguments();
     Object[] checkerExtraArguments = callContract.getCheckExtraArguments();
     Object[] messageArgumentObjects = null;
     { // build arguments
-      String[] messageArguments = failMessageArguments.split(",");
-      messageArgumentObjects = new Object[messageArguments.length];
-      for (int index = 0; index < messageArguments.length; ++index)
+      FailMessagePlan failMessagePlan = null;
+      try
+      { // compiled once per message arguments
+        failMessagePlan = SFailMessagePlans.lookupFailMessagePlan(failMessageArguments);
+      }
+      catch (IllegalArgumentException illegalArgumentException)
+      {
+        throw new IllegalArgumentException(failerSpecificationType + " has annotation "
+            + failAnnotation + " with failMessageArguments ' with "
+            + illegalArgumentException.getMessage());
+      }
+      messageArgumentObjects = new Object[failMessagePlan.getSlotCount()];
+      for (int index = 0; index < messageArgumentObjects.length; ++index)
       {
-        String messageArgument = messageArguments[index].trim();
-        String messageArgumentLower = messageArgument.toLowerCase(Locale.US);
-        if (messageArgumentLower.length() < 3)
+        Object[] argumentsReference = null;
+        switch (failMessagePlan.getSource(index))
         {
-          throw new IllegalArgumentException(failerSpecificationType + " has annotation "
-              + failAnnotation + " with failMessageArguments ' with illegal entry '"
-              + messageArguments[index] + "' (arg#" + index + ")");
-        }
-        boolean isCheckerUserArgument = false;
-        boolean isCheckerExtraArgument = false;
-        boolean isFailerUserArgument = false;
-        boolean isFailerExtraArgument = false;
-        {
-          char c0 = messageArgumentLower.charAt(0);
-          char c1 = messageArgumentLower.charAt(1);
-          switch (c0)
+          case FailMessagePlan.SourceCheckerUserArguments:
           {
-            case 'c':
-            {
-              switch (c1)
-              {
-                case 'u':
-                {
-                  isCheckerUserArgument = true;
-                }
-                  break;
-                case 'x':
-                {
-                  isCheckerExtraArgument = true;
-                }
-                  break;
-                default:
-                {
-                  throw new IllegalArgumentException(failerSpecificationType + " has annotation "
-                      + failAnnotation + " with failMessageArguments ' with illegal entry '"
-                      + messageArguments[index] + "' (arg#" + index + "). Symbol '" + c1
-                      + "' was unexpected.");
-                }
-              }
-            }
-              break;
-            case 'f':
-            {
-              switch (c1)
-              {
-                case 'u':
-                {
-                  isFailerUserArgument = true;
-                }
-                  break;
-                case 'x':
-                {
-                  isFailerExtraArgument = true;
-                }
-                  break;
-                default:
-                {
-                  throw new IllegalArgumentException(failerSpecificationType + " has annotation "
-                      + failAnnotation + " with failMessageArguments ' with illegal entry '"
-                      + messageArguments[index] + "' (arg#" + index + "). Symbol '" + c1
-                      + "' was unexpected.");
-                }
-              }
-            }
-              break;
-            default:
-            {
-              throw new IllegalArgumentException(failerSpecificationType + " has annotation "
-                  + failAnnotation + " with failMessageArguments ' with illegal entry '"
-                  + messageArguments[index] + "' (arg#" + index + "). Symbol '" + c0
-                  + "' was unexpected.");
-            }
+            argumentsReference = checkerUserArguments;
           }
-        }
-
-        int argumentIndex = -1;
-        {
-          String argumentIndexString = messageArgumentLower.substring(2);
-          try
+            break;
+          case FailMessagePlan.SourceCheckerExtraArguments:
           {
-            argumentIndex = Integer.parseInt(argumentIndexString);
+            argumentsReference = checkerExtraArguments;
           }
-          catch (NumberFormatException e)
+            break;
+          case FailMessagePlan.SourceFailerUserArguments:
           {
-            throw new IllegalArgumentException(failerSpecificationType + " has annotation "
-                + failAnnotation + " with failMessageArguments ' with illegal entry '"
-                + messageArguments[index] + "' (arg#" + index + "). Postfix '"
-                + argumentIndexString + "' could not be parsed as an integer.");
+            argumentsReference = failerUserArguments;
+          }
+            break;
+          case FailMessagePlan.SourceFailerExtraArguments:
+          {
+            argumentsReference = failerExtraArguments;
+          }
+            break;
+          default:
+          {
+            throw new IllegalStateException(failerSpecificationType + " has annotation "
+                + failAnnotation + " with failMessageArguments ' with entry '"
+                + failMessagePlan.getEntry(index) + "' (arg#" + index
+                + ") causing unexpected problems.");
           }
         }
 
-        Object[] argumentsReference = null;
-        if (isCheckerUserArgument)
-        {
-          argumentsReference = checkerUserArguments;
-        }
-        else if (isCheckerExtraArgument)
-        {
-          argumentsReference = checkerExtraArguments;
-        }
-        else if (isFailerUserArgument)
-        {
-          argumentsReference = failerUserArguments;
-        }
-        else if (isFailerExtraArgument)
-        {
-          argumentsReference = failerExtraArguments;
-        }
-        else
-        {
-          throw new IllegalStateException(failerSpecificationType + " has annotation "
-              + failAnnotation + " with failMessageArguments ' with entry '"
-              + messageArguments[index] + "' (arg#" + index + ") causing unexpected problems.");
-        }
-
+        int argumentIndex = failMessagePlan.getIndex(index);
         if (argumentsReference.length <= argumentIndex)
         {
           throw new IllegalArgumentException(failerSpecificationType + " has annotation "
               + failAnnotation + " with failMessageArguments ' with entry '"
-              + messageArguments[index] + "' (arg#" + index
+              + failMessagePlan.getEntry(index) + "' (arg#" + index
               + ") that tries to index arguments array with length " + argumentsReference.length
               + ".");
         }
@@ -6117,22 +7972,65 @@ public abstract class AFailer implements IFailer
         }
       }
     }
+    return messageArgumentObjects;
+  }
 
-    { // format arguments into string
-      String message = String.format(failMessageFormat, messageArgumentObjects);
-      if (null != callContract.getCustomFailMessagePostfixOrNull())
+  /**
+   * Replaces message arguments that may change before a deferred message is assembled with their
+   * string representation - so the message is the same as if rendered at the fail.
+   * <p>
+   * Strings, boxed primitives and classes are kept, since they do not change. Calling
+   * String.valueOf on the other arguments is done at the fail, so a deferred message only saves
+   * assembling the message from its template.
+   * </p>
+   * 
+   * @param messageArgumentObjects
+   *          picked message arguments - replaced in place
+   * @return false, if an argument is Formattable (String.format renders it - render at the fail)
+   */
+  protected boolean captureFailMessageArgumentObjects(Object[] messageArgumentObjects)
+  {
+    boolean result = true;
+    for (int index = 0; result && index < messageArgumentObjects.length; ++index)
+    {
+      Object argument = messageArgumentObjects[index];
+      if (argument instanceof Formattable)
       {
-        message += callContract.getCustomFailMessagePostfixOrNull();
+        result = false;
+      }
+      else if (!isImmutableFailMessageArgument(argument))
+      {
+        messageArgumentObjects[index] = String.valueOf(argument);
       }
-      result = message;
     }
-
     return result;
   }
 
+  private static boolean isImmutableFailMessageArgument(Object argument)
+  {
+    return null == argument || argument instanceof String || argument instanceof Integer
+        || argument instanceof Long || argument instanceof Double || argument instanceof Float
+        || argument instanceof Short || argument instanceof Byte || argument instanceof Character
+        || argument instanceof Boolean || argument instanceof Class;
+  }
+
   protected RuntimeException constructFailException(Class<? extends IFail> failerSpecificationType,
       NFail failAnnotation, ICallContract callContract, Object[] failerUserArguments,
       Object[] failerExtraArguments)
+  {
+    return this.constructFailException(failerSpecificationType, failAnnotation, callContract,
+        failerUserArguments, failerExtraArguments, false);
+  }
+
+  /**
+   * Constructs the exception of an ended contract.
+   * 
+   * @param reducedDetail
+   *          true, if the exception should not get a stack trace (e.g. in a fail storm)
+   */
+  protected RuntimeException constructFailException(Class<? extends IFail> failerSpecificationType,
+      NFail failAnnotation, ICallContract callContract, Object[] failerUserArguments,
+      Object[] failerExtraArguments, boolean reducedDetail)
   {
     RuntimeException exception = null;
 
@@ -6149,21 +8047,18 @@ public abstract class AFailer implements IFailer
       }
     }
 
-    // fetch format and arguments for exception message and produce it
+    // the factory of the exception type - resolved once per type
+    FailExceptionFactory failExceptionFactory = SFailExceptionFactories
+        .lookupFailExceptionFactory(exceptionType);
+
+    // fetch format and arguments for exception message and produce it (now or deferred)
     String message = null;
+    FailMessageTemplate deferredFailMessageTemplateOrNull = null;
+    Object[] deferredFailMessageArgumentObjects = null;
     String failMessageFormat = null;
     String failMessageArguments = null;
     {
-      failMessageFormat = callContract.getCustomFailMessageFormatOrNull();
-      if (null == failMessageFormat)
-      { // no contract custom message format => check failer customization
-        failMessageFormat = this.getFailSpecification2CustomFailMessageFormat().get(
-            failAnnotation.failerSpecificationAndMethodId());
-        if (null == failMessageFormat)
-        { // no failer custom message format => use default
-          failMessageFormat = failAnnotation.failMessageFormat();
-        }
-      }
+      failMessageFormat = this.resolveFailMessageFormat(failAnnotation, callContract);
       failMessageArguments = callContract.getCustomFailMessageArgumentsOrNull();
       if (null == failMessageArguments)
       { // no contract custom message arguments => check failer customization
@@ -6174,9 +8069,26 @@ public abstract class AFailer implements IFailer
           failMessageArguments = failAnnotation.failMessageArguments();
         }
       }
-      message = this.constructFailMessage(failerSpecificationType, failAnnotation,
-          failMessageFormat, failMessageArguments, callContract, failerUserArguments,
-          failerExtraArguments);
+      FailMessageTemplate failMessageTemplate = SFailMessagePlans
+          .lookupFailMessageTemplate(failMessageFormat);
+      if (failMessageTemplate.isCompiled() && failExceptionFactory.isMessageDeferrable())
+      { // pick and stringify arguments now (reports malformed arguments at the fail) - assemble
+        // the message on first read
+        deferredFailMessageArgumentObjects = this.constructFailMessageArgumentObjects(
+            failerSpecificationType, failAnnotation, failMessageArguments, callContract,
+            failerUserArguments, failerExtraArguments);
+        if (failMessageTemplate.getArgumentCount() <= deferredFailMessageArgumentObjects.length
+            && this.captureFailMessageArgumentObjects(deferredFailMessageArgumentObjects))
+        {
+          deferredFailMessageTemplateOrNull = failMessageTemplate;
+        }
+      }
+      if (null == deferredFailMessageTemplateOrNull)
+      { // render now - String.format may report problems with the format
+        message = this.constructFailMessage(failerSpecificationType, failAnnotation,
+            failMessageFormat, failMessageArguments, callContract, failerUserArguments,
+            failerExtraArguments);
+      }
     }
 
     Throwable innerCauseOrNull = null;
@@ -6188,97 +8100,182 @@ public abstract class AFailer implements IFailer
         innerCauseOrNull = (Throwable) failerExtraArgument;
       }
     }
-    // find concrete exception constructor taking message
-    Constructor<? extends RuntimeException> constructor;
-    try
-    {
-      if (null == innerCauseOrNull)
-      {
-        constructor = exceptionType.getConstructor(String.class);
-      }
-      else
-      {
-        constructor = exceptionType.getConstructor(String.class, Throwable.class);
+    // fetch stack trace policy to use
+    FailStackTracePolicy failStackTracePolicy = callContract
+        .getCustomFailStackTracePolicyOrNull();
+    if (null == failStackTracePolicy)
+    { // no callcontract customization => check failer customization
+      failStackTracePolicy = this.getFailSpecification2CustomFailStackTracePolicy().get(
+          failAnnotation.failerSpecificationAndMethodId());
+      if (null == failStackTracePolicy)
+      { // no failer customization => use default of this
+        failStackTracePolicy = this.getFailStackTracePolicy();
       }
     }
-    catch (NoSuchMethodException | SecurityException e)
+
+    // construct exception with the factory of the exception type
+    exception = failExceptionFactory.construct(message, innerCauseOrNull, !reducedDetail
+        && failStackTracePolicy.isFillingInStackTrace());
+    if (null != deferredFailMessageTemplateOrNull)
     {
-      throw new IllegalArgumentException("Could not fetch a constructor from '" + exceptionType
-          + "' with a single String argument", e);
+      ((AFailFastException) exception).deferFailMessage(deferredFailMessageTemplateOrNull,
+          deferredFailMessageArgumentObjects, callContract.getCustomFailMessagePostfixOrNull());
+    }
+    if (exception instanceof IFailFastException)
+    { // handy to remember production circumstances, if a failfast exception
+      IFailFastException failFastException = (IFailFastException) exception;
+      failFastException.setCheckerSpecificationType(failAnnotation.checkerSpecificationType());
+      failFastException.setCheckerUserArguments(callContract.getCheckArguments());
+      failFastException.setCheckerExtraArguments(callContract.getCheckExtraArguments());
+      failFastException.setFailerSpecificationType(failerSpecificationType);
+      failFastException.setFailerUserArguments(failerUserArguments);
+      failFastException.setFailerExtraArguments(failerExtraArguments);
+      failFastException.setFailMessageFormat(failMessageFormat);
+      failFastException.setFailerMessageArguments(failMessageArguments);
     }
 
-    // construct exception with concrete constructor
-    try
-    {
-      if (null == innerCauseOrNull)
-      {
-        exception = constructor.newInstance(message);
+    return exception;
+  }
+
+  /**
+   * Resolves the message format - from the contract, the failer customization or the annotation.
+   */
+  protected String resolveFailMessageFormat(NFail failAnnotation, ICallContract callContract)
+  {
+    String result = callContract.getCustomFailMessageFormatOrNull();
+    if (null == result)
+    { // no contract custom message format => check failer customization
+      result = this.getFailSpecification2CustomFailMessageFormat().get(
+          failAnnotation.failerSpecificationAndMethodId());
+      if (null == result)
+      { // no failer custom message format => use default
+        result = failAnnotation.failMessageFormat();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Counts a fail with its {link:FailStormKey} and notifies fails suppressed in an expired window.
+   * 
+   * @return true, if the fail is suppressed (reduced detail and no notification)
+   */
+  protected boolean countFailInFailStorm(FailStormPolicy failStormPolicy, NFail failAnnotation,
+      ICallContract callContract)
+  {
+    long nowNanos = System.nanoTime();
+    this.sweepFailStorms(failStormPolicy, nowNanos);
+    FailStormCounter failStormCounter = this.getFailStormCounters().getFailStormCounter(
+        failAnnotation.failerSpecificationAndMethodId(), callContract.getCaller().getClass(),
+        this.resolveFailMessageFormat(failAnnotation, callContract), nowNanos);
+    this.notifyFailStorm(failStormCounter.getFailStormKey(),
+        failStormCounter.rollWindow(failStormPolicy, nowNanos));
+    return failStormCounter.countFail(failStormPolicy);
+  }
+
+  /**
+   * Once per window, notifies fails suppressed in expired windows of all fail storm counters and
+   * removes the counters without fails in a whole window.
+   * <p>
+   * Without this, the fails suppressed in the last window of a key were only notified by the next
+   * fail of the same key, and counters of keys that never fail again (e.g. of a custom message
+   * format) were kept forever.
+   * </p>
+   */
+  protected void sweepFailStorms(FailStormPolicy failStormPolicy, long nowNanos)
+  {
+    AtomicLong failStormSweepNanos = this.getFailStormSweepNanos();
+    long sweepNanos = failStormSweepNanos.get();
+    if (nowNanos - sweepNanos < failStormPolicy.getWindowNanos()
+        || !failStormSweepNanos.compareAndSet(sweepNanos, nowNanos))
+    { // swept in this window or another thread sweeps
+      return;
+    }
+    FailStormCounters failStormCounters = this.getFailStormCounters();
+    for (FailStormCounter failStormCounter : failStormCounters.getFailStormCounters())
+    {
+      if (failStormCounter.isIdle(failStormPolicy, nowNanos))
+      { // a racing fail may still count in the removed counter - it is notified below
+        failStormCounters.removeFailStormCounter(failStormCounter);
+        this.notifyFailStorm(failStormCounter.getFailStormKey(),
+            failStormCounter.takeSuppressedFails());
       }
       else
       {
-        exception = constructor.newInstance(message, innerCauseOrNull);
-      }
-      if (exception instanceof IFailFastException)
-      { // handy to remember production circumstances, if a failfast exception
-        IFailFastException failFastException = (IFailFastException) exception;
-        failFastException.setCheckerSpecificationType(failAnnotation.checkerSpecificationType());
-        failFastException.setCheckerUserArguments(callContract.getCheckArguments());
-        failFastException.setCheckerExtraArguments(callContract.getCheckExtraArguments());
-        failFastException.setFailerSpecificationType(failerSpecificationType);
-        failFastException.setFailerUserArguments(failerUserArguments);
-        failFastException.setFailerExtraArguments(failerExtraArguments);
-        failFastException.setFailMessageFormat(failMessageFormat);
-        failFastException.setFailerMessageArguments(failMessageArguments);
+        this.notifyFailStorm(failStormCounter.getFailStormKey(),
+            failStormCounter.rollWindow(failStormPolicy, nowNanos));
       }
     }
-    catch (InstantiationException | IllegalAccessException | IllegalArgumentException
-        | InvocationTargetException e)
+  }
+
+  /**
+   * Notifies {link:IFailerStormObserver}'s of suppressed fails, if any.
+   */
+  protected void notifyFailStorm(FailStormKey failStormKey, long numberOfSuppressedFails)
+  {
+    if (0 < numberOfSuppressedFails)
     {
-      throw new IllegalArgumentException("Could not invoke constructor of '" + exceptionType + "'",
-          e);
+      IFailerObserver[] failerObservers = this.getFailerObservers();
+      for (int index = 0; index < failerObservers.length; ++index)
+      {
+        if (failerObservers[index] instanceof IFailerStormObserver)
+        {
+          ((IFailerStormObserver) failerObservers[index]).notifyFailStorm(this, failStormKey,
+              numberOfSuppressedFails);
+        }
+      }
     }
-
-    return exception;
   }
 
-  private ArrayList<IFailerObserver> failerObservers;
+  /**
+   * Empty observer snapshot used when no observers are registered.
+   */
+  protected static final IFailerObserver[] EmptyFailerObserverArray = new IFailerObserver[] {};
+
+  private volatile IFailerObserver[] failerObservers;
 
-  protected ArrayList<IFailerObserver> getFailerObservers()
+  /**
+   * Snapshot of registered observers.
+   * <p>
+   * The array is replaced (copy-on-write) on registration changes - never modified - so it can be
+   * iterated without a lock or a copy.
+   * </p>
+   * 
+   * @return registered observers - never null
+   */
+  protected IFailerObserver[] getFailerObservers()
   {
-    return failerObservers;
+    return this.failerObservers;
   }
 
-  protected void setFailerObservers(ArrayList<IFailerObserver> failerObservers)
+  protected void setFailerObservers(IFailerObserver[] failerObservers)
   {
     this.failerObservers = failerObservers;
   }
 
-  protected ArrayList<IFailerObserver> cloneFailerObserversOrNull()
-  {
-    ArrayList<IFailerObserver> result = null;
+  private HashMap<IFailerObserver, Object> failerObserver2RegistrationKey;
 
-    synchronized (this.getSynchronizationObject())
-    {
-      ArrayList<IFailerObserver> failerObservers = this.getFailerObservers();
-      if (0 < failerObservers.size())
-      {
-        ArrayList<IFailerObserver> clone = new ArrayList<IFailerObserver>(failerObservers);
-        result = clone;
-      }
-    }
+  protected HashMap<IFailerObserver, Object> getFailerObserver2RegistrationKey()
+  {
+    return this.failerObserver2RegistrationKey;
+  }
 
-    return result;
+  protected void setFailerObserver2RegistrationKey(
+      HashMap<IFailerObserver, Object> failerObserver2RegistrationKey)
+  {
+    this.failerObserver2RegistrationKey = failerObserver2RegistrationKey;
   }
 
-  private ArrayList<Object> failerObserverRegistrationKeys;
+  private HashMap<Object, IFailerObserver> registrationKey2FailerObserver;
 
-  protected ArrayList<Object> getFailerObserverRegistrationKeys()
+  protected HashMap<Object, IFailerObserver> getRegistrationKey2FailerObserver()
   {
-    return failerObserverRegistrationKeys;
+    return this.registrationKey2FailerObserver;
   }
 
-  protected void setFailerObserverRegistrationKeys(ArrayList<Object> failerObserverRegistrationKeys)
+  protected void setRegistrationKey2FailerObserver(
+      HashMap<Object, IFailerObserver> registrationKey2FailerObserver)
   {
-    this.failerObserverRegistrationKeys = failerObserverRegistrationKeys;
+    this.registrationKey2FailerObserver = registrationKey2FailerObserver;
   }
 }
@@ -0,0 +1,812 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import starkcoder.failfast.contractors.contracts.CallContract;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+
+/**
+ * Observer dispatching fail notifications to observers on consumer threads.
+ * <p>
+ * Register this with {link:IFailerPublisher#registerFailerObserver(IFailerObserver)} and add
+ * asynchronous observers with {link:#addFailerObserver(IFailerObserver)}. The failing thread only
+ * copies the notification into a bounded ring buffer of preallocated events - a slow observer (e.g.
+ * writing to disk) then stalls a consumer thread instead of the failing threads.
+ * </p>
+ * <p>
+ * Failing threads claim a slot with a compare-and-set on the tail sequence and publish it with the
+ * sequence of the slot, so concurrent fails do not serialize on a lock. A lock is only taken to
+ * wake waiting consumers, or to wait for a free slot with {link:OverflowPolicy#Block}.
+ * </p>
+ * <p>
+ * Asynchronous observers are notified after the exception has been thrown. They receive a copy of
+ * the contract and should not modify the exception. Observers that must modify the exception
+ * before it is thrown should be registered directly with the failer (synchronous).
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class AsyncFailerObserverDispatcher implements IFailerObserver
+{
+
+  /**
+   * What to do with a notification when the ring buffer is full.
+   */
+  public enum OverflowPolicy
+  {
+    /**
+     * Discard the notification.
+     */
+    Drop,
+
+    /**
+     * Discard the notification and count it - see {link:#getOverflowEventCount()}.
+     */
+    Count,
+
+    /**
+     * Let the failing thread wait for a free slot (while consumers are running).
+     */
+    Block
+  }
+
+  /**
+   * Preallocated slot of the ring buffer.
+   */
+  protected static final class FailEvent
+  {
+    private IFailer failer;
+    private final CallContract callContract = new CallContract();
+    private RuntimeException runtimeException;
+    private long sequence;
+
+    protected void copy(IFailer failer, ICallContract contract, RuntimeException runtimeException,
+        long sequence)
+    {
+      this.failer = failer;
+      this.runtimeException = runtimeException;
+      this.sequence = sequence;
+      CallContract callContract = this.callContract;
+      callContract.setCaller(contract.getCaller());
+      callContract.setAssertingChecker(contract.getAssertingChecker());
+      callContract.setCheckSpecification(contract.getCheckSpecification());
+      callContract.setCheckArguments(contract.getCheckArguments());
+      callContract.setCheckExtraArguments(contract.getCheckExtraArguments());
+      callContract.setCustomFailExceptionType(contract.getCustomFailExceptionTypeOrNull());
+      callContract.setCustomFailMessageFormat(contract.getCustomFailMessageFormatOrNull());
+      callContract.setCustomFailMessageArguments(contract.getCustomFailMessageArgumentsOrNull());
+      callContract.setCustomFailMessagePostfix(contract.getCustomFailMessagePostfixOrNull());
+      callContract.setCustomFailStackTracePolicy(contract.getCustomFailStackTracePolicyOrNull());
+    }
+
+    protected void clear()
+    {
+      this.failer = null;
+      this.runtimeException = null;
+      CallContract callContract = this.callContract;
+      callContract.setCaller(null);
+      callContract.setAssertingChecker(null);
+      callContract.setCheckSpecification(null);
+      callContract.setCheckArguments(null);
+      callContract.setCheckExtraArguments(null);
+      callContract.setCustomFailExceptionType(null);
+      callContract.setCustomFailMessageFormat(null);
+      callContract.setCustomFailMessageArguments(null);
+      callContract.setCustomFailMessagePostfix(null);
+      callContract.setCustomFailStackTracePolicy(null);
+    }
+  }
+
+  /**
+   * Asynchronous observer with its metrics.
+   */
+  protected static final class ObserverEntry
+  {
+    private static final long UnresolvedSequence = Long.MAX_VALUE;
+
+    private final IFailerObserver failerObserver;
+    private final AtomicLong firstSequence = new AtomicLong(UnresolvedSequence);
+    private final AtomicLong dispatchedEventCount = new AtomicLong();
+    private final AtomicLong notifiedEventCount = new AtomicLong();
+    private final AtomicLong failedEventCount = new AtomicLong();
+
+    protected ObserverEntry(IFailerObserver failerObserver)
+    {
+      this.failerObserver = failerObserver;
+    }
+
+    /**
+     * Sequence of the first notification dispatched to the observer.
+     * <p>
+     * Resolved from the tail by the first thread reading it after the entry is published - so a
+     * consumer holding an older snapshot of the entries only has notifications before it.
+     * </p>
+     */
+    protected long getFirstSequence(AtomicLong ringTail)
+    {
+      long result = this.firstSequence.get();
+      if (UnresolvedSequence == result)
+      {
+        this.firstSequence.compareAndSet(UnresolvedSequence, ringTail.get());
+        result = this.firstSequence.get();
+      }
+      return result;
+    }
+  }
+
+  private static final ObserverEntry[] EmptyObserverEntryArray = new ObserverEntry[] {};
+
+  private final FailEvent[] ring;
+  // slot i is free for tail t when t, and published for head h when h + 1
+  private final AtomicLongArray ringSequences;
+  private final AtomicLong ringHead = new AtomicLong();
+  private final AtomicLong ringTail = new AtomicLong();
+
+  private final ReentrantLock waitLock = new ReentrantLock();
+  private final Condition ringNotEmpty = this.waitLock.newCondition();
+  private final Condition ringNotFull = this.waitLock.newCondition();
+  private final Condition ringIdle = this.waitLock.newCondition();
+  private final AtomicInteger waitingConsumerCount = new AtomicInteger();
+  private final AtomicInteger waitingProducerCount = new AtomicInteger();
+
+  private final OverflowPolicy overflowPolicy;
+  private final int batchSize;
+  private final Thread[] consumers;
+  private int runningConsumerCount;
+  private volatile boolean consuming;
+
+  private final AtomicLong overflowEventCount = new AtomicLong();
+  private final AtomicLong dispatchedEventCount = new AtomicLong();
+
+  private volatile ObserverEntry[] observerEntries = EmptyObserverEntryArray;
+
+  /**
+   * Constructor with 1 consumer thread draining up to 64 notifications at a time.
+   * 
+   * @param capacity
+   *          number of preallocated notifications in the ring buffer
+   * @param overflowPolicy
+   *          what to do when the ring buffer is full
+   * @throws IllegalArgumentException
+   *           if capacity is less than 1 or overflowPolicy is null
+   */
+  public AsyncFailerObserverDispatcher(int capacity, OverflowPolicy overflowPolicy)
+  {
+    this(capacity, overflowPolicy, 1, 64);
+  }
+
+  /**
+   * Constructor.
+   * 
+   * @param capacity
+   *          number of preallocated notifications in the ring buffer
+   * @param overflowPolicy
+   *          what to do when the ring buffer is full
+   * @param numberOfConsumers
+   *          number of consumer threads - notification order is only kept with 1 consumer
+   * @param batchSize
+   *          maximum number of notifications a consumer takes from the ring buffer at a time
+   * @throws IllegalArgumentException
+   *           if capacity, numberOfConsumers or batchSize is less than 1 or overflowPolicy is
+   *           null
+   */
+  public AsyncFailerObserverDispatcher(int capacity, OverflowPolicy overflowPolicy,
+      int numberOfConsumers, int batchSize)
+  {
+    if (capacity < 1)
+    {
+      throw new IllegalArgumentException("capacity must be at least 1 - not " + capacity);
+    }
+    if (null == overflowPolicy)
+    {
+      throw new IllegalArgumentException("overflowPolicy is null");
+    }
+    if (numberOfConsumers < 1)
+    {
+      throw new IllegalArgumentException("numberOfConsumers must be at least 1 - not "
+          + numberOfConsumers);
+    }
+    if (batchSize < 1)
+    {
+      throw new IllegalArgumentException("batchSize must be at least 1 - not " + batchSize);
+    }
+    this.ring = new FailEvent[capacity];
+    this.ringSequences = new AtomicLongArray(capacity);
+    for (int index = 0; index < capacity; ++index)
+    {
+      this.ring[index] = new FailEvent();
+      this.ringSequences.set(index, index);
+    }
+    this.overflowPolicy = overflowPolicy;
+    this.batchSize = batchSize;
+    this.consumers = new Thread[numberOfConsumers];
+  }
+
+  /**
+   * Starts the consumer threads (daemons).
+   * 
+   * @throws IllegalStateException
+   *           if already started
+   */
+  public void start()
+  {
+    this.waitLock.lock();
+    try
+    {
+      if (null != this.consumers[0])
+      {
+        throw new IllegalStateException("Dispatcher " + this + " is already started.");
+      }
+      this.consuming = true;
+      this.runningConsumerCount = this.consumers.length;
+      for (int index = 0; index < this.consumers.length; ++index)
+      {
+        Thread consumer = new Thread("AsyncFailerObserverDispatcher-" + index)
+        {
+          @Override
+          public void run()
+          {
+            consume();
+          }
+        };
+        consumer.setDaemon(true);
+        this.consumers[index] = consumer;
+        consumer.start();
+      }
+    }
+    finally
+    {
+      this.waitLock.unlock();
+    }
+  }
+
+  /**
+   * Stops the consumer threads after they have dispatched pending notifications.
+   * 
+   * @param timeoutMillis
+   *          maximum time to wait for the consumer threads
+   * @return true, if all consumer threads have stopped
+   * @throws InterruptedException
+   *           if interrupted while waiting
+   */
+  public boolean stop(long timeoutMillis) throws InterruptedException
+  {
+    this.waitLock.lock();
+    try
+    {
+      this.consuming = false;
+      this.ringNotEmpty.signalAll();
+      this.ringNotFull.signalAll();
+    }
+    finally
+    {
+      this.waitLock.unlock();
+    }
+    long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    boolean result = true;
+    for (Thread consumer : this.consumers)
+    {
+      if (null != consumer)
+      {
+        long remainingMillis = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+        consumer.join(Math.max(1, remainingMillis));
+        result &= !consumer.isAlive();
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Waits until all accepted notifications have been dispatched.
+   * 
+   * @param timeoutMillis
+   *          maximum time to wait
+   * @return true, if no notifications are pending
+   * @throws InterruptedException
+   *           if interrupted while waiting
+   */
+  public boolean awaitDispatched(long timeoutMillis) throws InterruptedException
+  {
+    long remainingNanos = TimeUnit.MILLISECONDS.toNanos(timeoutMillis);
+    this.waitLock.lock();
+    try
+    {
+      while (this.dispatchedEventCount.get() < this.ringTail.get())
+      {
+        if (remainingNanos <= 0)
+        {
+          return false;
+        }
+        remainingNanos = this.ringIdle.awaitNanos(remainingNanos);
+      }
+      return true;
+    }
+    finally
+    {
+      this.waitLock.unlock();
+    }
+  }
+
+  /**
+   * Adds an observer notified on the consumer threads.
+   * <p>
+   * The observer is notified of the notifications accepted after it was added.
+   * </p>
+   * 
+   * @param failerObserver
+   *          observer to add
+   * @throws IllegalArgumentException
+   *           if failerObserver is null
+   * @throws IllegalStateException
+   *           if failerObserver already is added
+   */
+  public void addFailerObserver(IFailerObserver failerObserver)
+  {
+    if (null == failerObserver)
+    {
+      throw new IllegalArgumentException("failerObserver is null");
+    }
+    ObserverEntry entry = new ObserverEntry(failerObserver);
+    synchronized (this.consumers)
+    { // rare writes are serialized - consumers read the snapshot without a lock
+      ObserverEntry[] entries = this.observerEntries;
+      if (null != this.findObserverEntryOrNull(failerObserver))
+      {
+        throw new IllegalStateException("failerObserver " + failerObserver
+            + " is already added.");
+      }
+      ObserverEntry[] copy = Arrays.copyOf(entries, entries.length + 1);
+      copy[entries.length] = entry;
+      this.observerEntries = copy;
+    }
+    entry.getFirstSequence(this.ringTail);
+  }
+
+  /**
+   * Removes an observer notified on the consumer threads.
+   * 
+   * @param failerObserver
+   *          observer to remove
+   * @throws IllegalArgumentException
+   *           if failerObserver is null
+   * @throws IllegalStateException
+   *           if failerObserver is NOT added
+   */
+  public void removeFailerObserver(IFailerObserver failerObserver)
+  {
+    if (null == failerObserver)
+    {
+      throw new IllegalArgumentException("failerObserver is null");
+    }
+    synchronized (this.consumers)
+    { // rare writes are serialized - consumers read the snapshot without a lock
+      ObserverEntry[] entries = this.observerEntries;
+      ObserverEntry entry = this.findObserverEntryOrNull(failerObserver);
+      if (null == entry)
+      {
+        throw new IllegalStateException("failerObserver " + failerObserver + " is NOT added.");
+      }
+      ObserverEntry[] copy = new ObserverEntry[entries.length - 1];
+      int copyIndex = 0;
+      for (ObserverEntry observerEntry : entries)
+      {
+        if (observerEntry != entry)
+        {
+          copy[copyIndex++] = observerEntry;
+        }
+      }
+      this.observerEntries = copy;
+    }
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.IFailerObserver#notifyExceptionBeforeThrow(
+   * starkcoder.failfast.fails.IFailer, starkcoder.failfast.contractors.contracts.ICallContract,
+   * java.lang.RuntimeException)
+   */
+  @Override
+  public void notifyExceptionBeforeThrow(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    while (!this.offer(failer, contract, runtimeException))
+    {
+      if (OverflowPolicy.Block != this.overflowPolicy || !this.awaitNotFull())
+      {
+        this.overflow();
+        return;
+      }
+    }
+  }
+
+  /**
+   * Number of notifications accepted into the ring buffer.
+   * 
+   * @return accepted notifications
+   */
+  public long getAcceptedEventCount()
+  {
+    return this.ringTail.get();
+  }
+
+  /**
+   * Number of notifications discarded (or given up while blocked) due to a full ring buffer.
+   * <p>
+   * Not counted with {link:OverflowPolicy#Drop}.
+   * </p>
+   * 
+   * @return discarded notifications
+   */
+  public long getOverflowEventCount()
+  {
+    return this.overflowEventCount.get();
+  }
+
+  /**
+   * Number of notifications dispatched to all asynchronous observers.
+   * 
+   * @return dispatched notifications
+   */
+  public long getDispatchedEventCount()
+  {
+    return this.dispatchedEventCount.get();
+  }
+
+  /**
+   * Number of notifications accepted since the observer was added, but not yet dispatched to it.
+   * 
+   * @param failerObserver
+   *          added observer
+   * @return lag of the observer
+   * @throws IllegalStateException
+   *           if failerObserver is NOT added
+   */
+  public long getObserverLag(IFailerObserver failerObserver)
+  {
+    ObserverEntry entry = this.getObserverEntry(failerObserver);
+    // dispatched before accepted - every dispatched notification was accepted before it was read
+    long dispatched = entry.dispatchedEventCount.get();
+    long firstSequence = entry.getFirstSequence(this.ringTail);
+    return this.ringTail.get() - firstSequence - dispatched;
+  }
+
+  /**
+   * Number of notifications dispatched to the observer.
+   * 
+   * @param failerObserver
+   *          added observer
+   * @return notifications the observer returned from normally
+   * @throws IllegalStateException
+   *           if failerObserver is NOT added
+   */
+  public long getObserverNotifiedEventCount(IFailerObserver failerObserver)
+  {
+    return this.getObserverEntry(failerObserver).notifiedEventCount.get();
+  }
+
+  /**
+   * Number of notifications the observer failed (threw an exception or error) on.
+   * 
+   * @param failerObserver
+   *          added observer
+   * @return notifications the observer threw an exception or error on
+   * @throws IllegalStateException
+   *           if failerObserver is NOT added
+   */
+  public long getObserverFailedEventCount(IFailerObserver failerObserver)
+  {
+    return this.getObserverEntry(failerObserver).failedEventCount.get();
+  }
+
+  protected void overflow()
+  {
+    if (OverflowPolicy.Drop != this.overflowPolicy)
+    {
+      this.overflowEventCount.incrementAndGet();
+    }
+  }
+
+  protected ObserverEntry getObserverEntry(IFailerObserver failerObserver)
+  {
+    ObserverEntry result = this.findObserverEntryOrNull(failerObserver);
+    if (null == result)
+    {
+      throw new IllegalStateException("failerObserver " + failerObserver + " is NOT added.");
+    }
+    return result;
+  }
+
+  protected ObserverEntry findObserverEntryOrNull(IFailerObserver failerObserver)
+  {
+    for (ObserverEntry observerEntry : this.observerEntries)
+    {
+      if (observerEntry.failerObserver.equals(failerObserver))
+      {
+        return observerEntry;
+      }
+    }
+    return null;
+  }
+
+  /**
+   * Claims the slot at the tail, copies the notification into it and publishes it.
+   * 
+   * @return false, if the ring buffer is full
+   */
+  protected boolean offer(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    FailEvent[] ring = this.ring;
+    long tail = 0;
+    int index = 0;
+    boolean claimed = false;
+    while (!claimed)
+    {
+      tail = this.ringTail.get();
+      index = (int) (tail % ring.length);
+      long difference = this.ringSequences.get(index) - tail;
+      if (difference < 0)
+      { // slot not yet freed by a consumer
+        return false;
+      }
+      // a positive difference means another failing thread claimed the slot - retry
+      claimed = 0 == difference && this.ringTail.compareAndSet(tail, tail + 1);
+    }
+    ring[index].copy(failer, contract, runtimeException, tail);
+    this.ringSequences.set(index, tail + 1);
+    if (0 < this.waitingConsumerCount.get())
+    {
+      this.waitLock.lock();
+      try
+      {
+        this.ringNotEmpty.signal();
+      }
+      finally
+      {
+        this.waitLock.unlock();
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Waits for a free slot while consumers are running.
+   * 
+   * @return false, if no slot will be freed or interrupted
+   */
+  protected boolean awaitNotFull()
+  {
+    this.waitLock.lock();
+    // counted before checking - so a consumer freeing a slot after the check signals
+    this.waitingProducerCount.incrementAndGet();
+    try
+    {
+      while (this.isRingFull())
+      {
+        if (!this.consuming)
+        { // nobody will free a slot
+          return false;
+        }
+        this.ringNotFull.await();
+      }
+      return true;
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    finally
+    {
+      this.waitingProducerCount.decrementAndGet();
+      this.waitLock.unlock();
+    }
+  }
+
+  /**
+   * Waits for a published slot while consumers are running.
+   * 
+   * @return false, if stopped and drained or interrupted
+   */
+  protected boolean awaitNotEmpty()
+  {
+    this.waitLock.lock();
+    // counted before checking - so a failing thread publishing after the check signals
+    this.waitingConsumerCount.incrementAndGet();
+    try
+    {
+      while (this.isRingEmpty())
+      {
+        if (!this.consuming)
+        { // stopped and drained
+          return false;
+        }
+        this.ringNotEmpty.await();
+      }
+      return true;
+    }
+    catch (InterruptedException e)
+    {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+    finally
+    {
+      this.waitingConsumerCount.decrementAndGet();
+      this.waitLock.unlock();
+    }
+  }
+
+  protected boolean isRingFull()
+  {
+    long tail = this.ringTail.get();
+    return this.ringSequences.get((int) (tail % this.ring.length)) - tail < 0;
+  }
+
+  protected boolean isRingEmpty()
+  {
+    long head = this.ringHead.get();
+    return this.ringSequences.get((int) (head % this.ring.length)) - (head + 1) < 0;
+  }
+
+  /**
+   * Claims published slots at the head and swaps their events with the batch.
+   * 
+   * @return number of events taken
+   */
+  protected int takeBatch(FailEvent[] batch)
+  {
+    FailEvent[] ring = this.ring;
+    int batchLength = 0;
+    boolean empty = false;
+    while (!empty && batchLength < batch.length)
+    {
+      long head = this.ringHead.get();
+      int index = (int) (head % ring.length);
+      long difference = this.ringSequences.get(index) - (head + 1);
+      empty = difference < 0;
+      // a positive difference means another consumer claimed the slot - retry
+      if (0 == difference && this.ringHead.compareAndSet(head, head + 1))
+      {
+        FailEvent event = ring[index];
+        ring[index] = batch[batchLength];
+        batch[batchLength] = event;
+        this.ringSequences.set(index, head + ring.length);
+        ++batchLength;
+      }
+    }
+    if (0 < batchLength && 0 < this.waitingProducerCount.get())
+    {
+      this.waitLock.lock();
+      try
+      {
+        this.ringNotFull.signalAll();
+      }
+      finally
+      {
+        this.waitLock.unlock();
+      }
+    }
+    return batchLength;
+  }
+
+  /**
+   * Notifies the asynchronous observers of the batch and clears it.
+   */
+  protected void dispatchBatch(FailEvent[] batch, int batchLength)
+  {
+    ObserverEntry[] entries = this.observerEntries; // read after taking the batch
+    for (int index = 0; index < batchLength; ++index)
+    {
+      FailEvent event = batch[index];
+      for (ObserverEntry entry : entries)
+      {
+        if (entry.getFirstSequence(this.ringTail) <= event.sequence)
+        {
+          try
+          {
+            entry.failerObserver.notifyExceptionBeforeThrow(event.failer, event.callContract,
+                event.runtimeException);
+            entry.notifiedEventCount.incrementAndGet();
+          }
+          catch (Throwable e)
+          { // an observer must not stop the dispatching to others
+            entry.failedEventCount.incrementAndGet();
+          }
+          entry.dispatchedEventCount.incrementAndGet();
+        }
+      }
+      event.clear();
+    }
+    long dispatched = this.dispatchedEventCount.addAndGet(batchLength);
+    if (dispatched == this.ringTail.get())
+    {
+      this.waitLock.lock();
+      try
+      {
+        this.ringIdle.signalAll();
+      }
+      finally
+      {
+        this.waitLock.unlock();
+      }
+    }
+  }
+
+  /**
+   * Consumer loop - drains the ring buffer in batches until stopped and drained.
+   * <p>
+   * When the last consumer exits (also when interrupted) failing threads blocked on a full ring
+   * buffer are released.
+   * </p>
+   */
+  protected void consume()
+  {
+    // swapped with ring slots - so the ring stays preallocated without copying events twice
+    FailEvent[] batch = new FailEvent[this.batchSize];
+    for (int index = 0; index < batch.length; ++index)
+    {
+      batch[index] = new FailEvent();
+    }
+    try
+    {
+      while (this.awaitNotEmpty())
+      {
+        int batchLength = this.takeBatch(batch);
+        this.dispatchBatch(batch, batchLength);
+      }
+    }
+    finally
+    {
+      this.waitLock.lock();
+      try
+      {
+        if (0 == --this.runningConsumerCount)
+        {
+          this.consuming = false;
+        }
+        this.ringNotFull.signalAll();
+        this.ringNotEmpty.signalAll();
+        this.ringIdle.signalAll();
+      }
+      finally
+      {
+        this.waitLock.unlock();
+      }
+    }
+  }
+
+}
@@ -0,0 +1,263 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+
+/**
+ * Immutable factory constructing exceptions of a single type with method handles.
+ * <p>
+ * The constructors taking a message (and a cause) are resolved once - also a public constructor
+ * like RuntimeException(String, Throwable, boolean, boolean), if the type has one. That one is used
+ * to construct exceptions without a stack trace. Use
+ * {link:SFailExceptionFactories} to resolve once per exception type and reuse.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailExceptionFactory
+{
+
+  private static final MethodType MessageConstructorType = MethodType.methodType(
+      RuntimeException.class, String.class);
+
+  private static final MethodType MessageAndCauseConstructorType = MethodType.methodType(
+      RuntimeException.class, String.class, Throwable.class);
+
+  private static final MethodType StackTraceOptionalConstructorType = MethodType.methodType(
+      RuntimeException.class, String.class, Throwable.class, boolean.class, boolean.class);
+
+  private final Class<? extends RuntimeException> exceptionType;
+  private final MethodHandle messageConstructor;
+  private final MethodHandle messageAndCauseConstructorOrNull;
+  private final MethodHandle stackTraceOptionalConstructorOrNull;
+  private final boolean messageDeferrable;
+
+  private FailExceptionFactory(Class<? extends RuntimeException> exceptionType,
+      MethodHandle messageConstructor, MethodHandle messageAndCauseConstructorOrNull,
+      MethodHandle stackTraceOptionalConstructorOrNull)
+  {
+    this.exceptionType = exceptionType;
+    // only constructors known to pass the message unchanged - others may decorate or validate it
+    this.messageDeferrable = FailFastException.class == exceptionType;
+    this.messageConstructor = messageConstructor;
+    this.messageAndCauseConstructorOrNull = messageAndCauseConstructorOrNull;
+    this.stackTraceOptionalConstructorOrNull = stackTraceOptionalConstructorOrNull;
+  }
+
+  /**
+   * Resolves the public constructors of the exception type.
+   * 
+   * @param exceptionType
+   *          concrete exception type with a public (String) constructor and optionally public
+   *          (String, Throwable) and (String, Throwable, boolean, boolean) constructors (see
+   *          RuntimeException)
+   * @return factory - never null
+   * @throws IllegalArgumentException
+   *           if exceptionType is null, abstract or has no public (String) constructor
+   */
+  public static FailExceptionFactory resolve(Class<? extends RuntimeException> exceptionType)
+  {
+    if (null == exceptionType)
+    {
+      throw new IllegalArgumentException("exceptionType is null");
+    }
+    if (Modifier.isAbstract(exceptionType.getModifiers()))
+    {
+      throw new IllegalArgumentException("Could not construct exceptions of '" + exceptionType
+          + "', since it is abstract");
+    }
+    MethodHandle messageConstructor = null;
+    try
+    {
+      Constructor<? extends RuntimeException> constructor = exceptionType
+          .getConstructor(String.class);
+      messageConstructor = MethodHandles.publicLookup().unreflectConstructor(constructor)
+          .asType(MessageConstructorType);
+    }
+    catch (NoSuchMethodException | SecurityException | IllegalAccessException e)
+    {
+      throw new IllegalArgumentException("Could not fetch a constructor from '" + exceptionType
+          + "' with a single String argument", e);
+    }
+    MethodHandle messageAndCauseConstructorOrNull = null;
+    try
+    {
+      Constructor<? extends RuntimeException> constructor = exceptionType.getConstructor(
+          String.class, Throwable.class);
+      messageAndCauseConstructorOrNull = MethodHandles.publicLookup()
+          .unreflectConstructor(constructor).asType(MessageAndCauseConstructorType);
+    }
+    catch (NoSuchMethodException | SecurityException | IllegalAccessException e)
+    { // optional - only needed when a fail has a Throwable extra argument
+    }
+    MethodHandle stackTraceOptionalConstructorOrNull = null;
+    try
+    {
+      Constructor<? extends RuntimeException> constructor = exceptionType.getConstructor(
+          String.class, Throwable.class, boolean.class, boolean.class);
+      stackTraceOptionalConstructorOrNull = MethodHandles.publicLookup()
+          .unreflectConstructor(constructor).asType(StackTraceOptionalConstructorType);
+    }
+    catch (NoSuchMethodException | SecurityException | IllegalAccessException e)
+    { // optional - without it exceptions always get a stack trace
+    }
+    return new FailExceptionFactory(exceptionType, messageConstructor,
+        messageAndCauseConstructorOrNull, stackTraceOptionalConstructorOrNull);
+  }
+
+  /**
+   * The type of exceptions constructed.
+   * 
+   * @return exception type
+   */
+  public Class<? extends RuntimeException> getExceptionType()
+  {
+    return this.exceptionType;
+  }
+
+  /**
+   * Tells whether exceptions can be constructed with a cause.
+   * 
+   * @return true, if the exception type has a public (String, Throwable) constructor
+   */
+  public boolean hasMessageAndCauseConstructor()
+  {
+    return null != this.messageAndCauseConstructorOrNull;
+  }
+
+  /**
+   * Tells whether exceptions can be constructed without a stack trace.
+   * 
+   * @return true, if the exception type has a public (String, Throwable, boolean, boolean)
+   *         constructor
+   */
+  public boolean hasStackTraceOptionalConstructor()
+  {
+    return null != this.stackTraceOptionalConstructorOrNull;
+  }
+
+  /**
+   * Tells whether exceptions can be constructed with a null message and get their message later -
+   * see {link:AFailFastException}.
+   * 
+   * @return true, if the exception type is {link:FailFastException}
+   */
+  public boolean isMessageDeferrable()
+  {
+    return this.messageDeferrable;
+  }
+
+  /**
+   * Constructs an exception with a stack trace.
+   * 
+   * @param message
+   *          exception message
+   * @param innerCauseOrNull
+   *          exception cause or null
+   * @return constructed exception
+   * @throws IllegalArgumentException
+   *           if a cause is given, but the exception type has no (String, Throwable) constructor,
+   *           or the constructor threw a checked exception
+   */
+  public RuntimeException construct(String message, Throwable innerCauseOrNull)
+  {
+    return this.construct(message, innerCauseOrNull, true);
+  }
+
+  /**
+   * Constructs an exception - optionally without filling in its stack trace.
+   * <p>
+   * An exception type without a public (String, Throwable, boolean, boolean) constructor always
+   * gets a stack trace.
+   * </p>
+   * 
+   * @param message
+   *          exception message
+   * @param innerCauseOrNull
+   *          exception cause or null
+   * @param writableStackTrace
+   *          false, if the exception should not get a stack trace
+   * @return constructed exception
+   * @throws IllegalArgumentException
+   *           if a cause is given, but the exception type has no (String, Throwable) constructor,
+   *           or the constructor threw a checked exception
+   */
+  public RuntimeException construct(String message, Throwable innerCauseOrNull,
+      boolean writableStackTrace)
+  {
+    RuntimeException result = null;
+
+    boolean withoutStackTrace = !writableStackTrace
+        && null != this.stackTraceOptionalConstructorOrNull;
+    if (null != innerCauseOrNull && null == this.messageAndCauseConstructorOrNull
+        && !withoutStackTrace)
+    {
+      throw new IllegalArgumentException("Could not fetch a constructor from '"
+          + this.exceptionType + "' with a String and a Throwable argument");
+    }
+    try
+    {
+      if (withoutStackTrace)
+      {
+        result = (RuntimeException) this.stackTraceOptionalConstructorOrNull.invokeExact(message,
+            innerCauseOrNull, true, false);
+      }
+      else if (null == innerCauseOrNull)
+      {
+        result = (RuntimeException) this.messageConstructor.invokeExact(message);
+      }
+      else
+      {
+        result = (RuntimeException) this.messageAndCauseConstructorOrNull.invokeExact(message,
+            innerCauseOrNull);
+      }
+    }
+    catch (RuntimeException | Error e)
+    { // thrown by the constructor (or the JVM) - not a constructor lookup problem
+      throw e;
+    }
+    catch (Throwable e)
+    {
+      throw new IllegalArgumentException("Could not invoke constructor of '"
+          + this.exceptionType + "'", e);
+    }
+
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.exceptionType.toString();
+  }
+
+}
@@ -61,6 +61,24 @@ public class FailFastException extends AFailFastException
     super(message, throwable);
   }
 
+  /**
+   * Constructor called by {link: IFailer} when the exception should not get a stack trace.
+   * 
+   * @param message
+   *          compound message specified by fail method.
+   * @param throwable
+   *          exception to nest or null
+   * @param enableSuppression
+   *          whether or not suppression is enabled
+   * @param writableStackTrace
+   *          whether or not the stack trace should be writable (and filled in)
+   */
+  public FailFastException(String message, Throwable throwable, boolean enableSuppression,
+      boolean writableStackTrace)
+  {
+    super(message, throwable, enableSuppression, writableStackTrace);
+  }
+
   /**
    * Version specific id of this class for serialization purposes.
    */
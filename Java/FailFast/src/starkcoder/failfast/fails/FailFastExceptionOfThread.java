@@ -0,0 +1,92 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.lang.ref.WeakReference;
+
+/**
+ * The first fail-fast exception of a thread - weakly referencing the thread.
+ * <p>
+ * The entry itself tells whether its thread has terminated (or was collected), so the failer can
+ * forget it without a snapshot of the live threads - which would also miss virtual threads.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailFastExceptionOfThread extends WeakReference<Thread>
+{
+
+  private final IFailFastException failFastException;
+
+  /**
+   * Constructor.
+   * 
+   * @param thread
+   *          thread that failed
+   * @param failFastException
+   *          first fail-fast exception of the thread
+   */
+  public FailFastExceptionOfThread(Thread thread, IFailFastException failFastException)
+  {
+    super(thread);
+    this.failFastException = failFastException;
+  }
+
+  /**
+   * Returns the first fail-fast exception of the thread.
+   * 
+   * @return fail-fast exception
+   */
+  public IFailFastException getFailFastException()
+  {
+    return this.failFastException;
+  }
+
+  /**
+   * Tells whether this is the entry of the thread - thread ids of terminated threads may be reused.
+   * 
+   * @param thread
+   *          thread to compare with
+   * @return true, if this references the thread
+   */
+  public boolean isOfThread(Thread thread)
+  {
+    return thread == this.get();
+  }
+
+  /**
+   * Tells whether the thread is still alive.
+   * 
+   * @return false, if the thread has terminated or is collected
+   */
+  public boolean isThreadAlive()
+  {
+    Thread thread = this.get();
+    return null != thread && thread.isAlive();
+  }
+
+}
@@ -0,0 +1,90 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+/**
+ * A fail-fast exception remembered by {link:IFailFastExceptionHistory} with its circumstances.
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailFastExceptionRecord
+{
+
+  private final IFailFastException failFastException;
+  private final Thread thread;
+  private final long timestampMillis;
+  private final long sequenceNumber;
+
+  /**
+   * Constructor.
+   * 
+   * @param failFastException
+   *          the fail-fast exception
+   * @param thread
+   *          thread that failed
+   * @param timestampMillis
+   *          time of the fail (System.currentTimeMillis())
+   * @param sequenceNumber
+   *          number of fail-fast exceptions recorded before this
+   */
+  public FailFastExceptionRecord(IFailFastException failFastException, Thread thread,
+      long timestampMillis, long sequenceNumber)
+  {
+    this.failFastException = failFastException;
+    this.thread = thread;
+    this.timestampMillis = timestampMillis;
+    this.sequenceNumber = sequenceNumber;
+  }
+
+  public IFailFastException getFailFastException()
+  {
+    return this.failFastException;
+  }
+
+  public Thread getThread()
+  {
+    return this.thread;
+  }
+
+  public long getTimestampMillis()
+  {
+    return this.timestampMillis;
+  }
+
+  public long getSequenceNumber()
+  {
+    return this.sequenceNumber;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "#" + this.sequenceNumber + " at " + this.timestampMillis + " [ms] on "
+        + this.thread.getName() + ": " + this.failFastException;
+  }
+
+}
@@ -0,0 +1,206 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.Locale;
+
+/**
+ * Immutable compilation of the message arguments of a fail-method (e.g. "fu0, fu1, cu1").
+ * <p>
+ * Each slot of the plan tells which arguments array (source) and which index to use for the
+ * corresponding message format argument. Use {link:SFailMessagePlans} to compile once and reuse.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailMessagePlan
+{
+  /**
+   * Source of "cu" entries - the user arguments of the check.
+   */
+  public static final int SourceCheckerUserArguments = 0;
+
+  /**
+   * Source of "cx" entries - the extra arguments of the check.
+   */
+  public static final int SourceCheckerExtraArguments = 1;
+
+  /**
+   * Source of "fu" entries - the user arguments of the fail.
+   */
+  public static final int SourceFailerUserArguments = 2;
+
+  /**
+   * Source of "fx" entries - the extra arguments of the fail.
+   */
+  public static final int SourceFailerExtraArguments = 3;
+
+  private final String failMessageArguments;
+  private final String[] entries;
+  private final int[] sources;
+  private final int[] indexes;
+
+  private FailMessagePlan(String failMessageArguments, String[] entries, int[] sources,
+      int[] indexes)
+  {
+    this.failMessageArguments = failMessageArguments;
+    this.entries = entries;
+    this.sources = sources;
+    this.indexes = indexes;
+  }
+
+  /**
+   * Compiles the message arguments.
+   * 
+   * @param failMessageArguments
+   *          comma separated entries - each a source ("cu", "cx", "fu" or "fx") and an index
+   * @return compiled plan - never null
+   * @throws IllegalArgumentException
+   *           if failMessageArguments is null or has an illegal entry
+   */
+  public static FailMessagePlan compile(String failMessageArguments)
+  {
+    if (null == failMessageArguments)
+    {
+      throw new IllegalArgumentException("failMessageArguments is null");
+    }
+    String[] messageArguments = failMessageArguments.split(",");
+    int[] sources = new int[messageArguments.length];
+    int[] indexes = new int[messageArguments.length];
+    for (int index = 0; index < messageArguments.length; ++index)
+    {
+      String messageArgument = messageArguments[index].trim();
+      String messageArgumentLower = messageArgument.toLowerCase(Locale.US);
+      if (messageArgumentLower.length() < 3)
+      {
+        throw new IllegalArgumentException("illegal entry '" + messageArguments[index]
+            + "' (arg#" + index + ")");
+      }
+      char c0 = messageArgumentLower.charAt(0);
+      char c1 = messageArgumentLower.charAt(1);
+      if ('c' != c0 && 'f' != c0)
+      {
+        throw new IllegalArgumentException("illegal entry '" + messageArguments[index]
+            + "' (arg#" + index + "). Symbol '" + c0 + "' was unexpected.");
+      }
+      if ('u' != c1 && 'x' != c1)
+      {
+        throw new IllegalArgumentException("illegal entry '" + messageArguments[index]
+            + "' (arg#" + index + "). Symbol '" + c1 + "' was unexpected.");
+      }
+      if ('c' == c0)
+      {
+        sources[index] = ('u' == c1 ? SourceCheckerUserArguments : SourceCheckerExtraArguments);
+      }
+      else
+      {
+        sources[index] = ('u' == c1 ? SourceFailerUserArguments : SourceFailerExtraArguments);
+      }
+
+      String argumentIndexString = messageArgumentLower.substring(2);
+      try
+      {
+        indexes[index] = Integer.parseInt(argumentIndexString);
+      }
+      catch (NumberFormatException e)
+      {
+        throw new IllegalArgumentException("illegal entry '" + messageArguments[index]
+            + "' (arg#" + index + "). Postfix '" + argumentIndexString
+            + "' could not be parsed as an integer.");
+      }
+      if (indexes[index] < 0)
+      {
+        throw new IllegalArgumentException("illegal entry '" + messageArguments[index]
+            + "' (arg#" + index + "). Postfix '" + argumentIndexString + "' is negative.");
+      }
+    }
+    return new FailMessagePlan(failMessageArguments, messageArguments, sources, indexes);
+  }
+
+  /**
+   * The compiled message arguments.
+   * 
+   * @return message arguments e.g. "fu0, fu1, cu1"
+   */
+  public String getFailMessageArguments()
+  {
+    return this.failMessageArguments;
+  }
+
+  /**
+   * Number of message format arguments.
+   * 
+   * @return number of slots
+   */
+  public int getSlotCount()
+  {
+    return this.sources.length;
+  }
+
+  /**
+   * The uncompiled entry of a slot.
+   * 
+   * @param slot
+   *          slot index
+   * @return entry e.g. " cu1"
+   */
+  public String getEntry(int slot)
+  {
+    return this.entries[slot];
+  }
+
+  /**
+   * The arguments array of a slot.
+   * 
+   * @param slot
+   *          slot index
+   * @return one of the Source* constants
+   */
+  public int getSource(int slot)
+  {
+    return this.sources[slot];
+  }
+
+  /**
+   * The index into the arguments array of a slot.
+   * 
+   * @param slot
+   *          slot index
+   * @return index (not negative)
+   */
+  public int getIndex(int slot)
+  {
+    return this.indexes[slot];
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.failMessageArguments;
+  }
+
+}
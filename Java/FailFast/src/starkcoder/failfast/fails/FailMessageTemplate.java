@@ -0,0 +1,186 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.ArrayList;
+import java.util.Formattable;
+import java.util.List;
+
+/**
+ * Immutable compilation of a fail message format.
+ * <p>
+ * The format is parsed once into literal segments separated by arguments. Rendering appends the
+ * segments and arguments to a builder reused per thread. Only "%s", "%%" and "%n" are compiled -
+ * a format with other specifiers (e.g. "%d" or "%1$s") and Formattable arguments are rendered with
+ * {link:String#format(String, Object...)}, so the output is always the same as String.format.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailMessageTemplate
+{
+
+  private static final int MaximumReusedBuilderCapacity = 4096;
+
+  private static final ThreadLocal<StringBuilder> threadStringBuilder =
+      new ThreadLocal<StringBuilder>();
+
+  private final String failMessageFormat;
+  private final String[] literalsOrNull;
+
+  private FailMessageTemplate(String failMessageFormat, String[] literalsOrNull)
+  {
+    this.failMessageFormat = failMessageFormat;
+    this.literalsOrNull = literalsOrNull;
+  }
+
+  /**
+   * Compiles the message format.
+   * 
+   * @param failMessageFormat
+   *          format e.g. "%s: Object '%s' is null."
+   * @return compiled template - never null
+   * @throws IllegalArgumentException
+   *           if failMessageFormat is null
+   */
+  public static FailMessageTemplate compile(String failMessageFormat)
+  {
+    if (null == failMessageFormat)
+    {
+      throw new IllegalArgumentException("failMessageFormat is null");
+    }
+    List<String> literals = new ArrayList<String>();
+    StringBuilder literal = new StringBuilder();
+    int length = failMessageFormat.length();
+    for (int index = 0; index < length; ++index)
+    {
+      char c = failMessageFormat.charAt(index);
+      if ('%' != c)
+      {
+        literal.append(c);
+      }
+      else if (index + 1 < length && 's' == failMessageFormat.charAt(index + 1))
+      { // argument
+        literals.add(literal.toString());
+        literal.setLength(0);
+        ++index;
+      }
+      else if (index + 1 < length && '%' == failMessageFormat.charAt(index + 1))
+      {
+        literal.append('%');
+        ++index;
+      }
+      else if (index + 1 < length && 'n' == failMessageFormat.charAt(index + 1))
+      {
+        literal.append(System.lineSeparator());
+        ++index;
+      }
+      else
+      { // specifier not compiled - render with String.format
+        return new FailMessageTemplate(failMessageFormat, null);
+      }
+    }
+    literals.add(literal.toString());
+    return new FailMessageTemplate(failMessageFormat, literals.toArray(new String[literals
+        .size()]));
+  }
+
+  /**
+   * The compiled message format.
+   * 
+   * @return format e.g. "%s: Object '%s' is null."
+   */
+  public String getFailMessageFormat()
+  {
+    return this.failMessageFormat;
+  }
+
+  /**
+   * Tells whether the format is rendered without String.format.
+   * 
+   * @return true, if the format only contains "%s", "%%" and "%n" specifiers
+   */
+  public boolean isCompiled()
+  {
+    return null != this.literalsOrNull;
+  }
+
+  /**
+   * Number of "%s" arguments.
+   * 
+   * @return number of arguments or -1, if the format is not compiled
+   */
+  public int getArgumentCount()
+  {
+    return (null == this.literalsOrNull ? -1 : this.literalsOrNull.length - 1);
+  }
+
+  /**
+   * Renders the message - same as String.format(failMessageFormat, arguments).
+   * 
+   * @param arguments
+   *          message arguments
+   * @return rendered message
+   */
+  public String render(Object[] arguments)
+  {
+    String[] literals = this.literalsOrNull;
+    if (null == literals || arguments.length < literals.length - 1)
+    { // let String.format render (or report missing arguments)
+      return String.format(this.failMessageFormat, arguments);
+    }
+    for (int index = 0; index < literals.length - 1; ++index)
+    {
+      if (arguments[index] instanceof Formattable)
+      {
+        return String.format(this.failMessageFormat, arguments);
+      }
+    }
+
+    StringBuilder stringBuilder = threadStringBuilder.get();
+    if (null == stringBuilder || MaximumReusedBuilderCapacity < stringBuilder.capacity())
+    { // (re)allocate - avoid retaining large builders
+      stringBuilder = new StringBuilder(256);
+      threadStringBuilder.set(stringBuilder);
+    }
+    stringBuilder.setLength(0);
+    stringBuilder.append(literals[0]);
+    for (int index = 1; index < literals.length; ++index)
+    {
+      stringBuilder.append(String.valueOf(arguments[index - 1]));
+      stringBuilder.append(literals[index]);
+    }
+    return stringBuilder.toString();
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.failMessageFormat;
+  }
+
+}
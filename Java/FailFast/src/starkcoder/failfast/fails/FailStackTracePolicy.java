@@ -0,0 +1,133 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Policy deciding if a fail-fast exception gets a stack trace.
+ * <p>
+ * Filling in a stack trace is the dominant cost of a fail. On high-rate rejection paths (where
+ * exceptions are thrown and caught per rejected input) {link:#Never} or {link:#sampled(int)} can
+ * avoid most of that cost. The checker and failer circumstances (specification types and arguments)
+ * are attached to the exception regardless of the policy.
+ * </p>
+ * <p>
+ * Only exception types with a public (String, Throwable, boolean, boolean) constructor like
+ * RuntimeException (e.g. {link:FailFastException}) honour the policy - other exception types always
+ * fill in their stack trace.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailStackTracePolicy
+{
+
+  /**
+   * Every exception gets a stack trace (the default).
+   */
+  public static final FailStackTracePolicy Always = new FailStackTracePolicy("Always", 1);
+
+  /**
+   * No exception gets a stack trace.
+   */
+  public static final FailStackTracePolicy Never = new FailStackTracePolicy("Never", 0);
+
+  /**
+   * Creates a policy giving every n'th exception a stack trace (the first included).
+   * <p>
+   * The sample counter is shared by all fails using the returned instance.
+   * </p>
+   * 
+   * @param n
+   *          sampling interval
+   * @return policy sampling 1 in n exceptions
+   * @throws IllegalArgumentException
+   *           if n is less than 1
+   */
+  public static FailStackTracePolicy sampled(int n)
+  {
+    if (n < 1)
+    {
+      throw new IllegalArgumentException("n must be at least 1 - not " + n);
+    }
+    return new FailStackTracePolicy("Sampled(1/" + n + ")", n);
+  }
+
+  private final String name;
+  private final int sampleInterval;
+  private final AtomicLong sampleCounter = new AtomicLong();
+
+  private FailStackTracePolicy(String name, int sampleInterval)
+  {
+    this.name = name;
+    this.sampleInterval = sampleInterval;
+  }
+
+  /**
+   * Sampling interval of this.
+   * 
+   * @return 1 for always, 0 for never, or n for 1 in n
+   */
+  public int getSampleInterval()
+  {
+    return this.sampleInterval;
+  }
+
+  /**
+   * Decides if the next exception gets a stack trace.
+   * <p>
+   * Call this once per fail - a sampled policy counts the calls.
+   * </p>
+   * 
+   * @return true, if the exception should get a stack trace
+   */
+  public boolean isFillingInStackTrace()
+  {
+    boolean result = false;
+    switch (this.sampleInterval)
+    {
+      case 0:
+        result = false;
+        break;
+      case 1:
+        result = true;
+        break;
+      default:
+        result = 0 == this.sampleCounter.getAndIncrement() % this.sampleInterval;
+        break;
+    }
+    return result;
+  }
+
+  @Override
+  public String toString()
+  {
+    return this.name;
+  }
+
+}
@@ -0,0 +1,130 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the fails of one {link:FailStormKey} in the current window of a {link:FailStormPolicy}.
+ * <p>
+ * Lock-free and approximate - a fail racing with the start of a new window may be counted in
+ * either window.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailStormCounter
+{
+
+  private final FailStormKey failStormKey;
+  private final AtomicLong windowStartNanos;
+  private final AtomicLong failsInWindow = new AtomicLong();
+  private final AtomicLong suppressedFails = new AtomicLong();
+
+  /**
+   * Constructor.
+   * 
+   * @param failStormKey
+   *          key of the counted fails
+   * @param nowNanos
+   *          start of the first window (System.nanoTime())
+   */
+  public FailStormCounter(FailStormKey failStormKey, long nowNanos)
+  {
+    this.failStormKey = failStormKey;
+    this.windowStartNanos = new AtomicLong(nowNanos);
+  }
+
+  public FailStormKey getFailStormKey()
+  {
+    return this.failStormKey;
+  }
+
+  /**
+   * Starts a new window, if the current has expired.
+   * 
+   * @param failStormPolicy
+   *          policy with the window length
+   * @param nowNanos
+   *          current time (System.nanoTime())
+   * @return number of fails suppressed in the expired window, or 0
+   */
+  public long rollWindow(FailStormPolicy failStormPolicy, long nowNanos)
+  {
+    long windowStart = this.windowStartNanos.get();
+    if (nowNanos - windowStart < failStormPolicy.getWindowNanos()
+        || !this.windowStartNanos.compareAndSet(windowStart, nowNanos))
+    { // current window or another thread rolled it
+      return 0;
+    }
+    this.failsInWindow.set(0);
+    return this.suppressedFails.getAndSet(0);
+  }
+
+  /**
+   * Counts a fail in the current window.
+   * 
+   * @param failStormPolicy
+   *          policy with the maximum number of full fails per window
+   * @return true, if the fail is suppressed (reduced detail and no notification)
+   */
+  public boolean countFail(FailStormPolicy failStormPolicy)
+  {
+    if (this.failsInWindow.incrementAndGet() <= failStormPolicy.getMaximumFullFailsPerWindow())
+    {
+      return false;
+    }
+    this.suppressedFails.incrementAndGet();
+    return true;
+  }
+
+  /**
+   * Checks if no fail was counted in a whole window, i.e. the counter may be forgotten.
+   * 
+   * @param failStormPolicy
+   *          policy with the window length
+   * @param nowNanos
+   *          current time (System.nanoTime())
+   * @return true, if the current window has expired without fails
+   */
+  public boolean isIdle(FailStormPolicy failStormPolicy, long nowNanos)
+  {
+    return failStormPolicy.getWindowNanos() <= nowNanos - this.windowStartNanos.get()
+        && 0 == this.failsInWindow.get();
+  }
+
+  /**
+   * Takes the number of fails suppressed in the current window (e.g. to report before it ends).
+   * 
+   * @return number of suppressed fails not yet reported
+   */
+  public long takeSuppressedFails()
+  {
+    return this.suppressedFails.getAndSet(0);
+  }
+
+}
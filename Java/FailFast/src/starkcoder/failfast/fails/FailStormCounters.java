@@ -0,0 +1,151 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+
+package starkcoder.failfast.fails;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * The {link:FailStormCounter}'s of a failer, looked up by the parts of their {link:FailStormKey}.
+ * <p>
+ * Looking up an existing counter does not allocate. Only counters are removed - the maps per
+ * failer specification method and caller type are bounded by the code using the failer.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailStormCounters
+{
+
+  private final ConcurrentMap<String, ConcurrentMap<Class<?>,
+      ConcurrentMap<String, FailStormCounter>>> methodId2CallerType2Format2Counter =
+      new ConcurrentHashMap<String, ConcurrentMap<Class<?>,
+      ConcurrentMap<String, FailStormCounter>>>();
+
+  /**
+   * Gets the counter of the fails identified by the arguments - created on first use.
+   * 
+   * @param failerSpecificationAndMethodId
+   *          unique id of the failer specification method
+   * @param callerType
+   *          class of the caller
+   * @param failMessageFormat
+   *          message format used
+   * @param nowNanos
+   *          start of the first window of a created counter (System.nanoTime())
+   * @return counter of the fails
+   */
+  public FailStormCounter getFailStormCounter(String failerSpecificationAndMethodId,
+      Class<?> callerType, String failMessageFormat, long nowNanos)
+  {
+    ConcurrentMap<Class<?>, ConcurrentMap<String, FailStormCounter>> callerType2Format2Counter =
+        this.methodId2CallerType2Format2Counter.get(failerSpecificationAndMethodId);
+    if (null == callerType2Format2Counter)
+    {
+      callerType2Format2Counter = new ConcurrentHashMap<Class<?>,
+          ConcurrentMap<String, FailStormCounter>>();
+      ConcurrentMap<Class<?>, ConcurrentMap<String, FailStormCounter>> racing =
+          this.methodId2CallerType2Format2Counter.putIfAbsent(failerSpecificationAndMethodId,
+              callerType2Format2Counter);
+      if (null != racing)
+      {
+        callerType2Format2Counter = racing;
+      }
+    }
+    ConcurrentMap<String, FailStormCounter> format2Counter = callerType2Format2Counter
+        .get(callerType);
+    if (null == format2Counter)
+    {
+      format2Counter = new ConcurrentHashMap<String, FailStormCounter>();
+      ConcurrentMap<String, FailStormCounter> racing = callerType2Format2Counter.putIfAbsent(
+          callerType, format2Counter);
+      if (null != racing)
+      {
+        format2Counter = racing;
+      }
+    }
+    FailStormCounter result = format2Counter.get(failMessageFormat);
+    if (null == result)
+    {
+      result = new FailStormCounter(new FailStormKey(failerSpecificationAndMethodId, callerType,
+          failMessageFormat), nowNanos);
+      FailStormCounter racing = format2Counter.putIfAbsent(failMessageFormat, result);
+      if (null != racing)
+      {
+        result = racing;
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Gets a snapshot of all counters.
+   * 
+   * @return counters at the time of the call
+   */
+  public List<FailStormCounter> getFailStormCounters()
+  {
+    List<FailStormCounter> result = new ArrayList<FailStormCounter>();
+    for (ConcurrentMap<Class<?>, ConcurrentMap<String, FailStormCounter>> callerType2Format2Counter
+        : this.methodId2CallerType2Format2Counter.values())
+    {
+      for (ConcurrentMap<String, FailStormCounter> format2Counter : callerType2Format2Counter
+          .values())
+      {
+        result.addAll(format2Counter.values());
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Removes a counter (e.g. an idle one).
+   * 
+   * @param failStormCounter
+   *          counter to remove
+   * @return true, if the counter was removed by this call
+   */
+  public boolean removeFailStormCounter(FailStormCounter failStormCounter)
+  {
+    FailStormKey failStormKey = failStormCounter.getFailStormKey();
+    ConcurrentMap<Class<?>, ConcurrentMap<String, FailStormCounter>> callerType2Format2Counter =
+        this.methodId2CallerType2Format2Counter.get(failStormKey
+            .getFailerSpecificationAndMethodId());
+    if (null == callerType2Format2Counter)
+    {
+      return false;
+    }
+    ConcurrentMap<String, FailStormCounter> format2Counter = callerType2Format2Counter
+        .get(failStormKey.getCallerType());
+    return null != format2Counter
+        && format2Counter.remove(failStormKey.getFailMessageFormat(), failStormCounter);
+  }
+
+}
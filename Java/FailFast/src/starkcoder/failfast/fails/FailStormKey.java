@@ -0,0 +1,121 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+/**
+ * Identifies fails that are counted together by {link:FailStormPolicy}.
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailStormKey
+{
+
+  private final String failerSpecificationAndMethodId;
+  private final Class<?> callerType;
+  private final String failMessageFormat;
+  private final int hashCode;
+
+  /**
+   * Constructor.
+   * 
+   * @param failerSpecificationAndMethodId
+   *          unique id of the failer specification method
+   * @param callerType
+   *          class of the caller
+   * @param failMessageFormat
+   *          message format used
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   */
+  public FailStormKey(String failerSpecificationAndMethodId, Class<?> callerType,
+      String failMessageFormat)
+  {
+    if (null == failerSpecificationAndMethodId)
+    {
+      throw new IllegalArgumentException("failerSpecificationAndMethodId is null");
+    }
+    if (null == callerType)
+    {
+      throw new IllegalArgumentException("callerType is null");
+    }
+    if (null == failMessageFormat)
+    {
+      throw new IllegalArgumentException("failMessageFormat is null");
+    }
+    this.failerSpecificationAndMethodId = failerSpecificationAndMethodId;
+    this.callerType = callerType;
+    this.failMessageFormat = failMessageFormat;
+    this.hashCode = (failerSpecificationAndMethodId.hashCode() * 31 + callerType.hashCode()) * 31
+        + failMessageFormat.hashCode();
+  }
+
+  public String getFailerSpecificationAndMethodId()
+  {
+    return this.failerSpecificationAndMethodId;
+  }
+
+  public Class<?> getCallerType()
+  {
+    return this.callerType;
+  }
+
+  public String getFailMessageFormat()
+  {
+    return this.failMessageFormat;
+  }
+
+  @Override
+  public int hashCode()
+  {
+    return this.hashCode;
+  }
+
+  @Override
+  public boolean equals(Object object)
+  {
+    if (this == object)
+    {
+      return true;
+    }
+    if (!(object instanceof FailStormKey))
+    {
+      return false;
+    }
+    FailStormKey other = (FailStormKey) object;
+    return this.hashCode == other.hashCode && this.callerType == other.callerType
+        && this.failerSpecificationAndMethodId.equals(other.failerSpecificationAndMethodId)
+        && this.failMessageFormat.equals(other.failMessageFormat);
+  }
+
+  @Override
+  public String toString()
+  {
+    return "'" + this.failerSpecificationAndMethodId + "' by " + this.callerType.getName()
+        + " with '" + this.failMessageFormat + "'";
+  }
+
+}
@@ -0,0 +1,102 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Policy detecting fail storms - the same fail repeated at a high rate (e.g. when an upstream
+ * dependency breaks).
+ * <p>
+ * Fails are grouped by {link:FailStormKey} (failer specification method, caller class and message
+ * format) and counted in windows of fixed length. The first maximumFullFailsPerWindow fails of a
+ * key in a window are reported in full. Later fails in the window get an exception without stack
+ * trace and are not notified one by one - observers implementing {link:IFailerStormObserver}
+ * receive the number of these suppressed fails instead.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class FailStormPolicy
+{
+
+  private final int maximumFullFailsPerWindow;
+  private final long windowNanos;
+
+  /**
+   * Constructor.
+   * 
+   * @param maximumFullFailsPerWindow
+   *          number of fails per key and window reported in full
+   * @param windowMillis
+   *          length of a window in milliseconds
+   * @throws IllegalArgumentException
+   *           if maximumFullFailsPerWindow or windowMillis is less than 1
+   */
+  public FailStormPolicy(int maximumFullFailsPerWindow, long windowMillis)
+  {
+    if (maximumFullFailsPerWindow < 1)
+    {
+      throw new IllegalArgumentException("maximumFullFailsPerWindow must be at least 1 - not "
+          + maximumFullFailsPerWindow);
+    }
+    if (windowMillis < 1)
+    {
+      throw new IllegalArgumentException("windowMillis must be at least 1 - not " + windowMillis);
+    }
+    this.maximumFullFailsPerWindow = maximumFullFailsPerWindow;
+    this.windowNanos = TimeUnit.MILLISECONDS.toNanos(windowMillis);
+  }
+
+  /**
+   * Number of fails per key and window reported in full.
+   * 
+   * @return maximum number of full fails per window
+   */
+  public int getMaximumFullFailsPerWindow()
+  {
+    return this.maximumFullFailsPerWindow;
+  }
+
+  /**
+   * Length of a window.
+   * 
+   * @return window length in nanoseconds
+   */
+  public long getWindowNanos()
+  {
+    return this.windowNanos;
+  }
+
+  @Override
+  public String toString()
+  {
+    return "FailStormPolicy(" + this.maximumFullFailsPerWindow + " per "
+        + TimeUnit.NANOSECONDS.toMillis(this.windowNanos) + " [ms])";
+  }
+
+}
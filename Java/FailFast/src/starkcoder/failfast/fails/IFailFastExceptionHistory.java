@@ -0,0 +1,95 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Specifies a lock-free history of fail-fast exceptions - the first per thread and the most recent.
+ * <p>
+ * A supervisor can use this to find which workers failed without locking out the fail path.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IFailFastExceptionHistory extends IFailFastExceptionReference
+{
+  /**
+   * Returns the first fail-fast exception thrown on the thread, if any.
+   * 
+   * @param thread
+   *          thread to look up
+   * @return first fail-fast exception of the thread, or null
+   * @throws IllegalArgumentException
+   *           if thread is null
+   */
+  IFailFastException getFailFastExceptionOfThreadOrNull(Thread thread);
+
+  /**
+   * Returns the first fail-fast exception per thread that failed.
+   * <p>
+   * Threads are only weakly referenced. Bounded by
+   * {link:#getFailFastExceptionPerThreadCapacity()}: when full, terminated threads are forgotten,
+   * and if all are alive, the exceptions of further threads are only recent.
+   * </p>
+   * 
+   * @return snapshot of thread ids and their first fail-fast exception
+   */
+  Map<Long, IFailFastException> getFailFastExceptionPerThreadId();
+
+  /**
+   * Maximum number of threads with a first fail-fast exception remembered - set with
+   * {link:IFailerCustomizer#setFailFastExceptionPerThreadCapacity(int)}.
+   * 
+   * @return capacity of the first fail-fast exception per thread
+   */
+  int getFailFastExceptionPerThreadCapacity();
+
+  /**
+   * Returns the most recent fail-fast exceptions - bounded by
+   * {link:#getRecentFailFastExceptionCapacity()}.
+   * 
+   * @return snapshot of recent fail-fast exceptions, oldest first
+   */
+  List<FailFastExceptionRecord> getRecentFailFastExceptions();
+
+  /**
+   * Maximum number of recent fail-fast exceptions remembered.
+   * 
+   * @return capacity of the recent fail-fast exceptions
+   */
+  int getRecentFailFastExceptionCapacity();
+
+  /**
+   * Forgets the first fail-fast exception per thread and the recent fail-fast exceptions.
+   * <p>
+   * {link:IFailFastExceptionReference#getFailFastExceptionOrNull()} is not affected.
+   * </p>
+   */
+  void clearFailFastExceptionHistory();
+}
@@ -28,6 +28,7 @@ package starkcoder.failfast.fails;
 
 import starkcoder.failfast.contractors.ICallContractorReference;
 import starkcoder.failfast.fails.objects.IObjectFailer;
+import starkcoder.failfast.fails.primitives.IPrimitiveFailer;
 
 /**
  * Failer specification.
@@ -44,9 +45,8 @@ import starkcoder.failfast.fails.objects.IObjectFailer;
  * 
  * @author Keld Oelykke
  */
-public interface IFailer extends ICallContractorReference, IFailFastExceptionReference,
-    IObjectFailer,
-    // IPrimitiveFailer, -- TODO: make this to avoid boxing/unboxing penalties?
+public interface IFailer extends ICallContractorReference, IFailFastExceptionHistory,
+    IObjectFailer, IPrimitiveFailer,
     // IGenericsFailer -- TODO: determine whether this is needed at all?
     IFailerPublisher, IFailerCustomizer
 {
@@ -90,7 +90,8 @@ public interface IFailerCustomizer
    *          a custom exception class that the failer specification method should throw
    * 
    * @throws IllegalArgumentException
-   *           if any of the arguments are null
+   *           if any of the arguments are null, or failExceptionType has no public constructor
+   *           taking a single String argument
    * @throws IllegalStateException
    *           if the failerSpecificationAndMethodID already has a registration
    */
@@ -180,7 +181,7 @@ public interface IFailerCustomizer
    *          custom message arguments that fail-method should use
    * 
    * @throws IllegalArgumentException
-   *           if any of the arguments are null
+   *           if any of the arguments are null, or failMessageArguments has an illegal entry
    * @throws IllegalStateException
    *           if the failerSpecificationAndMethodID already has a registration
    */
@@ -202,4 +203,97 @@ public interface IFailerCustomizer
    */
   void unregisterCustomFailMessageArguments(String failerSpecificationAndMethodId);
 
+  /**
+   * Retrieves the stack trace policy used by fail-methods without a custom stack trace policy.
+   * 
+   * @return default stack trace policy - initially {link:FailStackTracePolicy#Always}
+   */
+  FailStackTracePolicy getFailStackTracePolicy();
+
+  /**
+   * Sets the stack trace policy used by fail-methods without a custom stack trace policy.
+   * 
+   * @param failStackTracePolicy
+   *          default stack trace policy
+   * 
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   */
+  void setFailStackTracePolicy(FailStackTracePolicy failStackTracePolicy);
+
+  /**
+   * Retrieves a custom stack trace policy, if set, that the fail-method should use instead of the
+   * default stack trace policy of this.
+   * 
+   * @param failerSpecificationAndMethodId
+   *          unique id of a failer specification method to to affect
+   * 
+   * @return custom stack trace policy of the supplied failer specification method, or null
+   * 
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   */
+  FailStackTracePolicy getCustomFailStackTracePolicyOrNull(String failerSpecificationAndMethodId);
+
+  /**
+   * Registers a custom stack trace policy that the supplied failer specification method should use
+   * instead of the default stack trace policy of this.
+   * <p>
+   * E.g. {link:FailStackTracePolicy#Never} for a fail-method used on a high-rate rejection path.
+   * </p>
+   * 
+   * @param failerSpecificationAndMethodId
+   *          unique id of a failer specification method to to affect
+   * @param failStackTracePolicy
+   *          custom stack trace policy that fail-method should use
+   * 
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   * @throws IllegalStateException
+   *           if the failerSpecificationAndMethodID already has a registration
+   */
+  void registerCustomFailStackTracePolicy(String failerSpecificationAndMethodId,
+      FailStackTracePolicy failStackTracePolicy);
+
+  /**
+   * Unregisters a previously registered custom stack trace policy for the supplied failer
+   * specification method.
+   * 
+   * @param failerSpecificationAndMethodId
+   *          unique id of a failer specification method to to affect
+   * 
+   * @throws IllegalArgumentException
+   *           if any of the arguments are null
+   * @throws IllegalStateException
+   *           if the failerSpecificationAndMethodID has no registration to unregister
+   */
+  void unregisterCustomFailStackTracePolicy(String failerSpecificationAndMethodId);
+
+  /**
+   * Retrieves the fail storm policy, if set.
+   * 
+   * @return fail storm policy, or null if fail storms are not detected (default)
+   */
+  FailStormPolicy getFailStormPolicyOrNull();
+
+  /**
+   * Sets the fail storm policy - fails exceeding its rate are reported with reduced detail and
+   * aggregated notifications.
+   * 
+   * @param failStormPolicyOrNull
+   *          fail storm policy, or null to stop detecting fail storms
+   */
+  void setFailStormPolicy(FailStormPolicy failStormPolicyOrNull);
+
+  /**
+   * Sets the maximum number of threads with a first fail-fast exception remembered - see
+   * {link:IFailFastExceptionHistory#getFailFastExceptionPerThreadCapacity()}.
+   * 
+   * @param capacity
+   *          capacity of the first fail-fast exception per thread, 0 to only keep recent ones
+   * @throws IllegalArgumentException
+   *           if capacity is negative
+   */
+  void setFailFastExceptionPerThreadCapacity(int capacity);
+
 }
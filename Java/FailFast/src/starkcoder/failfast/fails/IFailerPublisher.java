@@ -61,7 +61,18 @@ public interface IFailerPublisher
    * @throws IllegalArgumentException
    *           if any of the arguments are null
    * @throws IllegalStateException
-   *           if either failerObserver or registrationKey is NOT registered
+   *           if either failerObserver or registrationKey is NOT registered, or registrationKey
+   *           was returned when registering another observer
    */
   void unregisterFailerObserver(IFailerObserver failerObserver, Object registrationKey);
+
+  /**
+   * Notifies {link:IFailerStormObserver}'s of fails suppressed by the fail storm policy, but not
+   * notified yet (e.g. call this periodically or at shutdown).
+   * <p>
+   * Fails suppressed in an expired window are also notified by the next fail of any kind. Counters
+   * without fails in a whole window (or all, if the policy is removed) are forgotten.
+   * </p>
+   */
+  void flushFailStorms();
 }
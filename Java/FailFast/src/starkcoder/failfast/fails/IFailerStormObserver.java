@@ -0,0 +1,56 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+/**
+ * This is a specification for observers that would like aggregated counts of fails suppressed by a
+ * {link:FailStormPolicy}.
+ * <p>
+ * Suppressed fails are not notified one by one with
+ * {link:IFailerObserver#notifyExceptionBeforeThrow(IFailer, ICallContract, RuntimeException)}.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IFailerStormObserver extends IFailerObserver
+{
+  /**
+   * Notifies a number of fails suppressed since the last notification for the key.
+   * <p>
+   * Called when the first fail of a new window finds suppressed fails in the expired window, or by
+   * {link:IFailerPublisher#flushFailStorms()}.
+   * </p>
+   * 
+   * @param failer
+   *          instance that suppressed the fails
+   * @param failStormKey
+   *          key of the suppressed fails
+   * @param numberOfSuppressedFails
+   *          number of suppressed fails (at least 1)
+   */
+  void notifyFailStorm(IFailer failer, FailStormKey failStormKey, long numberOfSuppressedFails);
+}
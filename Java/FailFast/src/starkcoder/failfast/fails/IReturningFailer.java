@@ -0,0 +1,88 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+/**
+ * Specifies a failer returning the exception of an asserting check instead of throwing it.
+ * <p>
+ * A fail ends the contract exactly as the fail-method of the wrapped {link:IFailer} does (same
+ * customizations, observers notified and first fail-fast exception remembered), but returns the
+ * constructed exception. This avoids stack unwinding and try-catches in pipelines that only collect
+ * rejections and move on.
+ * </p>
+ * <p>
+ * This is no {link:IFailer}, so it cannot be passed where a throwing failer is expected. The
+ * fail-method is selected by the fail specification and the arguments - like calling the
+ * fail-method with these arguments on the wrapped failer.
+ * </p>
+ * <p>
+ * Usage:
+ * 
+ * <pre>
+ * if (checker.isObjectNull(this, reference))
+ * {
+ *   rejections.add(returningFailer.fail(IObjectNullFail.class, this, &quot;reference&quot;));
+ * }
+ * </pre>
+ * 
+ * </p>
+ * <p>
+ * Combine with {link:FailStackTracePolicy#Never} to make the exception itself cheap.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IReturningFailer
+{
+  /**
+   * The failer whose fail-methods this ends contracts like - also holding the customizations,
+   * observers and first fail-fast exception.
+   * 
+   * @return wrapped failer - never null
+   */
+  IFailer getFailer();
+
+  /**
+   * Ends the contract of an asserting check and returns the exception instead of throwing it.
+   * 
+   * @param failSpecification
+   *          fail specification with the fail-method (e.g. IObjectNullFail.class)
+   * @param caller
+   *          end-user instance initiating the check
+   * @param failArguments
+   *          remaining arguments of the fail-method (e.g. the reference name and a message)
+   * @return exception of the fail - never null
+   * @throws IllegalArgumentException
+   *           if failSpecification or caller is null, or failSpecification has no fail-method
+   *           taking the arguments
+   * @throws IllegalStateException
+   *           if no contract of an asserting check with the fail specification is pushed for the
+   *           caller
+   */
+  RuntimeException fail(Class<? extends IFail> failSpecification, Object caller,
+      Object... failArguments);
+}
@@ -0,0 +1,104 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+/**
+ * Concrete implementation of {link:IReturningFailer} - wraps a failer and returns its exceptions.
+ * <p>
+ * Programming errors (e.g. a fail without an asserting check) still throw.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public class ReturningFailer implements IReturningFailer
+{
+
+  private final AFailer failer;
+
+  /**
+   * Constructor receiving the failer to end contracts like.
+   * <p>
+   * This is ready for use after this call.
+   * </p>
+   * 
+   * @param failer
+   *          failer with the call contractor, customizations and observers to use
+   * @throws IllegalArgumentException
+   *           if failer is null
+   */
+  public ReturningFailer(AFailer failer)
+  {
+    if (null == failer)
+    {
+      throw new IllegalArgumentException("failer is null");
+    }
+    this.failer = failer;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.IReturningFailer#getFailer()
+   */
+  @Override
+  public IFailer getFailer()
+  {
+    return this.failer;
+  }
+
+  /*
+   * (non-Javadoc)
+   * 
+   * @see starkcoder.failfast.fails.IReturningFailer#fail(java.lang.Class, java.lang.Object,
+   * java.lang.Object[])
+   */
+  @Override
+  public RuntimeException fail(Class<? extends IFail> failSpecification, Object caller,
+      Object... failArguments)
+  {
+    if (null == failSpecification)
+    {
+      throw new IllegalArgumentException("failSpecification is null");
+    }
+    if (null == caller)
+    {
+      throw new IllegalArgumentException("caller is null");
+    }
+    if (null == failArguments)
+    {
+      throw new IllegalArgumentException("failArguments is null");
+    }
+
+    Object[] failerArguments = new Object[failArguments.length + 1];
+    failerArguments[0] = caller;
+    System.arraycopy(failArguments, 0, failerArguments, 1, failArguments.length);
+    SFailSpecifications.checkFailArguments(failSpecification, failerArguments);
+    return this.failer.popContractWithCallerAndReturnException(caller, failSpecification,
+        failerArguments, AFailer.EmptyObjectArray);
+  }
+
+}
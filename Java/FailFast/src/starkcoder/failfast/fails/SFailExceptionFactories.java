@@ -0,0 +1,114 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Static registry of exception factories.
+ * <p>
+ * Exception types - from {link:NFail} annotations, failer customizations and contract
+ * customizations - are resolved once into a {link:FailExceptionFactory} and reused by all fails.
+ * </p>
+ * <p>
+ * Factories are kept in a {link:ClassValue} e.g. stored with the exception class itself, so the
+ * registry does not keep classes (and their class loaders) alive on a redeploy.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class SFailExceptionFactories
+{
+
+  private static final AtomicInteger failExceptionFactoryCount = new AtomicInteger();
+
+  /**
+   * Factories per exception type - replaced by {link:#clear()}.
+   */
+  private static volatile ClassValue<FailExceptionFactory> failExceptionFactories =
+      createFailExceptionFactories();
+
+  private static ClassValue<FailExceptionFactory> createFailExceptionFactories()
+  {
+    return new ClassValue<FailExceptionFactory>()
+    {
+      @Override
+      protected FailExceptionFactory computeValue(Class<?> type)
+      {
+        failExceptionFactoryCount.incrementAndGet();
+        return FailExceptionFactory.resolve(type.asSubclass(RuntimeException.class));
+      }
+    };
+  }
+
+  private SFailExceptionFactories()
+  {
+  }
+
+  /**
+   * Retrieves the factory of the exception type.
+   * 
+   * @param exceptionType
+   *          concrete exception type with a public (String) constructor
+   * @return factory - never null
+   * @throws IllegalArgumentException
+   *           if exceptionType is null, abstract or has no public (String) constructor
+   */
+  public static FailExceptionFactory lookupFailExceptionFactory(
+      Class<? extends RuntimeException> exceptionType)
+  {
+    if (null == exceptionType)
+    {
+      throw new IllegalArgumentException("exceptionType is null");
+    }
+    return failExceptionFactories.get(exceptionType);
+  }
+
+  /**
+   * Number of exception types resolved since startup or the last {link:#clear()}.
+   * <p>
+   * Threads racing to the first lookup of an exception type may both resolve it, so this can
+   * exceed the number of distinct exception types.
+   * </p>
+   * 
+   * @return number of resolutions
+   */
+  public static int getFailExceptionFactoryCount()
+  {
+    return failExceptionFactoryCount.get();
+  }
+
+  /**
+   * Forgets all resolved exception types e.g. when classes are reloaded.
+   */
+  public static void clear()
+  {
+    failExceptionFactories = createFailExceptionFactories();
+    failExceptionFactoryCount.set(0);
+  }
+
+}
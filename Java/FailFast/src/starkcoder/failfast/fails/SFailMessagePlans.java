@@ -0,0 +1,182 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Static registry of compiled fail message arguments and formats.
+ * <p>
+ * Message arguments and formats - from {link:NFail} annotations, failer customizations and
+ * contract customizations - are compiled once into a {link:FailMessagePlan} and a
+ * {link:FailMessageTemplate} and reused by all fails.
+ * </p>
+ * <p>
+ * Each registry holds at most {link:#MaximumCacheSize} entries. When full, further arguments and
+ * formats (e.g. built per contract) are compiled on each use instead of retained.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class SFailMessagePlans
+{
+
+  /**
+   * Maximum number of compiled message arguments (and formats) retained.
+   */
+  public static final int MaximumCacheSize = 1024;
+
+  private static final ConcurrentMap<String, FailMessagePlan> failMessagePlans =
+      new ConcurrentHashMap<String, FailMessagePlan>();
+
+  private static final ConcurrentMap<String, FailMessageTemplate> failMessageTemplates =
+      new ConcurrentHashMap<String, FailMessageTemplate>();
+
+  private SFailMessagePlans()
+  {
+  }
+
+  /**
+   * Retrieves the compiled message arguments.
+   * 
+   * @param failMessageArguments
+   *          message arguments to compile e.g. "fu0, fu1, cu1"
+   * @return compiled plan - never null
+   * @throws IllegalArgumentException
+   *           if failMessageArguments is null or has an illegal entry
+   */
+  public static FailMessagePlan lookupFailMessagePlan(String failMessageArguments)
+  {
+    if (null == failMessageArguments)
+    {
+      throw new IllegalArgumentException("failMessageArguments is null");
+    }
+    FailMessagePlan result = failMessagePlans.get(failMessageArguments);
+    if (null == result)
+    { // compile once - a racing thread compiles the same plan
+      result = FailMessagePlan.compile(failMessageArguments);
+      if (failMessagePlans.size() < MaximumCacheSize)
+      {
+        FailMessagePlan previousOrNull = failMessagePlans.putIfAbsent(failMessageArguments,
+            result);
+        if (null != previousOrNull)
+        {
+          result = previousOrNull;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Retrieves the compiled message format.
+   * 
+   * @param failMessageFormat
+   *          message format to compile e.g. "%s: Object '%s' is null."
+   * @return compiled template - never null
+   * @throws IllegalArgumentException
+   *           if failMessageFormat is null
+   */
+  public static FailMessageTemplate lookupFailMessageTemplate(String failMessageFormat)
+  {
+    if (null == failMessageFormat)
+    {
+      throw new IllegalArgumentException("failMessageFormat is null");
+    }
+    FailMessageTemplate result = failMessageTemplates.get(failMessageFormat);
+    if (null == result)
+    { // compile once - a racing thread compiles the same template
+      result = FailMessageTemplate.compile(failMessageFormat);
+      if (failMessageTemplates.size() < MaximumCacheSize)
+      {
+        FailMessageTemplate previousOrNull = failMessageTemplates.putIfAbsent(failMessageFormat,
+            result);
+        if (null != previousOrNull)
+        {
+          result = previousOrNull;
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * Validates message arguments e.g. when registered as a customization.
+   * 
+   * @param failMessageArguments
+   *          message arguments to validate e.g. "fu0, fu1, cu1"
+   * @throws IllegalArgumentException
+   *           if failMessageArguments is null or has an illegal entry
+   */
+  public static void validateFailMessageArguments(String failMessageArguments)
+  {
+    if (null == failMessageArguments)
+    {
+      throw new IllegalArgumentException("failMessageArguments is null");
+    }
+    try
+    {
+      lookupFailMessagePlan(failMessageArguments);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      throw new IllegalArgumentException("failMessageArguments '" + failMessageArguments
+          + "' has " + illegalArgumentException.getMessage(), illegalArgumentException);
+    }
+  }
+
+  /**
+   * Number of compiled message arguments.
+   * 
+   * @return number of entries in the registry
+   */
+  public static int getFailMessagePlanCount()
+  {
+    return failMessagePlans.size();
+  }
+
+  /**
+   * Number of compiled message formats.
+   * 
+   * @return number of entries in the registry
+   */
+  public static int getFailMessageTemplateCount()
+  {
+    return failMessageTemplates.size();
+  }
+
+  /**
+   * Forgets all compiled message arguments and formats.
+   */
+  public static void clear()
+  {
+    failMessagePlans.clear();
+    failMessageTemplates.clear();
+  }
+
+}
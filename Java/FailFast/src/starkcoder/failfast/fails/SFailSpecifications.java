@@ -0,0 +1,451 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails;
+
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Static registry of reflected fail specifications.
+ * <p>
+ * A fail specification (interface extending {link:IFail}) is reflected once, when first touched.
+ * The fail-methods are grouped by number of parameters, so the {link:NFail} annotation of a fail
+ * call is a single array lookup. Only when a fail specification overloads fail-methods with the
+ * same number of parameters, the runtime argument types are matched against the declared parameter
+ * types. The match is not cached - a cache keyed by argument classes (including the caller) grows
+ * with the callers and keeps their classes alive.
+ * </p>
+ * <p>
+ * Reflections are kept in a {link:ClassValue} e.g. stored with the fail specification class
+ * itself, so the registry does not keep classes (and their class loaders) alive on a redeploy.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public final class SFailSpecifications
+{
+
+  /**
+   * Fail-methods of a fail specification with the same number of parameters.
+   */
+  protected static final class FailOverloads
+  {
+    private final Method[] methods;
+    private final NFail[] failAnnotations;
+    private final Class<?>[][] boxedParameterTypes;
+    private final boolean[][] primitiveParameters;
+
+    protected FailOverloads(Method[] methods)
+    {
+      this.methods = methods;
+      this.failAnnotations = new NFail[methods.length];
+      this.boxedParameterTypes = new Class<?>[methods.length][];
+      this.primitiveParameters = new boolean[methods.length][];
+      for (int index = 0; index < methods.length; ++index)
+      {
+        Class<?>[] parameterTypes = methods[index].getParameterTypes();
+        boolean[] primitiveParameters = new boolean[parameterTypes.length];
+        for (int j = 0; j < parameterTypes.length; ++j)
+        {
+          primitiveParameters[j] = parameterTypes[j].isPrimitive();
+          parameterTypes[j] = boxType(parameterTypes[j]);
+        }
+        this.boxedParameterTypes[index] = parameterTypes;
+        this.primitiveParameters[index] = primitiveParameters;
+        this.failAnnotations[index] = methods[index].getAnnotation(NFail.class);
+      }
+    }
+
+    protected Method getMethod(int index)
+    {
+      return this.methods[index];
+    }
+
+    protected NFail getFailAnnotationOrNull(int index)
+    {
+      return this.failAnnotations[index];
+    }
+
+    /**
+     * Resolves the index of the fail-method matching the runtime argument types or -1, if none
+     * matches.
+     */
+    protected int resolveIndex(Object[] arguments)
+    {
+      int result = -1;
+
+      if (1 == this.methods.length)
+      { // no overloads - the compiler already matched the argument types
+        result = 0;
+      }
+      else
+      {
+        result = this.matchIndex(arguments);
+      }
+
+      return result;
+    }
+
+    private int matchIndex(Object[] arguments)
+    {
+      for (int index = 0; index < this.methods.length; ++index)
+      {
+        Class<?>[] parameterTypes = this.boxedParameterTypes[index];
+        boolean allParametersHaveMatchingType = true;
+        for (int j = 0; j < parameterTypes.length; ++j)
+        {
+          Object argument = arguments[j];
+          if (null == argument)
+          { // null matches all Object type parameters
+            if (this.primitiveParameters[index][j])
+            {
+              allParametersHaveMatchingType = false;
+              break;
+            }
+          }
+          else if (!parameterTypes[j].isInstance(argument))
+          {
+            allParametersHaveMatchingType = false;
+            break;
+          }
+        }
+        if (allParametersHaveMatchingType)
+        {
+          return index;
+        }
+      }
+      return -1;
+    }
+  }
+
+  /**
+   * Fail-methods of a fail specification indexed by number of parameters.
+   */
+  protected static final class FailSpecification
+  {
+    private final FailOverloads[] arity2OverloadsOrNull;
+
+    protected FailSpecification(FailOverloads[] arity2OverloadsOrNull)
+    {
+      this.arity2OverloadsOrNull = arity2OverloadsOrNull;
+    }
+
+    protected FailOverloads getOverloadsOrNull(int arity)
+    {
+      return (arity < this.arity2OverloadsOrNull.length ? this.arity2OverloadsOrNull[arity] : null);
+    }
+  }
+
+  private static final AtomicInteger failSpecificationCount = new AtomicInteger();
+
+  /**
+   * Reflections per fail specification - replaced by {link:#clear()}.
+   */
+  private static volatile ClassValue<FailSpecification> failSpecifications =
+      createFailSpecifications();
+
+  private static ClassValue<FailSpecification> createFailSpecifications()
+  {
+    return new ClassValue<FailSpecification>()
+    {
+      @Override
+      protected FailSpecification computeValue(Class<?> type)
+      {
+        failSpecificationCount.incrementAndGet();
+        return reflectFailSpecification(type);
+      }
+    };
+  }
+
+  private SFailSpecifications()
+  {
+  }
+
+  /**
+   * Retrieves the annotation of the fail-method matching the fail arguments.
+   * 
+   * @param failSpecificationType
+   *          fail specification
+   * @param messageFormatArguments
+   *          arguments of the called fail-method
+   * @return annotation - never null
+   * @throws IllegalArgumentException
+   *           if no fail-method matches or the matching fail-method is not annotated
+   */
+  public static NFail lookupFailAnnotation(Class<?> failSpecificationType,
+      Object[] messageFormatArguments)
+  {
+    NFail result = null;
+
+    FailOverloads overloads = lookupFailSpecification(failSpecificationType).getOverloadsOrNull(
+        messageFormatArguments.length);
+    int index = (null == overloads ? -1 : overloads.resolveIndex(messageFormatArguments));
+    if (index < 0)
+    {
+      throw new IllegalArgumentException(failSpecificationType + " contains no method with "
+          + messageFormatArguments.length + " arguments with appropriate types");
+    }
+    else
+    {
+      NFail failAnnotation = overloads.getFailAnnotationOrNull(index);
+      if (null == failAnnotation)
+      {
+        throw new IllegalArgumentException(failSpecificationType + "."
+            + overloads.getMethod(index).getName() + " is not annotated with a NFail annotaiton");
+      }
+      result = failAnnotation;
+    }
+
+    return result;
+  }
+
+  /**
+   * Checks that a fail-method of the fail specification takes the fail arguments - for arguments
+   * not matched by the compiler (e.g. of {link:IReturningFailer}).
+   * 
+   * @param failSpecificationType
+   *          fail specification
+   * @param failArguments
+   *          arguments for a fail-method
+   * @throws IllegalArgumentException
+   *           if no fail-method takes the arguments
+   */
+  public static void checkFailArguments(Class<?> failSpecificationType, Object[] failArguments)
+  {
+    FailOverloads overloads = lookupFailSpecification(failSpecificationType).getOverloadsOrNull(
+        failArguments.length);
+    if (null == overloads || overloads.matchIndex(failArguments) < 0)
+    {
+      throw new IllegalArgumentException(failSpecificationType + " contains no method with "
+          + failArguments.length + " arguments with appropriate types");
+    }
+  }
+
+  /**
+   * Reflects the given fail specifications.
+   * 
+   * @param failSpecificationTypes
+   *          fail specifications to warm up
+   * @throws IllegalArgumentException
+   *           if any of the fail specifications are null, contain no methods or contain a
+   *           fail-method without a {link:NFail} annotation (with a constructible exception type)
+   */
+  @SafeVarargs
+  public static void warmUp(Class<? extends IFail>... failSpecificationTypes)
+  {
+    if (null == failSpecificationTypes)
+    {
+      throw new IllegalArgumentException("failSpecificationTypes is null");
+    }
+    for (Class<? extends IFail> failSpecificationType : failSpecificationTypes)
+    {
+      lookupFailSpecification(failSpecificationType);
+      for (Method method : failSpecificationType.getDeclaredMethods())
+      {
+        NFail failAnnotation = method.getAnnotation(NFail.class);
+        if (null == failAnnotation)
+        {
+          throw new IllegalArgumentException(failSpecificationType + "." + method.getName()
+              + " is not annotated with a NFail annotaiton");
+        }
+        // resolve the default exception constructors too
+        SFailExceptionFactories.lookupFailExceptionFactory(failAnnotation.failExceptionType());
+      }
+    }
+  }
+
+  /**
+   * Reflects all fail specifications implemented by the failer.
+   * <p>
+   * Fail specifications are the interfaces (of the failer type hierarchy) directly extending
+   * {link:IFail}.
+   * </p>
+   * 
+   * @param failer
+   *          failer to warm up
+   * @return number of fail specifications found
+   * @throws IllegalArgumentException
+   *           if failer is null or any of its fail specifications are invalid
+   */
+  public static int warmUp(IFailer failer)
+  {
+    if (null == failer)
+    {
+      throw new IllegalArgumentException("failer is null");
+    }
+    int result = 0;
+
+    Set<Class<?>> visitedTypes = new HashSet<Class<?>>();
+    Deque<Class<?>> pendingTypes = new ArrayDeque<Class<?>>();
+    for (Class<?> type = failer.getClass(); null != type; type = type.getSuperclass())
+    {
+      pendingTypes.add(type);
+    }
+    while (!pendingTypes.isEmpty())
+    {
+      Class<?> type = pendingTypes.poll();
+      if (visitedTypes.add(type))
+      {
+        Class<?>[] superInterfaces = type.getInterfaces();
+        for (Class<?> superInterface : superInterfaces)
+        {
+          if (IFail.class == superInterface)
+          {
+            warmUp(type.asSubclass(IFail.class));
+            ++result;
+          }
+          else
+          {
+            pendingTypes.add(superInterface);
+          }
+        }
+      }
+    }
+
+    return result;
+  }
+
+  /**
+   * Number of fail specifications reflected since startup or the last {link:#clear()}.
+   * <p>
+   * Threads racing to the first lookup of a fail specification may both reflect it, so this can
+   * exceed the number of distinct fail specifications.
+   * </p>
+   * 
+   * @return number of reflections
+   */
+  public static int getFailSpecificationCount()
+  {
+    return failSpecificationCount.get();
+  }
+
+  /**
+   * Forgets all reflected fail specifications e.g. when classes are reloaded.
+   */
+  public static void clear()
+  {
+    failSpecifications = createFailSpecifications();
+    failSpecificationCount.set(0);
+  }
+
+  protected static FailSpecification lookupFailSpecification(Class<?> failSpecificationType)
+  {
+    if (null == failSpecificationType)
+    {
+      throw new IllegalArgumentException("failSpecificationType is null");
+    }
+    return failSpecifications.get(failSpecificationType);
+  }
+
+  protected static FailSpecification reflectFailSpecification(Class<?> failSpecificationType)
+  {
+    Method[] methodInfos = failSpecificationType.getDeclaredMethods();
+    if (methodInfos.length <= 0)
+    {
+      throw new IllegalArgumentException(failSpecificationType + " contains no methods");
+    }
+
+    int maximumArity = 0;
+    for (Method methodInfo : methodInfos)
+    {
+      maximumArity = Math.max(maximumArity, methodInfo.getParameterTypes().length);
+    }
+    List<List<Method>> arity2Methods = new ArrayList<List<Method>>();
+    for (int arity = 0; arity <= maximumArity; ++arity)
+    {
+      arity2Methods.add(new ArrayList<Method>());
+    }
+    for (Method methodInfo : methodInfos)
+    {
+      arity2Methods.get(methodInfo.getParameterTypes().length).add(methodInfo);
+    }
+    FailOverloads[] arity2OverloadsOrNull = new FailOverloads[maximumArity + 1];
+    for (int arity = 0; arity <= maximumArity; ++arity)
+    {
+      List<Method> methods = arity2Methods.get(arity);
+      if (!methods.isEmpty())
+      {
+        arity2OverloadsOrNull[arity] = new FailOverloads(methods.toArray(new Method[methods
+            .size()]));
+      }
+    }
+
+    return new FailSpecification(arity2OverloadsOrNull);
+  }
+
+  protected static Class<?> boxType(Class<?> type)
+  {
+    Class<?> result = type;
+    if (type.isPrimitive())
+    {
+      if (boolean.class == type)
+      {
+        result = Boolean.class;
+      }
+      else if (byte.class == type)
+      {
+        result = Byte.class;
+      }
+      else if (char.class == type)
+      {
+        result = Character.class;
+      }
+      else if (short.class == type)
+      {
+        result = Short.class;
+      }
+      else if (int.class == type)
+      {
+        result = Integer.class;
+      }
+      else if (long.class == type)
+      {
+        result = Long.class;
+      }
+      else if (float.class == type)
+      {
+        result = Float.class;
+      }
+      else if (double.class == type)
+      {
+        result = Double.class;
+      }
+      else if (void.class == type)
+      {
+        result = Void.class;
+      }
+    }
+    return result;
+  }
+
+}
@@ -34,7 +34,9 @@ package starkcoder.failfast.fails.objects;
  * 
  * @author Keld Oelykke
  */
-public interface IObjectCollectionFailer extends IObjectCollectionEqualsFail
+public interface IObjectCollectionFailer extends IObjectCollectionEqualsFail,
+    IObjectCollectionSetEqualsFail, IObjectCollectionSetNotEqualsFail,
+    IObjectCollectionMultisetEqualsFail, IObjectCollectionMultisetNotEqualsFail
 {
 
 }
@@ -0,0 +1,52 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.fails.primitives;
+
+import starkcoder.failfast.fails.primitives.booleans.IPrimitiveBooleanFailer;
+import starkcoder.failfast.fails.primitives.bytes.IPrimitiveByteFailer;
+import starkcoder.failfast.fails.primitives.characters.IPrimitiveCharacterFailer;
+import starkcoder.failfast.fails.primitives.doubles.IPrimitiveDoubleFailer;
+import starkcoder.failfast.fails.primitives.floats.IPrimitiveFloatFailer;
+import starkcoder.failfast.fails.primitives.integers.IPrimitiveIntegerFailer;
+import starkcoder.failfast.fails.primitives.longs.IPrimitiveLongFailer;
+import starkcoder.failfast.fails.primitives.shorts.IPrimitiveShortFailer;
+
+/**
+ * Specification grouping all primitive fail specifications.
+ * <p>
+ * The fail methods take primitive values, so values are only boxed when a
+ * check asserts and the fail builds its message.
+ * </p>
+ * 
+ * @author Keld Oelykke
+ */
+public interface IPrimitiveFailer extends IPrimitiveBooleanFailer, IPrimitiveByteFailer,
+    IPrimitiveCharacterFailer, IPrimitiveShortFailer, IPrimitiveIntegerFailer, IPrimitiveLongFailer,
+    IPrimitiveFloatFailer, IPrimitiveDoubleFailer
+{
+
+}
@@ -0,0 +1,523 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.AsyncFailerObserverDispatcher;
+import starkcoder.failfast.fails.AsyncFailerObserverDispatcher.OverflowPolicy;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+
+/**
+ * Fail-fast unit test of {link:AsyncFailerObserverDispatcher}.
+ * 
+ * @author Keld Oelykke
+ */
+public class AsyncFailerObserverDispatcherTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Observer blocking on a latch and recording the last notification.
+   */
+  private static class BlockingObserver implements IFailerObserver
+  {
+    private final CountDownLatch release;
+    private final AtomicReference<Object> caller = new AtomicReference<Object>();
+    private final AtomicReference<Object> checkArgument = new AtomicReference<Object>();
+    private final AtomicReference<RuntimeException> exception =
+        new AtomicReference<RuntimeException>();
+
+    private BlockingObserver(CountDownLatch release)
+    {
+      this.release = release;
+    }
+
+    @Override
+    public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+        RuntimeException exception)
+    {
+      try
+      {
+        this.release.await();
+      }
+      catch (InterruptedException e)
+      {
+        Thread.currentThread().interrupt();
+      }
+      this.caller.set(callContract.getCaller());
+      this.checkArgument.set(callContract.getCheckArguments()[1]); // [0] is the caller
+      this.exception.set(exception);
+    }
+  }
+
+  private RuntimeException failObjectNotNull(Object reference)
+  {
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    return null;
+  }
+
+  // Async Failer Observer Dispatcher - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithZeroCapacity()
+  {
+    try
+    {
+      new AsyncFailerObserverDispatcher(0, OverflowPolicy.Drop);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("capacity must be at least 1 - not 0", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithNullOverflowPolicy()
+  {
+    try
+    {
+      new AsyncFailerObserverDispatcher(1, null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("overflowPolicy is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testAddFailerObserverTwice()
+  {
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(1, OverflowPolicy.Drop);
+    BlockingObserver observer = new BlockingObserver(new CountDownLatch(0));
+    dispatcher.addFailerObserver(observer);
+    try
+    {
+      dispatcher.addFailerObserver(observer);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("failerObserver " + observer + " is already added.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRemoveFailerObserverNotAdded()
+  {
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(1, OverflowPolicy.Drop);
+    BlockingObserver observer = new BlockingObserver(new CountDownLatch(0));
+    try
+    {
+      dispatcher.removeFailerObserver(observer);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("failerObserver " + observer + " is NOT added.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  // Async Failer Observer Dispatcher - legal usages
+
+  @Test
+  public void testSlowObserverDoesNotStallFail() throws InterruptedException
+  {
+    CountDownLatch release = new CountDownLatch(1);
+    BlockingObserver observer = new BlockingObserver(release);
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(8, OverflowPolicy.Count);
+    dispatcher.addFailerObserver(observer);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      Object reference = new Object();
+      RuntimeException exception = this.failObjectNotNull(reference); // returns while blocked
+      assertEquals(1, dispatcher.getAcceptedEventCount());
+      assertEquals(1, dispatcher.getObserverLag(observer));
+      assertNull(observer.exception.get());
+
+      release.countDown();
+      assertTrue(dispatcher.awaitDispatched(10000));
+      assertSame(this, observer.caller.get());
+      assertSame(reference, observer.checkArgument.get());
+      assertSame(exception, observer.exception.get());
+      assertEquals(0, dispatcher.getObserverLag(observer));
+      assertEquals(1, dispatcher.getObserverNotifiedEventCount(observer));
+      assertEquals(1, dispatcher.getDispatchedEventCount());
+    }
+    finally
+    {
+      release.countDown();
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testCountOverflowPolicy()
+  {
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(2, OverflowPolicy.Count);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    try
+    { // not started - nothing drains the ring
+      for (int index = 0; index < 5; ++index)
+      {
+        this.failObjectNotNull(new Object());
+      }
+      assertEquals(2, dispatcher.getAcceptedEventCount());
+      assertEquals(3, dispatcher.getOverflowEventCount());
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+    }
+  }
+
+  @Test
+  public void testDropOverflowPolicy()
+  {
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(2, OverflowPolicy.Drop);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    try
+    { // not started - nothing drains the ring
+      for (int index = 0; index < 5; ++index)
+      {
+        this.failObjectNotNull(new Object());
+      }
+      assertEquals(2, dispatcher.getAcceptedEventCount());
+      assertEquals(0, dispatcher.getOverflowEventCount());
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+    }
+  }
+
+  @Test
+  public void testBlockOverflowPolicyDeliversAll() throws InterruptedException
+  {
+    BlockingObserver observer = new BlockingObserver(new CountDownLatch(0));
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(2, OverflowPolicy.Block, 2, 1);
+    dispatcher.addFailerObserver(observer);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      for (int index = 0; index < 100; ++index)
+      {
+        this.failObjectNotNull(new Object());
+      }
+      assertTrue(dispatcher.awaitDispatched(10000));
+      assertEquals(100, dispatcher.getAcceptedEventCount());
+      assertEquals(0, dispatcher.getOverflowEventCount());
+      assertEquals(100, dispatcher.getObserverNotifiedEventCount(observer));
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testFailingObserverIsCounted() throws InterruptedException
+  {
+    IFailerObserver failingObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+        throw new IllegalStateException("observer failure");
+      }
+    };
+    BlockingObserver observer = new BlockingObserver(new CountDownLatch(0));
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(4, OverflowPolicy.Block);
+    dispatcher.addFailerObserver(failingObserver);
+    dispatcher.addFailerObserver(observer);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      this.failObjectNotNull(new Object());
+      assertTrue(dispatcher.awaitDispatched(10000));
+      assertEquals(1, dispatcher.getObserverFailedEventCount(failingObserver));
+      assertEquals(0, dispatcher.getObserverLag(failingObserver));
+      assertEquals(1, dispatcher.getObserverNotifiedEventCount(observer));
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testObserverErrorIsCountedAndDispatchingContinues() throws InterruptedException
+  {
+    IFailerObserver erringObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+        throw new AssertionError("observer error");
+      }
+    };
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(4, OverflowPolicy.Block);
+    dispatcher.addFailerObserver(erringObserver);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      for (int index = 0; index < 10; ++index)
+      {
+        this.failObjectNotNull(new Object());
+      }
+      assertTrue(dispatcher.awaitDispatched(10000));
+      assertEquals(10, dispatcher.getObserverFailedEventCount(erringObserver));
+      assertEquals(0, dispatcher.getObserverLag(erringObserver));
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testInterruptedConsumerReleasesBlockedFails() throws InterruptedException
+  {
+    IFailerObserver interruptingObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+        Thread.currentThread().interrupt(); // the consumer exits on its next wait
+      }
+    };
+    final AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(1, OverflowPolicy.Block);
+    dispatcher.addFailerObserver(interruptingObserver);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      this.failObjectNotNull(new Object());
+      assertTrue(dispatcher.awaitDispatched(10000));
+      Thread failingThread = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int index = 0; index < 3; ++index)
+          {
+            failObjectNotNull(new Object());
+          }
+        }
+      };
+      failingThread.start();
+      failingThread.join(10000);
+      assertTrue("Expected blocked fails released", !failingThread.isAlive());
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testObserverAddedLaterIsNotNotifiedOfEarlierFails() throws InterruptedException
+  {
+    CountDownLatch release = new CountDownLatch(1);
+    BlockingObserver observer = new BlockingObserver(release);
+    BlockingObserver laterObserver = new BlockingObserver(new CountDownLatch(0));
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(8, OverflowPolicy.Count);
+    dispatcher.addFailerObserver(observer);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      for (int index = 0; index < 3; ++index)
+      {
+        this.failObjectNotNull(new Object());
+      }
+      dispatcher.addFailerObserver(laterObserver);
+      assertEquals(0, dispatcher.getObserverLag(laterObserver));
+      release.countDown();
+      this.failObjectNotNull(new Object());
+      assertTrue(dispatcher.awaitDispatched(10000));
+      assertEquals(4, dispatcher.getObserverNotifiedEventCount(observer));
+      assertEquals(1, dispatcher.getObserverNotifiedEventCount(laterObserver));
+      assertEquals(0, dispatcher.getObserverLag(observer));
+      assertEquals(0, dispatcher.getObserverLag(laterObserver));
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testSynchronousObserverStillMutatesBeforeThrow() throws InterruptedException
+  {
+    final AtomicReference<RuntimeException> observed = new AtomicReference<RuntimeException>();
+    IFailerObserver synchronousObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+        observed.set(exception);
+      }
+    };
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(4, OverflowPolicy.Block);
+    Object synchronousRegistrationKey = this.failer.registerFailerObserver(synchronousObserver);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    dispatcher.start();
+    try
+    {
+      RuntimeException exception = this.failObjectNotNull(new Object());
+      assertSame(exception, observed.get()); // notified before the throw
+    }
+    finally
+    {
+      this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+      this.failer.unregisterFailerObserver(synchronousObserver, synchronousRegistrationKey);
+      assertTrue(dispatcher.stop(10000));
+    }
+  }
+
+  @Test
+  public void testStopDrainsPending() throws InterruptedException
+  {
+    BlockingObserver observer = new BlockingObserver(new CountDownLatch(0));
+    AsyncFailerObserverDispatcher dispatcher =
+        new AsyncFailerObserverDispatcher(16, OverflowPolicy.Count);
+    dispatcher.addFailerObserver(observer);
+    Object registrationKey = this.failer.registerFailerObserver(dispatcher);
+    for (int index = 0; index < 10; ++index)
+    {
+      this.failObjectNotNull(new Object());
+    }
+    this.failer.unregisterFailerObserver(dispatcher, registrationKey);
+    dispatcher.start();
+    assertTrue(dispatcher.stop(10000));
+    assertEquals(10, dispatcher.getDispatchedEventCount());
+    assertEquals(10, dispatcher.getObserverNotifiedEventCount(observer));
+  }
+
+}
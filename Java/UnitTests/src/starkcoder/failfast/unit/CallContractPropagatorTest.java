@@ -0,0 +1,314 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ACallContractor;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ReclaimingCallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:ICallContractPropagator} as implemented by {link:ACallContractor}.
+ * 
+ * @author Keld Oelykke
+ */
+public class CallContractPropagatorTest
+{
+
+  private ACallContractor contractor;
+  private IChecker checker;
+  private IFailer failer;
+  private ExecutorService executorService;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    this.setUpContractor(new ThreadLocalCallContractor());
+    this.executorService = Executors.newSingleThreadExecutor();
+  }
+
+  private void setUpContractor(ACallContractor contractor)
+  {
+    this.contractor = contractor;
+    this.checker = new Checker(contractor);
+    this.failer = new Failer(contractor);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.executorService.shutdownNow();
+    this.executorService = null;
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  private Callable<Object> failingTask()
+  {
+    final Object caller = this;
+    return new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        failer.failObjectNull(caller, "referenceNull");
+        return null;
+      }
+    };
+  }
+
+  private Throwable getCause(Future<?> future) throws InterruptedException
+  {
+    try
+    {
+      future.get();
+    }
+    catch (ExecutionException executionException)
+    {
+      return executionException.getCause();
+    }
+    throw new AssertionError("no fail");
+  }
+
+  // Call Contract Propagator - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrapRunnableNull()
+  {
+    try
+    {
+      this.contractor.wrapWithContract((Runnable) null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("task is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWrapCallableNull()
+  {
+    try
+    {
+      this.contractor.wrapWithContract((Callable<Object>) null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("task is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRestoreWhenPending()
+  {
+    Object referenceNull = null;
+    assertTrue(this.checker.isObjectNull(this, referenceNull));
+    ICallContract callContract = this.contractor.captureContractOrNull();
+    assertTrue(this.checker.isObjectNull(this, referenceNull));
+    try
+    {
+      this.contractor.restoreContract(callContract);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      ICallContract pending = this.contractor.getContractWithCaller(this);
+      assertEquals("Cannot restore contract " + callContract + " for caller " + this
+          + ", since caller " + this + " first needs to pop contract " + pending + ".",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test
+  public void testWrappedTaskNotEndingContract() throws InterruptedException
+  {
+    Object referenceNull = null;
+    assertTrue(this.checker.isObjectNull(this, referenceNull));
+    final ICallContract callContract = this.contractor.getContractWithCaller(this);
+    Runnable task = new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        // forgets to call the failer
+      }
+    };
+    Throwable cause = this.getCause(this.executorService.submit(this.contractor
+        .wrapWithContract(task)));
+    assertEquals("Task " + task + " returned without ending contract " + callContract
+        + " for caller " + this + ".", cause.getMessage());
+    // the pooled thread is left without a pending contract
+    Future<ICallContract> pending = this.executorService.submit(new Callable<ICallContract>()
+    {
+      @Override
+      public ICallContract call() throws Exception
+      {
+        return contractor.captureContractOrNull();
+      }
+    });
+    try
+    {
+      assertNull(pending.get());
+    }
+    catch (ExecutionException executionException)
+    {
+      throw new AssertionError(executionException);
+    }
+  }
+
+  // Call Contract Propagator - legal usages
+
+  @Test
+  public void testNothingToCapture()
+  {
+    assertNull(this.contractor.captureContractOrNull());
+    this.contractor.restoreContract(null);
+    Runnable runnable = new Runnable()
+    {
+      @Override
+      public void run()
+      {
+      }
+    };
+    assertSame(runnable, this.contractor.wrapWithContract(runnable));
+    Callable<Object> callable = this.failingTask();
+    assertSame(callable, this.contractor.wrapWithContract(callable));
+  }
+
+  @Test
+  public void testCaptureAndRestoreOnAnotherThread() throws InterruptedException
+  {
+    ACallContractor[] contractors = new ACallContractor[]
+    {
+        new CallContractor(), new ThreadLocalCallContractor(), new ReclaimingCallContractor()
+    };
+    for (final ACallContractor contractor : contractors)
+    {
+      this.setUpContractor(contractor);
+      Object referenceNull = null;
+      if (this.checker.isObjectNull(this, referenceNull))
+      {
+        final ICallContract callContract = this.contractor.captureContractOrNull();
+        final Callable<Object> failingTask = this.failingTask();
+        Throwable cause = this.getCause(this.executorService.submit(new Callable<Object>()
+        {
+          @Override
+          public Object call() throws Exception
+          {
+            contractor.restoreContract(callContract);
+            return failingTask.call();
+          }
+        }));
+        assertTrue(cause instanceof FailFastException);
+        assertEquals(this.toString() + ": Object 'referenceNull' is null.", cause.getMessage());
+      }
+      // checking thread is free to push again
+      assertTrue(this.checker.isObjectNull(this, referenceNull));
+      assertEquals(this.contractor.captureContractOrNull().getCaller(), this);
+    }
+  }
+
+  @Test
+  public void testWrappedTaskEndsContract() throws InterruptedException
+  {
+    Object referenceNull = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      Callable<Object> task = this.contractor.wrapWithContract(this.failingTask());
+      Throwable cause = this.getCause(this.executorService.submit(task));
+      assertTrue(cause instanceof FailFastException);
+      assertEquals(this.toString() + ": Object 'referenceNull' is null.", cause.getMessage());
+    }
+    assertNull(this.contractor.captureContractOrNull());
+  }
+
+  @Test
+  public void testReclaimingContractorCountsCapturedContract()
+  {
+    ReclaimingCallContractor reclaimingCallContractor = new ReclaimingCallContractor();
+    this.setUpContractor(reclaimingCallContractor);
+    Object referenceNull = null;
+    assertTrue(this.checker.isObjectNull(this, referenceNull));
+    assertEquals(1, reclaimingCallContractor.getPendingContractCount());
+    ICallContract callContract = this.contractor.captureContractOrNull();
+    assertEquals(0, reclaimingCallContractor.getPendingContractCount());
+    this.contractor.restoreContract(callContract);
+    assertEquals(1, reclaimingCallContractor.getPendingContractCount());
+    assertSame(callContract, this.contractor.captureContractOrNull());
+  }
+
+}
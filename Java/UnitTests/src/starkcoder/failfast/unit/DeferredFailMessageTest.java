@@ -0,0 +1,286 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of deferred message rendering in {link:AFailFastException}.
+ * 
+ * @author Keld Oelykke
+ */
+public class DeferredFailMessageTest
+{
+
+  private ICallContractor contractor;
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.contractor = callContractor;
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Reference counting its renderings.
+   */
+  private static class CountingReference implements Serializable
+  {
+    private static final long serialVersionUID = 1L;
+
+    private final AtomicInteger numberOfRenderings = new AtomicInteger();
+
+    @Override
+    public String toString()
+    {
+      this.numberOfRenderings.incrementAndGet();
+      return "CountingReference";
+    }
+  }
+
+  /**
+   * Fail-fast exception decorating its message in its constructor.
+   */
+  public static class DecoratingFailFastException extends FailFastException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public DecoratingFailFastException(String message)
+    {
+      super("Decorated: " + message);
+    }
+  }
+
+  private FailFastException failObjectNotNull(Object reference, String postfixOrNull)
+  {
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        if (null != postfixOrNull)
+        {
+          this.contractor.getContractWithCaller(this).setCustomFailMessagePostfix(postfixOrNull);
+        }
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  @Test
+  public void testArgumentRenderedAtFail()
+  {
+    CountingReference reference = new CountingReference();
+    FailFastException exception = this.failObjectNotNull(reference, null);
+    assertEquals(1, reference.numberOfRenderings.get());
+    String expected = this.toString() + ": Object 'reference'(CountingReference) is NOT null.";
+    assertEquals(expected, exception.getMessage());
+    assertSame(exception.getMessage(), exception.getMessage()); // cached
+    assertEquals(FailFastException.class.getName() + ": " + expected, exception.toString());
+    assertEquals(1, reference.numberOfRenderings.get());
+  }
+
+  @Test
+  public void testMessageShowsArgumentsAtFail()
+  {
+    List<String> referenceA = new ArrayList<String>(Arrays.asList("a", "b"));
+    List<String> referenceB = new ArrayList<String>(referenceA);
+    FailFastException exception = null;
+    try
+    {
+      if (this.checker.isObjectEquals(this, referenceA, referenceB))
+      {
+        this.failer.failObjectEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      exception = failFastException;
+    }
+    referenceA.clear();
+    referenceB.clear();
+    assertEquals(this.toString() + ": Object 'referenceA'([a, b]) is equal to object"
+        + " 'referenceB'([a, b]).", exception.getMessage());
+  }
+
+  @Test
+  public void testSubclassConstructorGetsMessage()
+  {
+    Object reference = new Object();
+    FailFastException exception = null;
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        this.contractor.getContractWithCaller(this).setCustomFailExceptionType(
+            DecoratingFailFastException.class);
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (DecoratingFailFastException decoratingFailFastException)
+    {
+      exception = decoratingFailFastException;
+    }
+    assertEquals("Decorated: " + this.toString() + ": Object 'reference'(" + reference
+        + ") is NOT null.", exception.getMessage());
+  }
+
+  @Test
+  public void testMessageWithPostfix()
+  {
+    Object reference = new Object();
+    FailFastException exception = this.failObjectNotNull(reference, " Postfix.");
+    String expected = this.toString() + ": Object 'reference'(" + reference
+        + ") is NOT null. Postfix.";
+    assertEquals(expected, exception.getMessage());
+  }
+
+  @Test
+  public void testMessageRenderedOnceByConcurrentReaders() throws InterruptedException
+  {
+    final CountingReference reference = new CountingReference();
+    final FailFastException exception = this.failObjectNotNull(reference, null);
+    final CountDownLatch startLatch = new CountDownLatch(1);
+    final String[] messages = new String[8];
+    Thread[] threads = new Thread[messages.length];
+    for (int index = 0; index < threads.length; ++index)
+    {
+      final int threadIndex = index;
+      threads[index] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          try
+          {
+            startLatch.await();
+          }
+          catch (InterruptedException e)
+          {
+            return;
+          }
+          messages[threadIndex] = exception.getMessage();
+        }
+      };
+      threads[index].start();
+    }
+    startLatch.countDown();
+    for (Thread thread : threads)
+    {
+      thread.join();
+    }
+    assertEquals(1, reference.numberOfRenderings.get());
+    for (String message : messages)
+    {
+      assertSame(messages[0], message);
+    }
+  }
+
+  @Test
+  public void testMessageSurvivesSerialization() throws IOException, ClassNotFoundException
+  {
+    FailFastException exception = this.failObjectNotNull(new CountingReference(), null);
+    ByteArrayOutputStream byteArrayOutputStream = new ByteArrayOutputStream();
+    ObjectOutputStream objectOutputStream = new ObjectOutputStream(byteArrayOutputStream);
+    exception.setCheckerUserArguments(null); // not serializable
+    exception.setFailerUserArguments(null);
+    objectOutputStream.writeObject(exception);
+    objectOutputStream.close();
+    ObjectInputStream objectInputStream = new ObjectInputStream(new ByteArrayInputStream(
+        byteArrayOutputStream.toByteArray()));
+    FailFastException copy = (FailFastException) objectInputStream.readObject();
+    assertEquals(exception.getMessage(), copy.getMessage());
+  }
+
+}
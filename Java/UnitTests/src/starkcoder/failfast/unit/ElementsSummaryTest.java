@@ -0,0 +1,296 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.checks.objects.ElementsSummary;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:ElementsSummary} and its use in equals checks of arrays, lists and
+ * collections.
+ * 
+ * @author Keld Oelykke
+ */
+public class ElementsSummaryTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private static Integer[] createElements(int size)
+  {
+    Integer[] elements = new Integer[size];
+    for (int index = 0; index < size; ++index)
+    {
+      elements[index] = index;
+    }
+    return elements;
+  }
+
+  private static List<Integer> createList(List<Integer> list, int size)
+  {
+    for (int index = 0; index < size; ++index)
+    {
+      list.add(index);
+    }
+    return list;
+  }
+
+  /**
+   * Element counting how many times it is rendered.
+   */
+  private static class RenderCountingElement
+  {
+    private int renderCount = 0;
+
+    @Override
+    public String toString()
+    {
+      ++this.renderCount;
+      return "e";
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testElementBudgetIsNegative()
+  {
+    try
+    {
+      this.checker.setElementsSummaryBudget(-1);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("Expected other message", "elementBudget is negative",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test
+  public void testAllElementsRendered()
+  {
+    assertEquals("Expected all elements", "[]",
+        ElementsSummary.createArraySummary(createElements(0), createElements(0), 12).toString());
+    assertEquals("Expected all elements", "[0, 1, 2]",
+        ElementsSummary.createArraySummary(createElements(3), createElements(3), 12).toString());
+    // 13 elements with a budget of 12 would hide 1 element
+    assertEquals("Expected all elements", "[0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12]",
+        ElementsSummary.createListSummary(createList(new LinkedList<Integer>(), 13),
+            createList(new LinkedList<Integer>(), 13), 12).toString());
+  }
+
+  @Test
+  public void testHeadAndTailRendered()
+  {
+    String expected = "[0, 1, 2, 3, 4, 5, ..., 14, 15, 16, 17, 18, 19]";
+    assertEquals("Expected head and tail", expected,
+        ElementsSummary.createArraySummary(createElements(20), createElements(20), 12).toString());
+    assertEquals("Expected head and tail", expected, ElementsSummary.createListSummary(
+        createList(new ArrayList<Integer>(), 20), createList(new LinkedList<Integer>(), 20), 12)
+        .toString());
+    assertEquals("Expected head and tail", expected, ElementsSummary.createCollectionSummary(
+        new LinkedHashSet<Integer>(createList(new ArrayList<Integer>(), 20)), 12).toString());
+  }
+
+  @Test
+  public void testElementBudget()
+  {
+    assertEquals("Expected 2 head and 1 tail", "[0, 1, ..., 19]",
+        ElementsSummary.createArraySummary(createElements(20), createElements(20), 3).toString());
+    assertEquals("Expected no elements", "[...]",
+        ElementsSummary.createArraySummary(createElements(20), createElements(20), 0).toString());
+    assertEquals("Expected the single element", "[0]",
+        ElementsSummary.createArraySummary(createElements(1), createElements(1), 0).toString());
+  }
+
+  @Test
+  public void testEmptyElementsSeparated()
+  {
+    Object[] elements =
+    {
+        "", "a", "b"
+    };
+    assertEquals("Expected separated elements", "[, a, b]",
+        ElementsSummary.createArraySummary(elements, elements, 12).toString());
+    Object[] emptyElements =
+    {
+        "", "", "", "", "", ""
+    };
+    assertEquals("Expected separated elements", "[, , ..., , ]",
+        ElementsSummary.createArraySummary(emptyElements, emptyElements, 4).toString());
+  }
+
+  @Test
+  public void testShrunkListRendered()
+  {
+    List<Integer> elementsHead = createList(new ArrayList<Integer>(), 20);
+    List<Integer> elementsTail = createList(new ArrayList<Integer>(), 20);
+    ElementsSummary elementsSummary = ElementsSummary.createListSummary(elementsHead,
+        elementsTail, 12);
+    elementsHead.subList(3, 20).clear();
+    elementsTail.subList(3, 20).clear();
+    assertEquals("Expected the remaining elements", "[0, 1, 2, ..., 0, 1, 2]",
+        elementsSummary.toString());
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testSummaryRenderedByTheFail()
+  {
+    RenderCountingElement element = new RenderCountingElement();
+    List<Object> referenceA = new ArrayList<Object>();
+    referenceA.add(element);
+    List<Object> referenceB = new ArrayList<Object>(referenceA);
+    try
+    {
+      if (this.checker.isObjectsEquals(this, referenceA, referenceB))
+      {
+        assertEquals("Expected no rendering by the check", 0, element.renderCount);
+        this.failer.failObjectsEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected 1 rendering by the fail", 1, element.renderCount);
+      assertEquals("Expected other message", this.toString() + ": Objects 'referenceA' is equal"
+          + " to Objects 'referenceB'. There are 1 objects ([e]).", failFastException.getMessage());
+      assertEquals("Expected no rendering by reading the message", 1, element.renderCount);
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testCheckerElementBudget()
+  {
+    this.checker.setElementsSummaryBudget(2);
+    Object[] referenceA = createElements(5);
+    Object[] referenceB = createElements(5);
+    try
+    {
+      if (this.checker.isObjectsEquals(this, referenceA, referenceB))
+      {
+        this.failer.failObjectsEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected other message", this.toString() + ": Objects 'referenceA' is equal"
+          + " to Objects 'referenceB'. There are 5 objects ([0, ..., 4]).",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testCollectionSummary()
+  {
+    HashSet<Object> referenceA = new LinkedHashSet<Object>(createList(new ArrayList<Integer>(),
+        14));
+    HashSet<Object> referenceB = referenceA;
+    try
+    {
+      if (this.checker.isObjectsEquals(this, referenceA, referenceB))
+      {
+        this.failer.failObjectsEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected other message", this.toString() + ": Objects 'referenceA' is equal"
+          + " to Objects 'referenceB'. There are 14 objects ([0, 1, 2, 3, 4, 5, ..., 8, 9, 10, 11,"
+          + " 12, 13]).", failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+}
@@ -0,0 +1,409 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.coordinators.FailFastCoordinator;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:FailFastCoordinator}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastCoordinatorTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private FailFastCoordinator coordinator;
+  private Object observerRegistrationKey;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+    this.coordinator = new FailFastCoordinator();
+    this.observerRegistrationKey = this.failer.registerFailerObserver(this.coordinator);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.failer.unregisterFailerObserver(this.coordinator, this.observerRegistrationKey);
+    this.observerRegistrationKey = null;
+    this.coordinator = null;
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  private FailFastException failObjectNull(Object caller)
+  {
+    Object referenceNull = null;
+    try
+    {
+      if (this.checker.isObjectNull(caller, referenceNull))
+      {
+        this.failer.failObjectNull(caller, "referenceNull");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  private Thread startSleeper(final CountDownLatch interrupted)
+  {
+    Thread thread = new Thread(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        try
+        {
+          Thread.sleep(60000);
+        }
+        catch (InterruptedException interruptedException)
+        {
+          interrupted.countDown();
+        }
+      }
+    });
+    thread.setDaemon(true);
+    thread.start();
+    return thread;
+  }
+
+  // Fail-Fast Coordinator - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterThreadNull()
+  {
+    try
+    {
+      this.coordinator.registerThread(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("thread is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRegisterThreadTwice()
+  {
+    Thread thread = Thread.currentThread();
+    this.coordinator.registerThread(thread);
+    try
+    {
+      this.coordinator.registerThread(thread);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("thread " + thread + " is already registered.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnregisterThreadNotRegistered()
+  {
+    Thread thread = Thread.currentThread();
+    try
+    {
+      this.coordinator.unregisterThread(thread);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("thread " + thread + " is NOT registered.", illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterFutureNull()
+  {
+    try
+    {
+      this.coordinator.registerFuture(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("future is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterExecutorServiceNull()
+  {
+    try
+    {
+      this.coordinator.registerExecutorService(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("executorService is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterShutdownHookNull()
+  {
+    try
+    {
+      this.coordinator.registerShutdownHook(0, null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("shutdownHook is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRegisterShutdownHookWhenStopping()
+  {
+    this.failObjectNull(this);
+    try
+    {
+      this.coordinator.registerShutdownHook(0, new Runnable()
+      {
+        @Override
+        public void run()
+        {
+        }
+      });
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Can't register a shutdown hook since already stopping.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  // Fail-Fast Coordinator - legal usages
+
+  @Test
+  public void testStopsOnFirstFailFastException() throws InterruptedException
+  {
+    assertFalse(this.coordinator.isStopping());
+    assertNull(this.coordinator.getFailFastExceptionOrNull());
+    FailFastException failFastException = this.failObjectNull(this);
+    assertTrue(this.coordinator.isStopping());
+    assertSame(failFastException, this.coordinator.getFailFastExceptionOrNull());
+    this.failObjectNull(this);
+    assertSame(failFastException, this.coordinator.getFailFastExceptionOrNull());
+    assertTrue(this.coordinator.awaitStopped(10000));
+    assertFalse(Thread.currentThread().isInterrupted());
+  }
+
+  @Test
+  public void testIgnoresOtherExceptions()
+  {
+    this.coordinator.notifyExceptionBeforeThrow(this.failer, null, new IllegalStateException());
+    assertFalse(this.coordinator.isStopping());
+  }
+
+  @Test
+  public void testManualStop() throws InterruptedException
+  {
+    assertTrue(this.coordinator.stop(null));
+    assertFalse(this.coordinator.stop(null));
+    assertTrue(this.coordinator.isStopping());
+    assertNull(this.coordinator.getFailFastExceptionOrNull());
+    assertTrue(this.coordinator.awaitStopped(10000));
+  }
+
+  @Test
+  public void testInterruptsRegisteredThreads() throws InterruptedException
+  {
+    CountDownLatch interrupted = new CountDownLatch(2);
+    this.coordinator.registerThread(this.startSleeper(interrupted));
+    this.coordinator.registerThread(this.startSleeper(interrupted));
+    Thread unregisteredThread = this.startSleeper(interrupted);
+    this.coordinator.registerThread(unregisteredThread);
+    this.coordinator.unregisterThread(unregisteredThread);
+    this.failObjectNull(this);
+    assertTrue(interrupted.await(10000, TimeUnit.MILLISECONDS));
+    Thread.sleep(50);
+    assertTrue(unregisteredThread.isAlive());
+    unregisteredThread.interrupt();
+  }
+
+  @Test
+  public void testInterruptsThreadRegisteredAfterStop() throws InterruptedException
+  {
+    this.failObjectNull(this);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    this.coordinator.registerThread(this.startSleeper(interrupted));
+    assertTrue(interrupted.await(10000, TimeUnit.MILLISECONDS));
+  }
+
+  @Test
+  public void testCancelsRegisteredFuturesAndShutsDownExecutors() throws InterruptedException
+  {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    ExecutorService otherExecutorService = Executors.newSingleThreadExecutor();
+    try
+    {
+      Future<Object> future = otherExecutorService.submit(new Callable<Object>()
+      {
+        @Override
+        public Object call() throws Exception
+        {
+          Thread.sleep(60000);
+          return null;
+        }
+      });
+      this.coordinator.registerExecutorService(executorService);
+      this.coordinator.registerFuture(future);
+      this.failObjectNull(this);
+      assertTrue(future.isCancelled());
+      assertTrue(executorService.isShutdown());
+      assertFalse(otherExecutorService.isShutdown());
+      assertTrue(executorService.awaitTermination(10000, TimeUnit.MILLISECONDS));
+    }
+    finally
+    {
+      otherExecutorService.shutdownNow();
+    }
+  }
+
+  @Test
+  public void testFailingTaskIsNotLeftInterrupted() throws Exception
+  {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    final CountDownLatch registered = new CountDownLatch(1);
+    final boolean[] interruptedAfterFail = { true };
+    Future<Object> future = executorService.submit(new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        registered.await();
+        failObjectNull(this);
+        interruptedAfterFail[0] = Thread.currentThread().isInterrupted();
+        return null;
+      }
+    });
+    this.coordinator.registerExecutorService(executorService);
+    this.coordinator.registerFuture(future);
+    registered.countDown();
+    assertTrue(executorService.awaitTermination(10000, TimeUnit.MILLISECONDS));
+    assertTrue(future.isCancelled());
+    assertFalse(interruptedAfterFail[0]);
+  }
+
+  @Test
+  public void testRunsShutdownHooksInOrder() throws InterruptedException
+  {
+    final List<String> runs = Collections.synchronizedList(new ArrayList<String>());
+    final int[] orders = { 2, 0, 1, 0 };
+    for (int index = 0; index < orders.length; ++index)
+    {
+      final String name = orders[index] + "." + index;
+      this.coordinator.registerShutdownHook(orders[index], new Runnable()
+      {
+        @Override
+        public void run()
+        {
+          runs.add(name);
+          if ("1.2".equals(name))
+          {
+            throw new IllegalStateException(name);
+          }
+        }
+      });
+    }
+    this.failObjectNull(this);
+    assertTrue(this.coordinator.awaitStopped(10000));
+    assertEquals("[0.1, 0.3, 1.2, 2.0]", runs.toString());
+    assertEquals(1, this.coordinator.getShutdownHookExceptions().size());
+    assertEquals("1.2", this.coordinator.getShutdownHookExceptions().get(0).getMessage());
+  }
+
+}
@@ -0,0 +1,290 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailFastExceptionRecord;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailFastException;
+import starkcoder.failfast.fails.IFailFastExceptionHistory;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IFailFastExceptionHistory}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastExceptionHistoryTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  private FailFastException failObjectNull(Object caller)
+  {
+    Object referenceNull = null;
+    try
+    {
+      if (this.checker.isObjectNull(caller, referenceNull))
+      {
+        this.failer.failObjectNull(caller, "referenceNull");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  // Fail-Fast Exception History - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testGetFailFastExceptionOfThreadWithNullArgument()
+  {
+    try
+    {
+      this.failer.getFailFastExceptionOfThreadOrNull(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("thread is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  // Fail-Fast Exception History - legal usages
+
+  @Test
+  public void testFirstFailFastExceptionIsKept()
+  {
+    assertNull(this.failer.getFailFastExceptionOrNull());
+    FailFastException first = this.failObjectNull(this);
+    this.failObjectNull(this);
+    assertSame(first, this.failer.getFailFastExceptionOrNull());
+    assertSame(first, this.failer.getFailFastExceptionOfThreadOrNull(Thread.currentThread()));
+  }
+
+  @Test
+  public void testFirstFailFastExceptionPerThread() throws InterruptedException
+  {
+    final FailFastException[] workerFailures = new FailFastException[3];
+    Thread[] workers = new Thread[workerFailures.length];
+    for (int index = 0; index < workers.length; ++index)
+    {
+      final int workerIndex = index;
+      workers[index] = new Thread("Worker" + index)
+      {
+        @Override
+        public void run()
+        {
+          workerFailures[workerIndex] = failObjectNull(this);
+          failObjectNull(this); // not the first
+        }
+      };
+      workers[index].start();
+      workers[index].join(); // one by one - the first worker latches
+    }
+    assertSame(workerFailures[0], this.failer.getFailFastExceptionOrNull());
+    Map<Long, IFailFastException> failFastExceptionPerThreadId = this.failer
+        .getFailFastExceptionPerThreadId();
+    assertEquals(workers.length, failFastExceptionPerThreadId.size());
+    for (int index = 0; index < workers.length; ++index)
+    {
+      assertSame(workerFailures[index], failFastExceptionPerThreadId.get(workers[index].getId()));
+      assertSame(workerFailures[index], this.failer.getFailFastExceptionOfThreadOrNull(
+          workers[index]));
+    }
+    assertNull(this.failer.getFailFastExceptionOfThreadOrNull(Thread.currentThread()));
+  }
+
+  @Test
+  public void testTerminatedThreadsAreForgottenWhenFull() throws InterruptedException
+  {
+    this.failer.setFailFastExceptionPerThreadCapacity(2);
+    Thread[] workers = this.failInWorkers(2);
+    assertEquals(2, this.failer.getFailFastExceptionPerThreadId().size());
+    FailFastException failure = this.failObjectNull(this);
+    Map<Long, IFailFastException> failFastExceptionPerThreadId = this.failer
+        .getFailFastExceptionPerThreadId();
+    assertEquals(1, failFastExceptionPerThreadId.size());
+    assertSame(failure, failFastExceptionPerThreadId.get(Thread.currentThread().getId()));
+    assertNull(this.failer.getFailFastExceptionOfThreadOrNull(workers[0]));
+  }
+
+  @Test
+  public void testLiveThreadsAreKeptWhenFull() throws InterruptedException
+  {
+    this.failer.setFailFastExceptionPerThreadCapacity(1);
+    FailFastException failure = this.failObjectNull(this);
+    Thread[] workers = this.failInWorkers(1);
+    assertEquals(1, this.failer.getFailFastExceptionPerThreadId().size());
+    assertSame(failure, this.failer.getFailFastExceptionOfThreadOrNull(Thread.currentThread()));
+    assertNull(this.failer.getFailFastExceptionOfThreadOrNull(workers[0]));
+    assertEquals(2, this.failer.getRecentFailFastExceptions().size()); // still recent
+  }
+
+  @Test
+  public void testZeroCapacityKeepsOnlyRecent()
+  {
+    this.failer.setFailFastExceptionPerThreadCapacity(0);
+    assertEquals(0, this.failer.getFailFastExceptionPerThreadCapacity());
+    this.failObjectNull(this);
+    assertEquals(0, this.failer.getFailFastExceptionPerThreadId().size());
+    assertNull(this.failer.getFailFastExceptionOfThreadOrNull(Thread.currentThread()));
+    assertEquals(1, this.failer.getRecentFailFastExceptions().size());
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testNegativeCapacity()
+  {
+    try
+    {
+      this.failer.setFailFastExceptionPerThreadCapacity(-1);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("capacity must not be negative - not -1", illegalArgumentException
+          .getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  private Thread[] failInWorkers(int numberOfWorkers) throws InterruptedException
+  {
+    Thread[] workers = new Thread[numberOfWorkers];
+    for (int index = 0; index < workers.length; ++index)
+    {
+      workers[index] = new Thread("Worker" + index)
+      {
+        @Override
+        public void run()
+        {
+          failObjectNull(this);
+        }
+      };
+      workers[index].start();
+      workers[index].join();
+    }
+    return workers;
+  }
+
+  @Test
+  public void testRecentFailFastExceptionsAreBounded()
+  {
+    int capacity = this.failer.getRecentFailFastExceptionCapacity();
+    assertTrue(0 < capacity);
+    assertEquals(0, this.failer.getRecentFailFastExceptions().size());
+    FailFastException last = null;
+    long timeBefore = System.currentTimeMillis();
+    for (int index = 0; index < capacity + 5; ++index)
+    {
+      last = this.failObjectNull(this);
+    }
+    List<FailFastExceptionRecord> records = this.failer.getRecentFailFastExceptions();
+    assertEquals(capacity, records.size());
+    for (int index = 0; index < records.size(); ++index)
+    {
+      FailFastExceptionRecord record = records.get(index);
+      assertEquals(5 + index, record.getSequenceNumber()); // oldest first
+      assertSame(Thread.currentThread(), record.getThread());
+      assertTrue(timeBefore <= record.getTimestampMillis());
+    }
+    assertSame(last, records.get(capacity - 1).getFailFastException());
+  }
+
+  @Test
+  public void testClearFailFastExceptionHistory()
+  {
+    FailFastException first = this.failObjectNull(this);
+    this.failer.clearFailFastExceptionHistory();
+    assertEquals(0, this.failer.getRecentFailFastExceptions().size());
+    assertEquals(0, this.failer.getFailFastExceptionPerThreadId().size());
+    assertSame(first, this.failer.getFailFastExceptionOrNull()); // not affected
+    FailFastException next = this.failObjectNull(this);
+    assertSame(next, this.failer.getFailFastExceptionOfThreadOrNull(Thread.currentThread()));
+    assertEquals(1, this.failer.getRecentFailFastExceptions().size());
+  }
+
+}
@@ -0,0 +1,498 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.coordinators.FailFastExecutorService;
+import starkcoder.failfast.coordinators.IFailFastScope;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+
+/**
+ * Fail-fast unit test of {link:FailFastExecutorService}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailFastExecutorServiceTest implements IFailerObserver
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private Object observerRegistrationKey;
+  private AtomicInteger numberOfNotifications;
+  private FailFastExecutorService executorService;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+    this.numberOfNotifications = new AtomicInteger();
+    this.observerRegistrationKey = this.failer.registerFailerObserver(this);
+    this.executorService = new FailFastExecutorService(Executors.newFixedThreadPool(2),
+        this.failer);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.executorService.shutdownNow();
+    this.executorService = null;
+    this.failer.unregisterFailerObserver(this, this.observerRegistrationKey);
+    this.observerRegistrationKey = null;
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Override
+  public void notifyExceptionBeforeThrow(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    this.numberOfNotifications.incrementAndGet();
+  }
+
+  private Callable<Object> failingTask(final IChecker checker, final IFailer failer)
+  {
+    final Object caller = this;
+    return new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        Object referenceNull = null;
+        if (checker.isObjectNull(caller, referenceNull))
+        {
+          failer.failObjectNull(caller, "referenceNull");
+        }
+        return null;
+      }
+    };
+  }
+
+  private Callable<Object> sleepingTask(final CountDownLatch started,
+      final CountDownLatch interrupted)
+  {
+    return new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        started.countDown();
+        try
+        {
+          Thread.sleep(60000);
+        }
+        catch (InterruptedException interruptedException)
+        {
+          interrupted.countDown();
+          throw interruptedException;
+        }
+        return null;
+      }
+    };
+  }
+
+  // Fail-Fast Executor Service - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithExecutorServiceNull()
+  {
+    try
+    {
+      new FailFastExecutorService(null, this.failer);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("executorService is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithFailerPublisherNull()
+  {
+    ExecutorService executorService = Executors.newSingleThreadExecutor();
+    try
+    {
+      new FailFastExecutorService(executorService, null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("failerPublisher is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+    finally
+    {
+      executorService.shutdownNow();
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testScopeSubmitNull()
+  {
+    try
+    {
+      this.executorService.openScope().submit((Callable<Object>) null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("task is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testOpenScopeWhenShutDown()
+  {
+    this.executorService.shutdown();
+    try
+    {
+      this.executorService.openScope();
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Can't open a scope since the executor service is shut down.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  // Fail-Fast Executor Service - legal usages
+
+  @Test
+  public void testScopeWithoutFailure() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    Future<String> futureA = scope.submit(new Callable<String>()
+    {
+      @Override
+      public String call() throws Exception
+      {
+        return "A";
+      }
+    });
+    final AtomicInteger runs = new AtomicInteger();
+    Future<?> futureB = scope.submit(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        runs.incrementAndGet();
+      }
+    });
+    scope.join();
+    assertEquals("A", futureA.get());
+    assertNull(futureB.get());
+    assertEquals(1, runs.get());
+    assertFalse(scope.isFailed());
+    assertNull(scope.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testFailureCancelsRunningAndQueuedSiblings() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Future<Object> runningSibling = scope.submit(this.sleepingTask(started, interrupted));
+    assertTrue(started.await(10000, TimeUnit.MILLISECONDS));
+    Future<Object> failingTask = scope.submit(this.failingTask(this.checker, this.failer));
+    final AtomicInteger queuedRuns = new AtomicInteger();
+    Future<?> queuedSibling = scope.submit(new Runnable()
+    {
+      @Override
+      public void run()
+      {
+        queuedRuns.incrementAndGet();
+      }
+    });
+    try
+    {
+      scope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      assertSame(failFastException, scope.getFailFastExceptionOrNull());
+    }
+    assertTrue(scope.isFailed());
+    assertTrue(interrupted.await(10000, TimeUnit.MILLISECONDS));
+    assertTrue(runningSibling.isCancelled());
+    assertFalse(failingTask.isCancelled());
+    try
+    {
+      failingTask.get();
+      throw new AssertionError("no fail");
+    }
+    catch (ExecutionException executionException)
+    {
+      assertSame(scope.getFailFastExceptionOrNull(), executionException.getCause());
+    }
+    assertTrue(queuedSibling.isCancelled() || 1 == queuedRuns.get());
+    assertEquals(1, this.numberOfNotifications.get());
+  }
+
+  @Test
+  public void testSubmitAfterFailureIsCancelled() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    scope.submit(this.failingTask(this.checker, this.failer));
+    try
+    {
+      scope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      // expected
+    }
+    Future<Object> future = scope.submit(this.failingTask(this.checker, this.failer));
+    assertTrue(future.isCancelled());
+    assertEquals(1, this.numberOfNotifications.get());
+  }
+
+  @Test
+  public void testFailureOfUnobservedFailerFailsScope() throws Exception
+  {
+    ICallContractor callContractor = new CallContractor();
+    IChecker otherChecker = new Checker(callContractor);
+    IFailer otherFailer = new Failer(callContractor);
+    IFailFastScope scope = this.executorService.openScope();
+    scope.submit(this.failingTask(otherChecker, otherFailer));
+    try
+    {
+      scope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      assertSame(failFastException, scope.getFailFastExceptionOrNull());
+    }
+    assertEquals(0, this.numberOfNotifications.get());
+  }
+
+  @Test
+  public void testScopesAreIndependent() throws Exception
+  {
+    IFailFastScope failingScope = this.executorService.openScope();
+    IFailFastScope otherScope = this.executorService.openScope();
+    CountDownLatch started = new CountDownLatch(1);
+    CountDownLatch interrupted = new CountDownLatch(1);
+    Future<Object> otherTask = otherScope.submit(this.sleepingTask(started, interrupted));
+    assertTrue(started.await(10000, TimeUnit.MILLISECONDS));
+    failingScope.submit(this.failingTask(this.checker, this.failer));
+    try
+    {
+      failingScope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      // expected
+    }
+    assertFalse(otherScope.isFailed());
+    assertFalse(otherTask.isDone());
+    otherTask.cancel(true);
+  }
+
+  @Test
+  public void testRejectedTaskLeavesScope() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    this.executorService.shutdown();
+    try
+    {
+      scope.submit(this.failingTask(this.checker, this.failer));
+      throw new AssertionError("not rejected");
+    }
+    catch (RejectedExecutionException rejectedExecutionException)
+    {
+      // expected
+    }
+    scope.join(); // does not wait for the rejected task
+    assertFalse(scope.isFailed());
+  }
+
+  @Test
+  public void testJoinWaitsForCancelledSiblingToExit() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    final CountDownLatch started = new CountDownLatch(1);
+    final AtomicBoolean exited = new AtomicBoolean();
+    scope.submit(new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        started.countDown();
+        try
+        {
+          Thread.sleep(60000);
+        }
+        catch (InterruptedException interruptedException)
+        {
+          Thread.sleep(100); // cleaning up after the interrupt
+          exited.set(true);
+        }
+        return null;
+      }
+    });
+    assertTrue(started.await(10000, TimeUnit.MILLISECONDS));
+    scope.submit(this.failingTask(this.checker, this.failer));
+    try
+    {
+      scope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      assertTrue(exited.get());
+    }
+  }
+
+  @Test
+  public void testHandledFailureDoesNotFailScope() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    final Callable<Object> failingTask = this.failingTask(this.checker, this.failer);
+    Future<String> future = scope.submit(new Callable<String>()
+    {
+      @Override
+      public String call() throws Exception
+      {
+        try
+        {
+          failingTask.call();
+        }
+        catch (FailFastException failFastException)
+        {
+          return "handled";
+        }
+        return "no fail";
+      }
+    });
+    scope.join();
+    assertEquals("handled", future.get());
+    assertFalse(scope.isFailed());
+    assertEquals(1, this.numberOfNotifications.get());
+  }
+
+  @Test
+  public void testWrappedFailureFailsScope() throws Exception
+  {
+    IFailFastScope scope = this.executorService.openScope();
+    final Callable<Object> failingTask = this.failingTask(this.checker, this.failer);
+    scope.submit(new Callable<Object>()
+    {
+      @Override
+      public Object call() throws Exception
+      {
+        try
+        {
+          return failingTask.call();
+        }
+        catch (FailFastException failFastException)
+        {
+          throw new IllegalStateException("wrapped", failFastException);
+        }
+      }
+    });
+    try
+    {
+      scope.join();
+      throw new AssertionError("no fail");
+    }
+    catch (FailFastException failFastException)
+    {
+      assertSame(failFastException, scope.getFailFastExceptionOrNull());
+    }
+    assertTrue(scope.isFailed());
+  }
+
+  @Test
+  public void testShutdownTwice()
+  {
+    this.executorService.shutdown();
+    this.executorService.shutdown();
+    assertTrue(this.executorService.isShutdown());
+  }
+
+}
@@ -0,0 +1,201 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.lang.reflect.Method;
+import java.util.Formattable;
+import java.util.Formatter;
+import java.util.HashSet;
+import java.util.MissingFormatArgumentException;
+import java.util.Set;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.fails.FailMessageTemplate;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFail;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.NFail;
+
+/**
+ * Fail-fast unit test of {link:FailMessageTemplate}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailMessageTemplateTest
+{
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  private Object[][] argumentsSet = new Object[][]
+  {
+      {
+          this, "referenceA", "referenceB", "message", "extra", "more"
+      },
+      {
+          this, null, 42, 4.2, new int[]
+          {
+            1
+          }, 'c', true, "percent % sign", "%s"
+      },
+  };
+
+  @Test
+  public void testAllFailerFormats()
+  {
+    int numberOfFailMethods = 0;
+    for (Method failerMethod : Failer.class.getMethods())
+    {
+      if (failerMethod.getName().startsWith("fail") && 0 < failerMethod.getParameterTypes().length)
+      {
+        ++numberOfFailMethods;
+      }
+    }
+    int numberOfFailFormats = this.assertFormats(IFailer.class, new HashSet<Class<?>>());
+    assertEquals("Expected every fail-method format verified", numberOfFailMethods,
+        numberOfFailFormats);
+  }
+
+  private int assertFormats(Class<?> type, Set<Class<?>> visitedTypes)
+  {
+    int result = 0;
+    if (!visitedTypes.add(type))
+    {
+      return result;
+    }
+    if (IFail.class.isAssignableFrom(type) && IFail.class != type)
+    {
+      for (Method failMethod : type.getDeclaredMethods())
+      {
+        NFail failAnnotation = failMethod.getAnnotation(NFail.class);
+        FailMessageTemplate failMessageTemplate = FailMessageTemplate.compile(failAnnotation
+            .failMessageFormat());
+        assertTrue("Expected compiled " + failMethod, failMessageTemplate.isCompiled());
+        for (Object[] samples : this.argumentsSet)
+        {
+          Object[] arguments = new Object[failMessageTemplate.getArgumentCount()];
+          for (int index = 0; index < arguments.length; ++index)
+          {
+            arguments[index] = samples[index % samples.length];
+          }
+          assertEquals(failMethod.toString(),
+              String.format(failAnnotation.failMessageFormat(), arguments),
+              failMessageTemplate.render(arguments));
+        }
+        ++result;
+      }
+    }
+    for (Class<?> superInterface : type.getInterfaces())
+    {
+      result += this.assertFormats(superInterface, visitedTypes);
+    }
+    return result;
+  }
+
+  @Test
+  public void testEscapes()
+  {
+    String failMessageFormat = "%s: 100%% done.%n";
+    FailMessageTemplate failMessageTemplate = FailMessageTemplate.compile(failMessageFormat);
+    assertTrue(failMessageTemplate.isCompiled());
+    assertEquals(1, failMessageTemplate.getArgumentCount());
+    assertEquals(String.format(failMessageFormat, this), failMessageTemplate.render(new Object[]
+    {
+      this
+    }));
+  }
+
+  @Test
+  public void testFallbackSpecifiers()
+  {
+    String failMessageFormat = "%s: %d items (%2$x) %-8s|";
+    FailMessageTemplate failMessageTemplate = FailMessageTemplate.compile(failMessageFormat);
+    assertFalse(failMessageTemplate.isCompiled());
+    Object[] arguments = new Object[]
+    {
+        this, 42, "left"
+    };
+    assertEquals(String.format(failMessageFormat, arguments),
+        failMessageTemplate.render(arguments));
+  }
+
+  @Test
+  public void testFallbackFormattable()
+  {
+    Formattable formattable = new Formattable()
+    {
+      @Override
+      public void formatTo(Formatter formatter, int flags, int width, int precision)
+      {
+        formatter.format("formatted");
+      }
+
+      @Override
+      public String toString()
+      {
+        return "toString";
+      }
+    };
+    FailMessageTemplate failMessageTemplate = FailMessageTemplate.compile("%s: %s");
+    assertEquals("caller: formatted", failMessageTemplate.render(new Object[]
+    {
+        "caller", formattable
+    }));
+  }
+
+  @Test(expected = MissingFormatArgumentException.class)
+  public void testMissingArgument()
+  {
+    FailMessageTemplate.compile("%s: %s").render(new Object[]
+    {
+      this
+    });
+  }
+
+}
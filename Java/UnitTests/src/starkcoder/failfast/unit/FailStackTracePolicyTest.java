@@ -0,0 +1,340 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.checks.objects.IObjectNotNullCheck;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStackTracePolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.objects.IObjectNotNullFail;
+
+/**
+ * Fail-fast unit test of {link:FailStackTracePolicy}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailStackTracePolicyTest
+{
+
+  private static final String FailerSpecificationAndMethodId =
+      "IObjectNotNullFail.failObjectNotNull(Object caller, String referenceName)";
+
+  private ICallContractor contractor;
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.contractor = callContractor;
+    this.checker = new Checker(callContractor);
+    this.failer = new Failer(callContractor);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  private FailFastException failObjectNotNull(Object reference,
+      FailStackTracePolicy contractFailStackTracePolicyOrNull)
+  {
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        this.contractor.getContractWithCaller(this).setCustomFailStackTracePolicy(
+            contractFailStackTracePolicyOrNull);
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  // Fail Stack Trace Policy - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSampledWithZero()
+  {
+    try
+    {
+      FailStackTracePolicy.sampled(0);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("n must be at least 1 - not 0", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testSetFailStackTracePolicyWithNullArgument()
+  {
+    try
+    {
+      this.failer.setFailStackTracePolicy(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("failStackTracePolicy is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterCustomFailStackTracePolicyWithNullArgument0()
+  {
+    try
+    {
+      this.failer.registerCustomFailStackTracePolicy(null, FailStackTracePolicy.Never);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("failerSpecificationAndMethodId is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterCustomFailStackTracePolicyWithNullArgument1()
+  {
+    try
+    {
+      this.failer.registerCustomFailStackTracePolicy(FailerSpecificationAndMethodId, null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("failStackTracePolicy is null", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testRegisterCustomFailStackTracePolicyTwice()
+  {
+    this.failer.registerCustomFailStackTracePolicy(FailerSpecificationAndMethodId,
+        FailStackTracePolicy.Never);
+    try
+    {
+      this.failer.registerCustomFailStackTracePolicy(FailerSpecificationAndMethodId,
+          FailStackTracePolicy.Always);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      String expected = "A custom fail stack trace policy 'Never' has already been registered "
+          + "for failer specification method '" + FailerSpecificationAndMethodId + "'";
+      assertEquals(expected, illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testUnregisterCustomFailStackTracePolicyWithoutRegistration()
+  {
+    try
+    {
+      this.failer.unregisterCustomFailStackTracePolicy(FailerSpecificationAndMethodId);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      String expected = "Can't unregister a custom fail stack trace policy for failer "
+          + "specification method '" + FailerSpecificationAndMethodId
+          + "' since none is registered.";
+      assertEquals(expected, illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  // Fail Stack Trace Policy - legal usages
+
+  @Test
+  public void testDefaultPolicyFillsInStackTrace()
+  {
+    assertSame(FailStackTracePolicy.Always, this.failer.getFailStackTracePolicy());
+    FailFastException exception = this.failObjectNotNull(new Object(), null);
+    assertTrue(0 < exception.getStackTrace().length);
+  }
+
+  @Test
+  public void testNeverKeepsMetadataWithoutStackTrace()
+  {
+    Object reference = new Object();
+    this.failer.setFailStackTracePolicy(FailStackTracePolicy.Never);
+    FailFastException exception = this.failObjectNotNull(reference, null);
+    assertEquals(0, exception.getStackTrace().length);
+    String expected = this.toString() + ": Object 'reference'(" + reference + ") is NOT null.";
+    assertEquals(expected, exception.getMessage());
+    assertSame(IObjectNotNullCheck.class, exception.getCheckerSpecificationType());
+    assertSame(IObjectNotNullFail.class, exception.getFailerSpecificationType());
+    assertSame(reference, exception.getCheckerUserArguments()[1]);
+    assertSame(exception, this.failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testSampledFillsInEveryNthStackTrace()
+  {
+    this.failer.setFailStackTracePolicy(FailStackTracePolicy.sampled(3));
+    for (int index = 0; index < 9; ++index)
+    {
+      FailFastException exception = this.failObjectNotNull(new Object(), null);
+      assertEquals(0 == index % 3, 0 < exception.getStackTrace().length);
+    }
+  }
+
+  @Test
+  public void testCustomFailStackTracePolicyOverridesDefault()
+  {
+    this.failer.registerCustomFailStackTracePolicy(FailerSpecificationAndMethodId,
+        FailStackTracePolicy.Never);
+    assertSame(FailStackTracePolicy.Never,
+        this.failer.getCustomFailStackTracePolicyOrNull(FailerSpecificationAndMethodId));
+    assertEquals(0, this.failObjectNotNull(new Object(), null).getStackTrace().length);
+    this.failer.unregisterCustomFailStackTracePolicy(FailerSpecificationAndMethodId);
+    assertNull(this.failer.getCustomFailStackTracePolicyOrNull(FailerSpecificationAndMethodId));
+    assertTrue(0 < this.failObjectNotNull(new Object(), null).getStackTrace().length);
+  }
+
+  @Test
+  public void testContractFailStackTracePolicyOverridesCustom()
+  {
+    this.failer.registerCustomFailStackTracePolicy(FailerSpecificationAndMethodId,
+        FailStackTracePolicy.Never);
+    FailFastException exception = this.failObjectNotNull(new Object(),
+        FailStackTracePolicy.Always);
+    assertTrue(0 < exception.getStackTrace().length);
+  }
+
+  /**
+   * Exception not inheriting fail-fast exceptions, but with the stack trace optional constructor.
+   */
+  public static class StackTraceOptionalException extends RuntimeException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public StackTraceOptionalException(String message)
+    {
+      super(message);
+    }
+
+    public StackTraceOptionalException(String message, Throwable throwable,
+        boolean enableSuppression, boolean writableStackTrace)
+    {
+      super(message, throwable, enableSuppression, writableStackTrace);
+    }
+  }
+
+  /**
+   * Exception with a message constructor only.
+   */
+  public static class MessageOnlyException extends RuntimeException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public MessageOnlyException(String message)
+    {
+      super(message);
+    }
+  }
+
+  private RuntimeException failObjectNotNullWithCustomException(
+      Class<? extends RuntimeException> exceptionType)
+  {
+    try
+    {
+      if (this.checker.isObjectNotNull(this, new Object()))
+      {
+        this.contractor.getContractWithCaller(this).setCustomFailExceptionType(exceptionType);
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (RuntimeException runtimeException)
+    {
+      assertSame(exceptionType, runtimeException.getClass());
+      return runtimeException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  @Test
+  public void testNeverHonouredByCustomExceptionWithStackTraceOptionalConstructor()
+  {
+    this.failer.setFailStackTracePolicy(FailStackTracePolicy.Never);
+    assertEquals(0, this.failObjectNotNullWithCustomException(StackTraceOptionalException.class)
+        .getStackTrace().length);
+    assertTrue(0 < this.failObjectNotNullWithCustomException(MessageOnlyException.class)
+        .getStackTrace().length);
+  }
+
+}
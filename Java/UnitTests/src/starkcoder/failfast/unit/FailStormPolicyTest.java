@@ -0,0 +1,299 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.FailStormKey;
+import starkcoder.failfast.fails.FailStormPolicy;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerStormObserver;
+
+/**
+ * Fail-fast unit test of {link:FailStormPolicy}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FailStormPolicyTest implements IFailerStormObserver
+{
+
+  /**
+   * Failer exposing the number of its fail storm counters.
+   */
+  private static class CountedFailer extends Failer
+  {
+    public CountedFailer(ICallContractor callContractor)
+    {
+      super(callContractor);
+    }
+
+    public int getNumberOfFailStormCounters()
+    {
+      return this.getFailStormCounters().getFailStormCounters().size();
+    }
+  }
+
+  private IChecker checker;
+  private CountedFailer failer;
+  private Object observerRegistrationKey;
+  private List<RuntimeException> notifiedExceptions;
+  private List<FailStormKey> notifiedFailStormKeys;
+  private List<Long> notifiedNumberOfSuppressedFails;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    this.failer = new CountedFailer(callContractor);
+    this.notifiedExceptions = new ArrayList<RuntimeException>();
+    this.notifiedFailStormKeys = new ArrayList<FailStormKey>();
+    this.notifiedNumberOfSuppressedFails = new ArrayList<Long>();
+    this.observerRegistrationKey = this.failer.registerFailerObserver(this);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.failer.unregisterFailerObserver(this, this.observerRegistrationKey);
+    this.observerRegistrationKey = null;
+    this.checker = null;
+    this.failer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Override
+  public void notifyExceptionBeforeThrow(IFailer failer, ICallContract contract,
+      RuntimeException runtimeException)
+  {
+    this.notifiedExceptions.add(runtimeException);
+  }
+
+  @Override
+  public void notifyFailStorm(IFailer failer, FailStormKey failStormKey,
+      long numberOfSuppressedFails)
+  {
+    this.notifiedFailStormKeys.add(failStormKey);
+    this.notifiedNumberOfSuppressedFails.add(numberOfSuppressedFails);
+  }
+
+  private FailFastException failObjectNull(Object caller)
+  {
+    Object referenceNull = null;
+    try
+    {
+      if (this.checker.isObjectNull(caller, referenceNull))
+      {
+        this.failer.failObjectNull(caller, "referenceNull");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      return failFastException;
+    }
+    throw new AssertionError("no fail");
+  }
+
+  // Fail Storm Policy - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithZeroMaximumFullFailsPerWindow()
+  {
+    try
+    {
+      new FailStormPolicy(0, 1000);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("maximumFullFailsPerWindow must be at least 1 - not 0",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructWithZeroWindowMillis()
+  {
+    try
+    {
+      new FailStormPolicy(1, 0);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("windowMillis must be at least 1 - not 0",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  // Fail Storm Policy - legal usages
+
+  @Test
+  public void testNoFailStormPolicyByDefault()
+  {
+    assertNull(this.failer.getFailStormPolicyOrNull());
+    for (int index = 0; index < 5; ++index)
+    {
+      assertTrue(0 < this.failObjectNull(this).getStackTrace().length);
+    }
+    assertEquals(5, this.notifiedExceptions.size());
+  }
+
+  @Test
+  public void testFailsBeyondRateAreSuppressed()
+  {
+    this.failer.setFailStormPolicy(new FailStormPolicy(2, 60000));
+    List<FailFastException> exceptions = new ArrayList<FailFastException>();
+    for (int index = 0; index < 5; ++index)
+    {
+      exceptions.add(this.failObjectNull(this));
+    }
+    // the first are full and notified
+    assertEquals(2, this.notifiedExceptions.size());
+    assertSame(exceptions.get(0), this.notifiedExceptions.get(0));
+    assertSame(exceptions.get(1), this.notifiedExceptions.get(1));
+    assertTrue(0 < exceptions.get(0).getStackTrace().length);
+    assertTrue(0 < exceptions.get(1).getStackTrace().length);
+    // the rest have reduced detail, but the same message
+    for (int index = 2; index < 5; ++index)
+    {
+      assertEquals(0, exceptions.get(index).getStackTrace().length);
+      assertEquals(exceptions.get(0).getMessage(), exceptions.get(index).getMessage());
+    }
+    assertEquals(0, this.notifiedFailStormKeys.size());
+
+    this.failer.flushFailStorms();
+    assertEquals(1, this.notifiedFailStormKeys.size());
+    FailStormKey failStormKey = this.notifiedFailStormKeys.get(0);
+    assertEquals("IObjectNullFail.failObjectNull(Object caller, String referenceName)",
+        failStormKey.getFailerSpecificationAndMethodId());
+    assertSame(FailStormPolicyTest.class, failStormKey.getCallerType());
+    assertEquals(exceptions.get(0).getFailMessageFormat(), failStormKey.getFailMessageFormat());
+    assertEquals(Long.valueOf(3), this.notifiedNumberOfSuppressedFails.get(0));
+
+    this.failer.flushFailStorms(); // nothing more to report
+    assertEquals(1, this.notifiedFailStormKeys.size());
+  }
+
+  @Test
+  public void testFailsAreCountedPerCallerType()
+  {
+    this.failer.setFailStormPolicy(new FailStormPolicy(1, 60000));
+    this.failObjectNull(this);
+    this.failObjectNull(new Object());
+    assertEquals(2, this.notifiedExceptions.size());
+    this.failObjectNull(this);
+    this.failObjectNull(new Object());
+    assertEquals(2, this.notifiedExceptions.size());
+  }
+
+  @Test
+  public void testSuppressedFailsAreNotifiedInNextWindow() throws InterruptedException
+  {
+    this.failer.setFailStormPolicy(new FailStormPolicy(1, 1));
+    this.failObjectNull(this);
+    this.failObjectNull(this);
+    assertEquals(1, this.notifiedExceptions.size());
+    Thread.sleep(10);
+    FailFastException exception = this.failObjectNull(this); // first of the next window
+    assertEquals(Long.valueOf(1), this.notifiedNumberOfSuppressedFails.get(0));
+    assertEquals(2, this.notifiedExceptions.size());
+    assertTrue(0 < exception.getStackTrace().length);
+  }
+
+  @Test
+  public void testSuppressedFailsAreNotifiedByOtherFailsAfterWindow() throws InterruptedException
+  {
+    this.failer.setFailStormPolicy(new FailStormPolicy(1, 1));
+    this.failObjectNull(this);
+    this.failObjectNull(this);
+    Thread.sleep(10);
+    this.failObjectNull(new Object()); // another key sweeps the expired window
+    assertEquals(1, this.notifiedFailStormKeys.size());
+    assertSame(FailStormPolicyTest.class, this.notifiedFailStormKeys.get(0).getCallerType());
+    assertEquals(Long.valueOf(1), this.notifiedNumberOfSuppressedFails.get(0));
+  }
+
+  @Test
+  public void testIdleCountersAreRemoved() throws InterruptedException
+  {
+    this.failer.setFailStormPolicy(new FailStormPolicy(1, 1));
+    this.failObjectNull(this);
+    Thread.sleep(10);
+    this.failObjectNull(new Object()); // counter of this failed in the expired window
+    assertEquals(2, this.failer.getNumberOfFailStormCounters());
+    Thread.sleep(10);
+    this.failObjectNull(new Object()); // counter of this is idle in the expired window
+    assertEquals(1, this.failer.getNumberOfFailStormCounters());
+    this.failer.setFailStormPolicy(null);
+    this.failer.flushFailStorms();
+    assertEquals(0, this.failer.getNumberOfFailStormCounters());
+  }
+
+}
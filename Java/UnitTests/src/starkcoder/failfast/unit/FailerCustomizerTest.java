@@ -43,6 +43,7 @@ import starkcoder.failfast.checks.Checker;
 import starkcoder.failfast.checks.IChecker;
 import starkcoder.failfast.contractors.CallContractor;
 import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailExceptionFactory;
 import starkcoder.failfast.fails.FailFastException;
 import starkcoder.failfast.fails.Failer;
 import starkcoder.failfast.fails.IFailer;
@@ -158,6 +159,132 @@ public class FailerCustomizerTest
     }
   }
   
+  /**
+   * Exception without a constructor taking a message.
+   */
+  public static class MessagelessException extends RuntimeException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public MessagelessException()
+    {
+    }
+  }
+
+  /**
+   * Exception with a constructor throwing what it is told to.
+   */
+  public static class ThrowingConstructorException extends RuntimeException
+  {
+    private static final long serialVersionUID = 1L;
+
+    public ThrowingConstructorException(String message) throws Exception
+    {
+      super(message);
+      if ("error".equals(message))
+      {
+        throw new AssertionError(message);
+      }
+      if ("runtime".equals(message))
+      {
+        throw new IllegalStateException(message);
+      }
+      if ("checked".equals(message))
+      {
+        throw new Exception(message);
+      }
+    }
+  }
+
+  @Test(expected = AssertionError.class)
+  public void testFailExceptionFactoryRethrowsError()
+  {
+    FailExceptionFactory.resolve(ThrowingConstructorException.class).construct("error", null);
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailExceptionFactoryRethrowsRuntimeException()
+  {
+    FailExceptionFactory.resolve(ThrowingConstructorException.class).construct("runtime", null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailExceptionFactoryWithoutMessageAndCauseConstructor()
+  {
+    try
+    {
+      FailExceptionFactory.resolve(ThrowingConstructorException.class).construct("cause",
+          new IllegalStateException());
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("Could not fetch a constructor from '" + ThrowingConstructorException.class
+          + "' with a String and a Throwable argument", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailExceptionFactoryWrapsCheckedException()
+  {
+    try
+    {
+      FailExceptionFactory.resolve(ThrowingConstructorException.class).construct("checked", null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("Could not invoke constructor of '" + ThrowingConstructorException.class + "'",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterCustomFailExceptionTypeWithoutMessageConstructor()
+  {
+    String failerSpecificationAndMethodId = 
+        "IObjectNullFail.failObjectNull(Object caller, String referenceName)";
+    try
+    {
+      this.failer.registerCustomFailExceptionType(failerSpecificationAndMethodId,
+          MessagelessException.class);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      String expected = "Could not fetch a constructor from '" + MessagelessException.class
+          + "' with a single String argument";
+      assertEquals(expected, illegalArgumentException.getMessage());
+      assertNull(this.failer.getCustomFailExceptionTypeOrNull(failerSpecificationAndMethodId));
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testContractCustomFailExceptionTypeWithoutMessageConstructor()
+  {
+    Object referenceNull = null;
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      try
+      {
+        this.contractor.getContractWithCaller(this).setCustomFailExceptionType(
+            MessagelessException.class);
+      }
+      catch (IllegalArgumentException illegalArgumentException)
+      {
+        assertNull(this.contractor.getContractWithCaller(this).getCustomFailExceptionTypeOrNull());
+        try
+        {
+          failer.failObjectNull(this, "referenceNull"); // ends the contract
+        }
+        catch (FailFastException failFastException)
+        {
+          throw illegalArgumentException;
+        }
+      }
+    }
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testRegisterCustomFailExceptionTypeTwice()
   {
@@ -360,12 +487,33 @@ public class FailerCustomizerTest
   }
 
 
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegisterCustomFailMessageArgumentsMalformed()
+  {
+    String failerSpecificationAndMethodId = 
+        "IObjectNullFail.failObjectNull(Object caller, String referenceName)";
+    String customFailMessageArguments = "fu0, xu1";
+    try
+    {
+      this.failer.registerCustomFailMessageArguments(failerSpecificationAndMethodId, 
+          customFailMessageArguments);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      String expected = "failMessageArguments '" + customFailMessageArguments
+          + "' has illegal entry ' xu1' (arg#1). Symbol 'x' was unexpected.";
+      assertEquals(expected, illegalArgumentException.getMessage());
+      assertNull(this.failer.getCustomFailMessageArgumentsOrNull(failerSpecificationAndMethodId));
+      throw illegalArgumentException;
+    }
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testRegisterCustomFailMessageArgumentsTwice()
   {
     String failerSpecificationAndMethodId = 
         "IObjectNullFail.failObjectNull(Object caller, String referenceName)";
-    String customFailMessageArguments = "some arguments";
+    String customFailMessageArguments = "fu1, fu0";
     try
     {
       this.failer.registerCustomFailMessageArguments(failerSpecificationAndMethodId, 
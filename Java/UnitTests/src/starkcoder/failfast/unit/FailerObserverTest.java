@@ -197,6 +197,35 @@ public class FailerObserverTest implements IFailerObserver
     }
   }
   
+  @Test(expected = IllegalStateException.class)
+  public void testUnregisterFailerObserverWithRegistrationKeyOfOtherObserver()
+  {
+    IFailerObserver otherFailerObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+      }
+    };
+    Object otherRegistrationKey = this.failer.registerFailerObserver(otherFailerObserver);
+    try
+    {
+      this.failer.unregisterFailerObserver(this, otherRegistrationKey);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      String expected = "registrationKey " + otherRegistrationKey
+          + " is NOT registered for failerObserver " + this + ".";
+      assertEquals(expected, illegalStateException.getMessage());
+      // both registrations are intact
+      this.failer.unregisterFailerObserver(otherFailerObserver, otherRegistrationKey);
+      this.failer.unregisterFailerObserver(this, this.observerRegistrationKey);
+      this.observerRegistrationKey = this.failer.registerFailerObserver(this); // re-do setup
+      throw illegalStateException;
+    }
+  }
+
   @Test(expected = IllegalStateException.class)
   public void testUnregisterFailerObserverWithoutRegistrationKey()
   {
@@ -0,0 +1,165 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+import java.util.regex.Pattern;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import starkcoder.failfast.checks.objects.strings.PatternCache;
+
+/**
+ * Fail-fast unit test of {link:PatternCache}.
+ * 
+ * @author Keld Oelykke
+ */
+public class PatternCacheTest
+{
+
+  private PatternCache patternCache;
+
+  /**
+   * Setup cache.
+   */
+  @Before
+  public void setUp()
+  {
+    this.patternCache = new PatternCache(2);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testMaximumSizeIsZero()
+  {
+    try
+    {
+      new PatternCache(0);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("Expected other message", "maximumSize is less than 1",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testRegexIsNull()
+  {
+    try
+    {
+      this.patternCache.getPattern(null);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("Expected other message", "regex is null",
+          illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test
+  public void testHitsAndMisses()
+  {
+    Pattern pattern = this.patternCache.getPattern("[a-z]+");
+    assertSame("Expected cached pattern", pattern, this.patternCache.getPattern("[a-z]+"));
+    assertSame("Expected cached pattern", pattern, this.patternCache.getPattern("[a-z]+"));
+    assertEquals("Expected 2 hits", 2, this.patternCache.getHitCount());
+    assertEquals("Expected 1 miss", 1, this.patternCache.getMissCount());
+    assertEquals("Expected 1 cached pattern", 1, this.patternCache.getSize());
+  }
+
+  @Test
+  public void testLeastRecentlyUsedIsEvicted()
+  {
+    Pattern patternA = this.patternCache.getPattern("a");
+    this.patternCache.getPattern("b");
+    this.patternCache.getPattern("a"); // b is now least recently used
+    this.patternCache.getPattern("c");
+    assertEquals("Expected maximum size", 2, this.patternCache.getSize());
+    assertEquals("Expected 1 eviction", 1, this.patternCache.getEvictionCount());
+    assertSame("Expected a to stay cached", patternA, this.patternCache.getPattern("a"));
+    this.patternCache.getPattern("b");
+    assertEquals("Expected b to be compiled again", 4, this.patternCache.getMissCount());
+  }
+
+  @Test
+  public void testHitsOfThreadsAreSummed() throws InterruptedException
+  {
+    this.patternCache.getPattern("a");
+    Thread[] threads = new Thread[4];
+    for (int index = 0; index < threads.length; ++index)
+    {
+      threads[index] = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          for (int lookup = 0; lookup < 1000; ++lookup)
+          {
+            patternCache.getPattern("a");
+          }
+        }
+      };
+      threads[index].start();
+    }
+    for (int index = 0; index < threads.length; ++index)
+    {
+      threads[index].join();
+    }
+    assertEquals("Expected all hits", 4000, this.patternCache.getHitCount());
+    assertEquals("Expected 1 miss", 1, this.patternCache.getMissCount());
+  }
+
+  @Test
+  public void testLookupsBetweenMissesAreRecent()
+  {
+    this.patternCache.getPattern("a");
+    this.patternCache.getPattern("b");
+    this.patternCache.getPattern("b");
+    this.patternCache.getPattern("a"); // both looked up since the last miss - more recent than it
+    this.patternCache.getPattern("c");
+    assertEquals("Expected 1 eviction", 1, this.patternCache.getEvictionCount());
+    assertEquals("Expected 3 misses", 3, this.patternCache.getMissCount());
+    this.patternCache.getPattern("c");
+    assertEquals("Expected c to be a hit", 3, this.patternCache.getMissCount());
+  }
+
+  @Test
+  public void testClear()
+  {
+    this.patternCache.getPattern("a");
+    this.patternCache.clear();
+    assertEquals("Expected no cached patterns", 0, this.patternCache.getSize());
+    this.patternCache.getPattern("a");
+    assertEquals("Expected a to be compiled again", 2, this.patternCache.getMissCount());
+  }
+
+}
@@ -0,0 +1,181 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ReclaimingCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:ReclaimingCallContractor}.
+ * 
+ * @author Keld Oelykke
+ */
+public class ReclaimingCallContractorTest
+{
+
+  private ReclaimingCallContractor contractor;
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this trinity would be in you application startup section
+    ReclaimingCallContractor callContractor = new ReclaimingCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    // easiest if you have access to each of the 3 from your code
+    this.contractor = callContractor;
+    this.checker = checker;
+    this.failer = failer;
+    // if you want 1 instance grouping the trinity
+    IFailFast failFastOrNull = new FailFast(checker, failer, callContractor);
+    // if you want static access to the trinity
+    SFailFast.setFailFastOrNull(failFastOrNull);
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Test
+  public void testPoppedContractIsNotPending()
+  {
+    Object referenceNull = null;
+    try
+    {
+      if (checker.isObjectNull(this, referenceNull))
+      {
+        assertEquals("Expected 1 pending contract", 1, this.contractor.getPendingContractCount());
+        failer.failObjectNull(this, "referenceNull");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected no pending contracts", 0, this.contractor.getPendingContractCount());
+      assertEquals("Expected nothing to reclaim", 0, this.contractor.reclaimOrphanedContracts());
+      assertEquals("Expected no reclaimed contracts", 0,
+          this.contractor.getReclaimedContractCount());
+    }
+  }
+
+  @Test
+  public void testContractOfTerminatedThreadIsReclaimed() throws InterruptedException
+  {
+    int noOfThreads = 10;
+    for (int i = 0; i < noOfThreads; ++i)
+    {
+      Thread thread = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          Object referenceNull = null;
+          if (checker.isObjectNull(this, referenceNull))
+          {
+            return; // terminates without calling failer
+          }
+        }
+      };
+      thread.start();
+      thread.join();
+    }
+    assertEquals("Expected orphaned contracts pending", noOfThreads,
+        this.contractor.getPendingContractCount());
+    assertEquals("Expected all orphaned contracts reclaimed", noOfThreads,
+        this.contractor.reclaimOrphanedContracts());
+    assertEquals("Expected no pending contracts", 0, this.contractor.getPendingContractCount());
+    assertEquals("Expected reclaimed contracts counted", noOfThreads,
+        this.contractor.getReclaimedContractCount());
+  }
+
+  @Test
+  public void testContractOfLiveThreadIsNotReclaimed()
+  {
+    Object referenceNull = null;
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      assertEquals("Expected nothing to reclaim", 0, this.contractor.reclaimOrphanedContracts());
+      assertEquals("Expected 1 pending contract", 1, this.contractor.getPendingContractCount());
+      try
+      {
+        failer.failObjectNull(this, "referenceNull");
+      }
+      catch (FailFastException failFastException)
+      {
+        assertEquals("Expected no pending contracts", 0,
+            this.contractor.getPendingContractCount());
+      }
+    }
+  }
+
+}
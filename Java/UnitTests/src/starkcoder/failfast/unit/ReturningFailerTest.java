@@ -0,0 +1,269 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.IFailerObserver;
+import starkcoder.failfast.fails.IReturningFailer;
+import starkcoder.failfast.fails.ReturningFailer;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+import starkcoder.failfast.fails.objects.exceptions.IObjectExceptionFail;
+
+/**
+ * Fail-fast unit test of {link:IReturningFailer}.
+ * 
+ * @author Keld Oelykke
+ */
+public class ReturningFailerTest
+{
+
+  private static final String FailerSpecificationAndMethodId =
+      "IObjectNullFail.failObjectNull(Object caller, String referenceName)";
+
+  private IChecker checker;
+  private IFailer failer;
+  private IReturningFailer returningFailer;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    ICallContractor callContractor = new CallContractor();
+    this.checker = new Checker(callContractor);
+    Failer failer = new Failer(callContractor);
+    this.failer = failer;
+    this.returningFailer = new ReturningFailer(failer);
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+    this.returningFailer = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  // Returning Failer - illegal usages
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testConstructorWithNullArgument()
+  {
+    new ReturningFailer(null);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailWithNullFailSpecification()
+  {
+    this.returningFailer.fail(null, this, "referenceNull");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailWithNullCaller()
+  {
+    this.returningFailer.fail(IObjectNullFail.class, null, "referenceNull");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailWithoutCheckStillThrows()
+  {
+    this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull");
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFailWithoutMatchingFailMethod()
+  {
+    Object referenceNull = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      try
+      {
+        this.returningFailer.fail(IObjectNullFail.class, this, 42);
+      }
+      catch (IllegalArgumentException illegalArgumentException)
+      {
+        assertEquals(IObjectNullFail.class + " contains no method with 2 arguments with"
+            + " appropriate types", illegalArgumentException.getMessage());
+        throw illegalArgumentException;
+      }
+    }
+  }
+
+  // Returning Failer - legal usages
+
+  @Test
+  public void testIsNoFailer()
+  {
+    assertFalse(this.returningFailer instanceof IFailer);
+    assertSame(this.failer, this.returningFailer.getFailer());
+  }
+
+  @Test
+  public void testFailReturnsFailure()
+  {
+    Object referenceNull = null;
+    RuntimeException failure = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      failure = this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull");
+    }
+    assertTrue(failure instanceof FailFastException);
+    assertEquals(this.toString() + ": Object 'referenceNull' is null.", failure.getMessage());
+    assertSame(failure, this.failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testFailWithMessageReturnsFailure()
+  {
+    Object referenceNull = null;
+    RuntimeException failure = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      failure = this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull",
+          "Extra info goes here");
+    }
+    assertEquals(this.toString() + ": Object 'referenceNull' is null. Extra info goes here",
+        failure.getMessage());
+  }
+
+  @Test
+  public void testFailExceptionNestsCheckedException()
+  {
+    Exception referenceException = new RuntimeException("A test exception!");
+    RuntimeException failure = null;
+    if (this.checker.isException(this, referenceException))
+    {
+      failure = this.returningFailer.fail(IObjectExceptionFail.class, this,
+          "referenceException");
+    }
+    assertSame(referenceException, failure.getCause());
+  }
+
+  @Test
+  public void testFailNotifiesObservers()
+  {
+    final List<RuntimeException> observed = new ArrayList<RuntimeException>();
+    IFailerObserver failerObserver = new IFailerObserver()
+    {
+      @Override
+      public void notifyExceptionBeforeThrow(IFailer failer, ICallContract callContract,
+          RuntimeException exception)
+      {
+        observed.add(exception);
+      }
+    };
+    Object registrationKey = this.failer.registerFailerObserver(failerObserver);
+    Object referenceNull = null;
+    RuntimeException failure = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      failure = this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull");
+    }
+    this.failer.unregisterFailerObserver(failerObserver, registrationKey);
+    assertEquals(1, observed.size());
+    assertSame(observed.get(0), failure);
+  }
+
+  @Test
+  public void testFailUsesCustomizations()
+  {
+    this.failer.registerCustomFailExceptionType(FailerSpecificationAndMethodId,
+        NullPointerException.class);
+    Object referenceNull = null;
+    RuntimeException failure = null;
+    if (this.checker.isObjectNull(this, referenceNull))
+    {
+      failure = this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull");
+    }
+    assertSame(NullPointerException.class, failure.getClass());
+    assertNull(this.failer.getFailFastExceptionOrNull()); // not a fail-fast exception
+  }
+
+  @Test
+  public void testEveryFailReturnsItsFailure()
+  {
+    Object referenceNull = null;
+    List<RuntimeException> failures = new ArrayList<RuntimeException>();
+    for (int index = 0; index < 2; ++index)
+    {
+      if (this.checker.isObjectNull(this, referenceNull))
+      {
+        failures.add(this.returningFailer.fail(IObjectNullFail.class, this, "referenceNull"
+            + index));
+      }
+    }
+    assertEquals(this.toString() + ": Object 'referenceNull0' is null.", failures.get(0)
+        .getMessage());
+    assertEquals(this.toString() + ": Object 'referenceNull1' is null.", failures.get(1)
+        .getMessage());
+  }
+
+}
@@ -0,0 +1,182 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.ICheck;
+import starkcoder.failfast.checks.NCheck;
+import starkcoder.failfast.checks.SCheckSpecifications;
+import starkcoder.failfast.checks.objects.IObjectNullCheck;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+
+/**
+ * Fail-fast unit test of {link:SCheckSpecifications}.
+ * 
+ * @author Keld Oelykke
+ */
+public class SCheckSpecificationsTest
+{
+
+  /**
+   * Check specification without check-methods.
+   */
+  public interface IEmptyCheck extends ICheck
+  {
+  }
+
+  /**
+   * Check specification with a check-method missing its annotation.
+   */
+  public interface IUnannotatedCheck extends ICheck
+  {
+    boolean isUnannotated(Object caller);
+  }
+
+  /**
+   * Check specification with a valid check-method.
+   */
+  public interface IAnnotatedCheck extends ICheck
+  {
+    @NCheck(failSpecificationType = IObjectNullFail.class)
+    boolean isAnnotated(Object caller);
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Test
+  public void testWarmUpChecker()
+  {
+    int numberOfCheckSpecifications = SCheckSpecifications.warmUp(new Checker(
+        new CallContractor()));
+    assertTrue("Expected check specifications found", numberOfCheckSpecifications > 0);
+    assertTrue("Expected check specifications registered",
+        SCheckSpecifications.getCheckSpecificationCount() >= numberOfCheckSpecifications);
+  }
+
+  @Test
+  public void testClearForgetsReflections()
+  {
+    SCheckSpecifications.lookupFailSpecificationType(IObjectNullCheck.class);
+    SCheckSpecifications.clear();
+    assertEquals("Expected no reflections after clear", 0,
+        SCheckSpecifications.getCheckSpecificationCount());
+    assertSame(IObjectNullFail.class,
+        SCheckSpecifications.lookupFailSpecificationType(IObjectNullCheck.class));
+    assertEquals("Expected check specification reflected again", 1,
+        SCheckSpecifications.getCheckSpecificationCount());
+  }
+
+  @Test
+  public void testLookupFailSpecificationType()
+  {
+    assertSame(IObjectNullFail.class,
+        SCheckSpecifications.lookupFailSpecificationType(IObjectNullCheck.class));
+    assertSame(IObjectNullFail.class,
+        SCheckSpecifications.lookupFailSpecificationType(IAnnotatedCheck.class));
+  }
+
+  @Test
+  public void testWarmUpAnnotatedCheck()
+  {
+    SCheckSpecifications.warmUp(IAnnotatedCheck.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWarmUpEmptyCheck()
+  {
+    try
+    {
+      SCheckSpecifications.warmUp(IEmptyCheck.class);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertEquals("CheckerSpecification '" + IEmptyCheck.class
+          + "' must have at least 1 check-method - not 0", illegalArgumentException.getMessage());
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWarmUpUnannotatedCheck()
+  {
+    try
+    {
+      SCheckSpecifications.warmUp(IUnannotatedCheck.class);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      assertTrue(illegalArgumentException.getMessage().endsWith("annotated with " + NCheck.class));
+      throw illegalArgumentException;
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWarmUpUnannotatedCheckTwice()
+  {
+    try
+    {
+      SCheckSpecifications.warmUp(IUnannotatedCheck.class);
+    }
+    catch (IllegalArgumentException illegalArgumentException)
+    {
+      // the remembered validation error is reported again
+    }
+    SCheckSpecifications.warmUp(IUnannotatedCheck.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLookupNull()
+  {
+    SCheckSpecifications.lookupFailSpecificationType(null);
+  }
+
+}
@@ -0,0 +1,186 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.checks.objects.IObjectNullCheck;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFail;
+import starkcoder.failfast.fails.NFail;
+import starkcoder.failfast.fails.SFailSpecifications;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+
+/**
+ * Fail-fast unit test of {link:SFailSpecifications}.
+ * 
+ * @author Keld Oelykke
+ */
+public class SFailSpecificationsTest
+{
+
+  /**
+   * Fail specification overloading fail-methods with the same number of parameters.
+   */
+  public interface IOverloadedFail extends IFail
+  {
+    @NFail(failerSpecificationAndMethodId =
+        "IOverloadedFail.failOverloaded(Object caller, int number)",
+        checkerSpecificationType = IObjectNullCheck.class,
+        failExceptionType = FailFastException.class,
+        failMessageFormat = "%s: number",
+        failMessageArguments = "fu0")
+    void failOverloaded(Object caller, int number);
+
+    @NFail(failerSpecificationAndMethodId =
+        "IOverloadedFail.failOverloaded(Object caller, String text)",
+        checkerSpecificationType = IObjectNullCheck.class,
+        failExceptionType = FailFastException.class,
+        failMessageFormat = "%s: text",
+        failMessageArguments = "fu0")
+    void failOverloaded(Object caller, String text);
+  }
+
+  /**
+   * Fail specification with a fail-method missing its annotation.
+   */
+  public interface IUnannotatedFail extends IFail
+  {
+    void failUnannotated(Object caller);
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Test
+  public void testWarmUpFailer()
+  {
+    int numberOfFailSpecifications = SFailSpecifications.warmUp(new Failer(new CallContractor()));
+    assertTrue("Expected fail specifications found", numberOfFailSpecifications > 0);
+    assertTrue("Expected fail specifications registered",
+        SFailSpecifications.getFailSpecificationCount() >= numberOfFailSpecifications);
+  }
+
+  @Test
+  public void testClearForgetsReflections()
+  {
+    SFailSpecifications.lookupFailAnnotation(IObjectNullFail.class, new Object[]
+    {
+        this, "referenceName", "message"
+    });
+    SFailSpecifications.clear();
+    assertEquals("Expected no reflections after clear", 0,
+        SFailSpecifications.getFailSpecificationCount());
+    SFailSpecifications.lookupFailAnnotation(IObjectNullFail.class, new Object[]
+    {
+        this, "referenceName", "message"
+    });
+    assertEquals("Expected fail specification reflected again", 1,
+        SFailSpecifications.getFailSpecificationCount());
+  }
+
+  @Test
+  public void testLookupByArity()
+  {
+    NFail failAnnotation = SFailSpecifications.lookupFailAnnotation(IObjectNullFail.class,
+        new Object[]
+        {
+            this, "referenceName", "message"
+        });
+    assertEquals("%s: Object '%s' is null. %s", failAnnotation.failMessageFormat());
+  }
+
+  @Test
+  public void testLookupByShape()
+  {
+    for (int index = 0; index < 2; ++index)
+    { // 2nd lookup matches the same way - the match is not cached
+      assertEquals("%s: number", SFailSpecifications.lookupFailAnnotation(IOverloadedFail.class,
+          new Object[]
+          {
+              this, 42
+          }).failMessageFormat());
+      assertEquals("%s: text", SFailSpecifications.lookupFailAnnotation(IOverloadedFail.class,
+          new Object[]
+          {
+              this, "42"
+          }).failMessageFormat());
+      assertEquals("%s: text", SFailSpecifications.lookupFailAnnotation(IOverloadedFail.class,
+          new Object[]
+          {
+              this, null
+          }).failMessageFormat());
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLookupNoMatchingShape()
+  {
+    SFailSpecifications.lookupFailAnnotation(IOverloadedFail.class, new Object[]
+    {
+        this, 42L
+    });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testLookupNoMatchingArity()
+  {
+    SFailSpecifications.lookupFailAnnotation(IObjectNullFail.class, new Object[]
+    {
+      this
+    });
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testWarmUpUnannotatedFail()
+  {
+    SFailSpecifications.warmUp(IUnannotatedFail.class);
+  }
+
+}
@@ -0,0 +1,228 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.ThreadLocalCallContractor;
+import starkcoder.failfast.contractors.contracts.ICallContract;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+import starkcoder.failfast.fails.objects.IObjectNullFail;
+
+/**
+ * Fail-fast unit test of {link:ThreadLocalCallContractor}.
+ * 
+ * @author Keld Oelykke
+ */
+public class ThreadLocalCallContractorTest
+{
+
+  private ICallContractor contractor;
+  private IChecker checker;
+  private IFailer failer;
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this trinity would be in you application startup section
+    ICallContractor callContractor = new ThreadLocalCallContractor();
+    IChecker checker = new Checker(callContractor);
+    IFailer failer = new Failer(callContractor);
+    // easiest if you have access to each of the 3 from your code
+    this.contractor = callContractor;
+    this.checker = checker;
+    this.failer = failer;
+    // if you want 1 instance grouping the trinity
+    IFailFast failFastOrNull = new FailFast(checker, failer, callContractor);
+    // if you want static access to the trinity
+    SFailFast.setFailFastOrNull(failFastOrNull);
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  @Test(expected = IllegalStateException.class)
+  public void testPushTwice()
+  {
+    Object referenceNull = null;
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      checker.isObjectNull(this, referenceNull);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testPopWithoutPush()
+  {
+    try
+    {
+      this.contractor.popContractWithCaller(this, this.failer, IObjectNullFail.class);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Cannot pop a contract for caller " + this
+          + ", since none is currently pushed.", illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGetWithoutPush()
+  {
+    try
+    {
+      this.contractor.getContractWithCaller(this);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Cannot get a contract for caller " + this
+          + ", since none is currently pushed.", illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGetWithOtherCaller()
+  {
+    Object referenceNull = null;
+    Object otherCaller = new Object();
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      try
+      {
+        this.contractor.getContractWithCaller(otherCaller);
+      }
+      catch (IllegalStateException illegalStateException)
+      {
+        assertEquals("Cannot get a contract for caller " + otherCaller + ", since caller "
+            + this + " has pushed a contract.", illegalStateException.getMessage());
+        throw illegalStateException;
+      }
+    }
+  }
+
+  @Test
+  public void testCheckAndFailRepeatedly()
+  {
+    for (int index = 0; index < 3; ++index)
+    {
+      Object referenceNull = null;
+      try
+      {
+        if (checker.isObjectNull(this, referenceNull))
+        {
+          ICallContract callContract = this.contractor.getContractWithCaller(this);
+          assertSame("Expected pushed contract", this, callContract.getCaller());
+          failer.failObjectNull(this, "referenceNull");
+        }
+      }
+      catch (FailFastException failFastException)
+      {
+        assertEquals(this + ": Object 'referenceNull' is null.", failFastException.getMessage());
+      }
+    }
+  }
+
+  @Test
+  public void testPushedContractIsConfinedToThread() throws InterruptedException
+  {
+    Object referenceNull = null;
+    if (checker.isObjectNull(this, referenceNull))
+    {
+      final ICallContract[] otherThreadContract = new ICallContract[1];
+      Thread otherThread = new Thread()
+      {
+        @Override
+        public void run()
+        {
+          Object referenceNull = null;
+          if (checker.isObjectNull(ThreadLocalCallContractorTest.this, referenceNull))
+          {
+            otherThreadContract[0] = contractor.popContractWithCaller(
+                ThreadLocalCallContractorTest.this, failer, IObjectNullFail.class);
+          }
+        }
+      };
+      otherThread.start();
+      otherThread.join();
+      assertSame("Expected other thread to push and pop its own contract", this,
+          otherThreadContract[0].getCaller());
+      ICallContract callContract = this.contractor.popContractWithCaller(this, this.failer,
+          IObjectNullFail.class);
+      assertSame("Expected contract of this thread", this, callContract.getCaller());
+      assertNull("Expected no failfast exception", this.failer.getFailFastExceptionOrNull());
+    }
+  }
+
+}
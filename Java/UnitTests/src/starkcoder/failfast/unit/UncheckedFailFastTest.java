@@ -0,0 +1,201 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.UncheckedFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.contractors.UncheckedCallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:UncheckedFailFast} and {link:UncheckedCallContractor}.
+ * 
+ * @author Keld Oelykke
+ */
+public class UncheckedFailFastTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private ICallContractor contractor;
+
+  /**
+   * Setup fail-fast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    IFailFast failFast = new UncheckedFailFast();
+    this.checker = failFast.getChecker();
+    this.failer = failFast.getFailer();
+    this.contractor = failFast.getCallContractor();
+  }
+
+  /**
+   * Clear fail-fast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    this.checker = null;
+    this.failer = null;
+    this.contractor = null;
+  }
+
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  // Unchecked Fail-Fast - illegal usages
+
+  @Test(expected = IllegalStateException.class)
+  public void testFailWithoutCheck()
+  {
+    try
+    {
+      this.failer.failObjectNull(this, "referenceNull");
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Cannot pop a contract for caller " + this + ", since none is currently pushed.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testGetContractWithoutCheck()
+  {
+    try
+    {
+      this.contractor.getContractWithCaller(this);
+    }
+    catch (IllegalStateException illegalStateException)
+    {
+      assertEquals("Cannot get a contract for caller " + this + ", since none is currently pushed.",
+          illegalStateException.getMessage());
+      throw illegalStateException;
+    }
+  }
+
+  // Unchecked Fail-Fast - legal usages
+
+  @Test
+  public void testConfiguration()
+  {
+    assertTrue(this.contractor instanceof UncheckedCallContractor);
+    assertTrue(this.checker instanceof Checker);
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testCheckAndFail()
+  {
+    Object reference = new Object();
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        this.failer.failObjectNotNull(this, "reference");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString() + ": Object 'reference'(" + reference + ") is NOT null.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testPushWithoutPopIsReplaced()
+  {
+    Object referenceA = "A";
+    Object referenceB = "B";
+    assertTrue(this.checker.isObjectNotNull(this, referenceA));
+    try
+    {
+      if (this.checker.isObjectNotNull(this, referenceB))
+      {
+        this.failer.failObjectNotNull(this, "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString() + ": Object 'referenceB'(B) is NOT null.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testFailWithOtherCallerIsNotMatched()
+  {
+    Object reference = new Object();
+    Object otherCaller = "otherCaller";
+    try
+    {
+      if (this.checker.isObjectNotNull(this, reference))
+      {
+        this.failer.failObjectNotNull(otherCaller, "reference");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(otherCaller + ": Object 'reference'(" + reference + ") is NOT null.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+}
@@ -0,0 +1,306 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedList;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IObjectCollectionMultisetNotEqualsCheck} and
+ * {link:IObjectCollectionMultisetNotEqualsFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class ObjectCollectionMultisetNotEqualsTest
+{
+
+  private static final Collection<Object> REFERENCE_A = new ArrayList<Object>(Arrays
+      .<Object> asList("A"));
+  private static final Collection<Object> REFERENCE_B = new ArrayList<Object>(Arrays
+      .<Object> asList("B"));
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  /**
+   * Element equal to any string, which no string agrees to.
+   */
+  private static class OneWayEquals
+  {
+    @Override
+    public boolean equals(Object other)
+    {
+      return other instanceof String;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return "A".hashCode();
+    }
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testObjectCollectionMultisetNotEqualsCheckerCallerIsNull()
+  {
+    Collection<Object> referenceA = null;
+    Collection<Object> referenceB = new ArrayList<Object>();
+    if (checker.isObjectCollectionMultisetNotEquals(null, referenceA, referenceB))
+    {
+      failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testObjectCollectionMultisetNotEqualsFailerCallerIsNull()
+  {
+    if (checker.isObjectCollectionMultisetNotEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectCollectionMultisetNotEquals(null, "referenceA", "referenceB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionMultisetNotEqualsFailerCallerIsWrong()
+  {
+    if (checker.isObjectCollectionMultisetNotEquals(new String("Foo"), REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectCollectionMultisetNotEquals(new String("Bar"), "referenceA", "referenceB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionMultisetNotEqualsMismatchCheckCheck()
+  {
+    if (checker.isObjectCollectionMultisetNotEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      checker.isObjectCollectionMultisetNotEquals(this, REFERENCE_A, REFERENCE_B);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionMultisetNotEqualsMismatchFail()
+  {
+    failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionMultisetNotEqualsMismatchWrongFail()
+  {
+    if (checker.isObjectCollectionMultisetNotEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectNotEquals(this, "referenceA", "referenceB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionMultisetNotEqualsAabAndAbbFailNoMessage()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList("A", "A", "B"));
+    Collection<Object> referenceB = new LinkedList<Object>(Arrays.<Object> asList("A", "B", "B"));
+    try
+    {
+      if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is NOT multiset-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "Object(B) occurs 1 time(s) in 'referenceA' and 2 time(s) in 'referenceB'.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionMultisetNotEqualsAbAndAFailNoMessage()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList("A", "B"));
+    Collection<Object> referenceB = new ArrayList<Object>(Arrays.<Object> asList("A"));
+    try
+    {
+      if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is NOT multiset-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "Object(B) occurs 1 time(s) in 'referenceA' and 0 time(s) in 'referenceB'.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionMultisetNotEqualsAaAndAFailMessage()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList("A", "A"));
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList("A"));
+    try
+    {
+      if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB",
+            "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is NOT multiset-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "Object(A) occurs 2 time(s) in 'referenceA' and 1 time(s) in 'referenceB'. "
+          + "Extra info goes here.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testObjectCollectionMultisetNotEqualsNullAndNullNoFail()
+  {
+    Collection<Object> referenceA = null;
+    Collection<Object> referenceB = null;
+    if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionMultisetNotEqualsBaaAndAabNoFail()
+  {
+    Collection<Object> referenceA = new LinkedList<Object>(Arrays.<Object> asList("B", "A", "A"));
+    Collection<Object> referenceB = new ArrayList<Object>(Arrays.<Object> asList("A", "A", "B"));
+    if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionMultisetNotEqualsAbAndBaNoFail()
+  {
+    Collection<Object> referenceA = new HashSet<Object>(Arrays.<Object> asList("A", "B"));
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList("B", "A"));
+    if (checker.isObjectCollectionMultisetNotEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionMultisetNotEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+}
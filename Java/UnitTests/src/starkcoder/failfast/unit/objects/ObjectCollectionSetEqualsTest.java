@@ -0,0 +1,366 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.objects;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IObjectCollectionSetEqualsCheck} and
+ * {link:IObjectCollectionSetEqualsFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class ObjectCollectionSetEqualsTest
+{
+
+  private static final Collection<Object> REFERENCE_A = null;
+  private static final Collection<Object> REFERENCE_B = null;
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  /**
+   * Element equal to any string, which no string agrees to.
+   */
+  private static class OneWayEquals
+  {
+    @Override
+    public boolean equals(Object other)
+    {
+      return other instanceof String;
+    }
+
+    @Override
+    public int hashCode()
+    {
+      return "A".hashCode();
+    }
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testObjectCollectionSetEqualsCheckerCallerIsNull()
+  {
+    Collection<Object> referenceA = null;
+    Collection<Object> referenceB = new ArrayList<Object>();
+    if (checker.isObjectCollectionSetEquals(null, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testObjectCollectionSetEqualsFailerCallerIsNull()
+  {
+    if (checker.isObjectCollectionSetEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectCollectionSetEquals(null, "referenceA", "referenceB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionSetEqualsFailerCallerIsWrong()
+  {
+    if (checker.isObjectCollectionSetEquals(new String("Foo"), REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectCollectionSetEquals(new String("Bar"), "referenceA", "referenceB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionSetEqualsMismatchCheckCheck()
+  {
+    if (checker.isObjectCollectionSetEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      checker.isObjectCollectionSetEquals(this, REFERENCE_A, REFERENCE_B);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionSetEqualsMismatchFail()
+  {
+    failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testObjectCollectionSetEqualsMismatchWrongFail()
+  {
+    if (checker.isObjectCollectionSetEquals(this, REFERENCE_A, REFERENCE_B))
+    {
+      failer.failObjectNotEquals(this, "referenceA", "referenceB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionSetEqualsNullAndNullFailNoMessage()
+  {
+    Collection<Object> referenceA = null;
+    Collection<Object> referenceB = null;
+    try
+    {
+      if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is set-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "There are 0 distinct objects (null).",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionSetEqualsAbcAndCbaFailNoMessage()
+  {
+    Collection<Object> referenceA = new HashSet<Object>(Arrays.<Object> asList("A", "B", "C"));
+    Collection<Object> referenceB = new TreeSet<Object>(Arrays.<Object> asList("C", "B", "A"));
+    try
+    {
+      if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is set-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "There are 3 distinct objects ([A, B, C]).",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionSetEqualsAabAndBaFailNoMessage()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList("A", "A", "B"));
+    Collection<Object> referenceB = new LinkedList<Object>(Arrays.<Object> asList("B", "A"));
+    try
+    {
+      if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is set-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "There are 2 distinct objects ([A, B]).",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectCollectionSetEqualsNullsAndNullFailMessage()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList(null, null));
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList(null, null));
+    try
+    {
+      if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB",
+            "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      assertEquals("Expected other message", this.toString()
+          + ": Collection<Object> 'referenceA' is set-equal to "
+          + "Collection<Object> 'referenceB'. "
+          + "There are 1 distinct objects ([null]). Extra info goes here.",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testObjectCollectionSetEqualsNullAndEmptyNoFail()
+  {
+    Collection<Object> referenceA = null;
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList());
+    if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionSetEqualsAbAndAcNoFail()
+  {
+    Collection<Object> referenceA = new HashSet<Object>(Arrays.<Object> asList("A", "B"));
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList("A", "C"));
+    if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionSetEqualsAbAndANoFail()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(Arrays.<Object> asList("A", "B"));
+    Collection<Object> referenceB = new ArrayList<Object>(Arrays.<Object> asList("A", "A"));
+    if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionSetEqualsOneWayEqualsAndANoFail()
+  {
+    Collection<Object> referenceA = new ArrayList<Object>(
+        Arrays.<Object> asList(new OneWayEquals()));
+    Collection<Object> referenceB = new HashSet<Object>(Arrays.<Object> asList("A"));
+    if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testObjectCollectionSetEqualsCaseInsensitiveTreeSetsNoFail()
+  {
+    // the tree sets match "A" and "a" by their comparator - set-equality follows equals
+    Comparator<Object> caseInsensitiveOrder = new Comparator<Object>()
+    {
+      @Override
+      public int compare(Object a, Object b)
+      {
+        return String.CASE_INSENSITIVE_ORDER.compare((String) a, (String) b);
+      }
+    };
+    Collection<Object> referenceA = new TreeSet<Object>(caseInsensitiveOrder);
+    referenceA.add("A");
+    Collection<Object> referenceB = new TreeSet<Object>(caseInsensitiveOrder);
+    referenceB.add("a");
+    if (checker.isObjectCollectionSetEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectCollectionSetEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+}
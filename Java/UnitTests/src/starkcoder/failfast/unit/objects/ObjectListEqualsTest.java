@@ -362,4 +362,17 @@ public class ObjectListEqualsTest
     assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
   }
 
+  @Test
+  public void testObjectListEqualsObjectAndNullReferenceNoFail()
+  {
+    List<Object> referenceA = new ArrayList<Object>();
+    referenceA.add(new Object());
+    List<Object> referenceB = null;
+    if (checker.isObjectListEquals(this, referenceA, referenceB))
+    {
+      failer.failObjectListEquals(this, "referenceA", "referenceB");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
 }
@@ -33,6 +33,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.After;
@@ -950,4 +951,32 @@ public class ObjectsEqualsTest
     assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
   }
 
+  @Test(expected = FailFastException.class)
+  public void testObjectsListEqualsLinkedListFailNoMessage()
+  {
+    List<Object> referenceA = new LinkedList<Object>();
+    List<Object> referenceB = new LinkedList<Object>();
+    for (int index = 0; index < 14; ++index)
+    {
+      referenceA.add(index);
+      referenceB.add(index);
+    }
+    try
+    {
+      if (checker.isObjectsEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectsEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected other message", this.toString()
+          + ": Objects 'referenceA' is equal to Objects 'referenceB'. There are 14 objects "
+          + "([0, 1, 2, 3, 4, 5, ..., 8, 9, 10, 11, 12, 13]).", failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
 }
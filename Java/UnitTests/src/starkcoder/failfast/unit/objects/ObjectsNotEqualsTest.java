@@ -33,6 +33,7 @@ import static org.junit.Assert.assertTrue;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.LinkedList;
 import java.util.List;
 
 import org.junit.After;
@@ -942,4 +943,53 @@ public class ObjectsNotEqualsTest
     }
   }
 
+  @Test(expected = FailFastException.class)
+  public void testObjectsListNotEqualsObjectAndNullReferenceFailNoMessage()
+  {
+    List<Object> referenceA = new ArrayList<Object>();
+    referenceA.add(new Object());
+    List<Object> referenceB = null;
+    try
+    {
+      if (checker.isObjectsNotEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectsNotEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testObjectsListNotEqualsLinkedListFailNoMessage()
+  {
+    List<Object> referenceA = new LinkedList<Object>();
+    List<Object> referenceB = new LinkedList<Object>();
+    for (int index = 0; index < 14; ++index)
+    {
+      referenceA.add(index);
+      referenceB.add(index == 9 ? -9 : index);
+    }
+    try
+    {
+      if (checker.isObjectsNotEquals(this, referenceA, referenceB))
+      {
+        failer.failObjectsNotEquals(this, "referenceA", "referenceB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected other message", this.toString()
+          + ": Objects 'referenceA' is NOT equal to Objects 'referenceB'. Object#9(9) differs "
+          + "from Object#9(-9).", failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
 }
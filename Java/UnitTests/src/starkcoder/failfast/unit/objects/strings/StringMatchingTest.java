@@ -30,6 +30,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.regex.Pattern;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -381,4 +383,65 @@ public class StringMatchingTest
     }
   }
 
+  // Pattern overloads
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStringMatchingPatternCheckerCallerIsNull()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("ok[ya]{2}");
+    if (checker.isStringMatching(null, referenceA, pattern))
+    {
+      failer.failStringMatching(this, "referenceA");
+    }
+  }
+
+  @Test
+  public void testStringNonEmptyWithNullPatternNoFail()
+  {
+    String referenceA = "okay";
+    Pattern pattern = null;
+    if (checker.isStringMatching(this, referenceA, pattern))
+    {
+      failer.failStringMatching(this, "referenceA");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test
+  public void testStringNonEmptyWithNonMatchingPatternNoFail()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("[cayo]{4}");
+    if (checker.isStringMatching(this, referenceA, pattern))
+    {
+      failer.failStringMatching(this, "referenceA");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testStringNonEmptyWithMatchingPatternFailMessage()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("ok[ya]{2}");
+    try
+    {
+      if (checker.isStringMatching(this, referenceA, pattern))
+      {
+        failer.failStringMatching(this, "referenceA", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      // same message as when checking with the regex
+      assertEquals("Expected other message", this.toString()
+          + ": String 'referenceA'(okay) is a match(ok[ya]{2}). Extra info goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
 }
@@ -30,6 +30,8 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
+import java.util.regex.Pattern;
+
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Rule;
@@ -389,4 +391,74 @@ public class StringNotMatchingTest
     assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
   }
 
+  // Pattern overloads
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testStringNotMatchingPatternCheckerCallerIsNull()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("[cayo]{4}");
+    if (checker.isStringNotMatching(null, referenceA, pattern))
+    {
+      failer.failStringNotMatching(this, "referenceA");
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testStringNonEmptyWithNullPatternFail()
+  {
+    String referenceA = "okay";
+    Pattern pattern = null;
+    try
+    {
+      if (checker.isStringNotMatching(this, referenceA, pattern))
+      {
+        failer.failStringNotMatching(this, "referenceA");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals("Expected other message",
+          this.toString() + ": String 'referenceA'(okay) is NOT a match(null).",
+          failFastException.getMessage());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testStringNonEmptyWithMatchingPatternNoFail()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("ok[ya]{2}");
+    if (checker.isStringNotMatching(this, referenceA, pattern))
+    {
+      failer.failStringNotMatching(this, "referenceA");
+    }
+    assertNull("Expected no registered exception in failer", failer.getFailFastExceptionOrNull());
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testStringNonEmptyWithNonMatchingPatternFailMessage()
+  {
+    String referenceA = "okay";
+    Pattern pattern = Pattern.compile("[cayo]{4}");
+    try
+    {
+      if (checker.isStringNotMatching(this, referenceA, pattern))
+      {
+        failer.failStringNotMatching(this, "referenceA", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      // same message as when checking with the regex
+      assertEquals("Expected other message", this.toString()
+          + ": String 'referenceA'(okay) is NOT a match([cayo]{4}). Extra info goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
 }
@@ -0,0 +1,344 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.doubles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveDoubleEqualsAlmostCheck} and
+ * {link:IPrimitiveDoubleEqualsAlmostFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class DoubleValueEqualsAlmostTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueEqualsAlmostCheckerCallerIsNull()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(null, valueA, valueB))
+    {
+      failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueEqualsAlmostFailerCallerIsNull()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueEqualsAlmost(null, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueEqualsAlmostFailerCallerIsWrong()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(new String("Foo"), valueA, valueB))
+    {
+      failer.failDoubleValueEqualsAlmost(new String("Bar"), "valueA", "valueB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueEqualsAlmostMismatchCheckCheck()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+    {
+      checker.isDoubleValueEqualsAlmost(this, valueA, valueB);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueEqualsAlmostMismatchFail()
+  {
+    failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueEqualsAlmostMismatchWrongCheck()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB)) // wrong call
+    {
+      failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueEqualsAlmostMismatchWrongFail()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueEqualsAlmostFailNoMessage()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    double lowB = (1d - Math.signum(valueA) * 0.000001d) * valueA - 0.00001d;
+    double highB = (1d + Math.signum(valueA) * 0.000001d) * valueA + 0.00001d;
+    try
+    {
+      if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(1.5) is equal or almost equal to double"
+          + " 'valueB'(1.5) - it is within range [" + lowB + ";" + highB + "].",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueEqualsAlmostFailMessage()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    double lowB = (1d - Math.signum(valueA) * 0.000001d) * valueA - 0.00001d;
+    double highB = (1d + Math.signum(valueA) * 0.000001d) * valueA + 0.00001d;
+    try
+    {
+      if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(1.5) is equal or almost equal to double"
+          + " 'valueB'(1.5) - it is within range [" + lowB + ";" + highB + "]. Extra info goes"
+          + " here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostNoFail()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+
+  // 4th - edge cases
+
+  /**
+   * Runs the EqualsAlmost check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isDoubleValueEqualsAlmost(double valueA, double valueB)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  /**
+   * Runs the NotEqualsAlmost check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isDoubleValueNotEqualsAlmost(double valueA, double valueB)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostNaN()
+  {
+    assertTrue(this.isDoubleValueEqualsAlmost(Double.NaN, Double.NaN));
+    assertFalse(this.isDoubleValueEqualsAlmost(Double.NaN, 1.5d));
+    assertFalse(this.isDoubleValueEqualsAlmost(1.5d, Double.NaN));
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostSignedZeros()
+  {
+    assertTrue(this.isDoubleValueEqualsAlmost(0.0d, -0.0d));
+    assertTrue(this.isDoubleValueEqualsAlmost(-0.0d, 0.0d));
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostExtremes()
+  {
+    assertTrue(this.isDoubleValueEqualsAlmost(Double.MAX_VALUE, Double.MAX_VALUE));
+    assertTrue(this.isDoubleValueEqualsAlmost(-Double.MAX_VALUE, -Double.MAX_VALUE));
+    assertFalse(this.isDoubleValueEqualsAlmost(Double.MAX_VALUE, -Double.MAX_VALUE));
+    assertTrue(this.isDoubleValueEqualsAlmost(Double.MIN_VALUE, 0.0d));
+    assertTrue(this.isDoubleValueEqualsAlmost(Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY));
+    assertTrue(this.isDoubleValueEqualsAlmost(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY));
+    assertFalse(this.isDoubleValueEqualsAlmost(Double.POSITIVE_INFINITY, Double.MAX_VALUE));
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostNegativeValues()
+  {
+    assertTrue(this.isDoubleValueEqualsAlmost(-1.5d, -1.500001d));
+    assertFalse(this.isDoubleValueEqualsAlmost(-1.5d, -1.6d));
+  }
+
+  @Test
+  public void testDoubleValueEqualsAlmostIsComplementOfNotEqualsAlmost()
+  {
+    double[] values =
+    {
+        Double.NaN, Double.NEGATIVE_INFINITY, -Double.MAX_VALUE, -1.5d, -Double.MIN_VALUE, -0.0d,
+        0.0d, Double.MIN_VALUE, 1.5d, 1.500001d, Double.MAX_VALUE, Double.POSITIVE_INFINITY
+    };
+    for (double valueA : values)
+    {
+      for (double valueB : values)
+      {
+        assertTrue(valueA + " vs. " + valueB, this.isDoubleValueEqualsAlmost(valueA, valueB)
+            != this.isDoubleValueNotEqualsAlmost(valueA, valueB));
+      }
+    }
+  }
+}
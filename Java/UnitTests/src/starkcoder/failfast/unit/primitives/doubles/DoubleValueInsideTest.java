@@ -0,0 +1,294 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.doubles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveDoubleInsideCheck} and
+ * {link:IPrimitiveDoubleInsideFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class DoubleValueInsideTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueInsideCheckerCallerIsNull()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    if (checker.isDoubleValueInside(null, valueA, valueMin, valueMax))
+    {
+      failer.failDoubleValueInside(this, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueInsideFailerCallerIsNull()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failDoubleValueInside(null, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueInsideFailerCallerIsWrong()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    if (checker.isDoubleValueInside(new String("Foo"), valueA, valueMin, valueMax))
+    {
+      failer.failDoubleValueInside(new String("Bar"), "valueA");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueInsideMismatchCheckCheck()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+    {
+      checker.isDoubleValueInside(this, valueA, valueMin, valueMax);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueInsideMismatchFail()
+  {
+    failer.failDoubleValueInside(this, "valueA");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueInsideMismatchWrongCheck()
+  {
+    double valueA = 3.5d;
+    double valueMin = 1.5d;
+    double valueMax = 2.5d;
+    if (checker.isDoubleValueOutside(this, valueA, valueMin, valueMax)) // wrong call
+    {
+      failer.failDoubleValueInside(this, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueInsideMismatchWrongFail()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failDoubleValueOutside(this, "valueA"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueInsideFailNoMessage()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    try
+    {
+      if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failDoubleValueInside(this, "valueA");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(2.5) is inside double range [1.5;3.5].",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueInsideFailMessage()
+  {
+    double valueA = 2.5d;
+    double valueMin = 1.5d;
+    double valueMax = 3.5d;
+    try
+    {
+      if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failDoubleValueInside(this, "valueA", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(2.5) is inside double range [1.5;3.5]. Extra info"
+          + " goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testDoubleValueInsideNoFail()
+  {
+    double valueA = 3.5d;
+    double valueMin = 1.5d;
+    double valueMax = 2.5d;
+    if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failDoubleValueInside(this, "valueA");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+
+  // 4th - edge cases
+
+  /**
+   * Runs the Inside check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isDoubleValueInside(double valueA, double valueMin, double valueMax)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isDoubleValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failDoubleValueInside(this, "valueA");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  @Test
+  public void testDoubleValueInsideSwappedRange()
+  {
+    assertTrue(this.isDoubleValueInside(2.5d, 3.5d, 1.5d));
+    assertFalse(this.isDoubleValueInside(0.5d, 3.5d, 1.5d));
+  }
+
+  @Test
+  public void testDoubleValueInsideEdgeCases()
+  {
+    assertTrue(this.isDoubleValueInside(0.0d, -0.0d, 1.5d));
+    assertFalse(this.isDoubleValueInside(-0.0d, 0.0d, 1.5d));
+    assertTrue(this.isDoubleValueInside(Double.MAX_VALUE, -Double.MAX_VALUE, Double.MAX_VALUE));
+    assertFalse(this.isDoubleValueInside(Double.POSITIVE_INFINITY,
+        -Double.MAX_VALUE, Double.MAX_VALUE));
+    assertFalse(this.isDoubleValueInside(Double.NaN,
+        Double.NEGATIVE_INFINITY, Double.POSITIVE_INFINITY));
+  }
+}
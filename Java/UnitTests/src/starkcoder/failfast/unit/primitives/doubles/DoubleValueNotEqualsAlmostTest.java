@@ -0,0 +1,297 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.doubles;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveDoubleNotEqualsAlmostCheck} and
+ * {link:IPrimitiveDoubleNotEqualsAlmostFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class DoubleValueNotEqualsAlmostTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueNotEqualsAlmostCheckerCallerIsNull()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(null, valueA, valueB))
+    {
+      failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testDoubleValueNotEqualsAlmostFailerCallerIsNull()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueNotEqualsAlmost(null, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueNotEqualsAlmostFailerCallerIsWrong()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(new String("Foo"), valueA, valueB))
+    {
+      failer.failDoubleValueNotEqualsAlmost(new String("Bar"), "valueA", "valueB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueNotEqualsAlmostMismatchCheckCheck()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+    {
+      checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueNotEqualsAlmostMismatchFail()
+  {
+    failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueNotEqualsAlmostMismatchWrongCheck()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueEqualsAlmost(this, valueA, valueB)) // wrong call
+    {
+      failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testDoubleValueNotEqualsAlmostMismatchWrongFail()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueEqualsAlmost(this, "valueA", "valueB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueNotEqualsAlmostFailNoMessage()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    double lowB = (1d - Math.signum(valueA) * 0.000001d) * valueA - 0.00001d;
+    double highB = (1d + Math.signum(valueA) * 0.000001d) * valueA + 0.00001d;
+    try
+    {
+      if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(1.5) is NOT equal and NOT almost equal to double"
+          + " 'valueB'(2.5) - it is outside range [" + lowB + ";" + highB + "].",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testDoubleValueNotEqualsAlmostFailMessage()
+  {
+    double valueA = 1.5d;
+    double valueB = 2.5d;
+    double lowB = (1d - Math.signum(valueA) * 0.000001d) * valueA - 0.00001d;
+    double highB = (1d + Math.signum(valueA) * 0.000001d) * valueA + 0.00001d;
+    try
+    {
+      if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": double 'valueA'(1.5) is NOT equal and NOT almost equal to double"
+          + " 'valueB'(2.5) - it is outside range [" + lowB + ";" + highB + "]. Extra info goes"
+          + " here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testDoubleValueNotEqualsAlmostNoFail()
+  {
+    double valueA = 1.5d;
+    double valueB = 1.5d;
+    if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+
+  // 4th - edge cases
+
+  /**
+   * Runs the NotEqualsAlmost check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isDoubleValueNotEqualsAlmost(double valueA, double valueB)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isDoubleValueNotEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failDoubleValueNotEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  @Test
+  public void testDoubleValueNotEqualsAlmostNaN()
+  {
+    assertFalse(this.isDoubleValueNotEqualsAlmost(Double.NaN, Double.NaN));
+    assertTrue(this.isDoubleValueNotEqualsAlmost(Double.NaN, 1.5d));
+    assertTrue(this.isDoubleValueNotEqualsAlmost(1.5d, Double.NaN));
+  }
+
+  @Test
+  public void testDoubleValueNotEqualsAlmostSignedZeros()
+  {
+    assertFalse(this.isDoubleValueNotEqualsAlmost(0.0d, -0.0d));
+    assertFalse(this.isDoubleValueNotEqualsAlmost(-0.0d, 0.0d));
+  }
+
+  @Test
+  public void testDoubleValueNotEqualsAlmostExtremes()
+  {
+    assertFalse(this.isDoubleValueNotEqualsAlmost(Double.MAX_VALUE, Double.MAX_VALUE));
+    assertTrue(this.isDoubleValueNotEqualsAlmost(Double.MAX_VALUE, -Double.MAX_VALUE));
+    assertFalse(this.isDoubleValueNotEqualsAlmost(Double.POSITIVE_INFINITY,
+        Double.POSITIVE_INFINITY));
+    assertTrue(this.isDoubleValueNotEqualsAlmost(Double.POSITIVE_INFINITY, Double.MAX_VALUE));
+  }
+}
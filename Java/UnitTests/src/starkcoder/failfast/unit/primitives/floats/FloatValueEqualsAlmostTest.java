@@ -0,0 +1,343 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.floats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveFloatEqualsAlmostCheck} and
+ * {link:IPrimitiveFloatEqualsAlmostFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FloatValueEqualsAlmostTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFloatValueEqualsAlmostCheckerCallerIsNull()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    if (checker.isFloatValueEqualsAlmost(null, valueA, valueB))
+    {
+      failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFloatValueEqualsAlmostFailerCallerIsNull()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failFloatValueEqualsAlmost(null, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueEqualsAlmostFailerCallerIsWrong()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    if (checker.isFloatValueEqualsAlmost(new String("Foo"), valueA, valueB))
+    {
+      failer.failFloatValueEqualsAlmost(new String("Bar"), "valueA", "valueB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueEqualsAlmostMismatchCheckCheck()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+    {
+      checker.isFloatValueEqualsAlmost(this, valueA, valueB);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueEqualsAlmostMismatchFail()
+  {
+    failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueEqualsAlmostMismatchWrongCheck()
+  {
+    float valueA = 1.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueNotEqualsAlmost(this, valueA, valueB)) // wrong call
+    {
+      failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueEqualsAlmostMismatchWrongFail()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failFloatValueNotEqualsAlmost(this, "valueA", "valueB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testFloatValueEqualsAlmostFailNoMessage()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    float lowB = (1f - Math.signum(valueA) * 0.000001f) * valueA - 0.00001f;
+    float highB = (1f + Math.signum(valueA) * 0.000001f) * valueA + 0.00001f;
+    try
+    {
+      if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": float 'valueA'(1.5) is equal or almost equal to float 'valueB'(1.5)"
+          + " - it is within range [" + lowB + ";" + highB + "].",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testFloatValueEqualsAlmostFailMessage()
+  {
+    float valueA = 1.5f;
+    float valueB = 1.5f;
+    float lowB = (1f - Math.signum(valueA) * 0.000001f) * valueA - 0.00001f;
+    float highB = (1f + Math.signum(valueA) * 0.000001f) * valueA + 0.00001f;
+    try
+    {
+      if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failFloatValueEqualsAlmost(this, "valueA", "valueB", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": float 'valueA'(1.5) is equal or almost equal to float 'valueB'(1.5)"
+          + " - it is within range [" + lowB + ";" + highB + "]. Extra info goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostNoFail()
+  {
+    float valueA = 1.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+    {
+      failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+
+  // 4th - edge cases
+
+  /**
+   * Runs the EqualsAlmost check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isFloatValueEqualsAlmost(float valueA, float valueB)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isFloatValueEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failFloatValueEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  /**
+   * Runs the NotEqualsAlmost check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isFloatValueNotEqualsAlmost(float valueA, float valueB)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isFloatValueNotEqualsAlmost(this, valueA, valueB))
+      {
+        failer.failFloatValueNotEqualsAlmost(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostNaN()
+  {
+    assertTrue(this.isFloatValueEqualsAlmost(Float.NaN, Float.NaN));
+    assertFalse(this.isFloatValueEqualsAlmost(Float.NaN, 1.5f));
+    assertFalse(this.isFloatValueEqualsAlmost(1.5f, Float.NaN));
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostSignedZeros()
+  {
+    assertTrue(this.isFloatValueEqualsAlmost(0.0f, -0.0f));
+    assertTrue(this.isFloatValueEqualsAlmost(-0.0f, 0.0f));
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostExtremes()
+  {
+    assertTrue(this.isFloatValueEqualsAlmost(Float.MAX_VALUE, Float.MAX_VALUE));
+    assertTrue(this.isFloatValueEqualsAlmost(-Float.MAX_VALUE, -Float.MAX_VALUE));
+    assertFalse(this.isFloatValueEqualsAlmost(Float.MAX_VALUE, -Float.MAX_VALUE));
+    assertTrue(this.isFloatValueEqualsAlmost(Float.MIN_VALUE, 0.0f));
+    assertTrue(this.isFloatValueEqualsAlmost(Float.POSITIVE_INFINITY, Float.POSITIVE_INFINITY));
+    assertTrue(this.isFloatValueEqualsAlmost(Float.NEGATIVE_INFINITY, Float.NEGATIVE_INFINITY));
+    assertFalse(this.isFloatValueEqualsAlmost(Float.POSITIVE_INFINITY, Float.MAX_VALUE));
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostNegativeValues()
+  {
+    assertTrue(this.isFloatValueEqualsAlmost(-1.5f, -1.500001f));
+    assertFalse(this.isFloatValueEqualsAlmost(-1.5f, -1.6f));
+  }
+
+  @Test
+  public void testFloatValueEqualsAlmostIsComplementOfNotEqualsAlmost()
+  {
+    float[] values =
+    {
+        Float.NaN, Float.NEGATIVE_INFINITY, -Float.MAX_VALUE, -1.5f, -Float.MIN_VALUE, -0.0f, 0.0f,
+        Float.MIN_VALUE, 1.5f, 1.500001f, Float.MAX_VALUE, Float.POSITIVE_INFINITY
+    };
+    for (float valueA : values)
+    {
+      for (float valueB : values)
+      {
+        assertTrue(valueA + " vs. " + valueB, this.isFloatValueEqualsAlmost(valueA, valueB)
+            != this.isFloatValueNotEqualsAlmost(valueA, valueB));
+      }
+    }
+  }
+}
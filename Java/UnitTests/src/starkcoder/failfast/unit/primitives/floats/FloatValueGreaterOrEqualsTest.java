@@ -0,0 +1,242 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.floats;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveFloatGreaterOrEqualsCheck} and
+ * {link:IPrimitiveFloatGreaterOrEqualsFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class FloatValueGreaterOrEqualsTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFloatValueGreaterOrEqualsCheckerCallerIsNull()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(null, valueA, valueB))
+    {
+      failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testFloatValueGreaterOrEqualsFailerCallerIsNull()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+    {
+      failer.failFloatValueGreaterOrEquals(null, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueGreaterOrEqualsFailerCallerIsWrong()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(new String("Foo"), valueA, valueB))
+    {
+      failer.failFloatValueGreaterOrEquals(new String("Bar"), "valueA", "valueB");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueGreaterOrEqualsMismatchCheckCheck()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+    {
+      checker.isFloatValueGreaterOrEquals(this, valueA, valueB);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueGreaterOrEqualsMismatchFail()
+  {
+    failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueGreaterOrEqualsMismatchWrongCheck()
+  {
+    float valueA = 1.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueLessOrEquals(this, valueA, valueB)) // wrong call
+    {
+      failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testFloatValueGreaterOrEqualsMismatchWrongFail()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+    {
+      failer.failFloatValueLessOrEquals(this, "valueA", "valueB"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testFloatValueGreaterOrEqualsFailNoMessage()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    try
+    {
+      if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+      {
+        failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": float 'valueA'(2.5) is greater than or equal to float 'valueB'(2.5).",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testFloatValueGreaterOrEqualsFailMessage()
+  {
+    float valueA = 2.5f;
+    float valueB = 2.5f;
+    try
+    {
+      if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+      {
+        failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": float 'valueA'(2.5) is greater than or equal to float 'valueB'(2.5)."
+          + " Extra info goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testFloatValueGreaterOrEqualsNoFail()
+  {
+    float valueA = 1.5f;
+    float valueB = 2.5f;
+    if (checker.isFloatValueGreaterOrEquals(this, valueA, valueB))
+    {
+      failer.failFloatValueGreaterOrEquals(this, "valueA", "valueB");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+}
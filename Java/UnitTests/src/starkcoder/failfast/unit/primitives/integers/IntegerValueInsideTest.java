@@ -0,0 +1,290 @@
+/////////////////////////////////////////////////////////////////////////////////////////
+//
+// The MIT License (MIT)
+// 
+// Copyright (c) 2014-2015 Keld Oelykke
+// 
+// Permission is hereby granted, free of charge, to any person obtaining a copy
+// of this software and associated documentation files (the "Software"), to deal
+// in the Software without restriction, including without limitation the rights
+// to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+// copies of the Software, and to permit persons to whom the Software is
+// furnished to do so, subject to the following conditions:
+// 
+// The above copyright notice and this permission notice shall be included in all
+// copies or substantial portions of the Software.
+// 
+// THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+// IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+// FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+// AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+// LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+// OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+// SOFTWARE.
+//
+/////////////////////////////////////////////////////////////////////////////////////////
+
+package starkcoder.failfast.unit.primitives.integers;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TestWatcher;
+import org.junit.runner.Description;
+
+import starkcoder.failfast.FailFast;
+import starkcoder.failfast.IFailFast;
+import starkcoder.failfast.SFailFast;
+import starkcoder.failfast.checks.Checker;
+import starkcoder.failfast.checks.IChecker;
+import starkcoder.failfast.contractors.CallContractor;
+import starkcoder.failfast.contractors.ICallContractor;
+import starkcoder.failfast.fails.FailFastException;
+import starkcoder.failfast.fails.Failer;
+import starkcoder.failfast.fails.IFailer;
+
+/**
+ * Fail-fast unit test of {link:IPrimitiveIntegerInsideCheck} and
+ * {link:IPrimitiveIntegerInsideFail}.
+ * 
+ * @author Keld Oelykke
+ */
+public class IntegerValueInsideTest
+{
+
+  private IChecker checker;
+  private IFailer failer;
+  private String toString = null;
+
+  @Override
+  public String toString()
+  {
+    return this.toString;
+  }
+
+  @Rule
+  public TestWatcher watcher = new TestWatcher()
+  {
+    protected void starting(Description description)
+    {
+      toString = description.getTestClass().getSimpleName() + "." + description.getMethodName();
+    }
+  };
+
+  /**
+   * Setup FailFast instances.
+   */
+  @Before
+  public void setUp()
+  {
+    // this would be in you application startup section
+    ICallContractor callContractor = new CallContractor();
+    IFailFast failFastOrNull = new FailFast(new Checker(callContractor),
+        new Failer(callContractor), callContractor);
+    SFailFast.setFailFastOrNull(failFastOrNull);
+    this.checker = SFailFast.getChecker();
+    this.failer = SFailFast.getFailer();
+  }
+
+  /**
+   * Clear FailFast instances.
+   */
+  @After
+  public void tearDown()
+  {
+    // this would be in you application shutdown section
+    SFailFast.setFailFastOrNull(null);
+    this.checker = null;
+    this.failer = null;
+  }
+
+  // 1st - caller checks
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIntegerValueInsideCheckerCallerIsNull()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    if (checker.isIntegerValueInside(null, valueA, valueMin, valueMax))
+    {
+      failer.failIntegerValueInside(this, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void testIntegerValueInsideFailerCallerIsNull()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failIntegerValueInside(null, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIntegerValueInsideFailerCallerIsWrong()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    if (checker.isIntegerValueInside(new String("Foo"), valueA, valueMin, valueMax))
+    {
+      failer.failIntegerValueInside(new String("Bar"), "valueA");
+    }
+  }
+
+  // 2nd - mismatch calls
+
+  @Test(expected = IllegalStateException.class)
+  public void testIntegerValueInsideMismatchCheckCheck()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+    {
+      checker.isIntegerValueInside(this, valueA, valueMin, valueMax);
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIntegerValueInsideMismatchFail()
+  {
+    failer.failIntegerValueInside(this, "valueA");
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIntegerValueInsideMismatchWrongCheck()
+  {
+    int valueA = 3;
+    int valueMin = 1;
+    int valueMax = 2;
+    if (checker.isIntegerValueOutside(this, valueA, valueMin, valueMax)) // wrong call
+    {
+      failer.failIntegerValueInside(this, "valueA");
+    }
+  }
+
+  @Test(expected = IllegalStateException.class)
+  public void testIntegerValueInsideMismatchWrongFail()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failIntegerValueOutside(this, "valueA"); // wrong call
+    }
+  }
+
+  // 3rd - normal cases
+
+  @Test(expected = FailFastException.class)
+  public void testIntegerValueInsideFailNoMessage()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    try
+    {
+      if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failIntegerValueInside(this, "valueA");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": int 'valueA'(2) is inside int range [1;3].",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test(expected = FailFastException.class)
+  public void testIntegerValueInsideFailMessage()
+  {
+    int valueA = 2;
+    int valueMin = 1;
+    int valueMax = 3;
+    try
+    {
+      if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failIntegerValueInside(this, "valueA", "Extra info goes here");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      assertEquals(this.toString()
+          + ": int 'valueA'(2) is inside int range [1;3]. Extra info goes here.",
+          failFastException.getMessage());
+      assertEquals("Expected registered exception in failer", failFastException,
+          failer.getFailFastExceptionOrNull());
+      throw failFastException;
+    }
+  }
+
+  @Test
+  public void testIntegerValueInsideNoFail()
+  {
+    int valueA = 3;
+    int valueMin = 1;
+    int valueMax = 2;
+    if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+    {
+      failer.failIntegerValueInside(this, "valueA");
+    }
+    assertNull("Expected no registered exception in failer",
+        failer.getFailFastExceptionOrNull());
+  }
+
+  // 4th - edge cases
+
+  /**
+   * Runs the Inside check-fail pair and returns whether the check asserted (and failed).
+   */
+  private boolean isIntegerValueInside(int valueA, int valueMin, int valueMax)
+  {
+    boolean result = false;
+    try
+    {
+      if (checker.isIntegerValueInside(this, valueA, valueMin, valueMax))
+      {
+        failer.failIntegerValueInside(this, "valueA");
+      }
+    }
+    catch (FailFastException failFastException)
+    {
+      result = true;
+    }
+    return result;
+  }
+
+  @Test
+  public void testIntegerValueInsideSwappedRange()
+  {
+    assertTrue(this.isIntegerValueInside(2, 3, 1));
+    assertFalse(this.isIntegerValueInside(0, 3, 1));
+  }
+
+  @Test
+  public void testIntegerValueInsideExtremes()
+  {
+    assertTrue(this.isIntegerValueInside(Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MAX_VALUE));
+    assertTrue(this.isIntegerValueInside(Integer.MAX_VALUE, Integer.MAX_VALUE, Integer.MIN_VALUE));
+    assertFalse(this.isIntegerValueInside(Integer.MIN_VALUE, Integer.MIN_VALUE + 1,
+        Integer.MAX_VALUE));
+  }
+}